@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.internal.launching.debug;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.tools.ant.BuildEvent;
+import org.apache.tools.ant.Location;
+import org.apache.tools.ant.Target;
+import org.apache.tools.ant.Task;
+
+/**
+ * Collects the time spent in each target and in each task type of a build. Shared by the profile build loggers that run in the same VM as Eclipse
+ * and in a separate VM.
+ * <p>
+ * Targets are keyed by name and build file, tasks by their task name. For every entry the number of executions, the inclusive time and the self
+ * time (inclusive time minus the time spent in nested targets and tasks on the same thread) are recorded in nanoseconds.
+ * </p>
+ */
+public class AntProfileState {
+
+	public static final int KIND_TARGET = 0;
+	public static final int KIND_TASK = 1;
+
+	/**
+	 * The accumulated timings of one target or task type
+	 */
+	public static class Entry {
+		private int fKind;
+		private String fName;
+		private String fFileName;
+		private int fLineNumber;
+		private int fCount = 0;
+		private long fInclusiveTime = 0;
+		private long fSelfTime = 0;
+
+		Entry(int kind, String name, String fileName, int lineNumber) {
+			fKind = kind;
+			fName = name;
+			fFileName = fileName;
+			fLineNumber = lineNumber;
+		}
+
+		public int getKind() {
+			return fKind;
+		}
+
+		public String getName() {
+			return fName;
+		}
+
+		/**
+		 * @return the build file the target is defined in or <code>null</code> for tasks and targets without a location
+		 */
+		public String getFileName() {
+			return fFileName;
+		}
+
+		public int getLineNumber() {
+			return fLineNumber;
+		}
+
+		public int getCount() {
+			return fCount;
+		}
+
+		public long getInclusiveTime() {
+			return fInclusiveTime;
+		}
+
+		public long getSelfTime() {
+			return fSelfTime;
+		}
+	}
+
+	/**
+	 * An executing target or task
+	 */
+	private static class Frame {
+		Entry fEntry;
+		long fStartTime;
+		long fChildTime = 0;
+
+		Frame(Entry entry, long startTime) {
+			fEntry = entry;
+			fStartTime = startTime;
+		}
+	}
+
+	private Map<String, Entry> fEntries = new LinkedHashMap<String, Entry>();
+
+	/**
+	 * The executing targets and tasks per thread, as tasks such as <code>parallel</code> fire events from several threads
+	 */
+	private ThreadLocal<List<Frame>> fFrames = new ThreadLocal<List<Frame>>() {
+		@Override
+		protected List<Frame> initialValue() {
+			return new ArrayList<Frame>();
+		}
+	};
+
+	public synchronized void targetStarted(BuildEvent event) {
+		Target target = event.getTarget();
+		Location location = AntDebugState.getLocation(target);
+		String fileName = null;
+		int lineNumber = -1;
+		if (location != null && location != Location.UNKNOWN_LOCATION) {
+			fileName = location.getFileName();
+			lineNumber = location.getLineNumber();
+		}
+		StringBuilder key = new StringBuilder("target:"); //$NON-NLS-1$
+		key.append(target.getName());
+		if (fileName != null) {
+			key.append('@').append(fileName);
+		}
+		push(getEntry(key.toString(), KIND_TARGET, target.getName(), fileName, lineNumber));
+	}
+
+	public synchronized void targetFinished() {
+		pop();
+	}
+
+	public synchronized void taskStarted(BuildEvent event) {
+		Task task = event.getTask();
+		String name = task.getTaskName();
+		if (name == null) {
+			name = String.valueOf(task.getTaskType());
+		}
+		push(getEntry("task:" + name, KIND_TASK, name, null, -1)); //$NON-NLS-1$
+	}
+
+	public synchronized void taskFinished() {
+		pop();
+	}
+
+	/**
+	 * Returns the entries recorded so far in the order they were first encountered.
+	 *
+	 * @return the recorded entries
+	 */
+	public synchronized List<Entry> getEntries() {
+		return new ArrayList<Entry>(fEntries.values());
+	}
+
+	private Entry getEntry(String key, int kind, String name, String fileName, int lineNumber) {
+		Entry entry = fEntries.get(key);
+		if (entry == null) {
+			entry = new Entry(kind, name, fileName, lineNumber);
+			fEntries.put(key, entry);
+		}
+		return entry;
+	}
+
+	private void push(Entry entry) {
+		fFrames.get().add(new Frame(entry, System.nanoTime()));
+	}
+
+	private void pop() {
+		List<Frame> frames = fFrames.get();
+		if (frames.isEmpty()) {
+			return;
+		}
+		Frame frame = frames.remove(frames.size() - 1);
+		long elapsed = System.nanoTime() - frame.fStartTime;
+		Entry entry = frame.fEntry;
+		entry.fCount++;
+		entry.fInclusiveTime += elapsed;
+		entry.fSelfTime += elapsed - frame.fChildTime;
+		if (!frames.isEmpty()) {
+			frames.get(frames.size() - 1).fChildTime += elapsed;
+		}
+	}
+}
@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.internal.launching.debug;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.tools.ant.BuildEvent;
+import org.apache.tools.ant.BuildListener;
+import org.apache.tools.ant.Location;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.Target;
+import org.apache.tools.ant.Task;
+
+/**
+ * A build listener which streams the begin and end of every target and task to a file in the Chrome Trace Event format, so that a build can be
+ * loaded into a trace viewer such as <code>chrome://tracing</code> or Perfetto. Every thread that executes targets or tasks shows up as a separate
+ * track, which makes the utilization of <code>parallel</code> tasks visible.
+ * <p>
+ * Events are written as they happen, so the memory used does not depend on the length of the build. The listener is added with
+ * <code>-listener org.eclipse.ant.internal.launching.debug.AntTraceBuildListener</code> and writes to the file named by the
+ * <code>AntTraceBuildListener.file</code> property, resolved against the base directory of the project, or to <code>ant-trace.json</code> if the
+ * property is not set. It can be used both in the same VM as Eclipse and in a separate VM.
+ * </p>
+ */
+public class AntTraceBuildListener implements BuildListener {
+
+	public static final String FILE_PROPERTY = "AntTraceBuildListener.file"; //$NON-NLS-1$
+	public static final String DEFAULT_FILE_NAME = "ant-trace.json"; //$NON-NLS-1$
+
+	private static final String CATEGORY_BUILD = "build"; //$NON-NLS-1$
+	private static final String CATEGORY_TARGET = "target"; //$NON-NLS-1$
+	private static final String CATEGORY_TASK = "task"; //$NON-NLS-1$
+
+	private Writer fWriter;
+	private boolean fFailed = false;
+	private long fStartTime;
+	private long fBuildThreadId;
+	private String fBuildName;
+	private boolean fFirstEvent = true;
+
+	/**
+	 * The threads for which a name has been written; bounded by the number of threads of the build
+	 */
+	private Set<Long> fNamedThreads = new HashSet<Long>();
+
+	@Override
+	public synchronized void buildStarted(BuildEvent event) {
+		fStartTime = System.nanoTime();
+		fBuildThreadId = Thread.currentThread().getId();
+	}
+
+	@Override
+	public synchronized void buildFinished(BuildEvent event) {
+		if (fWriter == null) {
+			return;
+		}
+		try {
+			writeEvent('E', CATEGORY_BUILD, fBuildName, fBuildThreadId, System.nanoTime(), null);
+			fWriter.write("\n]\n"); //$NON-NLS-1$
+		}
+		catch (IOException e) {
+			handleException(event.getProject(), e);
+		}
+		finally {
+			close();
+		}
+	}
+
+	@Override
+	public synchronized void targetStarted(BuildEvent event) {
+		Target target = event.getTarget();
+		if (!ensureOpen(event.getProject())) {
+			return;
+		}
+		Location location = AntDebugState.getLocation(target);
+		String args = null;
+		if (location != null && location != Location.UNKNOWN_LOCATION && location.getFileName() != null) {
+			args = location.getFileName() + ':' + location.getLineNumber();
+		}
+		begin(event.getProject(), CATEGORY_TARGET, target.getName(), args);
+	}
+
+	@Override
+	public synchronized void targetFinished(BuildEvent event) {
+		end(event.getProject(), CATEGORY_TARGET, event.getTarget().getName());
+	}
+
+	@Override
+	public synchronized void taskStarted(BuildEvent event) {
+		if (!ensureOpen(event.getProject())) {
+			return;
+		}
+		begin(event.getProject(), CATEGORY_TASK, getTaskName(event.getTask()), null);
+	}
+
+	@Override
+	public synchronized void taskFinished(BuildEvent event) {
+		end(event.getProject(), CATEGORY_TASK, getTaskName(event.getTask()));
+	}
+
+	@Override
+	public void messageLogged(BuildEvent event) {
+		// messages are not traced
+	}
+
+	private String getTaskName(Task task) {
+		String name = task.getTaskName();
+		if (name == null) {
+			name = String.valueOf(task.getTaskType());
+		}
+		return name;
+	}
+
+	/**
+	 * Opens the trace file on the first target or task event, as the user properties are not yet set when the build starts.
+	 *
+	 * @return whether events can be written
+	 */
+	private boolean ensureOpen(Project project) {
+		if (fWriter != null) {
+			return true;
+		}
+		if (fFailed) {
+			return false;
+		}
+		String fileName = project.getProperty(FILE_PROPERTY);
+		if (fileName == null) {
+			fileName = DEFAULT_FILE_NAME;
+		}
+		File file = project.resolveFile(fileName);
+		try {
+			fWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8")); //$NON-NLS-1$
+			fWriter.write('[');
+			fBuildName = project.getName() == null ? CATEGORY_BUILD : project.getName();
+			writeEvent('B', CATEGORY_BUILD, fBuildName, fBuildThreadId, fStartTime, null);
+		}
+		catch (IOException e) {
+			handleException(project, e);
+			return false;
+		}
+		return true;
+	}
+
+	private void begin(Project project, String category, String name, String location) {
+		try {
+			writeEvent('B', category, name, Thread.currentThread().getId(), System.nanoTime(), location);
+		}
+		catch (IOException e) {
+			handleException(project, e);
+		}
+	}
+
+	private void end(Project project, String category, String name) {
+		if (fWriter == null) {
+			return;
+		}
+		try {
+			writeEvent('E', category, name, Thread.currentThread().getId(), System.nanoTime(), null);
+		}
+		catch (IOException e) {
+			handleException(project, e);
+		}
+	}
+
+	/**
+	 * Writes one duration event, preceded by a thread name metadata event the first time a thread is encountered. Timestamps are in microseconds
+	 * since the start of the build.
+	 */
+	private void writeEvent(char phase, String category, String name, long threadId, long time, String location) throws IOException {
+		if (fNamedThreads.add(Long.valueOf(threadId))) {
+			String threadName = threadId == Thread.currentThread().getId() ? Thread.currentThread().getName() : String.valueOf(threadId);
+			startEvent();
+			fWriter.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":"); //$NON-NLS-1$
+			fWriter.write(String.valueOf(threadId));
+			fWriter.write(",\"args\":{\"name\":"); //$NON-NLS-1$
+			writeString(threadName);
+			fWriter.write("}}"); //$NON-NLS-1$
+		}
+		startEvent();
+		fWriter.write("{\"name\":"); //$NON-NLS-1$
+		writeString(name);
+		fWriter.write(",\"cat\":\""); //$NON-NLS-1$
+		fWriter.write(category);
+		fWriter.write("\",\"ph\":\""); //$NON-NLS-1$
+		fWriter.write(phase);
+		fWriter.write("\",\"ts\":"); //$NON-NLS-1$
+		fWriter.write(String.valueOf((time - fStartTime) / 1000));
+		fWriter.write(",\"pid\":1,\"tid\":"); //$NON-NLS-1$
+		fWriter.write(String.valueOf(threadId));
+		if (location != null) {
+			fWriter.write(",\"args\":{\"location\":"); //$NON-NLS-1$
+			writeString(location);
+			fWriter.write('}');
+		}
+		fWriter.write('}');
+	}
+
+	private void startEvent() throws IOException {
+		if (fFirstEvent) {
+			fFirstEvent = false;
+			fWriter.write('\n');
+		} else {
+			fWriter.write(",\n"); //$NON-NLS-1$
+		}
+	}
+
+	private void writeString(String value) throws IOException {
+		fWriter.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"':
+					fWriter.write("\\\""); //$NON-NLS-1$
+					break;
+				case '\\':
+					fWriter.write("\\\\"); //$NON-NLS-1$
+					break;
+				case '\n':
+					fWriter.write("\\n"); //$NON-NLS-1$
+					break;
+				case '\r':
+					fWriter.write("\\r"); //$NON-NLS-1$
+					break;
+				case '\t':
+					fWriter.write("\\t"); //$NON-NLS-1$
+					break;
+				default:
+					if (c < 0x20) {
+						String hex = Integer.toHexString(c);
+						fWriter.write("\\u"); //$NON-NLS-1$
+						for (int j = hex.length(); j < 4; j++) {
+							fWriter.write('0');
+						}
+						fWriter.write(hex);
+					} else {
+						fWriter.write(c);
+					}
+			}
+		}
+		fWriter.write('"');
+	}
+
+	private void handleException(Project project, IOException e) {
+		fFailed = true;
+		close();
+		if (project != null) {
+			project.log("Unable to write the Ant build trace: " + e.getMessage(), Project.MSG_WARN); //$NON-NLS-1$
+		}
+	}
+
+	private void close() {
+		if (fWriter != null) {
+			try {
+				fWriter.close();
+			}
+			catch (IOException e) {
+				// ignore
+			}
+			fWriter = null;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -76,6 +76,7 @@ public class AntProcessBuildLogger extends NullBuildLogger {
 			logMessageToLogFile(message, priority);
 		} else {
 			AntStreamMonitor monitor = getMonitor(priority);
+			((AntLaunch) antProcess.getLaunch()).journalMessage(message, priority);
 			monitor.append(message);
 		}
 	}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.internal.launching.runtime.logger;
+
+import org.apache.tools.ant.BuildEvent;
+import org.eclipse.ant.internal.launching.AntLaunch;
+import org.eclipse.ant.internal.launching.AntProfileEntry;
+import org.eclipse.ant.internal.launching.debug.AntProfileState;
+import org.eclipse.ant.internal.launching.launchConfigurations.AntProcess;
+
+/**
+ * Build logger for builds launched in profile mode in the same VM. Records the time spent per target and per task type and hands the results to
+ * the launch once the build has finished.
+ */
+public class AntProcessProfileBuildLogger extends AntProcessBuildLogger {
+
+	private AntProfileState fProfileState = new AntProfileState();
+
+	@Override
+	public void buildFinished(BuildEvent event) {
+		AntProcess antProcess = getAntProcess(fProcessId);
+		if (antProcess != null) {
+			AntLaunch antLaunch = (AntLaunch) antProcess.getLaunch();
+			for (AntProfileState.Entry entry : fProfileState.getEntries()) {
+				antLaunch.addProfileEntry(new AntProfileEntry(entry.getKind(), entry.getName(), entry.getFileName(), entry.getLineNumber(), entry.getCount(), entry.getInclusiveTime(), entry.getSelfTime()));
+			}
+		}
+		super.buildFinished(event);
+	}
+
+	@Override
+	public void targetStarted(BuildEvent event) {
+		fProfileState.targetStarted(event);
+		super.targetStarted(event);
+	}
+
+	@Override
+	public void targetFinished(BuildEvent event) {
+		super.targetFinished(event);
+		fProfileState.targetFinished();
+	}
+
+	@Override
+	public void taskStarted(BuildEvent event) {
+		fProfileState.taskStarted(event);
+		super.taskStarted(event);
+	}
+
+	@Override
+	public void taskFinished(BuildEvent event) {
+		super.taskFinished(event);
+		fProfileState.taskFinished();
+	}
+}
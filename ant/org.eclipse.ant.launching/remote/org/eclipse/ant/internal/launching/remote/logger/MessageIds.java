@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2009 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,4 +20,9 @@ public class MessageIds {
 	// constants need to start greater than the Project.MSG_* constants
 	public final static String TASK = "6"; //$NON-NLS-1$
 	public final static String TARGET = "7"; //$NON-NLS-1$
+	public final static String PROFILE = "8"; //$NON-NLS-1$
+	// control messages sent from Eclipse to the remote logger on the event connection
+	public final static String OUTPUT_LEVEL = "level"; //$NON-NLS-1$
+	public final static String MUTE_TASK = "mute"; //$NON-NLS-1$
+	public final static String UNMUTE_TASK = "unmute"; //$NON-NLS-1$
 }
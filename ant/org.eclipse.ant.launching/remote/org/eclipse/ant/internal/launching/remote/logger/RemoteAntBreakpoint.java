@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2009 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -56,7 +56,7 @@ public class RemoteAntBreakpoint {
 
 	@Override
 	public int hashCode() {
-		return fFileName.hashCode() + fLineNumber;
+		return fFile.hashCode() + fLineNumber;
 	}
 
 	public int getLineNumber() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2016 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,13 +15,17 @@ package org.eclipse.ant.internal.launching.remote.logger;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.io.StringReader;
 import java.net.Socket;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.tools.ant.BuildEvent;
 import org.apache.tools.ant.BuildException;
@@ -76,6 +80,49 @@ public class RemoteAntBuildLogger extends DefaultLogger {
 	private String fLastFileName = null;
 	private String fLastTaskName = null;
 
+	/**
+	 * The names of the tasks whose informational, verbose and debug messages are not sent
+	 */
+	private Set<String> fMutedTasks = Collections.synchronizedSet(new HashSet<String>());
+
+	/**
+	 * The message output level. Shadows the field of the superclass, which is not volatile, because the level can be changed by the control thread
+	 * while the build runs.
+	 */
+	private volatile int fMessageOutputLevel = Project.MSG_ERR;
+
+	/**
+	 * Reads the control messages that Eclipse sends on the event connection to change the output of the running build. See MessageIds.
+	 */
+	private class ControlThread extends Thread {
+		private BufferedReader fReader;
+
+		public ControlThread(BufferedReader reader) {
+			super("Ant Build Control"); //$NON-NLS-1$
+			setDaemon(true);
+			fReader = reader;
+		}
+
+		@Override
+		public void run() {
+			try {
+				String message;
+				while ((message = fReader.readLine()) != null) {
+					handleControlMessage(message);
+				}
+			}
+			catch (IOException e) {
+				// the connection has been closed
+			}
+		}
+	}
+
+	@Override
+	public void setMessageOutputLevel(int level) {
+		super.setMessageOutputLevel(level);
+		fMessageOutputLevel = level;
+	}
+
 	@Override
 	protected void printMessage(String message, PrintStream stream, int priority) {
 		marshalMessage(priority, message);
@@ -93,6 +140,7 @@ public class RemoteAntBuildLogger extends DefaultLogger {
 			try {
 				fEventSocket = new Socket(fHost, fEventPort);
 				fWriter = new PrintWriter(fEventSocket.getOutputStream(), true);
+				new ControlThread(new BufferedReader(new InputStreamReader(fEventSocket.getInputStream(), "UTF-8"))).start(); //$NON-NLS-1$
 				return;
 			}
 			catch (IOException e) {
@@ -131,6 +179,41 @@ public class RemoteAntBuildLogger extends DefaultLogger {
 		}
 	}
 
+	/**
+	 * Handles a control message sent by Eclipse:
+	 * <ul>
+	 * <li><code>level,priority</code> sets the message output level of the build</li>
+	 * <li><code>mute,taskName</code> stops sending the informational, verbose and debug messages of the task</li>
+	 * <li><code>unmute,taskName</code> sends the messages of the task again</li>
+	 * </ul>
+	 */
+	protected void handleControlMessage(String message) {
+		int index = message.indexOf(',');
+		if (index < 0) {
+			return;
+		}
+		String argument = message.substring(index + 1);
+		if (message.startsWith(MessageIds.OUTPUT_LEVEL)) {
+			try {
+				setMessageOutputLevel(Integer.parseInt(argument));
+			}
+			catch (NumberFormatException e) {
+				// ignore malformed request
+			}
+		} else if (message.startsWith(MessageIds.MUTE_TASK)) {
+			fMutedTasks.add(argument);
+		} else if (message.startsWith(MessageIds.UNMUTE_TASK)) {
+			fMutedTasks.remove(argument);
+		}
+	}
+
+	private boolean isMuted(BuildEvent event) {
+		if (event.getTask() == null || event.getPriority() <= Project.MSG_WARN || fMutedTasks.isEmpty()) {
+			return false;
+		}
+		return fMutedTasks.contains(event.getTask().getTaskName());
+	}
+
 	private void sendMessage(String msg) {
 		if (fWriter == null) {
 			return;
@@ -159,7 +242,7 @@ public class RemoteAntBuildLogger extends DefaultLogger {
 		message.append(System.lineSeparator());
 		message.append(RemoteAntMessages.getString("RemoteAntBuildLogger.1")); //$NON-NLS-1$
 		message.append(System.lineSeparator());
-		if (Project.MSG_VERBOSE <= this.msgOutputLevel || !(exception instanceof BuildException)) {
+		if (Project.MSG_VERBOSE <= fMessageOutputLevel || !(exception instanceof BuildException)) {
 			message.append(StringUtils.getStackTrace(exception));
 		} else {
 			if (exception instanceof BuildException) {
@@ -211,7 +294,7 @@ public class RemoteAntBuildLogger extends DefaultLogger {
 			establishConnection();
 		}
 
-		if (Project.MSG_INFO <= msgOutputLevel) {
+		if (Project.MSG_INFO <= fMessageOutputLevel) {
 			marshalTargetMessage(event);
 		}
 	}
@@ -239,13 +322,16 @@ public class RemoteAntBuildLogger extends DefaultLogger {
 	@SuppressWarnings("unused")
 	@Override
 	public void messageLogged(BuildEvent event) {
-		if (event.getPriority() > msgOutputLevel && event.getPriority() != InternalAntRunner.MSG_PROJECT_HELP) {
+		if (event.getPriority() > fMessageOutputLevel && event.getPriority() != InternalAntRunner.MSG_PROJECT_HELP) {
+			return;
+		}
+		if (isMuted(event)) {
 			return;
 		}
 
 		if (!fSentProcessId) {
 			if (event.getPriority() == InternalAntRunner.MSG_PROJECT_HELP) {
-				if (Project.MSG_INFO > msgOutputLevel) {
+				if (Project.MSG_INFO > fMessageOutputLevel) {
 					return;
 				}
 				// no buildstarted or project started for project help option
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2016 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,15 +14,14 @@
 package org.eclipse.ant.internal.launching.remote.logger;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.tools.ant.BuildEvent;
@@ -50,7 +49,30 @@ public class RemoteAntDebugBuildLogger extends RemoteAntBuildLogger implements I
 
 	private Task fStepOverTaskInterrupted;
 
-	private List<RemoteAntBreakpoint> fBreakpoints = null;
+	/**
+	 * Breakpoints indexed by build file and then by line number so that the location check performed for every target and task is independent of the
+	 * number of breakpoints installed.
+	 */
+	private Map<File, Map<Integer, RemoteAntBreakpoint>> fBreakpoints = null;
+
+	/**
+	 * The breakpoints installed in the build file of the last breakpoint location checked. Consecutive tasks are almost always from the same build
+	 * file.
+	 */
+	private static class FileBreakpoints {
+		final String fFileName;
+		final Map<Integer, RemoteAntBreakpoint> fBreakpoints;
+
+		FileBreakpoints(String fileName, Map<Integer, RemoteAntBreakpoint> breakpoints) {
+			fFileName = fileName;
+			fBreakpoints = breakpoints;
+		}
+	}
+
+	/**
+	 * The file name and the breakpoints are replaced together so that a reader never sees the name of one file with the breakpoints of another
+	 */
+	private volatile FileBreakpoints fLastFileBreakpoints = null;
 
 	/**
 	 * Request port to connect to. Used for debug connections
@@ -214,6 +236,7 @@ public class RemoteAntDebugBuildLogger extends RemoteAntBuildLogger implements I
 		if (fBreakpoints != null) {
 			fBreakpoints.clear();
 		}
+		clearLastFileBreakpoints();
 		if (fRequestReader != null) {
 			try {
 				fRequestReader.close();
@@ -303,13 +326,18 @@ public class RemoteAntDebugBuildLogger extends RemoteAntBuildLogger implements I
 			return null;
 		}
 		String fileName = fDebugState.getFileName(location);
-		int lineNumber = fDebugState.getLineNumber(location);
-		for (RemoteAntBreakpoint breakpoint : fBreakpoints) {
-			if (breakpoint.isAt(fileName, lineNumber)) {
-				return breakpoint;
-			}
+		if (fileName == null) {
+			return null;
+		}
+		FileBreakpoints last = fLastFileBreakpoints;
+		if (last == null || !fileName.equals(last.fFileName)) {
+			last = new FileBreakpoints(fileName, fBreakpoints.get(new File(fileName)));
+			fLastFileBreakpoints = last;
 		}
-		return null;
+		if (last.fBreakpoints == null) {
+			return null;
+		}
+		return last.fBreakpoints.get(Integer.valueOf(fDebugState.getLineNumber(location)));
 	}
 
 	private synchronized void sendRequestResponse(String message) {
@@ -332,15 +360,21 @@ public class RemoteAntDebugBuildLogger extends RemoteAntBuildLogger implements I
 		sendRequestResponse(propertiesRepresentation.toString());
 	}
 
-	@SuppressWarnings("unused")
 	protected void addBreakpoint(String breakpointRepresentation) {
 		if (fBreakpoints == null) {
-			fBreakpoints = new ArrayList<RemoteAntBreakpoint>();
+			fBreakpoints = new HashMap<File, Map<Integer, RemoteAntBreakpoint>>();
 		}
 		RemoteAntBreakpoint newBreakpoint = new RemoteAntBreakpoint(breakpointRepresentation);
-		if (!fBreakpoints.contains(newBreakpoint)) {
-			fBreakpoints.add(newBreakpoint);
+		Map<Integer, RemoteAntBreakpoint> fileBreakpoints = fBreakpoints.get(newBreakpoint.getFile());
+		if (fileBreakpoints == null) {
+			fileBreakpoints = new HashMap<Integer, RemoteAntBreakpoint>();
+			fBreakpoints.put(newBreakpoint.getFile(), fileBreakpoints);
+		}
+		Integer lineNumber = Integer.valueOf(newBreakpoint.getLineNumber());
+		if (!fileBreakpoints.containsKey(lineNumber)) {
+			fileBreakpoints.put(lineNumber, newBreakpoint);
 		}
+		clearLastFileBreakpoints();
 	}
 
 	protected void removeBreakpoint(String breakpointRepresentation) {
@@ -348,13 +382,19 @@ public class RemoteAntDebugBuildLogger extends RemoteAntBuildLogger implements I
 			return;
 		}
 		RemoteAntBreakpoint equivalentBreakpoint = new RemoteAntBreakpoint(breakpointRepresentation);
-		for (Iterator<RemoteAntBreakpoint> iter = fBreakpoints.iterator(); iter.hasNext();) {
-			RemoteAntBreakpoint breakpoint = iter.next();
-			if (breakpoint.equals(equivalentBreakpoint)) {
-				iter.remove();
-				return;
-			}
+		Map<Integer, RemoteAntBreakpoint> fileBreakpoints = fBreakpoints.get(equivalentBreakpoint.getFile());
+		if (fileBreakpoints == null) {
+			return;
+		}
+		fileBreakpoints.remove(Integer.valueOf(equivalentBreakpoint.getLineNumber()));
+		if (fileBreakpoints.isEmpty()) {
+			fBreakpoints.remove(equivalentBreakpoint.getFile());
 		}
+		clearLastFileBreakpoints();
+	}
+
+	private void clearLastFileBreakpoints() {
+		fLastFileBreakpoints = null;
 	}
 
 	@Override
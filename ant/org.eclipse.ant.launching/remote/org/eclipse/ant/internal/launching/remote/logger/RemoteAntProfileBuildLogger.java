@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.launching.remote.logger;
+
+import org.apache.tools.ant.BuildEvent;
+import org.eclipse.ant.internal.launching.debug.AntProfileState;
+
+/**
+ * A build logger that reports via a socket connection and, once the build has finished, sends the time spent per target and per task type. See
+ * MessageIds for more information about the protocol.
+ */
+public class RemoteAntProfileBuildLogger extends RemoteAntBuildLogger {
+
+	private AntProfileState fProfileState = new AntProfileState();
+
+	@Override
+	public void targetStarted(BuildEvent event) {
+		fProfileState.targetStarted(event);
+		super.targetStarted(event);
+	}
+
+	@Override
+	public void targetFinished(BuildEvent event) {
+		super.targetFinished(event);
+		fProfileState.targetFinished();
+	}
+
+	@Override
+	public void taskStarted(BuildEvent event) {
+		fProfileState.taskStarted(event);
+		super.taskStarted(event);
+	}
+
+	@Override
+	public void taskFinished(BuildEvent event) {
+		super.taskFinished(event);
+		fProfileState.taskFinished();
+	}
+
+	@Override
+	public void buildFinished(BuildEvent event) {
+		if (!fSentProcessId) {
+			establishConnection();
+		}
+		for (AntProfileState.Entry entry : fProfileState.getEntries()) {
+			marshalProfileEntry(entry);
+		}
+		super.buildFinished(event);
+	}
+
+	/**
+	 * Sends one profile entry as:
+	 * <code>8kind,count,inclusiveNanos,selfNanos,lineNumber,nameLength,name,fileNameLength,fileName</code> where the file name may be empty
+	 */
+	private void marshalProfileEntry(AntProfileState.Entry entry) {
+		StringBuilder message = new StringBuilder(MessageIds.PROFILE);
+		message.append(entry.getKind());
+		message.append(',');
+		message.append(entry.getCount());
+		message.append(',');
+		message.append(entry.getInclusiveTime());
+		message.append(',');
+		message.append(entry.getSelfTime());
+		message.append(',');
+		message.append(entry.getLineNumber());
+		message.append(',');
+		message.append(entry.getName().length());
+		message.append(',');
+		message.append(entry.getName());
+		message.append(',');
+		String fileName = entry.getFileName();
+		if (fileName == null) {
+			message.append(0);
+			message.append(',');
+		} else {
+			message.append(fileName.length());
+			message.append(',');
+			message.append(fileName);
+		}
+		marshalMessage(-1, message.toString());
+	}
+}
@@ -0,0 +1,313 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.launching;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+/**
+ * An append-only binary journal of the console output and task links of an Ant build. The journal is written while the build runs and can be
+ * replayed into a new console later, without re-running the build and without holding the output in memory.
+ * <p>
+ * The journal starts with a magic number and a version, followed by records that each start with a record type byte:
+ * <ul>
+ * <li>message: priority byte, string</li>
+ * <li>file: string; assigns the next file index to a build file name</li>
+ * <li>link: line string, file index int, line number int, offset int, length int</li>
+ * </ul>
+ * Strings are written as the int length of their UTF-8 encoding followed by the encoded bytes.
+ * </p>
+ */
+public class AntBuildJournal {
+
+	/**
+	 * Receives the records of a journal being read
+	 */
+	public interface IJournalVisitor {
+
+		/**
+		 * A message was appended to the console stream of the given priority
+		 */
+		void message(String message, int priority);
+
+		/**
+		 * A link was created for a line of the console
+		 */
+		void link(String line, String fileName, int lineNumber, int offset, int length);
+	}
+
+	public static final String FILE_EXTENSION = "antjournal"; //$NON-NLS-1$
+
+	/**
+	 * The number of journals kept for each launch configuration; older journals are deleted when a new one is created
+	 */
+	public static final int MAX_JOURNALS = 10;
+
+	private static final int MAGIC = 0x414E544A; // "ANTJ"
+	private static final short VERSION = 1;
+
+	private static final byte RECORD_MESSAGE = 1;
+	private static final byte RECORD_FILE = 2;
+	private static final byte RECORD_LINK = 3;
+
+	private File fFile;
+	private DataOutputStream fOutput;
+
+	/**
+	 * The index of every build file name written so far; bounded by the number of build files of the build
+	 */
+	private Map<String, Integer> fFileIndices = new HashMap<>();
+
+	private AntBuildJournal(File file) throws IOException {
+		fFile = file;
+		fOutput = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+		fOutput.writeInt(MAGIC);
+		fOutput.writeShort(VERSION);
+	}
+
+	/**
+	 * Returns the folder in the state location of the plug-in where journals are written
+	 *
+	 * @return the journal folder
+	 */
+	public static File getJournalDirectory() {
+		return AntLaunching.getDefault().getStateLocation().append("journals").toFile(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Creates a new journal for a build of the launch configuration with the given name in the journal folder. The oldest journals of the launch
+	 * configuration are deleted so that no more than {@link #MAX_JOURNALS} are kept.
+	 *
+	 * @param name
+	 *            the name of the launch configuration
+	 * @return the new journal
+	 * @throws IOException
+	 *             if the journal file could not be created
+	 */
+	public static AntBuildJournal create(String name) throws IOException {
+		File directory = getJournalDirectory();
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Unable to create " + directory); //$NON-NLS-1$
+		}
+		StringBuilder prefix = new StringBuilder();
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			prefix.append(Character.isLetterOrDigit(c) || c == '-' || c == '.' ? c : '_');
+		}
+		prefix.append('-');
+		deleteOldJournals(directory, prefix.toString(), MAX_JOURNALS - 1);
+		long time = System.currentTimeMillis();
+		File file = new File(directory, prefix.toString() + time + '.' + FILE_EXTENSION);
+		while (file.exists()) {
+			// a journal of the same launch configuration was created in the same millisecond
+			file = new File(directory, prefix.toString() + ++time + '.' + FILE_EXTENSION);
+		}
+		return new AntBuildJournal(file);
+	}
+
+	/**
+	 * Deletes the oldest journals with the given file name prefix until no more than the given number remain
+	 */
+	private static void deleteOldJournals(File directory, String prefix, int keep) {
+		String suffix = '.' + FILE_EXTENSION;
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		List<File> journals = new ArrayList<>();
+		for (File file : files) {
+			if (getCreationTime(file.getName(), prefix, suffix) != -1) {
+				journals.add(file);
+			}
+		}
+		if (journals.size() <= keep) {
+			return;
+		}
+		journals.sort((first, second) -> Long.compare(getCreationTime(first.getName(), prefix, suffix), getCreationTime(second.getName(), prefix, suffix)));
+		for (File journal : journals.subList(0, journals.size() - keep)) {
+			if (!journal.delete()) {
+				AntLaunching.log("Unable to delete the Ant build journal " + journal, null); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Returns the creation time encoded in the name of a journal file with the given prefix, or <code>-1</code> if the name is not of such a journal.
+	 * The prefix of the journals of one launch configuration is never followed by anything but the time, so the journals of a launch
+	 * configuration whose name extends the name of another are not matched.
+	 */
+	private static long getCreationTime(String fileName, String prefix, String suffix) {
+		if (!fileName.startsWith(prefix) || !fileName.endsWith(suffix) || fileName.length() == prefix.length() + suffix.length()) {
+			return -1;
+		}
+		String time = fileName.substring(prefix.length(), fileName.length() - suffix.length());
+		for (int i = 0; i < time.length(); i++) {
+			if (!Character.isDigit(time.charAt(i))) {
+				return -1;
+			}
+		}
+		try {
+			return Long.parseLong(time);
+		}
+		catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	public File getFile() {
+		return fFile;
+	}
+
+	/**
+	 * Records a message appended to the console stream of the given priority
+	 */
+	public synchronized void writeMessage(String message, int priority) {
+		if (fOutput == null) {
+			return;
+		}
+		try {
+			fOutput.writeByte(RECORD_MESSAGE);
+			fOutput.writeByte(priority);
+			writeString(message);
+		}
+		catch (IOException e) {
+			handleException(e);
+		}
+	}
+
+	/**
+	 * Records a link created for a line of the console
+	 */
+	public synchronized void writeLink(String line, String fileName, int lineNumber, int offset, int length) {
+		if (fOutput == null) {
+			return;
+		}
+		try {
+			Integer index = fFileIndices.get(fileName);
+			if (index == null) {
+				index = Integer.valueOf(fFileIndices.size());
+				fFileIndices.put(fileName, index);
+				fOutput.writeByte(RECORD_FILE);
+				writeString(fileName);
+			}
+			fOutput.writeByte(RECORD_LINK);
+			writeString(line);
+			fOutput.writeInt(index.intValue());
+			fOutput.writeInt(lineNumber);
+			fOutput.writeInt(offset);
+			fOutput.writeInt(length);
+		}
+		catch (IOException e) {
+			handleException(e);
+		}
+	}
+
+	/**
+	 * Closes the journal. Records written afterwards are ignored.
+	 */
+	public synchronized void close() {
+		if (fOutput == null) {
+			return;
+		}
+		try {
+			fOutput.close();
+		}
+		catch (IOException e) {
+			AntLaunching.log(e);
+		}
+		fOutput = null;
+		fFileIndices.clear();
+	}
+
+	private void writeString(String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		fOutput.writeInt(bytes.length);
+		fOutput.write(bytes);
+	}
+
+	private void handleException(IOException e) {
+		AntLaunching.log("Unable to write the Ant build journal " + fFile, e); //$NON-NLS-1$
+		close();
+	}
+
+	/**
+	 * Reads the given journal, passing its records to the visitor in the order they were written. A journal that was not closed, for example
+	 * because Eclipse exited during the build, is read up to its last complete record.
+	 *
+	 * @param file
+	 *            the journal file
+	 * @param visitor
+	 *            receives the records
+	 * @param monitor
+	 *            progress monitor used to cancel the reading, or <code>null</code>
+	 * @throws IOException
+	 *             if the file could not be read or is not a journal
+	 */
+	public static void read(File file, IJournalVisitor visitor, IProgressMonitor monitor) throws IOException {
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (input.readInt() != MAGIC || input.readShort() != VERSION) {
+				throw new IOException(file + " is not an Ant build journal"); //$NON-NLS-1$
+			}
+			List<String> fileNames = new ArrayList<>();
+			while (monitor == null || !monitor.isCanceled()) {
+				int type = input.read();
+				if (type == -1) {
+					return;
+				}
+				try {
+					switch (type) {
+						case RECORD_MESSAGE:
+							int priority = input.readByte();
+							visitor.message(readString(input), priority);
+							break;
+						case RECORD_FILE:
+							fileNames.add(readString(input));
+							break;
+						case RECORD_LINK:
+							String line = readString(input);
+							String fileName = fileNames.get(input.readInt());
+							visitor.link(line, fileName, input.readInt(), input.readInt(), input.readInt());
+							break;
+						default:
+							throw new IOException(file + " contains an unknown record type " + type); //$NON-NLS-1$
+					}
+				}
+				catch (EOFException e) {
+					// the last record was not written completely
+					return;
+				}
+			}
+		}
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
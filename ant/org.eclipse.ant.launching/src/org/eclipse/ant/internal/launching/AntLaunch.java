@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2016 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,19 +16,25 @@ package org.eclipse.ant.internal.launching;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.Launch;
 import org.eclipse.debug.core.model.ISourceLocator;
 
 /**
- * Stores link descriptors for Launch for further use of TaskLinkManager
+ * Stores link descriptors for Launch for further use of TaskLinkManager, and the profile entries of builds launched in profile mode. When a build
+ * journal is set, the console output and links of the build are also recorded to it.
  */
 public class AntLaunch extends Launch {
 	List<LinkDescriptor> linkDescriptors;
+	List<AntProfileEntry> profileEntries;
+	private volatile AntBuildJournal journal;
+	private volatile IAntOutputController outputController;
 
 	public AntLaunch(ILaunchConfiguration launchConfiguration, String mode, ISourceLocator locator) {
 		super(launchConfiguration, mode, locator);
 		linkDescriptors = new ArrayList<>();
+		profileEntries = new ArrayList<>();
 	}
 
 	public void addLinkDescriptor(String line, String fileName, int lineNumber, int offset, int length) {
@@ -36,6 +42,10 @@ public class AntLaunch extends Launch {
 			synchronized (linkDescriptors) {
 				linkDescriptors.add(new LinkDescriptor(line, fileName, lineNumber, offset, length));
 			}
+			AntBuildJournal buildJournal = journal;
+			if (buildJournal != null) {
+				buildJournal.writeLink(line, fileName, lineNumber, offset, length);
+			}
 		}
 	}
 
@@ -57,4 +67,86 @@ public class AntLaunch extends Launch {
 		}
 	}
 
+	public void addProfileEntry(AntProfileEntry entry) {
+		synchronized (profileEntries) {
+			profileEntries.add(entry);
+		}
+	}
+
+	public List<AntProfileEntry> getProfileEntries() {
+		synchronized (profileEntries) {
+			return new ArrayList<>(profileEntries);
+		}
+	}
+
+	/**
+	 * Sets the journal to record the console output and links of the build to. The journal is closed when the launch terminates, or for a build in
+	 * a separate JRE once the remote listener has received its last message, and at the latest when the launch is removed.
+	 *
+	 * @param journal
+	 *            the journal or <code>null</code>
+	 */
+	public void setJournal(AntBuildJournal journal) {
+		this.journal = journal;
+	}
+
+	public AntBuildJournal getJournal() {
+		return journal;
+	}
+
+	/**
+	 * Records a message appended to the console stream of the given priority, if a journal is set
+	 */
+	public void journalMessage(String message, int priority) {
+		AntBuildJournal buildJournal = journal;
+		if (buildJournal != null) {
+			buildJournal.writeMessage(message, priority);
+		}
+	}
+
+	/**
+	 * Sets the controller that changes the output of the running build at its source
+	 *
+	 * @param controller
+	 *            the controller or <code>null</code> if the output cannot be changed
+	 */
+	public void setOutputController(IAntOutputController controller) {
+		outputController = controller;
+	}
+
+	/**
+	 * @return the controller of the output of the running build or <code>null</code> if the output cannot be changed
+	 */
+	public IAntOutputController getOutputController() {
+		return outputController;
+	}
+
+	/**
+	 * Closes the journal, if one is set. Messages recorded afterwards are ignored.
+	 */
+	public void closeJournal() {
+		AntBuildJournal buildJournal = journal;
+		if (buildJournal != null) {
+			buildJournal.close();
+		}
+	}
+
+	@Override
+	protected void fireTerminate() {
+		// the remote listener of a build in a separate JRE, which is the output controller, may still be reading
+		// messages and closes the journal when it is done
+		if (outputController == null) {
+			closeJournal();
+		}
+		super.fireTerminate();
+	}
+
+	@Override
+	public void launchRemoved(ILaunch launch) {
+		if (this.equals(launch)) {
+			closeJournal();
+		}
+		super.launchRemoved(launch);
+	}
+
 }
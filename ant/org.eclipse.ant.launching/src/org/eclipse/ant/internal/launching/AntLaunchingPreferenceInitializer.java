@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2013 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,7 @@ public class AntLaunchingPreferenceInitializer extends AbstractPreferenceInitial
 		IEclipsePreferences node = DefaultScope.INSTANCE.getNode(AntLaunching.getUniqueIdentifier());
 		if (node != null) {
 			node.putInt(IAntLaunchingPreferenceConstants.ANT_COMMUNICATION_TIMEOUT, 20000);
+			node.putBoolean(IAntLaunchingPreferenceConstants.ANT_BUILD_JOURNAL, false);
 			try {
 				node.flush();
 			}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.launching;
+
+/**
+ * The time spent in one target or one task type during an Ant build launched in profile mode. Times are in nanoseconds.
+ */
+public class AntProfileEntry {
+
+	public static final int KIND_TARGET = 0;
+	public static final int KIND_TASK = 1;
+
+	int kind;
+	String name;
+	String fileName;
+	int lineNumber;
+	int count;
+	long inclusiveTime;
+	long selfTime;
+
+	public AntProfileEntry(int kind, String name, String fileName, int lineNumber, int count, long inclusiveTime, long selfTime) {
+		super();
+		this.kind = kind;
+		this.name = name;
+		this.fileName = fileName;
+		this.lineNumber = lineNumber;
+		this.count = count;
+		this.inclusiveTime = inclusiveTime;
+		this.selfTime = selfTime;
+	}
+
+	/**
+	 * @return one of {@link #KIND_TARGET} or {@link #KIND_TASK}
+	 */
+	public int getKind() {
+		return kind;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the build file of a target or <code>null</code> if unknown or a task type
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+
+	public int getLineNumber() {
+		return lineNumber;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public long getInclusiveTime() {
+		return inclusiveTime;
+	}
+
+	public long getSelfTime() {
+		return selfTime;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,4 +23,10 @@ public interface IAntLaunchingPreferenceConstants {
 	 * JRE to capture the output
 	 */
 	public static final String ANT_COMMUNICATION_TIMEOUT = "timeout"; //$NON-NLS-1$
+
+	/**
+	 * boolean preference identifier constant which specifies whether the console output of Ant builds is recorded to a build journal in the state
+	 * location, to be replayed later
+	 */
+	public static final String ANT_BUILD_JOURNAL = "buildJournal"; //$NON-NLS-1$
 }
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.launching;
+
+import java.util.Set;
+
+/**
+ * Changes the output of a running Ant build at its source, so that filtered messages are neither sent to Eclipse nor written to the console.
+ */
+public interface IAntOutputController {
+
+	/**
+	 * Sets the message output level of the build, one of the <code>Project.MSG_*</code> constants
+	 *
+	 * @param level
+	 *            the new output level
+	 */
+	void setOutputLevel(int level);
+
+	/**
+	 * Returns the output level last set through this controller
+	 *
+	 * @return the output level or <code>-1</code> if it has not been changed
+	 */
+	int getOutputLevel();
+
+	/**
+	 * Mutes or unmutes the informational, verbose and debug messages of the task with the given name. Errors and warnings are always shown.
+	 *
+	 * @param taskName
+	 *            the task name, for example <code>junit</code>
+	 * @param muted
+	 *            whether the messages of the task are muted
+	 */
+	void setTaskMuted(String taskName, boolean muted);
+
+	/**
+	 * @return the names of the muted tasks
+	 */
+	Set<String> getMutedTasks();
+}
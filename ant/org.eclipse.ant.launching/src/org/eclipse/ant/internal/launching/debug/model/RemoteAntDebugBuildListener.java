@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2013 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -216,6 +216,7 @@ public class RemoteAntDebugBuildListener extends RemoteAntBuildListener implemen
 				// do nothing
 			}
 		}
+		releaseLaunch();
 		fLaunch = null;
 		if (DebugPlugin.getDefault() != null) {
 			DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(this);
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.launching.launchConfigurations;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.tools.ant.Project;
+import org.eclipse.ant.internal.launching.AntBuildJournal;
+import org.eclipse.ant.internal.launching.AntLaunch;
+import org.eclipse.ant.internal.launching.AntLaunching;
+import org.eclipse.ant.launching.IAntLaunchConstants;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.model.IProcess;
+
+/**
+ * Replays a build journal into the console of a new Ant process, re-creating the task and target links as the build did, without re-running the
+ * build.
+ *
+ * @see AntBuildJournal
+ */
+public class AntBuildJournalReplay implements AntBuildJournal.IJournalVisitor {
+
+	private AntLaunch fLaunch;
+	private AntStreamsProxy fProxy;
+
+	private AntBuildJournalReplay(AntLaunch launch, AntStreamsProxy proxy) {
+		fLaunch = launch;
+		fProxy = proxy;
+	}
+
+	/**
+	 * Adds a new launch with an Ant process whose console is fed from the given journal in the background. The process terminates once the journal
+	 * has been read.
+	 *
+	 * @param journal
+	 *            the journal file to replay
+	 * @return the launch of the replay
+	 */
+	public static ILaunch replay(final File journal) {
+		AntLaunch launch = new AntLaunch(null, ILaunchManager.RUN_MODE, null);
+		Map<String, String> attributes = new HashMap<>(1);
+		attributes.put(IProcess.ATTR_PROCESS_TYPE, IAntLaunchConstants.ID_ANT_PROCESS_TYPE);
+		final AntProcess process = new AntProcess(journal.getName(), launch, attributes);
+		DebugPlugin.getDefault().getLaunchManager().addLaunch(launch);
+
+		final AntBuildJournalReplay replay = new AntBuildJournalReplay(launch, (AntStreamsProxy) process.getStreamsProxy());
+		Job job = new Job(MessageFormat.format(AntLaunchConfigurationMessages.AntBuildJournalReplay_0, new Object[] { journal.getName() })) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					AntBuildJournal.read(journal, replay, monitor);
+				}
+				catch (IOException e) {
+					return AntLaunching.newErrorStatus(MessageFormat.format(AntLaunchConfigurationMessages.AntBuildJournalReplay_1, new Object[] {
+							journal.getName() }), e);
+				}
+				finally {
+					process.terminated();
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+		return launch;
+	}
+
+	@Override
+	public void message(String message, int priority) {
+		AntStreamMonitor monitor = getMonitor(priority);
+		if (monitor != null) {
+			monitor.append(message);
+		}
+	}
+
+	@Override
+	public void link(String line, String fileName, int lineNumber, int offset, int length) {
+		fLaunch.addLinkDescriptor(line, fileName, lineNumber, offset, length);
+	}
+
+	private AntStreamMonitor getMonitor(int priority) {
+		AntStreamMonitor monitor = null;
+		switch (priority) {
+			case Project.MSG_INFO:
+				monitor = (AntStreamMonitor) fProxy.getOutputStreamMonitor();
+				break;
+			case Project.MSG_ERR:
+				monitor = (AntStreamMonitor) fProxy.getErrorStreamMonitor();
+				break;
+			case Project.MSG_DEBUG:
+				monitor = (AntStreamMonitor) fProxy.getDebugStreamMonitor();
+				break;
+			case Project.MSG_WARN:
+				monitor = (AntStreamMonitor) fProxy.getWarningStreamMonitor();
+				break;
+			case Project.MSG_VERBOSE:
+				monitor = (AntStreamMonitor) fProxy.getVerboseStreamMonitor();
+				break;
+			default:
+				break;
+		}
+		return monitor;
+	}
+}
@@ -33,6 +33,9 @@ public class AntLaunchConfigurationMessages extends NLS {
 
 	public static String ContributedClasspathEntriesEntry_1;
 
+	public static String AntBuildJournalReplay_0;
+	public static String AntBuildJournalReplay_1;
+
 	static {
 		// load message values from bundle file
 		NLS.initializeMessages(BUNDLE_NAME, AntLaunchConfigurationMessages.class);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,9 +36,11 @@ import org.eclipse.ant.core.Property;
 import org.eclipse.ant.core.Task;
 import org.eclipse.ant.core.Type;
 import org.eclipse.ant.internal.core.AbstractEclipseBuildLogger;
+import org.eclipse.ant.internal.launching.AntBuildJournal;
 import org.eclipse.ant.internal.launching.AntLaunch;
 import org.eclipse.ant.internal.launching.AntLaunching;
 import org.eclipse.ant.internal.launching.AntLaunchingUtil;
+import org.eclipse.ant.internal.launching.IAntLaunchingPreferenceConstants;
 import org.eclipse.ant.internal.launching.debug.IAntDebugConstants;
 import org.eclipse.ant.internal.launching.debug.model.RemoteAntDebugBuildListener;
 import org.eclipse.ant.launching.IAntLaunchConstants;
@@ -86,9 +88,11 @@ public class AntLaunchDelegate extends LaunchConfigurationDelegate {
 
 	private static final String ANT_LOGGER_CLASS = "org.eclipse.ant.internal.launching.runtime.logger.AntProcessBuildLogger"; //$NON-NLS-1$
 	private static final String ANT_DEBUG_LOGGER_CLASS = "org.eclipse.ant.internal.launching.runtime.logger.AntProcessDebugBuildLogger"; //$NON-NLS-1$
+	private static final String ANT_PROFILE_LOGGER_CLASS = "org.eclipse.ant.internal.launching.runtime.logger.AntProcessProfileBuildLogger"; //$NON-NLS-1$
 	private static final String NULL_LOGGER_CLASS = "org.eclipse.ant.internal.launching.runtime.logger.NullBuildLogger"; //$NON-NLS-1$
 	private static final String REMOTE_ANT_LOGGER_CLASS = "org.eclipse.ant.internal.launching.remote.logger.RemoteAntBuildLogger"; //$NON-NLS-1$
 	private static final String REMOTE_ANT_DEBUG_LOGGER_CLASS = "org.eclipse.ant.internal.launching.remote.logger.RemoteAntDebugBuildLogger"; //$NON-NLS-1$
+	private static final String REMOTE_ANT_PROFILE_LOGGER_CLASS = "org.eclipse.ant.internal.launching.remote.logger.RemoteAntProfileBuildLogger"; //$NON-NLS-1$
 	private static final String BASE_DIR_PREFIX = "-Dbasedir="; //$NON-NLS-1$
 	private static final String INPUT_HANDLER_CLASS = "org.eclipse.ant.internal.ui.antsupport.inputhandler.AntInputHandler"; //$NON-NLS-1$
 	private static final String REMOTE_INPUT_HANDLER_CLASS = "org.eclipse.ant.internal.ui.antsupport.inputhandler.ProxyInputHandler"; //$NON-NLS-1$
@@ -243,6 +247,10 @@ public class AntLaunchDelegate extends LaunchConfigurationDelegate {
 			}
 		}
 
+		if (captureOutput && launch instanceof AntLaunch) {
+			createJournal(configuration, (AntLaunch) launch);
+		}
+
 		StringBuffer commandLine = generateCommandLine(location, arguments, userProperties, propertyFiles, targets, antHome, basedir, isSeparateJRE, captureOutput, setInputHandler);
 
 		if (isSeparateJRE) {
@@ -256,6 +264,21 @@ public class AntLaunchDelegate extends LaunchConfigurationDelegate {
 		monitor.done();
 	}
 
+	/**
+	 * Sets a new build journal on the launch if the user has chosen to record build journals
+	 */
+	private void createJournal(ILaunchConfiguration configuration, AntLaunch launch) {
+		if (!Platform.getPreferencesService().getBoolean(AntLaunching.getUniqueIdentifier(), IAntLaunchingPreferenceConstants.ANT_BUILD_JOURNAL, false, null)) {
+			return;
+		}
+		try {
+			launch.setJournal(AntBuildJournal.create(configuration.getName()));
+		}
+		catch (IOException e) {
+			AntLaunching.log(e);
+		}
+	}
+
 	private void runInSameVM(ILaunchConfiguration configuration, ILaunch launch, IProgressMonitor monitor, IPath location, String idStamp, AntRunner runner, StringBuffer commandLine) throws CoreException {
 		Map<String, String> attributes = new HashMap<>(2);
 		attributes.put(IProcess.ATTR_PROCESS_TYPE, IAntLaunchConstants.ID_ANT_PROCESS_TYPE);
@@ -326,6 +349,8 @@ public class AntLaunchDelegate extends LaunchConfigurationDelegate {
 		if (captureOutput) {
 			if (fMode.equals(ILaunchManager.DEBUG_MODE)) {
 				runner.addBuildLogger(ANT_DEBUG_LOGGER_CLASS);
+			} else if (fMode.equals(ILaunchManager.PROFILE_MODE)) {
+				runner.addBuildLogger(ANT_PROFILE_LOGGER_CLASS);
 			} else {
 				runner.addBuildLogger(ANT_LOGGER_CLASS);
 			}
@@ -456,6 +481,8 @@ public class AntLaunchDelegate extends LaunchConfigurationDelegate {
 					commandLine.append(" -logger "); //$NON-NLS-1$
 					if (fMode.equals(ILaunchManager.DEBUG_MODE)) {
 						commandLine.append(REMOTE_ANT_DEBUG_LOGGER_CLASS);
+					} else if (fMode.equals(ILaunchManager.PROFILE_MODE)) {
+						commandLine.append(REMOTE_ANT_PROFILE_LOGGER_CLASS);
 					} else {
 						commandLine.append(REMOTE_ANT_LOGGER_CLASS);
 					}
@@ -476,6 +503,8 @@ public class AntLaunchDelegate extends LaunchConfigurationDelegate {
 				commandLine.append(" -logger "); //$NON-NLS-1$
 				if (fMode.equals(ILaunchManager.DEBUG_MODE)) {
 					commandLine.append(ANT_DEBUG_LOGGER_CLASS);
+				} else if (fMode.equals(ILaunchManager.PROFILE_MODE) && captureOutput) {
+					commandLine.append(ANT_PROFILE_LOGGER_CLASS);
 				} else if (captureOutput) {
 					commandLine.append(ANT_LOGGER_CLASS);
 				} else {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2003, 2016 IBM Corporation and others.
+ *  Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -17,12 +17,18 @@ package org.eclipse.ant.internal.launching.launchConfigurations;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.StringTokenizer;
 
 import org.apache.tools.ant.Project;
@@ -30,7 +36,9 @@ import org.eclipse.ant.internal.core.AbstractEclipseBuildLogger;
 import org.eclipse.ant.internal.launching.AntLaunch;
 import org.eclipse.ant.internal.launching.AntLaunching;
 import org.eclipse.ant.internal.launching.AntLaunchingUtil;
+import org.eclipse.ant.internal.launching.AntProfileEntry;
 import org.eclipse.ant.internal.launching.IAntLaunchingPreferenceConstants;
+import org.eclipse.ant.internal.launching.IAntOutputController;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.debug.core.DebugPlugin;
@@ -42,7 +50,7 @@ import org.eclipse.debug.core.model.IProcess;
  * Parts adapted from org.eclipse.jdt.internal.junit.ui.RemoteTestRunnerClient The client side of the RemoteAntBuildLogger. Handles the marshaling of
  * the different messages.
  */
-public class RemoteAntBuildListener implements ILaunchesListener {
+public class RemoteAntBuildListener implements ILaunchesListener, IAntOutputController {
 	public abstract class ListenerSafeRunnable implements ISafeRunnable {
 		@Override
 		public void handleException(Throwable exception) {
@@ -63,6 +71,12 @@ public class RemoteAntBuildListener implements ILaunchesListener {
 	private String fLastFileName = null;
 	private String fLastTaskName = null;
 	private boolean fBuildFailed = false;
+	/**
+	 * Writer for the control messages sent to the remote logger on the event connection
+	 */
+	private PrintWriter fControlWriter;
+	private int fOutputLevel = -1;
+	private Set<String> fMutedTasks = new HashSet<>();
 	/**
 	 * The encoding to use
 	 *
@@ -90,6 +104,7 @@ public class RemoteAntBuildListener implements ILaunchesListener {
 				fServerSocket.setSoTimeout(socketTimeout);
 				fSocket = fServerSocket.accept();
 				fBufferedReader = new BufferedReader(new InputStreamReader(fSocket.getInputStream(), fEncoding));
+				connectControl();
 				// See https://bugs.eclipse.org/bugs/show_bug.cgi?id=414516
 				// the launch can be terminated but we haven't been notified yet
 				String message;
@@ -122,6 +137,9 @@ public class RemoteAntBuildListener implements ILaunchesListener {
 		super();
 		fLaunch = launch;
 		fEncoding = encoding;
+		if (launch instanceof AntLaunch) {
+			((AntLaunch) launch).setOutputController(this);
+		}
 		DebugPlugin.getDefault().getLaunchManager().addLaunchListener(this);
 	}
 
@@ -135,6 +153,16 @@ public class RemoteAntBuildListener implements ILaunchesListener {
 		return fEncoding;
 	}
 
+	/**
+	 * Detaches this listener from the output of the launch and closes the journal of the launch, as no more messages will be received
+	 */
+	protected void releaseLaunch() {
+		if (fLaunch instanceof AntLaunch) {
+			((AntLaunch) fLaunch).setOutputController(null);
+			((AntLaunch) fLaunch).closeJournal();
+		}
+	}
+
 	/**
 	 * Start listening to an Ant build. Start a server connection that the RemoteAntBuildLogger can connect to.
 	 *
@@ -147,7 +175,12 @@ public class RemoteAntBuildListener implements ILaunchesListener {
 	}
 
 	protected synchronized void shutDown() {
+		releaseLaunch();
 		fLaunch = null;
+		if (fControlWriter != null) {
+			fControlWriter.close();
+			fControlWriter = null;
+		}
 		if (DebugPlugin.getDefault() != null) {
 			DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(this);
 		}
@@ -180,11 +213,59 @@ public class RemoteAntBuildListener implements ILaunchesListener {
 		}
 	}
 
+	/**
+	 * Creates the writer for control messages and sends the output settings that were changed before the remote logger connected
+	 */
+	private synchronized void connectControl() throws IOException {
+		fControlWriter = new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8), true);
+		if (fOutputLevel != -1) {
+			sendControlMessage(MessageIds.OUTPUT_LEVEL, Integer.toString(fOutputLevel));
+		}
+		for (String taskName : fMutedTasks) {
+			sendControlMessage(MessageIds.MUTE_TASK, taskName);
+		}
+	}
+
+	private void sendControlMessage(String id, String argument) {
+		if (fControlWriter != null) {
+			fControlWriter.println(id + ',' + argument);
+		}
+	}
+
+	@Override
+	public synchronized void setOutputLevel(int level) {
+		fOutputLevel = level;
+		sendControlMessage(MessageIds.OUTPUT_LEVEL, Integer.toString(level));
+	}
+
+	@Override
+	public synchronized int getOutputLevel() {
+		return fOutputLevel;
+	}
+
+	@Override
+	public synchronized void setTaskMuted(String taskName, boolean muted) {
+		if (muted) {
+			if (fMutedTasks.add(taskName)) {
+				sendControlMessage(MessageIds.MUTE_TASK, taskName);
+			}
+		} else if (fMutedTasks.remove(taskName)) {
+			sendControlMessage(MessageIds.UNMUTE_TASK, taskName);
+		}
+	}
+
+	@Override
+	public synchronized Set<String> getMutedTasks() {
+		return Collections.unmodifiableSet(new HashSet<>(fMutedTasks));
+	}
+
 	protected void receiveMessage(String message) {
 		if (message.startsWith(MessageIds.TASK)) {
 			receiveTaskMessage(message);
 		} else if (message.startsWith(MessageIds.TARGET)) {
 			receiveTargetMessage(message);
+		} else if (message.startsWith(MessageIds.PROFILE)) {
+			receiveProfileMessage(message);
 		} else if (message.startsWith(MessageIds.PROCESS_ID)) {
 			fProcessId = message.substring(MessageIds.PROCESS_ID.length());
 		} else {
@@ -272,6 +353,37 @@ public class RemoteAntBuildListener implements ILaunchesListener {
 		writeMessage(fullMessage.append(System.getProperty("line.separator")).toString(), priority); //$NON-NLS-1$
 	}
 
+	/**
+	 * Decodes a profile entry sent as:
+	 * <code>8kind,count,inclusiveNanos,selfNanos,lineNumber,nameLength,name,fileNameLength,fileName</code>
+	 */
+	private void receiveProfileMessage(String message) {
+		String msg = message.substring(MessageIds.PROFILE.length());
+		int index = msg.indexOf(',');
+		int kind = Integer.parseInt(msg.substring(0, index));
+		int index2 = msg.indexOf(',', index + 1);
+		int count = Integer.parseInt(msg.substring(index + 1, index2));
+		int index3 = msg.indexOf(',', index2 + 1);
+		long inclusiveTime = Long.parseLong(msg.substring(index2 + 1, index3));
+		int index4 = msg.indexOf(',', index3 + 1);
+		long selfTime = Long.parseLong(msg.substring(index3 + 1, index4));
+		int index5 = msg.indexOf(',', index4 + 1);
+		int lineNumber = Integer.parseInt(msg.substring(index4 + 1, index5));
+		int index6 = msg.indexOf(',', index5 + 1);
+		int nameLength = Integer.parseInt(msg.substring(index5 + 1, index6));
+		int nameEnd = index6 + 1 + nameLength;
+		String name = msg.substring(index6 + 1, nameEnd);
+		int index7 = msg.indexOf(',', nameEnd + 1);
+		int fileNameLength = Integer.parseInt(msg.substring(nameEnd + 1, index7));
+		String fileName = null;
+		if (fileNameLength > 0) {
+			fileName = msg.substring(index7 + 1, index7 + 1 + fileNameLength);
+		}
+		if (fLaunch instanceof AntLaunch) {
+			((AntLaunch) fLaunch).addProfileEntry(new AntProfileEntry(kind, name, fileName, lineNumber, count, inclusiveTime, selfTime));
+		}
+	}
+
 	private void generateLink(String line, String fileName, int lineNumber, int offset, int length) {
 		if (fLaunch != null) {
 			((AntLaunch) fLaunch).addLinkDescriptor(line, fileName, lineNumber, offset, length);
@@ -352,6 +464,9 @@ public class RemoteAntBuildListener implements ILaunchesListener {
 	}
 
 	protected void writeMessage(String message, int priority) {
+		if (fLaunch instanceof AntLaunch) {
+			((AntLaunch) fLaunch).journalMessage(message, priority);
+		}
 		AntStreamMonitor monitor = getMonitor(priority);
 		if (monitor == null) {
 			if (fMessageQueue == null) {
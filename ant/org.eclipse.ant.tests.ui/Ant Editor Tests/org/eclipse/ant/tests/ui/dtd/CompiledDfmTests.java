@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.tests.ui.dtd;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ant.internal.ui.dtd.IAtom;
+import org.eclipse.ant.internal.ui.dtd.IDfm;
+import org.eclipse.ant.internal.ui.dtd.IElement;
+import org.eclipse.ant.internal.ui.dtd.ISchema;
+import org.eclipse.ant.internal.ui.dtd.Parser;
+import org.eclipse.ant.internal.ui.dtd.schema.CompiledDfm;
+import org.eclipse.ant.internal.ui.dtd.schema.Element;
+import org.eclipse.ant.internal.ui.editor.AntEditorCompletionProcessor;
+import org.eclipse.ant.tests.ui.testplugin.AbstractAntUITest;
+
+/**
+ * Tests that the {@link CompiledDfm} of each element of the Ant DTD accepts the same children as the dfm it is compiled from.
+ */
+public class CompiledDfmTests extends AbstractAntUITest {
+
+	private static final String ANT_DTD_FILENAME = "/org/eclipse/ant/internal/ui/editor/ant1.6.2.dtd"; //$NON-NLS-1$
+
+	public CompiledDfmTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Walks the states of the content model of every element and checks that the compiled and the parsed dfm agree on whether a state is accepting
+	 * and on the transition for every element name of the schema
+	 */
+	public void testCompiledDfmMatchesParsedDfm() throws Exception {
+		ISchema schema;
+		try (InputStream stream = AntEditorCompletionProcessor.class.getResourceAsStream(ANT_DTD_FILENAME);
+				Reader reader = new InputStreamReader(stream, "UTF-8")) { //$NON-NLS-1$
+			schema = new Parser().parseDTD(reader, "project"); //$NON-NLS-1$
+		}
+		IElement[] elements = schema.getElements();
+		assertTrue("Ant DTD should define elements", elements.length > 0); //$NON-NLS-1$
+		List<String> symbols = new ArrayList<>(elements.length + 1);
+		for (IElement element : elements) {
+			symbols.add(element.getName());
+		}
+		symbols.add("notAnElementName"); //$NON-NLS-1$
+
+		for (IElement element : elements) {
+			IDfm compiled = element.getDfm();
+			assertTrue(element.getName(), compiled instanceof CompiledDfm);
+			assertDfmEquals(element.getName(), ((Element) element).getParsedDfm(), compiled, symbols);
+		}
+	}
+
+	/**
+	 * Walks the states reachable from the given start states in parallel
+	 */
+	private void assertDfmEquals(String name, IDfm parsed, IDfm compiled, List<String> symbols) {
+		Map<IDfm, IDfm> visited = new IdentityHashMap<>();
+		List<IDfm[]> pending = new ArrayList<>();
+		pending.add(new IDfm[] { parsed, compiled });
+		visited.put(parsed, compiled);
+		while (!pending.isEmpty()) {
+			IDfm[] states = pending.remove(pending.size() - 1);
+			IDfm state = states[0];
+			IDfm compiledState = states[1];
+			assertEquals(name, state.isAccepting(), compiledState.isAccepting());
+			assertEquals(name, state.isAny(), compiledState.isAny());
+			assertEquals(name, state.isEmpty(), compiledState.isEmpty());
+			for (String symbol : symbols) {
+				String transition = name + ' ' + symbol;
+				IDfm next = state.advance(symbol);
+				IDfm compiledNext = compiledState.advance(symbol);
+				if (next == null) {
+					assertNull(transition, compiledNext);
+					continue;
+				}
+				assertNotNull(transition, compiledNext);
+				if (!state.isAny()) {
+					IAtom atom = state.getAtom(symbol);
+					assertEquals(transition, atom.getName(), compiledState.getAtom(symbol).getName());
+				}
+				IDfm previous = visited.get(next);
+				if (previous == null) {
+					visited.put(next, compiledNext);
+					pending.add(new IDfm[] { next, compiledNext });
+				} else {
+					assertSame(transition, previous, compiledNext);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.tests.ui.dtd;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ant.internal.ui.dtd.IAttribute;
+import org.eclipse.ant.internal.ui.dtd.IDfm;
+import org.eclipse.ant.internal.ui.dtd.IElement;
+import org.eclipse.ant.internal.ui.dtd.IModel;
+import org.eclipse.ant.internal.ui.dtd.ISchema;
+import org.eclipse.ant.internal.ui.dtd.ParseError;
+import org.eclipse.ant.internal.ui.dtd.Parser;
+import org.eclipse.ant.internal.ui.dtd.schema.SchemaSerializer;
+import org.eclipse.ant.internal.ui.editor.AntEditorCompletionProcessor;
+import org.eclipse.ant.tests.ui.testplugin.AbstractAntUITest;
+
+/**
+ * Tests that a schema read by the {@link SchemaSerializer} is equivalent to the schema parsed from the Ant DTD.
+ */
+public class SchemaSerializerTests extends AbstractAntUITest {
+
+	private static final String ANT_DTD_FILENAME = "/org/eclipse/ant/internal/ui/editor/ant1.6.2.dtd"; //$NON-NLS-1$
+	private static final long STAMP = 1624L;
+
+	public SchemaSerializerTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests that every element, attribute, content model and content model state of the parsed schema is read back
+	 */
+	public void testReadSchemaEquivalentToParsedSchema() throws Exception {
+		ISchema parsed = parseDtd();
+		ISchema read = SchemaSerializer.read(new ByteArrayInputStream(writeSchema(parsed)), STAMP);
+		assertNotNull("Schema should be read", read); //$NON-NLS-1$
+
+		IElement[] elements = parsed.getElements();
+		assertTrue("Ant DTD should define elements", elements.length > 0); //$NON-NLS-1$
+		assertEquals(elements.length, read.getElements().length);
+		for (IElement element : elements) {
+			IElement readElement = read.getElement(element.getName());
+			assertNotNull("Element not read: " + element.getName(), readElement); //$NON-NLS-1$
+			assertElementEquals(element, readElement);
+		}
+	}
+
+	/**
+	 * Tests that a schema written for another dtd is not read
+	 */
+	public void testReadSchemaOfOtherStamp() throws Exception {
+		byte[] bytes = writeSchema(parseDtd());
+		assertNull("Schema of another stamp should not be read", SchemaSerializer.read(new ByteArrayInputStream(bytes), STAMP + 1)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that negative or huge counts of the symbols and states of a content model are rejected
+	 */
+	public void testReadCorruptContentModel() throws Exception {
+		byte[] bytes = writeSchema(new Parser().parseDTD(new StringReader("<!ELEMENT a EMPTY>"), "a")); //$NON-NLS-1$ //$NON-NLS-2$
+		// the schema ends with the content model of the empty element: no symbols, one state and its flags
+		int symbolCountOffset = bytes.length - 9;
+		int stateCountOffset = bytes.length - 5;
+		assertEquals(0, ByteBuffer.wrap(bytes).getInt(symbolCountOffset));
+		assertEquals(1, ByteBuffer.wrap(bytes).getInt(stateCountOffset));
+		assertNotNull(SchemaSerializer.read(new ByteArrayInputStream(bytes), STAMP));
+
+		assertReadFails(bytes, symbolCountOffset, -1);
+		assertReadFails(bytes, symbolCountOffset, Integer.MAX_VALUE);
+		assertReadFails(bytes, stateCountOffset, -1);
+		assertReadFails(bytes, stateCountOffset, Integer.MAX_VALUE);
+	}
+
+	private void assertReadFails(byte[] bytes, int offset, int value) {
+		byte[] corrupt = bytes.clone();
+		ByteBuffer.wrap(corrupt).putInt(offset, value);
+		try {
+			SchemaSerializer.read(new ByteArrayInputStream(corrupt), STAMP);
+			fail("A count of " + value + " should not be read"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		catch (IOException e) {
+			// expected
+		}
+	}
+
+	private ISchema parseDtd() throws ParseError, IOException {
+		try (InputStream stream = AntEditorCompletionProcessor.class.getResourceAsStream(ANT_DTD_FILENAME);
+				Reader reader = new InputStreamReader(stream, "UTF-8")) { //$NON-NLS-1$
+			return new Parser().parseDTD(reader, "project"); //$NON-NLS-1$
+		}
+	}
+
+	private byte[] writeSchema(ISchema schema) throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		SchemaSerializer.write(schema, STAMP, stream);
+		return stream.toByteArray();
+	}
+
+	private void assertElementEquals(IElement expected, IElement actual) {
+		String name = expected.getName();
+		assertEquals(name, expected.isUndefined(), actual.isUndefined());
+		assertEquals(name, expected.isText(), actual.isText());
+		assertEquals(name, expected.isAny(), actual.isAny());
+		assertEquals(name, expected.isEmpty(), actual.isEmpty());
+		IModel model = expected.getContentModel();
+		if (model == null) {
+			assertNull(name, actual.getContentModel());
+		} else {
+			assertEquals(name, model.stringRep(), actual.getContentModel().stringRep());
+		}
+
+		Map<String, IAttribute> attributes = expected.getAttributes();
+		Map<String, IAttribute> readAttributes = actual.getAttributes();
+		assertEquals(name, attributes.keySet(), readAttributes.keySet());
+		for (IAttribute attribute : attributes.values()) {
+			IAttribute readAttribute = readAttributes.get(attribute.getName());
+			String attributeName = name + '.' + attribute.getName();
+			assertEquals(attributeName, attribute.getType(), readAttribute.getType());
+			assertEquals(attributeName, attribute.getDefault(), readAttribute.getDefault());
+			assertEquals(attributeName, attribute.isFixed(), readAttribute.isFixed());
+			assertEquals(attributeName, attribute.isRequired(), readAttribute.isRequired());
+			assertSame(attributeName, actual, readAttribute.getElement());
+			String[] values = attribute.getEnum();
+			if (values == null) {
+				assertNull(attributeName, readAttribute.getEnum());
+			} else {
+				assertEquals(attributeName, List.of(values), List.of(readAttribute.getEnum()));
+			}
+		}
+		assertDfmEquals(name, expected.getDfm(), actual.getDfm());
+	}
+
+	/**
+	 * Walks the states reachable from the given start states in parallel and compares them
+	 */
+	private void assertDfmEquals(String name, IDfm expected, IDfm actual) {
+		Map<IDfm, IDfm> visited = new IdentityHashMap<>();
+		List<IDfm[]> pending = new ArrayList<>();
+		pending.add(new IDfm[] { expected, actual });
+		visited.put(expected, actual);
+		while (!pending.isEmpty()) {
+			IDfm[] states = pending.remove(pending.size() - 1);
+			IDfm state = states[0];
+			IDfm readState = states[1];
+			assertEquals(name, state.isAccepting(), readState.isAccepting());
+			assertEquals(name, state.isAny(), readState.isAny());
+			assertEquals(name, state.isEmpty(), readState.isEmpty());
+			String[] accepts = state.getAccepts();
+			assertEquals(name, List.of(accepts), List.of(readState.getAccepts()));
+			if (!state.isAny()) {
+				assertNull(name, readState.advance("notAnElementName")); //$NON-NLS-1$
+			}
+			for (String accept : accepts) {
+				assertEquals(name, state.getAtom(accept).getName(), readState.getAtom(accept).getName());
+				IDfm next = state.advance(accept);
+				IDfm readNext = readState.advance(accept);
+				assertNotNull(name + " should accept " + accept, readNext); //$NON-NLS-1$
+				IDfm previous = visited.get(next);
+				if (previous == null) {
+					visited.put(next, readNext);
+					pending.add(new IDfm[] { next, readNext });
+				} else {
+					assertSame(name, previous, readNext);
+				}
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2013 GEBIT Gesellschaft fuer EDV-Beratung
+ * Copyright (c) 2002, 2026 GEBIT Gesellschaft fuer EDV-Beratung
  * und Informatik-Technologien mbH, 
  * Berlin, Duesseldorf, Frankfurt (Germany) and others.
  *
@@ -17,13 +17,23 @@
 
 package org.eclipse.ant.tests.ui.editor;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.tools.ant.Target;
+import org.eclipse.ant.internal.ui.editor.utils.ImportedBuildFileCache;
 import org.eclipse.ant.internal.ui.model.AntElementNode;
 import org.eclipse.ant.internal.ui.model.AntModel;
+import org.eclipse.ant.internal.ui.model.AntProjectNode;
+import org.eclipse.ant.internal.ui.model.AntTargetNode;
 import org.eclipse.ant.internal.ui.model.IAntElement;
+import org.eclipse.ant.tests.ui.editor.support.TestLocationProvider;
+import org.eclipse.ant.tests.ui.editor.support.TestProblemRequestor;
 import org.eclipse.ant.tests.ui.testplugin.AbstractAntUITest;
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
 
 /**
  * Tests the correct creation of the outline for an xml file.
@@ -200,4 +210,239 @@ public class AntEditorContentOutlineTests extends AbstractAntUITest {
 		assertFalse("Target with description attribute should not be internal", model.getTargetNode("non-internal").isInternal()); //$NON-NLS-1$ //$NON-NLS-2$
 		assertFalse("Default target should not be internal", model.getTargetNode("-default").isInternal()); //$NON-NLS-1$ //$NON-NLS-2$
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Tests that changing whitespace between elements or attributes or the text of a comment updates the positions of the existing nodes without
+	 * parsing the document, while inserting an element parses the document.
+	 */
+	public void testIncrementalReconcile() throws BadLocationException {
+		AntModel model = getAntModel("incrementalReconcile.xml"); //$NON-NLS-1$
+		model.install();
+		IDocument document = getCurrentDocument();
+		AntTargetNode first = model.getTargetNode("first"); //$NON-NLS-1$
+		Target firstTarget = first.getTarget();
+		Target lastTarget = model.getTargetNode("last").getTarget(); //$NON-NLS-1$
+		int firstLength = first.getLength();
+
+		document.replace(document.get().indexOf("</echo>") + 7, 0, "\n\t\t"); //$NON-NLS-1$ //$NON-NLS-2$
+		model.reconcile();
+		assertSame("The target should not have been parsed again", firstTarget, model.getTargetNode("first").getTarget()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertSame("The target should not have been parsed again", lastTarget, model.getTargetNode("last").getTarget()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(firstLength + 3, model.getTargetNode("first").getLength()); //$NON-NLS-1$
+		assertEquals(document.get().indexOf("target name=\"last\""), model.getTargetNode("last").getOffset()); //$NON-NLS-1$ //$NON-NLS-2$
+
+		document.replace(document.get().indexOf("description=\"the last"), 0, "  "); //$NON-NLS-1$ //$NON-NLS-2$
+		model.reconcile();
+		document.replace(document.get().indexOf("first target"), 0, "very "); //$NON-NLS-1$ //$NON-NLS-2$
+		model.reconcile();
+		assertSame("The target should not have been parsed again", firstTarget, model.getTargetNode("first").getTarget()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertSame("The target should not have been parsed again", lastTarget, model.getTargetNode("last").getTarget()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(document.get().indexOf("target name=\"last\""), model.getTargetNode("last").getOffset()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(document.get().indexOf("<echo message") + 1, model.getNode(document.get().indexOf("<echo message") + 2, false).getOffset()); //$NON-NLS-1$ //$NON-NLS-2$
+
+		document.replace(document.get().indexOf("<echo message"), 0, "<echo/>"); //$NON-NLS-1$ //$NON-NLS-2$
+		model.reconcile();
+		AntTargetNode last = model.getTargetNode("last"); //$NON-NLS-1$
+		assertNotSame("The document should have been parsed again", lastTarget, last.getTarget()); //$NON-NLS-1$
+		assertEquals(2, last.getChildNodes().size());
+		assertEquals(document.get().indexOf("target name=\"last\""), last.getOffset()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that changing the value of an attribute parses the document, so that the model reflects the new value
+	 */
+	public void testReconcileAttributeValue() throws BadLocationException {
+		AntModel model = getAntModel("incrementalReconcile.xml"); //$NON-NLS-1$
+		model.install();
+		IDocument document = getCurrentDocument();
+		Target lastTarget = model.getTargetNode("last").getTarget(); //$NON-NLS-1$
+
+		document.replace(document.get().indexOf("the last target"), 3, "my"); //$NON-NLS-1$ //$NON-NLS-2$
+		model.reconcile();
+		AntTargetNode last = model.getTargetNode("last"); //$NON-NLS-1$
+		assertNotSame("The document should have been parsed again", lastTarget, last.getTarget()); //$NON-NLS-1$
+		assertEquals("my last target", last.getTarget().getDescription()); //$NON-NLS-1$
+		assertEquals(document.get().indexOf("target name=\"last\""), last.getOffset()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that changing the text of an element parses the document, so that the model reflects the new text
+	 */
+	public void testReconcileElementText() throws BadLocationException {
+		AntModel model = getAntModel("incrementalReconcile.xml"); //$NON-NLS-1$
+		model.install();
+		IDocument document = getCurrentDocument();
+		assertEquals("incremental reconcile", model.getProjectNode().getDescription()); //$NON-NLS-1$
+
+		document.replace(document.get().indexOf("incremental reconcile"), 0, "an "); //$NON-NLS-1$ //$NON-NLS-2$
+		model.reconcile();
+		assertEquals("an incremental reconcile", model.getProjectNode().getDescription()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a parse reuses the Ant project of the published tree, and that the published tree keeps the values of the project it was parsed
+	 * with
+	 */
+	public void testPublishedProjectValues() throws BadLocationException {
+		AntModel model = getAntModel("incrementalReconcile.xml"); //$NON-NLS-1$
+		model.install();
+		IDocument document = getCurrentDocument();
+		AntProjectNode published = model.getProjectNode();
+
+		document.replace(document.get().indexOf("default=\"first\"") + 9, 5, "last"); //$NON-NLS-1$ //$NON-NLS-2$
+		document.replace(document.get().indexOf("incremental reconcile"), 0, "an "); //$NON-NLS-1$ //$NON-NLS-2$
+		model.reconcile();
+		AntProjectNode projectNode = model.getProjectNode();
+		assertNotSame("The document should have been parsed again", published, projectNode); //$NON-NLS-1$
+		assertSame("The Ant project should be reused", published.getProject(), projectNode.getProject()); //$NON-NLS-1$
+		assertEquals("last", projectNode.getDefaultTargetName()); //$NON-NLS-1$
+		assertEquals("an incremental reconcile", projectNode.getDescription()); //$NON-NLS-1$
+		assertEquals("first", published.getDefaultTargetName()); //$NON-NLS-1$
+		assertEquals("incremental reconcile", published.getDescription()); //$NON-NLS-1$
+		assertTrue(published.getTargetNode("first").isDefaultTarget()); //$NON-NLS-1$
+		assertTrue(projectNode.getTargetNode("last").isDefaultTarget()); //$NON-NLS-1$
+		assertTrue(published.getTargets().containsKey("last")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a tree read while the model is reconciled on another thread is consistent: the positions of its nodes either all precede a change
+	 * or all follow it
+	 */
+	public void testReadWhileReconciling() throws Exception {
+		AntModel model = getAntModel("incrementalReconcile.xml"); //$NON-NLS-1$
+		model.install();
+		IDocument document = getCurrentDocument();
+		AntProjectNode project = model.getProjectNode();
+		int firstLength = project.getTargetNode("first").getLength(); //$NON-NLS-1$
+		int lastOffset = project.getTargetNode("last").getOffset(); //$NON-NLS-1$
+
+		final AtomicBoolean done = new AtomicBoolean();
+		final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+		Thread reader = new Thread(() -> {
+			while (!done.get() && failures.isEmpty()) {
+				AntProjectNode projectNode = model.getProjectNode(false);
+				AntTargetNode first = projectNode.getTargetNode("first"); //$NON-NLS-1$
+				AntTargetNode last = projectNode.getTargetNode("last"); //$NON-NLS-1$
+				int growth = first.getLength() - firstLength;
+				if ((growth != 0 && growth != 3) || last.getOffset() != lastOffset + growth) {
+					failures.add("first target length " + first.getLength() + ", last target offset " + last.getOffset()); //$NON-NLS-1$ //$NON-NLS-2$
+				} else if (first.getParentNode() != projectNode || projectNode.getNode(last.getOffset() + 1) != last) {
+					failures.add("inconsistent tree"); //$NON-NLS-1$
+				}
+			}
+		}, "Ant model reader"); //$NON-NLS-1$
+		reader.start();
+		try {
+			for (int i = 0; i < 100 && failures.isEmpty(); i++) {
+				int position = document.get().indexOf("</echo>") + 7; //$NON-NLS-1$
+				document.replace(position, 0, "\n\t\t"); //$NON-NLS-1$
+				model.reconcile();
+				document.replace(position, 3, ""); //$NON-NLS-1$
+				model.reconcile();
+				if (i % 10 == 0) {
+					// a parse publishes a new tree as well
+					document.replace(document.get().indexOf("<echo message"), 0, "<echo/>"); //$NON-NLS-1$ //$NON-NLS-2$
+					model.reconcile();
+					document.replace(document.get().indexOf("<echo/>"), 7, ""); //$NON-NLS-1$ //$NON-NLS-2$
+					model.reconcile();
+				}
+			}
+		}
+		finally {
+			done.set(true);
+			reader.join();
+		}
+		assertTrue("Read an inconsistent tree: " + failures, failures.isEmpty()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests the lookup of targets, properties, references and macrodef attributes by name
+	 */
+	public void testNameLookups() {
+		AntModel model = getAntModel("refid.xml"); //$NON-NLS-1$
+		assertNotNull("Target lookup should ignore case", model.getTargetNode("COMPILE")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(model.getTargetNode("missing")); //$NON-NLS-1$
+		assertEquals("property", model.getPropertyNode("name with spaces").getName()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(model.getPropertyNode("missing")); //$NON-NLS-1$
+		assertEquals("fileset", model.getReferenceNode("filesetTest").getName()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(model.getReferenceNode("missing")); //$NON-NLS-1$
+
+		model = getAntModel("macrodef.xml"); //$NON-NLS-1$
+		assertEquals("eclipse", model.getMacroDefAttributeNode("eclipse").getLabel()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("some-tasks", model.getMacroDefAttributeNode("some-tasks").getLabel()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(model.getMacroDefAttributeNode("sequential")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that build files parsed at the same time on different threads result in the same models as build files parsed one at a time
+	 */
+	public void testConcurrentParse() throws InterruptedException {
+		String[] fileNames = new String[] { "buildtest1.xml", "buildtest3.xml", "macrodef.xml", "refid.xml", "nestedElementAttributes.xml", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+				"mixed.xml", "javac.xml", "internalTargets.xml", "dependencytest.xml", "import.xml", "outline_select_test_build.xml" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+		String[] expected = new String[fileNames.length];
+		for (int i = 0; i < fileNames.length; i++) {
+			expected[i] = getStructure(getAntModel(fileNames[i]).getProjectNode());
+		}
+
+		AntModel[] models = new AntModel[fileNames.length * 4];
+		for (int i = 0; i < models.length; i++) {
+			String fileName = fileNames[i % fileNames.length];
+			models[i] = new AntModel(getDocument(fileName), new TestProblemRequestor(), new TestLocationProvider(getBuildFile(fileName)));
+		}
+		final List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+		Thread[] threads = new Thread[models.length];
+		for (int i = 0; i < models.length; i++) {
+			final AntModel model = models[i];
+			threads[i] = new Thread(() -> {
+				try {
+					model.reconcile();
+				}
+				catch (Throwable e) {
+					failures.add(e);
+				}
+			}, "Ant model parse " + i); //$NON-NLS-1$
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertTrue("Parsing failed: " + failures, failures.isEmpty()); //$NON-NLS-1$
+		for (int i = 0; i < models.length; i++) {
+			assertEquals(fileNames[i % fileNames.length], expected[i % fileNames.length], getStructure(models[i].getProjectNode()));
+		}
+	}
+
+	/**
+	 * Tests that a buildfile imported by several models is parsed once and results in the same models
+	 */
+	public void testImportedBuildFileCache() {
+		ImportedBuildFileCache cache = ImportedBuildFileCache.getDefault();
+		cache.clear();
+		String expected = getStructure(getAntModel("import.xml").getProjectNode()); //$NON-NLS-1$
+		assertEquals("The imported buildfile should be parsed", 1, cache.getMissCount()); //$NON-NLS-1$
+		assertEquals(expected, getStructure(getAntModel("import.xml").getProjectNode())); //$NON-NLS-1$
+		assertEquals("The imported buildfile should be replayed", 1, cache.getHitCount()); //$NON-NLS-1$
+		AntModel model = getAntModel("import.xml"); //$NON-NLS-1$
+		assertTrue(model.getTargetNode("import-default").isExternal()); //$NON-NLS-1$
+		assertEquals(2, cache.getHitCount());
+	}
+
+	private String getStructure(IAntElement node) {
+		StringBuilder structure = new StringBuilder();
+		appendStructure(node, structure);
+		return structure.toString();
+	}
+
+	private void appendStructure(IAntElement node, StringBuilder structure) {
+		structure.append(node.getLabel()).append('[').append(node.getOffset()).append(',').append(node.getLength()).append(']');
+		if (node.hasChildren()) {
+			structure.append('(');
+			for (IAntElement child : node.getChildNodes()) {
+				appendStructure(child, structure);
+			}
+			structure.append(')');
+		}
+	}
+}
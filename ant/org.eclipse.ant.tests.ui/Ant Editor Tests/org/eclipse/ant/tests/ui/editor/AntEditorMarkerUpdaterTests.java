@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.tests.ui.editor;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.ant.internal.ui.editor.outline.AntEditorMarkerUpdater;
+import org.eclipse.ant.internal.ui.model.AntModel;
+import org.eclipse.ant.internal.ui.model.AntModelProblem;
+import org.eclipse.ant.internal.ui.model.IProblem;
+import org.eclipse.ant.tests.ui.editor.support.TestLocationProvider;
+import org.eclipse.ant.tests.ui.editor.support.TestProblemRequestor;
+import org.eclipse.ant.tests.ui.testplugin.AbstractAntUITest;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.text.Document;
+
+/**
+ * Tests that the marker updater only creates and deletes the markers of the problems that changed since the last update
+ */
+public class AntEditorMarkerUpdaterTests extends AbstractAntUITest {
+
+	private static final String CONTENTS = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<project name=\"markers\" default=\"a\">\n" //$NON-NLS-1$
+			+ "\t<target name=\"a\">\n\t\t<echo>a</echo>\n\t</target>\n\t<target name=\"b\">\n\t\t<echo>b</echo>\n\t</target>\n</project>\n"; //$NON-NLS-1$
+
+	private IFile fFile;
+	private AntModel fModel;
+	private AntEditorMarkerUpdater fUpdater;
+
+	public AntEditorMarkerUpdaterTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fFile = getIFile("markerUpdater.xml"); //$NON-NLS-1$
+		fFile.create(new ByteArrayInputStream(CONTENTS.getBytes(StandardCharsets.UTF_8)), true, null);
+		fModel = new AntModel(new Document(CONTENTS), new TestProblemRequestor(), new TestLocationProvider(fFile.getLocation().toFile()));
+		fUpdater = new AntEditorMarkerUpdater();
+		fUpdater.setModel(fModel);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fModel.dispose();
+		if (fFile.exists()) {
+			fFile.delete(true, null);
+		}
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that the marker of an unchanged problem is retained, that the marker of a moved problem follows it and that the marker of a fixed
+	 * problem is deleted
+	 */
+	public void testUpdateChangedMarkersOnly() throws Exception {
+		IProblem unchanged = createProblem("unchanged", 3); //$NON-NLS-1$
+		IProblem moved = createProblem("moved", 4); //$NON-NLS-1$
+		IProblem fixed = createProblem("fixed", 6); //$NON-NLS-1$
+		IMarker[] markers = update(unchanged, moved, fixed);
+		assertEquals(3, markers.length);
+		IMarker unchangedMarker = getMarker(markers, "unchanged"); //$NON-NLS-1$
+		IMarker movedMarker = getMarker(markers, "moved"); //$NON-NLS-1$
+		IMarker fixedMarker = getMarker(markers, "fixed"); //$NON-NLS-1$
+
+		IProblem movedAgain = createProblem("moved", 7); //$NON-NLS-1$
+		markers = update(unchanged, movedAgain);
+		assertEquals(2, markers.length);
+		assertEquals("The marker of the unchanged problem should be retained", unchangedMarker.getId(), getMarker(markers, "unchanged").getId()); //$NON-NLS-1$ //$NON-NLS-2$
+		IMarker marker = getMarker(markers, "moved"); //$NON-NLS-1$
+		assertEquals(movedAgain.getLineNumber(), marker.getAttribute(IMarker.LINE_NUMBER, -1));
+		assertEquals(movedAgain.getOffset(), marker.getAttribute(IMarker.CHAR_START, -1));
+		assertEquals(movedAgain.getOffset() + movedAgain.getLength(), marker.getAttribute(IMarker.CHAR_END, -1));
+		assertFalse("The marker at the old location of the moved problem should be deleted", movedMarker.exists()); //$NON-NLS-1$
+		assertFalse("The marker of the fixed problem should be deleted", fixedMarker.exists()); //$NON-NLS-1$
+
+		assertEquals(0, update().length);
+		assertFalse(unchangedMarker.exists());
+	}
+
+	/**
+	 * Reports the given problems and waits for the markers to be updated
+	 */
+	private IMarker[] update(IProblem... problems) throws CoreException, InterruptedException {
+		fUpdater.beginReporting();
+		for (IProblem problem : problems) {
+			fUpdater.acceptProblem(problem);
+		}
+		fUpdater.updateMarkers();
+		Job.getJobManager().join(AntEditorMarkerUpdater.FAMILY, null);
+		return fFile.findMarkers(AntEditorMarkerUpdater.BUILDFILE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+	}
+
+	/**
+	 * Returns a problem spanning the given line of the build file
+	 */
+	private IProblem createProblem(String message, int line) throws Exception {
+		Document document = new Document(CONTENTS);
+		int offset = document.getLineOffset(line - 1);
+		return new AntModelProblem(message, AntModelProblem.SEVERITY_ERROR, offset, document.getLineLength(line - 1) - 1, line);
+	}
+
+	private IMarker getMarker(IMarker[] markers, String message) throws CoreException {
+		IMarker found = null;
+		for (IMarker marker : markers) {
+			if (message.equals(marker.getAttribute(IMarker.MESSAGE))) {
+				assertNull("Only one marker should be created for " + message, found); //$NON-NLS-1$
+				found = marker;
+			}
+		}
+		assertNotNull("No marker for " + message, found); //$NON-NLS-1$
+		return found;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2012 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,14 +14,19 @@
  *******************************************************************************/
 package org.eclipse.ant.tests.ui.editor;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 
+import org.eclipse.ant.internal.ui.AntSymbolIndex;
 import org.eclipse.ant.internal.ui.editor.AntEditor;
 import org.eclipse.ant.internal.ui.editor.text.XMLTextHover;
+import org.eclipse.ant.internal.ui.model.AntSymbol;
 import org.eclipse.ant.tests.ui.editor.performance.EditorTestHelper;
 import org.eclipse.ant.tests.ui.testplugin.AbstractAntUITest;
 import org.eclipse.ant.tests.ui.testplugin.ProjectCreationDecorator;
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
@@ -224,6 +229,45 @@ public class AntEditorTests extends AbstractAntUITest {
 		assertEquals("Selection is not correct", "extension-point", selection.getText()); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
+	/**
+	 * Tests that a target declared in another buildfile of the project is found for navigation only, and only where the text refers to a target
+	 */
+	public void testOpenDeclarationInOtherBuildFile() throws Exception {
+		IFile declaring = getIFile("declaringBuildFile.xml"); //$NON-NLS-1$
+		IFile calling = getIFile("callingBuildFile.xml"); //$NON-NLS-1$
+		try {
+			declaring.create(getContents("<project name=\"declaring\">\n\t<target name=\"otherTarget\"/>\n</project>\n"), true, null); //$NON-NLS-1$
+			calling.create(getContents("<project name=\"calling\" default=\"main\">\n\t<target name=\"main\">\n\t\t<echo>otherTarget</echo>\n\t\t<antcall target=\"otherTarget\"/>\n\t</target>\n</project>\n"), true, null); //$NON-NLS-1$
+			// the index is started by its first use and only then can be waited for
+			AntSymbolIndex.getDefault();
+			Job.getJobManager().join(AntSymbolIndex.FAMILY, null);
+			AntEditor editor = (AntEditor) EditorTestHelper.openInEditor(calling, "org.eclipse.ant.ui.internal.editor.AntEditor", true); //$NON-NLS-1$
+
+			IRegion region = XMLTextHover.getRegion(editor.getViewer(), getOffsetWithinLine(editor, 3, 22));
+			assertNull("Mark occurrences should not consult the index", editor.findTarget(region)); //$NON-NLS-1$
+			Object target = editor.findNavigationTarget(region);
+			assertTrue("Expecting a declaration in the other buildfile", target instanceof AntSymbol); //$NON-NLS-1$
+			assertEquals(declaring.getFullPath(), ((AntSymbol) target).getPath());
+			assertEquals(AntSymbol.TARGET, ((AntSymbol) target).getKind());
+
+			region = XMLTextHover.getRegion(editor.getViewer(), getOffsetWithinLine(editor, 2, 10));
+			assertNull("Text that does not refer to a target should not be linked", editor.findNavigationTarget(region)); //$NON-NLS-1$
+		}
+		finally {
+			EditorTestHelper.closeAllEditors();
+			if (calling.exists()) {
+				calling.delete(true, null);
+			}
+			if (declaring.exists()) {
+				declaring.delete(true, null);
+			}
+		}
+	}
+
+	private ByteArrayInputStream getContents(String contents) {
+		return new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+	}
+
 	/**
 	 * Tests that the augment task can open in the Ant editor
 	 * 
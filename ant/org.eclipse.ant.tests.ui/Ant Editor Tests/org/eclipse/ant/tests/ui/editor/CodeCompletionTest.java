@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 GEBIT Gesellschaft fuer EDV-Beratung
+ * Copyright (c) 2002, 2026 GEBIT Gesellschaft fuer EDV-Beratung
  * und Informatik-Technologien mbH, 
  * Berlin, Duesseldorf, Frankfurt (Germany) and others.
  *
@@ -32,11 +32,17 @@ import org.eclipse.ant.internal.core.IAntCoreConstants;
 import org.eclipse.ant.internal.ui.AntUIImages;
 import org.eclipse.ant.internal.ui.IAntUIConstants;
 import org.eclipse.ant.internal.ui.editor.AntEditor;
+import org.eclipse.ant.internal.ui.editor.CodeCompletionDataCache;
+import org.eclipse.ant.internal.ui.model.AntModel;
 import org.eclipse.ant.tests.ui.editor.performance.EditorTestHelper;
+import org.eclipse.ant.tests.ui.editor.support.TestLocationProvider;
+import org.eclipse.ant.tests.ui.editor.support.TestProblemRequestor;
 import org.eclipse.ant.tests.ui.editor.support.TestTextCompletionProcessor;
 import org.eclipse.ant.tests.ui.testplugin.AbstractAntUITest;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.TextSelection;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.eclipse.ui.PartInitException;
@@ -817,25 +823,25 @@ public class CodeCompletionTest extends AbstractAntUITest {
 		TestTextCompletionProcessor processor = new TestTextCompletionProcessor();
 
 		// cursor after ${
-		String prefix = processor.getPrefixFromDocument("<project><target name=\"${}\"", 25); //$NON-NLS-1$
+		String prefix = processor.getPrefixFromDocument(new Document("<project><target name=\"${}\""), 25); //$NON-NLS-1$
 		assertEquals("", prefix); //$NON-NLS-1$
 
 		// cursor after $
-		prefix = processor.getPrefixFromDocument("<project><target name=\"${\"", 24); //$NON-NLS-1$
+		prefix = processor.getPrefixFromDocument(new Document("<project><target name=\"${\""), 24); //$NON-NLS-1$
 		assertEquals("", prefix); //$NON-NLS-1$
 
 		// cursor after ${ja.
-		prefix = processor.getPrefixFromDocument("<project><target name=\"${ja.\"", 28); //$NON-NLS-1$
+		prefix = processor.getPrefixFromDocument(new Document("<project><target name=\"${ja.\""), 28); //$NON-NLS-1$
 		assertEquals("ja.", prefix); //$NON-NLS-1$
 
 		// cursor after <
-		prefix = processor.getPrefixFromDocument("<project><", 10); //$NON-NLS-1$
+		prefix = processor.getPrefixFromDocument(new Document("<project><"), 10); //$NON-NLS-1$
 		assertEquals("", prefix); //$NON-NLS-1$
 
-		prefix = processor.getPrefixFromDocument("<project name= \"test\"><tar", 26); //$NON-NLS-1$
+		prefix = processor.getPrefixFromDocument(new Document("<project name= \"test\"><tar"), 26); //$NON-NLS-1$
 		assertEquals("tar", prefix); //$NON-NLS-1$
 
-		prefix = processor.getPrefixFromDocument("pro", 3); //$NON-NLS-1$
+		prefix = processor.getPrefixFromDocument(new Document("pro"), 3); //$NON-NLS-1$
 		assertEquals("pro", prefix); //$NON-NLS-1$
 	}
 
@@ -930,6 +936,60 @@ public class CodeCompletionTest extends AbstractAntUITest {
 		processor.dispose();
 	}
 
+	/**
+	 * Tests that the introspected values of an enumerated attribute are retained for the next code completion on the same task
+	 */
+	public void testCustomEnumeratedProposalsRetained() throws BadLocationException {
+		AntModel model = getAntModel("extensionPointTaskSepVM.xml"); //$NON-NLS-1$
+		int lineNumber = 2;
+		int columnNumber = 24;
+		int cursorPosition = getCurrentDocument().getLineOffset(lineNumber) + columnNumber;
+		try {
+			TestTextCompletionProcessor processor = new TestTextCompletionProcessor(model);
+			processor.setLineNumber(lineNumber);
+			processor.setColumnNumber(columnNumber);
+			processor.setCursorPosition(cursorPosition);
+			ICompletionProposal[] proposals = processor.getProposalsFromDocument(getCurrentDocument(), "c"); //$NON-NLS-1$
+			assertEquals("Incorrect number of proposals", 2, proposals.length); //$NON-NLS-1$
+
+			int loads = CodeCompletionDataCache.getDefault().getLoadCount();
+			processor = new TestTextCompletionProcessor(model);
+			processor.setLineNumber(lineNumber);
+			processor.setColumnNumber(columnNumber);
+			processor.setCursorPosition(cursorPosition);
+			proposals = processor.getProposalsFromDocument(getCurrentDocument(), "c"); //$NON-NLS-1$
+			assertEquals("Incorrect number of proposals", 2, proposals.length); //$NON-NLS-1$
+			assertContains("cool", proposals); //$NON-NLS-1$
+			assertContains("chillin", proposals); //$NON-NLS-1$
+			assertEquals("The attributes of the task should have been retained", loads, CodeCompletionDataCache.getDefault().getLoadCount()); //$NON-NLS-1$
+		}
+		finally {
+			model.dispose();
+		}
+	}
+
+	/**
+	 * Tests that the code completion data structures are released as the heap is nearly full and created again for the next code completion
+	 */
+	public void testCodeCompletionDataReleasedOnLowMemory() {
+		CodeCompletionDataCache cache = CodeCompletionDataCache.getDefault();
+		TestTextCompletionProcessor processor = new TestTextCompletionProcessor();
+		assertEquals(1, processor.getAttributeProposals("contains", "ca").length); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("The schema should be retained", cache.get(CodeCompletionDataCache.SCHEMA)); //$NON-NLS-1$
+
+		cache.lowMemory();
+		assertNull("The schema should have been released", cache.get(CodeCompletionDataCache.SCHEMA)); //$NON-NLS-1$
+		assertNull("The task descriptions should have been released", cache.get(CodeCompletionDataCache.TASK_DESCRIPTIONS)); //$NON-NLS-1$
+
+		int loads = cache.getLoadCount();
+		processor = new TestTextCompletionProcessor();
+		ICompletionProposal[] proposals = processor.getAttributeProposals("contains", "ca"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(1, proposals.length);
+		assertEquals("casesensitive - (true | false | on | off | yes | no)", proposals[0].getDisplayString()); //$NON-NLS-1$
+		assertTrue("The schema should have been created again", cache.getLoadCount() > loads); //$NON-NLS-1$
+		assertNotNull("The schema should be retained again", cache.get(CodeCompletionDataCache.SCHEMA)); //$NON-NLS-1$
+	}
+
 	/**
 	 * Tests the code completion for custom task that have a reference attribute
 	 */
@@ -1220,4 +1280,59 @@ public class CodeCompletionTest extends AbstractAntUITest {
 		assertContains("ep-B", proposals); //$NON-NLS-1$
 		processor.dispose();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Tests that computing proposals reads only the text around the cursor rather than copying the whole document
+	 */
+	public void testProposalsDoNotCopyDocument() throws BadLocationException {
+		CopyCountingDocument document = new CopyCountingDocument("<project name=\"copies\" default=\"build\">\n" //$NON-NLS-1$
+				+ "\t<property name=\"prop1\" value=\"value1\"/>\n" //$NON-NLS-1$
+				+ "\t<target name=\"build\">\n" //$NON-NLS-1$
+				+ "\t\t<javac debug=\"\"/>\n" //$NON-NLS-1$
+				+ "\t\t<echo message=\"${}\"/>\n" //$NON-NLS-1$
+				+ "\t\t\n" //$NON-NLS-1$
+				+ "\t</target>\n" //$NON-NLS-1$
+				+ "</project>\n"); //$NON-NLS-1$
+		AntModel model = new AntModel(document, new TestProblemRequestor(), new TestLocationProvider(getBuildFile("buildtest1.xml"))); //$NON-NLS-1$
+		try {
+			model.reconcile();
+			document.fCopies = 0;
+
+			ICompletionProposal[] proposals = getProposals(model, document, 3, 16);
+			assertContains("false", proposals); //$NON-NLS-1$
+			proposals = getProposals(model, document, 4, 19);
+			assertContains("prop1", proposals); //$NON-NLS-1$
+			proposals = getProposals(model, document, 5, 2);
+			assertContains("mkdir", proposals); //$NON-NLS-1$
+			assertEquals("The document should not have been copied", 0, document.fCopies); //$NON-NLS-1$
+		}
+		finally {
+			model.dispose();
+		}
+	}
+
+	private ICompletionProposal[] getProposals(AntModel model, IDocument document, int lineNumber, int columnNumber) throws BadLocationException {
+		TestTextCompletionProcessor processor = new TestTextCompletionProcessor(model);
+		processor.setLineNumber(lineNumber);
+		processor.setColumnNumber(columnNumber);
+		processor.setCursorPosition(document.getLineOffset(lineNumber) + columnNumber);
+		return processor.getProposalsFromDocument(document, IAntCoreConstants.EMPTY_STRING);
+	}
+
+	/**
+	 * A document which counts the copies of its whole content
+	 */
+	private static class CopyCountingDocument extends org.eclipse.jface.text.Document {
+		int fCopies = 0;
+
+		CopyCountingDocument(String content) {
+			super(content);
+		}
+
+		@Override
+		public String get() {
+			fCopies++;
+			return super.get();
+		}
+	}
+}
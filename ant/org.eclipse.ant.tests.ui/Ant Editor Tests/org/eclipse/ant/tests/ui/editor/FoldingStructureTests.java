@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.tests.ui.editor;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.ant.internal.ui.editor.text.AntFoldingStructureProvider;
+import org.eclipse.ant.internal.ui.model.AntModel;
+import org.eclipse.ant.tests.ui.editor.support.TestLocationProvider;
+import org.eclipse.ant.tests.ui.editor.support.TestProblemRequestor;
+import org.eclipse.ant.tests.ui.testplugin.AbstractAntUITest;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotationModel;
+
+/**
+ * Tests that the folding structure provider updates the annotations of the regions it already has rather than replacing them
+ */
+public class FoldingStructureTests extends AbstractAntUITest {
+
+	private static final int TARGETS = 10;
+	private static final int MULTI_LINE_TASKS_PER_TARGET = 3;
+	// the project, the targets and the multi line tasks fold
+	private static final int REGIONS = 1 + TARGETS * (1 + MULTI_LINE_TASKS_PER_TARGET);
+
+	private IDocument fDocument;
+	private AntModel fModel;
+	private ProjectionAnnotationModel fAnnotationModel;
+	private AntFoldingStructureProvider fProvider;
+
+	public FoldingStructureTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fDocument = new Document(createBuildFile());
+		fModel = new AntModel(fDocument, new TestProblemRequestor(), new TestLocationProvider(new File("folding.xml").getAbsoluteFile())); //$NON-NLS-1$
+		fAnnotationModel = new ProjectionAnnotationModel();
+		fAnnotationModel.connect(fDocument);
+		fModel.install();
+		fProvider = new AntFoldingStructureProvider(null);
+		fProvider.setDocument(fDocument);
+		fProvider.updateFoldingRegions(fModel, fAnnotationModel);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fAnnotationModel.disconnect(fDocument);
+		fModel.dispose();
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that a new line in the text of a task grows the regions of the task, its target and the project and keeps their annotations
+	 */
+	public void testGrowingRegionsKeepAnnotations() throws BadLocationException {
+		List<Annotation> before = getAnnotations();
+		assertEquals(REGIONS, before.size());
+
+		int offset = fDocument.get().indexOf("target" + TARGETS / 2 + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+		offset = fDocument.get().indexOf("line", offset); //$NON-NLS-1$
+		fDocument.replace(offset, 0, "\n"); //$NON-NLS-1$
+		fModel.reconcile();
+		fProvider.updateFoldingRegions(fModel, fAnnotationModel);
+		List<Annotation> after = getAnnotations();
+		assertEquals(REGIONS, after.size());
+		before.removeAll(after);
+		assertEquals("The annotations grow with their regions and should not be replaced", 0, before.size()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a line added inside a start tag adds the region of the element that now spans several lines and retains all other annotations
+	 */
+	public void testLineSpanChange() throws BadLocationException {
+		List<Annotation> before = getAnnotations();
+
+		int offset = fDocument.get().indexOf("target" + TARGETS / 2 + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+		offset = fDocument.get().indexOf("message=", offset); //$NON-NLS-1$
+		fDocument.replace(offset, 0, "\n\t\t\t"); //$NON-NLS-1$
+		fModel.reconcile();
+		fProvider.updateFoldingRegions(fModel, fAnnotationModel);
+		List<Annotation> after = getAnnotations();
+		assertEquals("The task should fold now that it spans two lines", REGIONS + 1, after.size()); //$NON-NLS-1$
+		assertTrue("No annotation should be replaced", after.containsAll(before)); //$NON-NLS-1$
+		after.removeAll(before);
+		Position position = fAnnotationModel.getPosition(after.get(0));
+		assertEquals(fDocument.getLineOffset(fDocument.getLineOfOffset(offset)), position.getOffset());
+		assertEquals(2, fDocument.getNumberOfLines(position.getOffset(), position.getLength() - 1));
+	}
+
+	private List<Annotation> getAnnotations() {
+		List<Annotation> annotations = new ArrayList<>();
+		for (Iterator<Annotation> iter = fAnnotationModel.getAnnotationIterator(); iter.hasNext();) {
+			annotations.add(iter.next());
+		}
+		return annotations;
+	}
+
+	private String createBuildFile() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"); //$NON-NLS-1$
+		buffer.append("<project name=\"folding\" default=\"target0\">\n"); //$NON-NLS-1$
+		for (int i = 0; i < TARGETS; i++) {
+			buffer.append("\t<target name=\"target").append(i).append("\">\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			for (int j = 0; j < MULTI_LINE_TASKS_PER_TARGET; j++) {
+				buffer.append("\t\t<echo>\n\t\t\tline ").append(j).append("\n\t\t</echo>\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			buffer.append("\t\t<echo message=\"single line\"/>\n"); //$NON-NLS-1$
+			buffer.append("\t</target>\n"); //$NON-NLS-1$
+		}
+		buffer.append("</project>\n"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+}
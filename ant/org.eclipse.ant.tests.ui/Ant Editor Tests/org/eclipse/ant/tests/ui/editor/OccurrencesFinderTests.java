@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2013 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,15 @@
  *******************************************************************************/
 package org.eclipse.ant.tests.ui.editor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.ant.internal.ui.editor.AntEditor;
 import org.eclipse.ant.internal.ui.editor.OccurrencesFinder;
+import org.eclipse.ant.internal.ui.model.AntElementNode;
+import org.eclipse.ant.internal.ui.model.AntModel;
+import org.eclipse.ant.internal.ui.model.AntProjectNode;
+import org.eclipse.ant.internal.ui.model.IAntElement;
 import org.eclipse.ant.tests.ui.editor.performance.EditorTestHelper;
 import org.eclipse.ant.tests.ui.testplugin.AbstractAntUITest;
 import org.eclipse.core.resources.IFile;
@@ -347,6 +352,52 @@ public class OccurrencesFinderTests extends AbstractAntUITest {
 		}
 	}
 
+	/**
+	 * Tests that the nodes containing occurrences found in the index of the project are the nodes found by scanning the node tree
+	 */
+	public void testOccurrencesIndexMatchesScan() {
+		AntModel model = getAntModel("occurrencesTest.xml"); //$NON-NLS-1$
+		try {
+			AntProjectNode projectNode = model.getProjectNode();
+			assertNotNull(projectNode);
+			List<IAntElement> nodes = new ArrayList<>();
+			collectNodes(projectNode, nodes);
+			boolean multipleOccurrences = false;
+			for (IAntElement node : nodes) {
+				String identifier = ((AntElementNode) node).getOccurrencesIdentifier();
+				if (identifier == null) {
+					continue;
+				}
+				List<IAntElement> expected = new ArrayList<>();
+				for (IAntElement candidate : nodes) {
+					if (!expected.contains(candidate) && candidate.containsOccurrence(identifier)) {
+						expected.add(candidate);
+					}
+				}
+				List<IAntElement> occurrences = projectNode.getOccurrences(identifier);
+				assertEquals(identifier, expected.size(), occurrences.size());
+				for (int i = 0; i < expected.size(); i++) {
+					assertSame(identifier, expected.get(i), occurrences.get(i));
+				}
+				assertSame("The occurrences should be retained", occurrences, projectNode.getOccurrences(identifier)); //$NON-NLS-1$
+				multipleOccurrences |= occurrences.size() > 1;
+			}
+			assertTrue("Some identifier should occur more than once", multipleOccurrences); //$NON-NLS-1$
+		}
+		finally {
+			model.dispose();
+		}
+	}
+
+	private void collectNodes(IAntElement node, List<IAntElement> nodes) {
+		nodes.add(node);
+		if (node.hasChildren()) {
+			for (IAntElement child : node.getChildNodes()) {
+				collectNodes(child, nodes);
+			}
+		}
+	}
+
 	private void assertContainsPosition(List<Position> positions, int offset, int length) {
 		boolean found = false;
 		for (Position position : positions) {
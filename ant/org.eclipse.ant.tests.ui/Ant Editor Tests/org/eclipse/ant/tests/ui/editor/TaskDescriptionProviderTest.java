@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2005 GEBIT Gesellschaft fuer EDV-Beratung
+ * Copyright (c) 2002, 2026 GEBIT Gesellschaft fuer EDV-Beratung
  * und Informatik-Technologien mbH, 
  * Berlin, Duesseldorf, Frankfurt (Germany).
  *
@@ -16,8 +16,19 @@
 
 package org.eclipse.ant.tests.ui.editor;
 
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.eclipse.ant.internal.ui.editor.TaskDescriptionIndex;
 import org.eclipse.ant.internal.ui.editor.TaskDescriptionProvider;
 import org.eclipse.ant.tests.ui.testplugin.AbstractAntUITest;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
 
 /**
  * Tests the tasks description provider.
@@ -59,4 +70,69 @@ public class TaskDescriptionProviderTest extends AbstractAntUITest {
 		assertEquals("yes", required); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that the precompiled index contains every task, attribute and nested element of the task description XML file, so that the index
+	 * is regenerated whenever the XML file changes.
+	 */
+	public void testIndexMatchesXMLFile() throws Exception {
+		TaskDescriptionIndex index;
+		try (InputStream stream = TaskDescriptionIndex.class.getResourceAsStream(TaskDescriptionIndex.TASKS_DESCRIPTION_INDEX_FILE_NAME)) {
+			assertNotNull("The task description index should exist", stream); //$NON-NLS-1$
+			index = TaskDescriptionIndex.read(stream);
+		}
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setIgnoringComments(true);
+		factory.setIgnoringElementContentWhitespace(true);
+		factory.setCoalescing(true);
+		Document document;
+		try (InputStream stream = TaskDescriptionProvider.class.getResourceAsStream(TaskDescriptionProvider.TASKS_DESCRIPTION_XML_FILE_NAME)) {
+			document = factory.newDocumentBuilder().parse(stream);
+		}
+
+		NodeList tasks = document.getDocumentElement().getElementsByTagName(TaskDescriptionProvider.XML_TAG_TASK);
+		assertTrue("The XML file should describe tasks", tasks.getLength() > 0); //$NON-NLS-1$
+		for (int i = 0; i < tasks.getLength(); i++) {
+			Element task = (Element) tasks.item(i);
+			if (task.getParentNode() != document.getDocumentElement()) {
+				continue;
+			}
+			String name = task.getAttribute("name"); //$NON-NLS-1$
+			int taskId = index.getTask(name);
+			assertTrue("Task not in index: " + name, taskId != -1); //$NON-NLS-1$
+			assertEquals(name, getDescription(task), index.getTaskDescription(taskId));
+			Map<String, Element> children = new HashMap<>();
+			addChildren(children, task.getElementsByTagName(TaskDescriptionProvider.XML_TAG_ATTRIBUTE));
+			addChildren(children, task.getElementsByTagName(TaskDescriptionProvider.XML_TAG_ELEMENT));
+			assertEquals(name, children.size(), index.getChildCount(taskId));
+			for (Element child : children.values()) {
+				String childName = name + '.' + child.getAttribute("name"); //$NON-NLS-1$
+				int childId = index.getChild(taskId, child.getAttribute("name")); //$NON-NLS-1$
+				assertTrue("Child not in index: " + childName, childId != -1); //$NON-NLS-1$
+				assertEquals(childName, getDescription(child), index.getChildDescription(childId));
+				assertEquals(childName, child.getAttribute(TaskDescriptionProvider.XML_ATTRIBUTE_REQUIRED), index.getChildRequired(childId));
+			}
+		}
+		assertEquals(-1, index.getTask("notATask")); //$NON-NLS-1$
+	}
+
+	private void addChildren(Map<String, Element> children, NodeList nodes) {
+		for (int i = 0; i < nodes.getLength(); i++) {
+			Element child = (Element) nodes.item(i);
+			children.put(child.getAttribute("name"), child); //$NON-NLS-1$
+		}
+	}
+
+	private String getDescription(Element element) {
+		NodeList nodes = element.getChildNodes();
+		for (int i = 0; i < nodes.getLength(); i++) {
+			Node node = nodes.item(i);
+			if (node.getNodeType() == Node.ELEMENT_NODE && "description".equals(node.getNodeName())) { //$NON-NLS-1$
+				node = node.getFirstChild();
+				if (node != null) {
+					return node.getNodeValue();
+				}
+			}
+		}
+		return null;
+	}
 }
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.tests.ui.editor.performance;
+
+import java.io.File;
+
+import org.eclipse.ant.internal.ui.editor.text.AntFoldingStructureProvider;
+import org.eclipse.ant.internal.ui.model.AntModel;
+import org.eclipse.ant.tests.ui.editor.support.TestLocationProvider;
+import org.eclipse.ant.tests.ui.editor.support.TestProblemRequestor;
+import org.eclipse.ant.tests.ui.performance.AbstractAntPerformanceTest;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotationModel;
+
+/**
+ * Measures the latency from a reconcile to the updated folding structure, as done after every change of a buildfile with 12000 lines. The
+ * updates of the folding structure are tested by {@link org.eclipse.ant.tests.ui.editor.FoldingStructureTests}.
+ */
+public class FoldingUpdateTest extends AbstractAntPerformanceTest {
+
+	private static final int TARGETS = 1000;
+	private static final int MULTI_LINE_TASKS_PER_TARGET = 3;
+
+	public void testReconcileToFolding() throws BadLocationException {
+		IDocument document = new Document(createBuildFile());
+		AntModel model = new AntModel(document, new TestProblemRequestor(), new TestLocationProvider(new File("folding.xml").getAbsoluteFile())); //$NON-NLS-1$
+		ProjectionAnnotationModel annotationModel = new ProjectionAnnotationModel();
+		annotationModel.connect(document);
+		try {
+			model.install();
+			AntFoldingStructureProvider provider = new AntFoldingStructureProvider(null);
+			provider.setDocument(document);
+			provider.updateFoldingRegions(model, annotationModel);
+
+			int offset = document.get().indexOf("target" + TARGETS / 2 + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+			offset = document.get().indexOf("line", offset); //$NON-NLS-1$
+			for (int i = 0; i < 10; i++) {
+				startMeasuring();
+				for (int j = 0; j < 10; j++) {
+					// a new line in the text of a task grows the regions of the task, its target and the project
+					document.replace(offset, 0, "\n"); //$NON-NLS-1$
+					model.reconcile();
+					provider.updateFoldingRegions(model, annotationModel);
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		}
+		finally {
+			annotationModel.disconnect(document);
+			model.dispose();
+		}
+	}
+
+	private String createBuildFile() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"); //$NON-NLS-1$
+		buffer.append("<project name=\"folding\" default=\"target0\">\n"); //$NON-NLS-1$
+		for (int i = 0; i < TARGETS; i++) {
+			buffer.append("\t<target name=\"target").append(i).append("\">\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			for (int j = 0; j < MULTI_LINE_TASKS_PER_TARGET; j++) {
+				buffer.append("\t\t<echo>\n\t\t\tline ").append(j).append("\n\t\t</echo>\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			buffer.append("\t\t<echo message=\"single line\"/>\n"); //$NON-NLS-1$
+			buffer.append("\t</target>\n"); //$NON-NLS-1$
+		}
+		buffer.append("</project>\n"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+}
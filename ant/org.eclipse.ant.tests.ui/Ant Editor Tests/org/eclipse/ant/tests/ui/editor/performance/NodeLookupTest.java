@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.tests.ui.editor.performance;
+
+import java.io.File;
+
+import org.eclipse.ant.internal.ui.model.AntElementNode;
+import org.eclipse.ant.internal.ui.model.AntModel;
+import org.eclipse.ant.internal.ui.model.AntProjectNode;
+import org.eclipse.ant.tests.ui.editor.support.TestLocationProvider;
+import org.eclipse.ant.tests.ui.editor.support.TestProblemRequestor;
+import org.eclipse.ant.tests.ui.performance.AbstractAntPerformanceTest;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+
+/**
+ * Measures looking up the node at an offset, as done for every caret move by hovers, hyperlink detection, occurrence marking and outline linking,
+ * in a buildfile with 10000 elements.
+ */
+public class NodeLookupTest extends AbstractAntPerformanceTest {
+
+	private static final int TARGETS = 1000;
+	private static final int TASKS_PER_TARGET = 9;
+
+	public void testGetNode() {
+		IDocument document = new Document(createBuildFile());
+		AntModel model = new AntModel(document, new TestProblemRequestor(), new TestLocationProvider(new File("nodeLookup.xml").getAbsoluteFile())); //$NON-NLS-1$
+		try {
+			AntProjectNode projectNode = model.getProjectNode();
+			assertNotNull(projectNode);
+			int length = document.getLength();
+			int step = length / 10000;
+			AntElementNode node = null;
+			for (int i = 0; i < 10; i++) {
+				startMeasuring();
+				for (int j = 0; j < 10; j++) {
+					for (int offset = 0; offset < length; offset += step) {
+						node = projectNode.getNode(offset);
+					}
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+			assertNotNull(node);
+			int lastTask = document.get().lastIndexOf("echo message"); //$NON-NLS-1$
+			assertEquals("echo", projectNode.getNode(lastTask).getName()); //$NON-NLS-1$
+		}
+		finally {
+			model.dispose();
+		}
+	}
+
+	private String createBuildFile() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"); //$NON-NLS-1$
+		buffer.append("<project name=\"nodeLookup\" default=\"target0\">\n"); //$NON-NLS-1$
+		for (int i = 0; i < TARGETS; i++) {
+			buffer.append("\t<target name=\"target").append(i).append("\">\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			for (int j = 0; j < TASKS_PER_TARGET; j++) {
+				buffer.append("\t\t<echo message=\"task ").append(j).append("\"/>\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			buffer.append("\t</target>\n"); //$NON-NLS-1$
+		}
+		buffer.append("</project>\n"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.tests.ui.editor.performance;
+
+import java.io.File;
+
+import org.eclipse.ant.internal.ui.model.AntModel;
+import org.eclipse.ant.tests.ui.editor.support.TestLocationProvider;
+import org.eclipse.ant.tests.ui.editor.support.TestProblemRequestor;
+import org.eclipse.ant.tests.ui.editor.support.TestTextCompletionProcessor;
+import org.eclipse.ant.tests.ui.performance.AbstractAntPerformanceTest;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+
+/**
+ * Measures computing the task proposals of a target while typing the names of a sequence of tasks, as done by content assist on every
+ * keystroke.
+ */
+public class TaskProposalTest extends AbstractAntPerformanceTest {
+
+	private static final String[] TYPED_NAMES = new String[] { "javac", "copy", "property", "mkdir", "delete", "jar", "echo", "zip", "exec", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$
+			"available" }; //$NON-NLS-1$
+
+	public void testTypingTaskNames() {
+		IDocument document = new Document("<project name=\"taskProposals\" default=\"build\">\n\t<target name=\"build\">\n\t\t<\n\t</target>\n</project>\n"); //$NON-NLS-1$
+		AntModel model = new AntModel(document, new TestProblemRequestor(), new TestLocationProvider(new File("taskProposals.xml").getAbsoluteFile())); //$NON-NLS-1$
+		TestTextCompletionProcessor processor = new TestTextCompletionProcessor(model);
+		try {
+			assertNotNull(model.getProjectNode());
+			for (int i = 0; i < 10; i++) {
+				startMeasuring();
+				for (int j = 0; j < 10; j++) {
+					for (String name : TYPED_NAMES) {
+						for (int length = 0; length <= name.length(); length++) {
+							processor.getTaskProposals(document, "target", name.substring(0, length)); //$NON-NLS-1$
+						}
+					}
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+
+			ICompletionProposal[] proposals = processor.getTaskProposals(document, "target", "jav"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertContains("java", proposals); //$NON-NLS-1$
+			assertContains("javac", proposals); //$NON-NLS-1$
+			assertContains("javadoc", proposals); //$NON-NLS-1$
+			for (ICompletionProposal proposal : proposals) {
+				String name = proposal.getDisplayString();
+				assertTrue("Proposal does not match the prefix: " + name, name.toLowerCase().startsWith("jav") || name.startsWith("</")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		}
+		finally {
+			processor.dispose();
+		}
+	}
+
+	private void assertContains(String displayString, ICompletionProposal[] proposals) {
+		for (ICompletionProposal proposal : proposals) {
+			if (displayString.equals(proposal.getDisplayString())) {
+				return;
+			}
+		}
+		fail("Proposal not found: " + displayString); //$NON-NLS-1$
+	}
+}
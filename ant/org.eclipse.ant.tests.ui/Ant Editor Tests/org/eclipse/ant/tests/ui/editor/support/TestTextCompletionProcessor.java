@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2013 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -131,8 +131,8 @@ public class TestTextCompletionProcessor extends AntEditorCompletionProcessor {
 	}
 
 	@Override
-	public String getPrefixFromDocument(String aDocumentText, int anOffset) {
-		String prefix = super.getPrefixFromDocument(aDocumentText, anOffset);
+	public String getPrefixFromDocument(IDocument document, int anOffset) {
+		String prefix = super.getPrefixFromDocument(document, anOffset);
 		currentPrefix = null;
 		return prefix;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2005 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 
 package org.eclipse.ant.tests.ui;
 
+import org.eclipse.ant.internal.launching.AntLaunch;
+import org.eclipse.ant.internal.launching.AntProfileEntry;
 import org.eclipse.ant.tests.ui.testplugin.AbstractAntUITest;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.ILaunchConfiguration;
@@ -74,6 +76,27 @@ public abstract class AbstractAntUIBuildTest extends AbstractAntUITest {
 		launchAndTerminate(config, 20000);
 	}
 
+	/**
+	 * Asserts that the given launch of the echoing buildfile in profile mode recorded the echo1 target and the echo task that it executed
+	 */
+	protected void assertEchoingProfiled(AntLaunch launch) {
+		AntProfileEntry target = null;
+		AntProfileEntry task = null;
+		for (AntProfileEntry entry : launch.getProfileEntries()) {
+			if (entry.getKind() == AntProfileEntry.KIND_TARGET && "echo1".equals(entry.getName())) { //$NON-NLS-1$
+				target = entry;
+			} else if (entry.getKind() == AntProfileEntry.KIND_TASK && "echo".equals(entry.getName())) { //$NON-NLS-1$
+				task = entry;
+			}
+		}
+		assertNotNull("No profile entry for the echo1 target", target); //$NON-NLS-1$
+		assertNotNull("No profile entry for the echo task", task); //$NON-NLS-1$
+		assertEquals("Incorrect echo task count", 1, task.getCount()); //$NON-NLS-1$
+		assertTrue("Target inclusive time should include its task", target.getInclusiveTime() >= task.getInclusiveTime()); //$NON-NLS-1$
+		assertTrue("Self time should not exceed inclusive time", target.getSelfTime() <= target.getInclusiveTime()); //$NON-NLS-1$
+		assertNotNull("Target location should be known", target.getFileName()); //$NON-NLS-1$
+	}
+
 	protected void activateLink(final IHyperlink link) {
 		Display.getDefault().asyncExec(() -> link.linkActivated());
 	}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.tests.ui;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.ant.internal.ui.AntSymbolIndex;
+import org.eclipse.ant.internal.ui.model.AntSymbol;
+import org.eclipse.ant.internal.ui.model.AntSymbolScanner;
+import org.eclipse.ant.tests.ui.testplugin.AbstractAntUITest;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.jobs.Job;
+
+public class AntSymbolIndexTests extends AbstractAntUITest {
+
+	public AntSymbolIndexTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests the declarations and references scanned from a buildfile and that each denotes its name in the text
+	 */
+	public void testScanSymbols() {
+		IFile file = getIFile("refid.xml"); //$NON-NLS-1$
+		String text = getDocument("refid.xml").get(); //$NON-NLS-1$
+		List<AntSymbol> symbols = new AntSymbolScanner().scan(file.getFullPath(), text);
+		for (AntSymbol symbol : symbols) {
+			assertEquals(symbol.toString(), symbol.getName(), text.substring(symbol.getOffset(), symbol.getOffset() + symbol.getLength()));
+			assertEquals(file.getFullPath(), symbol.getPath());
+		}
+		List<String> declarations = getNames(symbols, true);
+		List<String> references = getNames(symbols, false);
+		assertTrue(declarations.contains(AntSymbol.TARGET + "compile")); //$NON-NLS-1$
+		assertTrue(declarations.contains(AntSymbol.TARGET + "depends")); //$NON-NLS-1$
+		assertTrue(declarations.contains(AntSymbol.PROPERTY + "name with spaces")); //$NON-NLS-1$
+		assertTrue(declarations.contains(AntSymbol.REFERENCE_ID + "project.class.path")); //$NON-NLS-1$
+		assertTrue(declarations.contains(AntSymbol.REFERENCE_ID + "filesetTest")); //$NON-NLS-1$
+		assertFalse("A path nested in a target is not a target", declarations.contains(AntSymbol.TARGET + "project.class.path2")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(declarations.contains(AntSymbol.REFERENCE_ID + "project.class.path2")); //$NON-NLS-1$
+
+		assertTrue("The default target should be referenced", references.contains(AntSymbol.TARGET + "1")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("The dependencies should be referenced", references.contains(AntSymbol.TARGET + "compile")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(references.contains(AntSymbol.PROPERTY + "java.class.path")); //$NON-NLS-1$
+		assertTrue(references.contains(AntSymbol.PROPERTY + "name with spaces")); //$NON-NLS-1$
+		assertTrue(references.contains(AntSymbol.REFERENCE_ID + "project.class.path")); //$NON-NLS-1$
+		assertTrue(references.contains(AntSymbol.REFERENCE_ID + "patternSetTestBad")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the targets of the buildfiles in the workspace are found across buildfiles
+	 */
+	public void testFindAcrossBuildFiles() throws Exception {
+		AntSymbolIndex index = AntSymbolIndex.getDefault();
+		waitForIndex();
+		IPath imported = getIFile("toBeImported.xml").getFullPath(); //$NON-NLS-1$
+		assertTrue("The imported target should be declared", getPaths(index.findDeclarations("import-default", AntSymbol.TARGET)).contains(imported)); //$NON-NLS-1$ //$NON-NLS-2$
+		List<IPath> references = getPaths(index.findReferences("import-default", AntSymbol.TARGET)); //$NON-NLS-1$
+		assertTrue("The importing buildfile should reference the target", references.contains(getIFile("import.xml").getFullPath())); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(index.findDeclarations("import-default", AntSymbol.PROPERTY).isEmpty()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the index follows the creation, modification and deletion of a buildfile
+	 */
+	public void testUpdateFromResourceChanges() throws Exception {
+		AntSymbolIndex index = AntSymbolIndex.getDefault();
+		IFile file = getIFile("symbolIndex.xml"); //$NON-NLS-1$
+		try {
+			file.create(getContents("indexedTarget"), true, null); //$NON-NLS-1$
+			waitForIndex();
+			assertEquals(List.of(file.getFullPath()), getPaths(index.findDeclarations("indexedTarget", AntSymbol.TARGET))); //$NON-NLS-1$
+			assertTrue("The target should be found by a prefix of its name", getPaths(index.findDeclarationsByPrefix("INDEXED", AntSymbol.TARGET)).contains(file.getFullPath())); //$NON-NLS-1$ //$NON-NLS-2$
+
+			file.setContents(getContents("renamedTarget"), true, false, null); //$NON-NLS-1$
+			waitForIndex();
+			assertTrue("The old target should be removed", index.findDeclarations("indexedTarget", AntSymbol.TARGET).isEmpty()); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals(List.of(file.getFullPath()), getPaths(index.findDeclarations("renamedTarget", AntSymbol.TARGET))); //$NON-NLS-1$
+		}
+		finally {
+			if (file.exists()) {
+				file.delete(true, null);
+			}
+		}
+		waitForIndex();
+		assertTrue("The deleted buildfile should be removed", index.findDeclarations("renamedTarget", AntSymbol.TARGET).isEmpty()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private ByteArrayInputStream getContents(String targetName) {
+		String contents = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<project name=\"symbolIndex\" default=\"" + targetName //$NON-NLS-1$
+				+ "\">\n\t<target name=\"" + targetName + "\">\n\t\t<echo>${basedir}</echo>\n\t</target>\n</project>\n"; //$NON-NLS-1$ //$NON-NLS-2$
+		return new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void waitForIndex() throws InterruptedException {
+		Job.getJobManager().join(AntSymbolIndex.FAMILY, null);
+		assertTrue("The index should be up to date", AntSymbolIndex.getDefault().isUpToDate()); //$NON-NLS-1$
+	}
+
+	private List<String> getNames(List<AntSymbol> symbols, boolean declarations) {
+		List<String> names = new ArrayList<>();
+		for (AntSymbol symbol : symbols) {
+			if (symbol.isDeclaration() == declarations) {
+				names.add(symbol.getKind() + symbol.getName());
+			}
+		}
+		return names;
+	}
+
+	private List<IPath> getPaths(List<AntSymbol> symbols) {
+		List<IPath> paths = new ArrayList<>();
+		for (AntSymbol symbol : symbols) {
+			paths.add(symbol.getPath());
+		}
+		return paths;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2019 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,13 +15,18 @@
 package org.eclipse.ant.tests.ui;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.eclipse.ant.internal.ui.AntTargetsCache;
 import org.eclipse.ant.internal.ui.AntUtil;
 import org.eclipse.ant.internal.ui.model.AntProjectNode;
 import org.eclipse.ant.internal.ui.model.AntTargetNode;
+import org.eclipse.ant.internal.ui.model.AntTargetScanner;
 import org.eclipse.ant.internal.ui.model.IAntElement;
 import org.eclipse.ant.internal.ui.model.IAntModel;
 import org.eclipse.ant.launching.IAntLaunchConstants;
@@ -104,6 +109,76 @@ public class AntUtilTests extends AbstractAntUITest {
 		assertContains("import-default", targets); //$NON-NLS-1$
 	}
 
+	public void testGetTargetsCached() throws CoreException {
+		String buildFileName = "importRequiringUserProp"; //$NON-NLS-1$
+		File buildFile = getBuildFile(buildFileName + ".xml"); //$NON-NLS-1$
+		Map<String, String> properties = new HashMap<>();
+		properties.put("importFileName", "toBeImported.xml"); //$NON-NLS-1$ //$NON-NLS-2$
+		ILaunchConfiguration config = getLaunchConfiguration(buildFileName, null, properties, null);
+		AntTargetsCache cache = AntTargetsCache.getDefault();
+		cache.clear();
+		AntTargetNode[] targets = AntUtil.getTargets(buildFile.getAbsolutePath(), config);
+		assertEquals("The first lookup should parse the buildfile", 1, cache.getMissCount()); //$NON-NLS-1$
+		AntTargetNode[] cached = AntUtil.getTargets(buildFile.getAbsolutePath(), config);
+		assertEquals("The second lookup should be answered from the cache", 1, cache.getHitCount()); //$NON-NLS-1$
+		assertTrue("The targets should be cached", Arrays.equals(targets, cached)); //$NON-NLS-1$
+		assertNotSame("Each lookup should return its own array", targets, cached); //$NON-NLS-1$
+		cached[0] = null;
+		assertSame("Changing a returned array should not change the cache", targets[0], AntUtil.getTargets(buildFile.getAbsolutePath(), config)[0]); //$NON-NLS-1$
+
+		properties.put("importFileName", "notToBeImported.xml"); //$NON-NLS-1$ //$NON-NLS-2$
+		AntUtil.getTargets(buildFile.getAbsolutePath(), getLaunchConfiguration(buildFileName, null, properties, null));
+		assertEquals("Different properties should parse the buildfile", 2, cache.getMissCount()); //$NON-NLS-1$
+
+		File imported = getBuildFile("toBeImported.xml"); //$NON-NLS-1$
+		assertTrue(imported.setLastModified(imported.lastModified() + 2000));
+		AntTargetNode[] reparsed = AntUtil.getTargets(buildFile.getAbsolutePath(), config);
+		assertNotSame("A change to an imported file should parse the buildfile", targets[0], reparsed[0]); //$NON-NLS-1$
+		assertEquals(1, cache.getInvalidationCount());
+		assertContains("import-default", reparsed); //$NON-NLS-1$
+	}
+
+	public void testScanTargets() {
+		String[] buildFileNames = { "echoing", "bug412809/simple/buildFileAlias", "bug412809/simple/buildFileNoAlias", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				"bug412809/complex/alias/buildFileHierarchical", "bug412809/complex/misc/buildFileHierarchical" }; //$NON-NLS-1$ //$NON-NLS-2$
+		for (String buildFileName : buildFileNames) {
+			File buildFile = getBuildFile(buildFileName + ".xml"); //$NON-NLS-1$
+			AntProjectNode scanned = new AntTargetScanner().scan(buildFile);
+			assertNotNull("Could not scan " + buildFileName, scanned); //$NON-NLS-1$
+			AntProjectNode parsed = AntUtil.getAntModel(buildFile.getAbsolutePath(), false, false, false).getProjectNode();
+			assertEquals(buildFileName, getTargetLabels(parsed), getTargetLabels(scanned));
+		}
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("importFileName", "toBeImported.xml"); //$NON-NLS-1$ //$NON-NLS-2$
+		AntTargetScanner scanner = new AntTargetScanner();
+		scanner.setProperties(properties);
+		AntProjectNode scanned = scanner.scan(getBuildFile("importRequiringUserProp.xml")); //$NON-NLS-1$
+		assertNotNull("Could not scan the import of a user property", scanned); //$NON-NLS-1$
+		AntTargetNode imported = scanned.getTargetNode("import-default"); //$NON-NLS-1$
+		assertNotNull("The imported target should be scanned", imported); //$NON-NLS-1$
+		assertTrue(imported.isExternal());
+		assertTrue(imported.isDefaultTarget());
+
+		properties.put("importFileName", "notToBeImported.xml"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("A missing import should be reported by the model", scanner.scan(getBuildFile("importRequiringUserProp.xml"))); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private Set<String> getTargetLabels(AntProjectNode project) {
+		Set<String> labels = new HashSet<>();
+		for (IAntElement node : project.getChildNodes()) {
+			if (node instanceof AntTargetNode) {
+				AntTargetNode target = (AntTargetNode) node;
+				labels.add(target.getLabel());
+				String description = target.getTarget().getDescription();
+				if (description != null) {
+					labels.add(target.getTargetName() + ": " + description); //$NON-NLS-1$
+				}
+			}
+		}
+		return labels;
+	}
+
 	// for bugfix of bug 412809: Testing a simple "include-hierarchy" (only two levels setting the "as" property)
 	public void testGetIncludeTargetsSimpleHierarchyAlias() {
 		// The file itself contains one target. The included file contains the other one.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012 IBM Corporation and others.
+ * Copyright (c) 2012, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,13 +15,21 @@
 package org.eclipse.ant.tests.ui;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.ant.internal.ui.AntUtil;
+import org.eclipse.ant.internal.ui.model.AntProjectNodeLoader;
+import org.eclipse.ant.internal.ui.model.AntProjectNodeProxy;
+import org.eclipse.ant.internal.ui.model.AntTargetNode;
+import org.eclipse.ant.internal.ui.model.IAntElement;
 import org.eclipse.ant.internal.ui.preferences.FileFilter;
 import org.eclipse.ant.internal.ui.views.actions.AddBuildFilesAction;
 import org.eclipse.ant.tests.ui.testplugin.AbstractAntUITest;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jface.action.ActionContributionItem;
 import org.eclipse.jface.action.IContributionItem;
 import org.eclipse.jface.action.IToolBarManager;
@@ -87,6 +95,71 @@ public class AntViewTests extends AbstractAntUITest {
 		}
 	}
 
+	/**
+	 * Tests loading the buildfiles of several projects in parallel, once parsing them and once from the cache
+	 */
+	public void testLoadProjects() {
+		String[] fileNames = new String[] { "buildtest1.xml", "refid.xml", "macrodef.xml", "internalTargets.xml", "dependencytest.xml" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		List<String> firstTargets = null;
+		for (int run = 0; run < 2; run++) {
+			List<AntProjectNodeProxy> projects = new ArrayList<>();
+			for (String fileName : fileNames) {
+				projects.add(new AntProjectNodeProxy(getIFile(fileName).getFullPath().toString()));
+			}
+			final List<AntProjectNodeProxy> loaded = new ArrayList<>();
+			AntProjectNodeLoader.load(projects, false, loaded::add, new NullProgressMonitor());
+			assertEquals("All projects should have been loaded", projects.size(), loaded.size()); //$NON-NLS-1$
+			List<String> targets = new ArrayList<>();
+			for (AntProjectNodeProxy project : projects) {
+				assertFalse(project.getBuildFileName() + " should be parsed without errors", project.isErrorNode()); //$NON-NLS-1$
+				for (IAntElement target : project.getChildNodes()) {
+					targets.add(project.getBuildFileName() + '#' + target.getLabel());
+				}
+			}
+			if (firstTargets == null) {
+				firstTargets = targets;
+			} else {
+				assertEquals("Cached targets should match the parsed targets", firstTargets, targets); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Tests that projects of the same buildfile adopt copies of the cached targets, and that disposing a project leaves the cached targets and the
+	 * other projects intact
+	 */
+	public void testProjectsShareCachedTargets() {
+		String buildFileName = getIFile("buildtest1.xml").getFullPath().toString(); //$NON-NLS-1$
+		String location = getIFile("buildtest1.xml").getLocation().toFile().getAbsolutePath(); //$NON-NLS-1$
+		AntProjectNodeProxy first = new AntProjectNodeProxy(buildFileName);
+		AntProjectNodeProxy second = new AntProjectNodeProxy(buildFileName);
+		first.parseBuildFile();
+		second.parseBuildFile();
+		AntTargetNode[] cached = AntUtil.getTargets(location);
+		assertNotNull(cached);
+		for (AntTargetNode target : cached) {
+			assertNotSame("A cached target should keep its parent", first, target.getParentNode()); //$NON-NLS-1$
+			assertNotSame("A cached target should keep its parent", second, target.getParentNode()); //$NON-NLS-1$
+		}
+		List<IAntElement> firstTargets = first.getChildNodes();
+		List<IAntElement> secondTargets = second.getChildNodes();
+		assertEquals(cached.length, firstTargets.size());
+		for (int i = 0; i < cached.length; i++) {
+			assertSame(first, firstTargets.get(i).getParentNode());
+			assertSame(second, secondTargets.get(i).getParentNode());
+			assertNotSame(firstTargets.get(i), secondTargets.get(i));
+			assertEquals(cached[i].getLabel(), secondTargets.get(i).getLabel());
+		}
+
+		first.dispose();
+		assertTrue("The targets should still be cached", Arrays.equals(cached, AntUtil.getTargets(location))); //$NON-NLS-1$
+		assertEquals(cached.length, second.getChildNodes().size());
+		assertFalse(second.isErrorNode());
+		AntProjectNodeProxy third = new AntProjectNodeProxy(buildFileName);
+		assertEquals(cached.length, third.getChildNodes().size());
+		assertFalse(third.isErrorNode());
+	}
+
 	private static class FileFilterProxy extends TypeProxy {
 
 		Method canAcceptMethod = null;
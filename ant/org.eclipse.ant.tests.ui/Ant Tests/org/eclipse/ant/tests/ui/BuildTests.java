@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2021 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,13 +16,20 @@ package org.eclipse.ant.tests.ui;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.eclipse.ant.internal.launching.AntBuildJournal;
+import org.eclipse.ant.internal.launching.AntLaunching;
+import org.eclipse.ant.internal.launching.IAntLaunchingPreferenceConstants;
 import org.eclipse.ant.internal.ui.AntUIPlugin;
 import org.eclipse.ant.internal.ui.IAntUIPreferenceConstants;
 import org.eclipse.ant.launching.IAntLaunchConstants;
 import org.eclipse.ant.tests.ui.testplugin.ConsoleLineTracker;
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
@@ -166,6 +173,26 @@ public class BuildTests extends AbstractAntUIBuildTest {
 		assertTrue("XML logging file is empty", content.length() > 0); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests specifying the trace listener and that the trace file it writes records the begin and end of the targets and tasks
+	 *
+	 * @throws FileNotFoundException
+	 */
+	public void testTraceListener() throws CoreException, FileNotFoundException {
+		launch("echoing", "-listener org.eclipse.ant.internal.launching.debug.AntTraceBuildListener -DAntTraceBuildListener.file=trace.json"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Incorrect number of messages logged for build. Should be 8. Was " //$NON-NLS-1$
+				+ ConsoleLineTracker.getNumberOfMessages(), 8, ConsoleLineTracker.getNumberOfMessages());
+		// the trace file is resolved against the base directory of the build, the project
+		getProject().refreshLocal(IResource.DEPTH_ONE, null);
+		IFile iFile = getProject().getFile("trace.json"); //$NON-NLS-1$
+		assertTrue("Could not find trace file named: trace.json", iFile.exists()); //$NON-NLS-1$
+		String content = getFileContentAsString(iFile.getLocation().toFile()).trim();
+		assertTrue("Trace file should be a JSON array: " + content, content.startsWith("[") && content.endsWith("]")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue("No begin event for the echo1 target", content.indexOf("{\"name\":\"echo1\",\"cat\":\"target\",\"ph\":\"B\"") >= 0); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("No end event for the echo1 target", content.indexOf("{\"name\":\"echo1\",\"cat\":\"target\",\"ph\":\"E\"") >= 0); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("No begin event for the echo task", content.indexOf("{\"name\":\"echo\",\"cat\":\"task\",\"ph\":\"B\"") >= 0); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
 	/**
 	 * Tests launching Ant and getting the build failed message logged to the
 	 * console. Bug 42333.
@@ -245,4 +272,77 @@ public class BuildTests extends AbstractAntUIBuildTest {
 	// assertEquals(AntUIPlugin.getPreferenceColor(IAntUIPreferenceConstants.CONSOLE_WARNING_COLOR),
 	// color);
 	// }
+
+	/**
+	 * Tests that a build launched in profile mode records the targets and task types that were executed
+	 */
+	public void testProfile() throws CoreException {
+		assertEchoingProfiled(launchWithProfile("echoing")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a build journal records the console output and the target links of a build and can be read back
+	 */
+	public void testBuildJournal() throws Exception {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(AntLaunching.getUniqueIdentifier());
+		prefs.putBoolean(IAntLaunchingPreferenceConstants.ANT_BUILD_JOURNAL, true);
+		File[] before = AntBuildJournal.getJournalDirectory().listFiles();
+		try {
+			launch("echoing"); //$NON-NLS-1$
+		}
+		finally {
+			prefs.remove(IAntLaunchingPreferenceConstants.ANT_BUILD_JOURNAL);
+		}
+		File journal = null;
+		for (File file : AntBuildJournal.getJournalDirectory().listFiles()) {
+			if (file.getName().startsWith("echoing-") && (before == null || !Arrays.asList(before).contains(file))) { //$NON-NLS-1$
+				journal = file;
+			}
+		}
+		assertNotNull("No build journal was written", journal); //$NON-NLS-1$
+		final StringBuilder output = new StringBuilder();
+		final List<String> links = new ArrayList<>();
+		AntBuildJournal.read(journal, new AntBuildJournal.IJournalVisitor() {
+			@Override
+			public void message(String message, int priority) {
+				output.append(message);
+			}
+
+			@Override
+			public void link(String line, String fileName, int lineNumber, int offset, int length) {
+				links.add(line.trim());
+			}
+		}, null);
+		assertTrue("Journal should contain the echo output: " + output, output.indexOf("[echo] echo1") >= 0); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("Journal should contain the total time: " + output, output.indexOf("Total time:") >= 0); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("Journal should contain the link of the echo1 target: " + links, links.contains("echo1:")); //$NON-NLS-1$ //$NON-NLS-2$
+		journal.delete();
+	}
+
+	/**
+	 * Tests that only the most recent journals of a launch configuration are kept when a new journal is created
+	 */
+	public void testBuildJournalRetention() throws Exception {
+		List<File> journals = new ArrayList<>();
+		AntBuildJournal otherJournal = AntBuildJournal.create("journalRetention-2"); //$NON-NLS-1$
+		otherJournal.close();
+		File other = otherJournal.getFile();
+		try {
+			for (int i = 0; i < AntBuildJournal.MAX_JOURNALS + 3; i++) {
+				AntBuildJournal journal = AntBuildJournal.create("journalRetention"); //$NON-NLS-1$
+				journal.close();
+				journals.add(journal.getFile());
+			}
+			for (int i = 0; i < journals.size(); i++) {
+				assertEquals("Only the newest journals should be kept: " + journals.get(i), i >= 3, journals.get(i).exists()); //$NON-NLS-1$
+			}
+			assertTrue("The journal of another launch configuration should be kept", other.exists()); //$NON-NLS-1$
+		}
+		finally {
+			for (File journal : journals) {
+				journal.delete();
+			}
+			other.delete();
+		}
+	}
 }
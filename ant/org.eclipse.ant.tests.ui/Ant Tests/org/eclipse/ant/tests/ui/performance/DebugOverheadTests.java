@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.tests.ui.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.ant.internal.launching.debug.model.AntLineBreakpoint;
+import org.eclipse.ant.tests.ui.AbstractAntUIBuildPerformanceTest;
+import org.eclipse.ant.tests.ui.testplugin.ConsoleLineTracker;
+import org.eclipse.ant.tests.ui.testplugin.DebugElementKindEventWaiter;
+import org.eclipse.ant.tests.ui.testplugin.DebugEventWaiter;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IBreakpointManager;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.debug.core.model.IProcess;
+
+/**
+ * Compares the cost of running a build with many targets and tasks in a separate VM in run mode against debug mode with many installed
+ * breakpoints, none of which are hit.
+ */
+public class DebugOverheadTests extends AbstractAntUIBuildPerformanceTest {
+
+	private static final String CONFIG_NAME = "debugOverheadSepVM"; //$NON-NLS-1$
+
+	/**
+	 * Number of lines between the start of two consecutive targets in performance/debugOverhead.xml
+	 */
+	private static final int TARGET_SPAN = 28;
+
+	public DebugOverheadTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Performance test for the build in run mode, as the baseline.
+	 */
+	public void testRunMode() throws CoreException {
+		ILaunchConfiguration config = getLaunchConfiguration(CONFIG_NAME);
+		launchAndTerminate(config, 20000);
+		for (int i = 0; i < 10; i++) {
+			launch(config, 5);
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Performance test for the build in debug mode with several hundred breakpoints installed across two build files.
+	 */
+	public void testDebugModeManyBreakpoints() throws CoreException {
+		ILaunchConfiguration config = getLaunchConfiguration(CONFIG_NAME);
+		IBreakpoint[] breakpoints = createBreakpoints();
+		try {
+			debugLaunch(config);
+			for (int i = 0; i < 10; i++) {
+				startMeasuring();
+				for (int j = 0; j < 5; j++) {
+					debugLaunch(config);
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		}
+		finally {
+			getBreakpointManager().removeBreakpoints(breakpoints, true);
+		}
+	}
+
+	/**
+	 * Creates breakpoints that are never hit: on the closing and blank lines of every target of the debug overhead build file, and on the lines of
+	 * the (not executed) large performance build file.
+	 */
+	private IBreakpoint[] createBreakpoints() throws CoreException {
+		List<IBreakpoint> breakpoints = new ArrayList<>();
+		IFile buildFile = getIFile("performance/debugOverhead.xml"); //$NON-NLS-1$
+		for (int target = 0; target < 20; target++) {
+			int targetLine = 3 + target * TARGET_SPAN;
+			breakpoints.add(new AntLineBreakpoint(buildFile, targetLine + TARGET_SPAN - 2));
+			breakpoints.add(new AntLineBreakpoint(buildFile, targetLine + TARGET_SPAN - 1));
+		}
+		IFile otherFile = getIFile("performance/build.xml"); //$NON-NLS-1$
+		for (int line = 1; line <= 460; line++) {
+			breakpoints.add(new AntLineBreakpoint(otherFile, line));
+		}
+		return breakpoints.toArray(new IBreakpoint[breakpoints.size()]);
+	}
+
+	/**
+	 * Launches the given configuration in debug mode and waits for the process to terminate.
+	 */
+	private void debugLaunch(ILaunchConfiguration config) throws CoreException {
+		DebugEventWaiter waiter = new DebugElementKindEventWaiter(DebugEvent.TERMINATE, IProcess.class);
+		waiter.setTimeout(20000);
+		ILaunch launch = config.launch(ILaunchManager.DEBUG_MODE, null);
+		Object terminatee = waiter.waitForEvent();
+		if (terminatee == null) {
+			launch.terminate();
+			fail("Program did not terminate: " + config.getName()); //$NON-NLS-1$
+		}
+		if (!ConsoleLineTracker.isClosed()) {
+			ConsoleLineTracker.waitForConsole();
+		}
+	}
+
+	private IBreakpointManager getBreakpointManager() {
+		return DebugPlugin.getDefault().getBreakpointManager();
+	}
+}
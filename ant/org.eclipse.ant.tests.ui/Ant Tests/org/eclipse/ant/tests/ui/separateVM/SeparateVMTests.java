@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2004, 2020 IBM Corporation and others.
+ *  Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,19 @@ package org.eclipse.ant.tests.ui.separateVM;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import org.apache.tools.ant.Project;
+
+import org.eclipse.ant.internal.launching.AntBuildJournal;
+import org.eclipse.ant.internal.launching.AntLaunch;
+import org.eclipse.ant.internal.launching.AntLaunching;
+import org.eclipse.ant.internal.launching.IAntLaunchingPreferenceConstants;
+import org.eclipse.ant.internal.launching.IAntOutputController;
 import org.eclipse.ant.internal.ui.AntUIPlugin;
 import org.eclipse.ant.internal.ui.IAntUIConstants;
 import org.eclipse.ant.internal.ui.IAntUIPreferenceConstants;
@@ -31,8 +40,12 @@ import org.eclipse.ant.tests.ui.testplugin.ProjectHelper;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.swt.graphics.Color;
@@ -242,6 +255,25 @@ public class SeparateVMTests extends AbstractAntUIBuildTest {
 		assertTrue("XML logging file is empty", content.length() > 0); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests specifying the trace listener in a separate VM
+	 *
+	 * @throws FileNotFoundException
+	 */
+	public void testTraceListener() throws CoreException, FileNotFoundException {
+		launch("echoingSepVM", "-listener org.eclipse.ant.internal.launching.debug.AntTraceBuildListener -DAntTraceBuildListener.file=traceSepVM.json"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertLines(6);
+
+		// the trace file is resolved against the base directory of the build, the project
+		getProject().refreshLocal(IResource.DEPTH_ONE, null);
+		IFile iFile = getProject().getFile("traceSepVM.json"); //$NON-NLS-1$
+		assertTrue("Could not find trace file named: traceSepVM.json", iFile.exists()); //$NON-NLS-1$
+		String content = getFileContentAsString(iFile.getLocation().toFile()).trim();
+		assertTrue("Trace file should be a JSON array: " + content, content.startsWith("[") && content.endsWith("]")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue("No begin event for the echo1 target", content.indexOf("{\"name\":\"echo1\",\"cat\":\"target\",\"ph\":\"B\"") >= 0); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("No end event for the echo task", content.indexOf("{\"name\":\"echo\",\"cat\":\"task\",\"ph\":\"E\"") >= 0); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
 	/**
 	 * Tests launching Ant in a separate VM and that the Environment variable
 	 * ANT_HOME is set from the Ant home set for the build and ant.home is set as a
@@ -284,4 +316,122 @@ public class SeparateVMTests extends AbstractAntUIBuildTest {
 		assertNotNull("There must be a message", message); //$NON-NLS-1$
 		assertTrue("Incorrect message. Should start with Message:. Message: " + message, message.startsWith("echo1")); //$NON-NLS-1$ //$NON-NLS-2$
 	}
+
+	/**
+	 * Tests that a build launched in profile mode records the targets and task types that were executed
+	 */
+	public void testProfile() throws CoreException {
+		assertEchoingProfiled(launchWithProfile("echoingSepVM")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the journal of a build in a separate VM is closed only once the remote listener has received the last message of the build
+	 */
+	public void testBuildJournal() throws Exception {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(AntLaunching.getUniqueIdentifier());
+		prefs.putBoolean(IAntLaunchingPreferenceConstants.ANT_BUILD_JOURNAL, true);
+		File[] before = AntBuildJournal.getJournalDirectory().listFiles();
+		ILaunch launch;
+		try {
+			launch = getLaunchConfiguration("echoingSepVM").launch(ILaunchManager.RUN_MODE, null); //$NON-NLS-1$
+		}
+		finally {
+			prefs.remove(IAntLaunchingPreferenceConstants.ANT_BUILD_JOURNAL);
+		}
+		assertTrue("launch is not an AntLaunch", launch instanceof AntLaunch); //$NON-NLS-1$
+		long end = System.currentTimeMillis() + 20000;
+		while (!launch.isTerminated() || ((AntLaunch) launch).getOutputController() != null) {
+			if (System.currentTimeMillis() > end) {
+				throw new TestAgainException("Test again - the build did not terminate"); //$NON-NLS-1$
+			}
+			Thread.sleep(100);
+		}
+		File journal = null;
+		for (File file : AntBuildJournal.getJournalDirectory().listFiles()) {
+			if (file.getName().startsWith("echoingSepVM-") && (before == null || !Arrays.asList(before).contains(file))) { //$NON-NLS-1$
+				journal = file;
+			}
+		}
+		assertNotNull("No build journal was written", journal); //$NON-NLS-1$
+		final StringBuilder output = new StringBuilder();
+		AntBuildJournal.read(journal, new AntBuildJournal.IJournalVisitor() {
+			@Override
+			public void message(String message, int priority) {
+				output.append(message);
+			}
+
+			@Override
+			public void link(String line, String fileName, int lineNumber, int offset, int length) {
+				// not checked
+			}
+		}, null);
+		assertTrue("Journal should contain the echo output: " + output, output.indexOf("echo1") >= 0); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("Journal should contain the last message of the build: " + output, output.indexOf("Total time:") >= 0); //$NON-NLS-1$ //$NON-NLS-2$
+		journal.delete();
+	}
+
+	/**
+	 * Tests that raising the output level of a running build in a separate VM shows the verbose messages logged afterwards
+	 */
+	public void testChangeOutputLevel() throws Exception {
+		List<String> messages = launchAndControl(controller -> controller.setOutputLevel(Project.MSG_VERBOSE));
+		assertFalse("Verbose message logged before the change should not be shown: " + messages, containsMessage(messages, "[echo] verbose before")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("Verbose message logged after the change should be shown: " + messages, containsMessage(messages, "[echo] verbose after")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that muting a task of a running build in a separate VM hides the messages it logs afterwards
+	 */
+	public void testMuteTask() throws Exception {
+		List<String> messages = launchAndControl(controller -> controller.setTaskMuted("echo", true)); //$NON-NLS-1$
+		assertTrue("Message logged before muting should be shown: " + messages, containsMessage(messages, "[echo] before")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse("Message logged after muting should not be shown: " + messages, containsMessage(messages, "[echo] after")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Launches the outputControl build, passes the output controller of the launch to the given consumer once the build has logged its first
+	 * message, then lets the build continue and returns the lines of the console when it has terminated
+	 */
+	private List<String> launchAndControl(Consumer<IAntOutputController> control) throws Exception {
+		File marker = new File(getIFile("outputControl.xml").getLocation().toFile().getParentFile(), "outputControl.continue"); //$NON-NLS-1$ //$NON-NLS-2$
+		marker.delete();
+		ILaunch launch = getLaunchConfiguration("outputControlSepVM").launch(ILaunchManager.RUN_MODE, null); //$NON-NLS-1$
+		try {
+			assertTrue("launch is not an AntLaunch", launch instanceof AntLaunch); //$NON-NLS-1$
+			long end = System.currentTimeMillis() + 20000;
+			while (!containsMessage(ConsoleLineTracker.getAllMessages(), "[echo] before")) { //$NON-NLS-1$
+				if (System.currentTimeMillis() > end) {
+					throw new TestAgainException("Test again - the build did not log its first message"); //$NON-NLS-1$
+				}
+				Thread.sleep(100);
+			}
+			IAntOutputController controller = ((AntLaunch) launch).getOutputController();
+			assertNotNull("A build in a separate VM should have an output controller", controller); //$NON-NLS-1$
+			control.accept(controller);
+			assertTrue("Could not create " + marker, marker.createNewFile()); //$NON-NLS-1$
+			while (!launch.isTerminated()) {
+				if (System.currentTimeMillis() > end) {
+					throw new TestAgainException("Test again - the build did not terminate"); //$NON-NLS-1$
+				}
+				Thread.sleep(100);
+			}
+			ConsoleLineTracker.waitForConsole();
+			return ConsoleLineTracker.getAllMessages();
+		}
+		finally {
+			if (!launch.isTerminated()) {
+				launch.terminate();
+			}
+			marker.delete();
+		}
+	}
+
+	private boolean containsMessage(List<String> messages, String message) {
+		for (String line : messages) {
+			if (line.trim().equals(message)) {
+				return true;
+			}
+		}
+		return false;
+	}
 }
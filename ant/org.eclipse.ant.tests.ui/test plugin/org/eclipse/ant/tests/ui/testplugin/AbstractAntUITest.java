@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2003, 2013 IBM Corporation and others.
+ *  Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
+import org.eclipse.ant.internal.launching.AntLaunch;
 import org.eclipse.ant.internal.ui.AntUIPlugin;
 import org.eclipse.ant.internal.ui.IAntUIPreferenceConstants;
 import org.eclipse.ant.internal.ui.model.AntModel;
@@ -210,6 +211,7 @@ public abstract class AbstractAntUITest extends TestCase {
 			ProjectHelper.createLaunchConfigurationForSeparateVM("extensionPointTypeSepVM", null); //$NON-NLS-1$
 			ProjectHelper.createLaunchConfigurationForSeparateVM("input", null); //$NON-NLS-1$
 			ProjectHelper.createLaunchConfigurationForSeparateVM("environmentVar", null); //$NON-NLS-1$
+			ProjectHelper.createLaunchConfigurationForSeparateVM("outputControlSepVM", "outputControl"); //$NON-NLS-1$ //$NON-NLS-2$
 
 			ProjectHelper.createLaunchConfigurationForBoth("breakpoints"); //$NON-NLS-1$
 			ProjectHelper.createLaunchConfigurationForBoth("debugAntCall"); //$NON-NLS-1$
@@ -218,6 +220,7 @@ public abstract class AbstractAntUITest extends TestCase {
 			ProjectHelper.createLaunchConfigurationForBoth("85769"); //$NON-NLS-1$
 
 			ProjectHelper.createLaunchConfiguration("big", ProjectHelper.PROJECT_NAME + "/buildfiles/performance/build.xml"); //$NON-NLS-1$ //$NON-NLS-2$
+			ProjectHelper.createLaunchConfigurationForSeparateVM("debugOverheadSepVM", "performance/debugOverhead"); //$NON-NLS-1$ //$NON-NLS-2$
 
 			// do not show the Ant build failed error dialog
 			AntUIPlugin.getDefault().getPreferenceStore().setValue(IAntUIPreferenceConstants.ANT_ERROR_DIALOG, false);
@@ -395,6 +398,25 @@ public abstract class AbstractAntUITest extends TestCase {
 		launchAndTerminate(copy, 10000);
 	}
 
+	/**
+	 * Launches the Ant build with the build file name (no extension) in profile mode.
+	 * 
+	 * @param buildFileName
+	 *            build file to launch
+	 * @return the terminated launch
+	 */
+	protected AntLaunch launchWithProfile(String buildFileName) throws CoreException {
+		ILaunchConfiguration config = getLaunchConfiguration(buildFileName);
+		assertNotNull("Could not locate launch configuration for " + buildFileName, config); //$NON-NLS-1$
+		DebugEventWaiter waiter = new DebugElementKindEventWaiter(DebugEvent.TERMINATE, IProcess.class);
+		waiter.setTimeout(20000);
+		Object terminatee = launchAndWait(config, ILaunchManager.PROFILE_MODE, waiter);
+		assertTrue("terminatee is not an IProcess", terminatee instanceof IProcess); //$NON-NLS-1$
+		ILaunch launch = ((IProcess) terminatee).getLaunch();
+		assertTrue("launch is not an AntLaunch", launch instanceof AntLaunch); //$NON-NLS-1$
+		return (AntLaunch) launch;
+	}
+
 	/**
 	 * Returns the launch configuration for the given build file
 	 * 
@@ -505,7 +527,23 @@ public abstract class AbstractAntUITest extends TestCase {
 	 *                if the event is never received.
 	 */
 	protected Object launchAndWait(ILaunchConfiguration configuration, DebugEventWaiter waiter) throws CoreException {
-		ILaunch launch = configuration.launch(ILaunchManager.RUN_MODE, null);
+		return launchAndWait(configuration, ILaunchManager.RUN_MODE, waiter);
+	}
+
+	/**
+	 * Launches the given configuration in the given mode and waits for an event. Returns the source of the event. If the event is not received,
+	 * the launch is terminated and an exception is thrown.
+	 * 
+	 * @param configuration
+	 *            the configuration to launch
+	 * @param mode
+	 *            the launch mode
+	 * @param waiter
+	 *            the event waiter to use
+	 * @return Object the source of the event
+	 */
+	protected Object launchAndWait(ILaunchConfiguration configuration, String mode, DebugEventWaiter waiter) throws CoreException {
+		ILaunch launch = configuration.launch(mode, null);
 		Object suspendee = waiter.waitForEvent();
 		if (suspendee == null) {
 			try {
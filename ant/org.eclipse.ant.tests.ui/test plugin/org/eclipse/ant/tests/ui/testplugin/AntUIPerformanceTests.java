@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2004, 2008 IBM Corporation and others.
+ *  Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,11 @@
 
 package org.eclipse.ant.tests.ui.testplugin;
 
+import org.eclipse.ant.tests.ui.editor.performance.FoldingUpdateTest;
+import org.eclipse.ant.tests.ui.editor.performance.NodeLookupTest;
 import org.eclipse.ant.tests.ui.editor.performance.OpenAntEditorTest;
+import org.eclipse.ant.tests.ui.editor.performance.TaskProposalTest;
+import org.eclipse.ant.tests.ui.performance.DebugOverheadTests;
 import org.eclipse.ant.tests.ui.performance.SeparateVMTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -25,7 +29,7 @@ import org.junit.runners.Suite;
  * run before any of the other test suites.
  */
 @RunWith(Suite.class)
-@Suite.SuiteClasses({ OpenAntEditorTest.class, SeparateVMTests.class })
+@Suite.SuiteClasses({ OpenAntEditorTest.class, NodeLookupTest.class, TaskProposalTest.class, FoldingUpdateTest.class, SeparateVMTests.class, DebugOverheadTests.class })
 public class AntUIPerformanceTests {
 	// suite.addTest(new TestSuite(NonInitialTypingTest.class));
 	// suite.addTest(new TestSuite(OpenLaunchConfigurationDialogTests.class));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 GEBIT Gesellschaft fuer EDV-Beratung
+ * Copyright (c) 2002, 2026 GEBIT Gesellschaft fuer EDV-Beratung
  * und Informatik-Technologien mbH, 
  * Berlin, Duesseldorf, Frankfurt (Germany) and others.
  *
@@ -18,6 +18,7 @@
 package org.eclipse.ant.tests.ui.testplugin;
 
 import org.eclipse.ant.tests.ui.APITests;
+import org.eclipse.ant.tests.ui.AntSymbolIndexTests;
 import org.eclipse.ant.tests.ui.AntUtilTests;
 import org.eclipse.ant.tests.ui.AntViewTests;
 import org.eclipse.ant.tests.ui.BuildTests;
@@ -27,9 +28,13 @@ import org.eclipse.ant.tests.ui.debug.PropertyTests;
 import org.eclipse.ant.tests.ui.debug.RunToLineTests;
 import org.eclipse.ant.tests.ui.debug.StackTests;
 import org.eclipse.ant.tests.ui.debug.SteppingTests;
+import org.eclipse.ant.tests.ui.dtd.CompiledDfmTests;
+import org.eclipse.ant.tests.ui.dtd.SchemaSerializerTests;
 import org.eclipse.ant.tests.ui.editor.AntEditorContentOutlineTests;
+import org.eclipse.ant.tests.ui.editor.AntEditorMarkerUpdaterTests;
 import org.eclipse.ant.tests.ui.editor.AntEditorTests;
 import org.eclipse.ant.tests.ui.editor.CodeCompletionTest;
+import org.eclipse.ant.tests.ui.editor.FoldingStructureTests;
 import org.eclipse.ant.tests.ui.editor.OccurrencesFinderTests;
 import org.eclipse.ant.tests.ui.editor.TaskDescriptionProviderTest;
 import org.eclipse.ant.tests.ui.editor.formatter.FormattingPreferencesTest;
@@ -51,7 +56,8 @@ import org.junit.runners.Suite;
 		BuilderCoreUtilsTests.class, ModelProjectTests.class, FormattingPreferencesTest.class,
 		XmlDocumentFormatterTest.class, XmlTagFormatterTest.class, XmlFormatterTest.class, AntUtilTests.class,
 		AntViewTests.class, BreakpointTests.class, RunToLineTests.class, SteppingTests.class, PropertyTests.class,
-		OccurrencesFinderTests.class, StackTests.class, APITests.class })
+		OccurrencesFinderTests.class, StackTests.class, APITests.class, SchemaSerializerTests.class, AntSymbolIndexTests.class,
+		CompiledDfmTests.class, FoldingStructureTests.class, AntEditorMarkerUpdaterTests.class })
 public class AntUITests {
 	// suite
 }
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.internal.ui.editor.tools;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.eclipse.ant.internal.ui.editor.TaskDescriptionIndex;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * This class generates the task description index read by the content assist from the task description xml file. Run it whenever
+ * <code>anttasks_1.6.0.xml</code> changes, with the xml file and the index file as arguments, for example:
+ *
+ * <pre>
+ * java org.eclipse.ant.internal.ui.editor.tools.TaskDescriptionIndexGenerator "Ant Editor/org/eclipse/ant/internal/ui/editor/anttasks_1.6.0.xml" "Ant Editor/org/eclipse/ant/internal/ui/editor/anttasks_1.6.0.index"
+ * </pre>
+ *
+ * The tasks, attributes and nested elements are collected exactly as the task description provider collects them from the xml file.
+ */
+public class TaskDescriptionIndexGenerator {
+
+	public static String XML_TAG_TASK = "task"; //$NON-NLS-1$
+	public static String XML_TAG_ATTRIBUTE = "attribute"; //$NON-NLS-1$
+	public static String XML_TAG_ELEMENT = "element"; //$NON-NLS-1$
+	public static String XML_TAG_DESCRIPTION = "description"; //$NON-NLS-1$
+	public static String XML_ATTRIBUTE_NAME = "name"; //$NON-NLS-1$
+	public static String XML_ATTRIBUTE_REQUIRED = "required"; //$NON-NLS-1$
+
+	private TaskDescriptionIndex.Writer fWriter = new TaskDescriptionIndex.Writer();
+
+	/**
+	 * Collects the tasks of the given task description xml file.
+	 */
+	public void addTasks(File xmlFile) throws ParserConfigurationException, SAXException, IOException {
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setIgnoringComments(true);
+		factory.setIgnoringElementContentWhitespace(true);
+		factory.setCoalescing(true);
+		DocumentBuilder builder = factory.newDocumentBuilder();
+		builder.setErrorHandler(new DefaultHandler());
+		Document document = builder.parse(xmlFile);
+
+		NodeList tasks = document.getDocumentElement().getChildNodes();
+		for (int i = 0; i < tasks.getLength(); i++) {
+			Node node = tasks.item(i);
+			if (node.getNodeType() == Node.ELEMENT_NODE && XML_TAG_TASK.equals(node.getNodeName())) {
+				Element task = (Element) node;
+				String name = task.getAttribute(XML_ATTRIBUTE_NAME);
+				fWriter.addTask(name, getDescription(task));
+				addChildren(name, task.getElementsByTagName(XML_TAG_ATTRIBUTE));
+				addChildren(name, task.getElementsByTagName(XML_TAG_ELEMENT));
+			}
+		}
+	}
+
+	private void addChildren(String taskName, NodeList children) {
+		for (int i = 0; i < children.getLength(); i++) {
+			Element child = (Element) children.item(i);
+			fWriter.addChild(taskName, child.getAttribute(XML_ATTRIBUTE_NAME), getDescription(child), child.getAttribute(XML_ATTRIBUTE_REQUIRED));
+		}
+	}
+
+	private String getDescription(Element element) {
+		NodeList nodes = element.getChildNodes();
+		for (int i = 0; i < nodes.getLength(); i++) {
+			Node node = nodes.item(i);
+			if (node.getNodeType() == Node.ELEMENT_NODE && XML_TAG_DESCRIPTION.equals(node.getNodeName())) {
+				node = node.getFirstChild();
+				if (node != null) {
+					return node.getNodeValue();
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Writes the index of the collected tasks to the given file.
+	 */
+	public void writeIndex(File indexFile) throws IOException {
+		try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(indexFile))) {
+			fWriter.write(stream);
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		if (args.length != 2) {
+			System.out.println("Usage: java TaskDescriptionIndexGenerator xmlFile indexFile"); //$NON-NLS-1$
+			return;
+		}
+		TaskDescriptionIndexGenerator generator = new TaskDescriptionIndexGenerator();
+		generator.addTasks(new File(args[0]));
+		generator.writeIndex(new File(args[1]));
+	}
+}
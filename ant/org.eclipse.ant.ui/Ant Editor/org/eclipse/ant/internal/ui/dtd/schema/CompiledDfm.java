@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.ui.dtd.schema;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.ant.internal.ui.dtd.IAtom;
+import org.eclipse.ant.internal.ui.dtd.IDfm;
+
+/**
+ * A dfm compiled into arrays. The symbols of a content model are numbered in name order and the states of the model share one dense transition
+ * table with a row per state and a column per symbol, so advancing is a binary search of the symbol names followed by an array lookup and does
+ * not allocate.
+ * <p>
+ * Compiled dfms are immutable and can be used by multiple threads, unlike the {@link Dfm} they are compiled from, which is built with shared free
+ * lists.
+ * </p>
+ */
+public class CompiledDfm implements IDfm {
+
+	private static final int REJECT = -1;
+	private static final int ACCEPTING = 1;
+	private static final int ANY = 2;
+	private static final int EMPTY = 4;
+	private static final String[] NO_ACCEPTS = new String[0];
+
+	/**
+	 * The most states of a content model that is read, well above the states of any content model of the Ant DTD, so that corrupt input is not
+	 * taken for a huge table
+	 */
+	private static final int MAX_STATES = 1 << 16;
+
+	/**
+	 * The symbols and transitions shared by the states of one content model
+	 */
+	private static class Table {
+		/** the symbol names in ascending order; the index of a name is the id of the symbol */
+		String[] fSymbols;
+		/** the atom of each symbol */
+		IAtom[] fAtoms;
+		/** the next state for each state and symbol, at <code>state * fSymbols.length + symbol</code>, or REJECT */
+		int[] fTransitions;
+		CompiledDfm[] fStates;
+	}
+
+	private final Table fTable;
+	private final int fState;
+	private final boolean fAccepting;
+	private final boolean fAny;
+	private final boolean fEmpty;
+	/** the symbols accepted by this state in ascending order */
+	private final int[] fAccepts;
+
+	private CompiledDfm(Table table, int state, boolean accepting, boolean any, boolean empty, int[] accepts) {
+		fTable = table;
+		fState = state;
+		fAccepting = accepting;
+		fAny = any;
+		fEmpty = empty;
+		fAccepts = accepts;
+	}
+
+	/**
+	 * Compiles the states reachable from the given dfm.
+	 *
+	 * @param dfm
+	 *            the start state of a content model
+	 * @return the compiled start state
+	 */
+	public static CompiledDfm compile(Dfm dfm) {
+		// number the reachable states in breadth first order, the start state first
+		Map<Dfm, Integer> stateIds = new IdentityHashMap<>();
+		List<Dfm> states = new ArrayList<>();
+		TreeMap<String, IAtom> atoms = new TreeMap<>();
+		stateIds.put(dfm, Integer.valueOf(0));
+		states.add(dfm);
+		for (int i = 0; i < states.size(); i++) {
+			Dfm state = states.get(i);
+			if (state.any || state.empty || state.keys == null) {
+				continue;
+			}
+			for (int j = 0; j < state.keys.length; j++) {
+				IAtom atom = (IAtom) state.keys[j];
+				atoms.putIfAbsent(atom.getName(), atom);
+				Dfm follow = (Dfm) state.values[j];
+				if (!stateIds.containsKey(follow)) {
+					stateIds.put(follow, Integer.valueOf(states.size()));
+					states.add(follow);
+				}
+			}
+		}
+
+		Table table = new Table();
+		table.fSymbols = atoms.keySet().toArray(new String[atoms.size()]);
+		table.fAtoms = atoms.values().toArray(new IAtom[atoms.size()]);
+		int symbolCount = table.fSymbols.length;
+		table.fTransitions = new int[states.size() * symbolCount];
+		Arrays.fill(table.fTransitions, REJECT);
+		byte[] flags = new byte[states.size()];
+		for (int i = 0; i < states.size(); i++) {
+			Dfm state = states.get(i);
+			flags[i] = (byte) ((state.accepting ? ACCEPTING : 0) | (state.any ? ANY : 0) | (state.empty ? EMPTY : 0));
+			if (!state.any && !state.empty && state.keys != null) {
+				for (int j = 0; j < state.keys.length; j++) {
+					int symbol = Arrays.binarySearch(table.fSymbols, ((IAtom) state.keys[j]).getName());
+					table.fTransitions[i * symbolCount + symbol] = stateIds.get(state.values[j]).intValue();
+				}
+			}
+		}
+		return createStates(table, flags);
+	}
+
+	/**
+	 * Creates the states of a table whose symbols and transitions are set. The symbols accepted by a state are the symbols with a transition in
+	 * the row of the state.
+	 */
+	private static CompiledDfm createStates(Table table, byte[] flags) {
+		int symbolCount = table.fSymbols.length;
+		table.fStates = new CompiledDfm[flags.length];
+		int[] accepts = new int[symbolCount];
+		for (int i = 0; i < flags.length; i++) {
+			int acceptCount = 0;
+			for (int symbol = 0; symbol < symbolCount; symbol++) {
+				if (table.fTransitions[i * symbolCount + symbol] != REJECT) {
+					accepts[acceptCount++] = symbol;
+				}
+			}
+			int flag = flags[i];
+			table.fStates[i] = new CompiledDfm(table, i, (flag & ACCEPTING) != 0, (flag & ANY) != 0, (flag & EMPTY) != 0, Arrays.copyOf(accepts, acceptCount));
+		}
+		return table.fStates[0];
+	}
+
+	/**
+	 * Writes the content model this state belongs to. The atoms of the symbols are written as the ids of the schema elements they name.
+	 *
+	 * @param out
+	 *            the output to write to
+	 * @param elementIds
+	 *            the id of each element of the schema by name
+	 * @throws IOException
+	 *             if the output cannot be written or a symbol is not an element of the schema
+	 * @see #read(DataInput, IAtom[])
+	 */
+	void write(DataOutput out, Map<String, Integer> elementIds) throws IOException {
+		int symbolCount = fTable.fSymbols.length;
+		out.writeInt(symbolCount);
+		for (String symbol : fTable.fSymbols) {
+			Integer id = elementIds.get(symbol);
+			if (id == null) {
+				throw new IOException("Not an element of the schema: " + symbol); //$NON-NLS-1$
+			}
+			out.writeInt(id.intValue());
+		}
+		out.writeInt(fTable.fStates.length);
+		for (CompiledDfm state : fTable.fStates) {
+			out.writeByte((state.fAccepting ? ACCEPTING : 0) | (state.fAny ? ANY : 0) | (state.fEmpty ? EMPTY : 0));
+		}
+		for (int next : fTable.fTransitions) {
+			out.writeInt(next);
+		}
+	}
+
+	/**
+	 * Reads a content model written by {@link #write(DataOutput, Map)}.
+	 *
+	 * @param in
+	 *            the input to read from
+	 * @param elements
+	 *            the elements of the schema by id
+	 * @return the start state of the content model
+	 * @throws IOException
+	 *             if the input cannot be read or is not a content model of the given elements
+	 */
+	static CompiledDfm read(DataInput in, IAtom[] elements) throws IOException {
+		Table table = new Table();
+		int symbolCount = in.readInt();
+		if (symbolCount < 0 || symbolCount > elements.length) {
+			throw new IOException("Invalid symbol count: " + symbolCount); //$NON-NLS-1$
+		}
+		table.fSymbols = new String[symbolCount];
+		table.fAtoms = new IAtom[symbolCount];
+		for (int i = 0; i < symbolCount; i++) {
+			int id = in.readInt();
+			if (id < 0 || id >= elements.length) {
+				throw new IOException("Invalid element id: " + id); //$NON-NLS-1$
+			}
+			table.fAtoms[i] = elements[id];
+			table.fSymbols[i] = elements[id].getName();
+			if (i > 0 && table.fSymbols[i - 1].compareTo(table.fSymbols[i]) >= 0) {
+				// the symbols are searched by name
+				throw new IOException("Symbols out of order: " + table.fSymbols[i]); //$NON-NLS-1$
+			}
+		}
+		int stateCount = in.readInt();
+		if (stateCount <= 0 || stateCount > MAX_STATES) {
+			throw new IOException("Invalid state count: " + stateCount); //$NON-NLS-1$
+		}
+		byte[] flags = new byte[stateCount];
+		in.readFully(flags);
+		table.fTransitions = new int[stateCount * symbolCount];
+		for (int i = 0; i < table.fTransitions.length; i++) {
+			int next = in.readInt();
+			if (next < REJECT || next >= stateCount) {
+				throw new IOException("Invalid transition: " + next); //$NON-NLS-1$
+			}
+			table.fTransitions[i] = next;
+		}
+		return createStates(table, flags);
+	}
+
+	@Override
+	public boolean isAccepting() {
+		return fAccepting;
+	}
+
+	@Override
+	public IDfm advance(String name) {
+		if (fAny) {
+			return this;
+		}
+		int next = getNextState(name);
+		return next == REJECT ? null : fTable.fStates[next];
+	}
+
+	@Override
+	public IDfm advance(String namespace, String localname) {
+		// no namespace support here
+		return advance(localname);
+	}
+
+	@Override
+	public IAtom getAtom(String name) {
+		if (fAny) {
+			return null;
+		}
+		int symbol = Arrays.binarySearch(fTable.fSymbols, name);
+		if (symbol < 0 || fTable.fTransitions[fState * fTable.fSymbols.length + symbol] == REJECT) {
+			return null;
+		}
+		return fTable.fAtoms[symbol];
+	}
+
+	private int getNextState(String name) {
+		if (fEmpty) {
+			return REJECT;
+		}
+		int symbol = Arrays.binarySearch(fTable.fSymbols, name);
+		if (symbol < 0) {
+			return REJECT;
+		}
+		return fTable.fTransitions[fState * fTable.fSymbols.length + symbol];
+	}
+
+	@Override
+	public String[] getAccepts() {
+		if (fAccepts.length == 0) {
+			return NO_ACCEPTS;
+		}
+		String[] accepts = new String[fAccepts.length];
+		for (int i = 0; i < accepts.length; i++) {
+			accepts[i] = fTable.fSymbols[fAccepts[i]];
+		}
+		return accepts;
+	}
+
+	@Override
+	public Object[] getKeys() {
+		if (fAccepts.length == 0) {
+			return null;
+		}
+		Object[] keys = new Object[fAccepts.length];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = fTable.fAtoms[fAccepts[i]];
+		}
+		return keys;
+	}
+
+	@Override
+	public boolean isAny() {
+		return fAny;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return fEmpty;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2013 Object Factory Inc.
+ * Copyright (c) 2002, 2026 Object Factory Inc.
  *
  * This program and the accompanying materials 
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,7 +28,7 @@ public class Element extends Atom implements IElement {
 	private boolean fText;
 	private IModel fModel;
 	private Map<String, IAttribute> fMap = new HashMap<>(4);
-	private Dfm fElementDfm;
+	private volatile CompiledDfm fElementDfm;
 
 	/**
 	 * Constructor
@@ -102,14 +102,42 @@ public class Element extends Atom implements IElement {
 
 	@Override
 	public IDfm getDfm() {
-		Dfm dfm = fElementDfm;
+		CompiledDfm dfm = fElementDfm;
 		if (dfm == null) {
-			dfm = parseElementDfm();
-			fElementDfm = dfm;
+			// the dfm nodes are allocated from shared free lists
+			synchronized (fNfmParser) {
+				dfm = fElementDfm;
+				if (dfm == null) {
+					dfm = CompiledDfm.compile(parseElementDfm());
+					fElementDfm = dfm;
+				}
+			}
 		}
 		return dfm;
 	}
 
+	/**
+	 * Sets the compiled dfm of a schema that is read rather than parsed, so that the content model is not compiled again.
+	 * 
+	 * @param dfm
+	 *            the compiled start state of the content model
+	 */
+	void setDfm(CompiledDfm dfm) {
+		fElementDfm = dfm;
+	}
+
+	/**
+	 * Parses the content model into a dfm that is not compiled. The dfm is built from the shared free lists and must only be used by one thread.
+	 * 
+	 * @return the start state of the content model as parsed
+	 * @see #getDfm()
+	 */
+	public IDfm getParsedDfm() {
+		synchronized (fNfmParser) {
+			return parseElementDfm();
+		}
+	}
+
 	private Dfm parseElementDfm() {
 		Dfm dfm;
 		if (fAny) {
@@ -126,7 +154,8 @@ public class Element extends Atom implements IElement {
 
 	private Dfm parseModel(IModel model) {
 		Dfm dfm;
-		Nfm nfm = model.toNfm();
+		// an element that is referenced but not declared has no model
+		Nfm nfm = model == null ? null : model.toNfm();
 		if (nfm != null) {
 			try {
 				dfm = fNfmParser.parse(nfm);
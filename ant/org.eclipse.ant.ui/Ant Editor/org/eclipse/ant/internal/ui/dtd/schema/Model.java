@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2013 Object Factory Inc.
+ * Copyright (c) 2002, 2026 Object Factory Inc.
  *
  * This program and the accompanying materials 
  * are made available under the terms of the Eclipse Public License 2.0
@@ -174,11 +174,12 @@ public class Model implements IModel {
 			case IModel.CHOICE:
 			case IModel.SEQUENCE:
 				buf.append('(');
-				Iterator<IModel> it = fContentsList.iterator();
-				while (it.hasNext()) {
-					Model model = (Model) it.next();
+				// the contents list is converted to an array once the dfm has been compiled
+				IModel[] contents = getContents();
+				for (int i = 0; i < contents.length; i++) {
+					Model model = (Model) contents[i];
 					model.stringRep(buf);
-					if (it.hasNext())
+					if (i + 1 < contents.length)
 						buf.append(getOperator());
 				}
 				buf.append(')');
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Object Factory Inc.
+ * Copyright (c) 2002, 2026 Object Factory Inc.
  *
  * This program and the accompanying materials 
  * are made available under the terms of the Eclipse Public License 2.0
@@ -58,6 +58,15 @@ public class Schema implements ISchema {
 		fErrorException = e;
 	}
 
+	/**
+	 * Compiles the content models of all elements, so that the schema is not modified once it has been built.
+	 */
+	public void compile() {
+		for (IElement element : fElementMap.values()) {
+			element.getDfm();
+		}
+	}
+
 	@Override
 	public Exception getErrorException() {
 		return fErrorException;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2013 Object Factory Inc.
+ * Copyright (c) 2002, 2026 Object Factory Inc.
  *
  * This program and the accompanying materials 
  * are made available under the terms of the Eclipse Public License 2.0
@@ -64,6 +64,7 @@ public class SchemaFactory implements DeclHandler {
 	 */
 	public ISchema getSchema() {
 		fSchema.setErrorException(fErrorException);
+		fSchema.compile();
 		return fSchema;
 	}
 
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.ui.dtd.schema;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.ant.internal.ui.dtd.IAtom;
+import org.eclipse.ant.internal.ui.dtd.IAttribute;
+import org.eclipse.ant.internal.ui.dtd.IElement;
+import org.eclipse.ant.internal.ui.dtd.IModel;
+import org.eclipse.ant.internal.ui.dtd.ISchema;
+
+/**
+ * Writes a schema with its elements, attributes, content models and compiled dfms in a compact binary form, and reads it back without parsing
+ * the DTD it was built from.
+ * <p>
+ * The form starts with a stamp chosen by the writer, typically a checksum of the DTD, and a schema is only read back for the same stamp. The
+ * elements are numbered in the order they are written, and content models and dfms refer to elements by number.
+ * </p>
+ */
+public class SchemaSerializer {
+
+	private static final int MAGIC = 0x44544453; // "DTDS"
+	private static final int VERSION = 1;
+
+	private static final int UNDEFINED = 1;
+	private static final int TEXT = 2;
+	private static final int ANY = 4;
+	private static final int EMPTY = 8;
+	private static final int HAS_MODEL = 16;
+
+	private SchemaSerializer() {
+		// static methods only
+	}
+
+	/**
+	 * Writes the given schema. The content models of the elements are compiled if they are not yet compiled.
+	 *
+	 * @param schema
+	 *            a schema built by the {@link SchemaFactory}
+	 * @param stamp
+	 *            the stamp identifying the source of the schema
+	 * @param output
+	 *            the stream to write to; it is not closed
+	 * @throws IOException
+	 *             if the stream cannot be written
+	 */
+	public static void write(ISchema schema, long stamp, OutputStream output) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeLong(stamp);
+
+		IElement[] elements = schema.getElements();
+		Map<String, Integer> elementIds = new HashMap<>(elements.length * 2);
+		out.writeInt(elements.length);
+		for (int i = 0; i < elements.length; i++) {
+			out.writeUTF(elements[i].getName());
+			elementIds.put(elements[i].getName(), Integer.valueOf(i));
+		}
+		for (IElement element : elements) {
+			IModel model = element.getContentModel();
+			int flags = (element.isUndefined() ? UNDEFINED : 0) | (element.isText() ? TEXT : 0) | (element.isAny() ? ANY : 0)
+					| (element.isEmpty() ? EMPTY : 0) | (model != null ? HAS_MODEL : 0);
+			out.writeByte(flags);
+			if (model != null) {
+				writeModel(out, (Model) model, elementIds);
+			}
+			Map<String, IAttribute> attributes = element.getAttributes();
+			out.writeInt(attributes.size());
+			for (IAttribute attribute : attributes.values()) {
+				writeAttribute(out, attribute);
+			}
+			((CompiledDfm) element.getDfm()).write(out, elementIds);
+		}
+		out.flush();
+	}
+
+	private static void writeModel(DataOutputStream out, Model model, Map<String, Integer> elementIds) throws IOException {
+		// the kind is read from the field as getKind() does not report it
+		out.writeByte(model.fKind);
+		out.writeInt(model.getMinOccurs());
+		out.writeInt(model.getMaxOccurs());
+		IAtom leaf = model.getLeaf();
+		if (leaf != null) {
+			Integer id = elementIds.get(leaf.getName());
+			if (id == null) {
+				throw new IOException("Not an element of the schema: " + leaf.getName()); //$NON-NLS-1$
+			}
+			out.writeInt(id.intValue());
+		} else {
+			out.writeInt(-1);
+		}
+		IModel[] contents = model.getContents();
+		out.writeInt(contents.length);
+		for (IModel content : contents) {
+			writeModel(out, (Model) content, elementIds);
+		}
+	}
+
+	private static void writeAttribute(DataOutputStream out, IAttribute attribute) throws IOException {
+		out.writeUTF(attribute.getName());
+		writeString(out, attribute.getType());
+		writeString(out, attribute.getDefault());
+		String[] enumeration = attribute.getEnum();
+		if (enumeration != null) {
+			out.writeInt(enumeration.length);
+			for (String value : enumeration) {
+				out.writeUTF(value);
+			}
+		} else {
+			out.writeInt(-1);
+		}
+		out.writeBoolean(attribute.isFixed());
+		out.writeBoolean(attribute.isRequired());
+	}
+
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		out.writeBoolean(string != null);
+		if (string != null) {
+			out.writeUTF(string);
+		}
+	}
+
+	/**
+	 * Reads a schema written by {@link #write(ISchema, long, OutputStream)}.
+	 *
+	 * @param input
+	 *            the stream to read from; it is not closed
+	 * @param stamp
+	 *            the stamp identifying the source of the schema
+	 * @return the schema, or <code>null</code> if the stream holds a schema of another stamp or another version of this form
+	 * @throws IOException
+	 *             if the stream cannot be read or is corrupt
+	 */
+	public static ISchema read(InputStream input, long stamp) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+		if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != stamp) {
+			return null;
+		}
+
+		Schema schema = new Schema();
+		int count = in.readInt();
+		if (count < 0) {
+			throw new IOException("Invalid element count: " + count); //$NON-NLS-1$
+		}
+		Element[] elements = new Element[count];
+		for (int i = 0; i < count; i++) {
+			elements[i] = new Element(in.readUTF());
+			schema.addElement(elements[i]);
+		}
+		for (Element element : elements) {
+			int flags = in.readByte();
+			element.setUndefined((flags & UNDEFINED) != 0);
+			element.setText((flags & TEXT) != 0);
+			element.setAny((flags & ANY) != 0);
+			element.setEmpty((flags & EMPTY) != 0);
+			if ((flags & HAS_MODEL) != 0) {
+				element.setContentModel(readModel(in, elements));
+			}
+			int attributeCount = in.readInt();
+			for (int i = 0; i < attributeCount; i++) {
+				element.addAttribute(readAttribute(in, element));
+			}
+			element.setDfm(CompiledDfm.read(in, elements));
+		}
+		return schema;
+	}
+
+	private static Model readModel(DataInputStream in, Element[] elements) throws IOException {
+		Model model = new Model(in.readByte());
+		model.setMinOccurs(in.readInt());
+		model.setMaxOccurs(in.readInt());
+		int leaf = in.readInt();
+		if (leaf != -1) {
+			if (leaf < 0 || leaf >= elements.length) {
+				throw new IOException("Invalid element id: " + leaf); //$NON-NLS-1$
+			}
+			model.setLeaf(elements[leaf]);
+		}
+		int count = in.readInt();
+		if (count < 0) {
+			throw new IOException("Invalid content count: " + count); //$NON-NLS-1$
+		}
+		IModel[] contents = new IModel[count];
+		for (int i = 0; i < count; i++) {
+			contents[i] = readModel(in, elements);
+		}
+		model.setContents(contents);
+		return model;
+	}
+
+	private static Attribute readAttribute(DataInputStream in, Element element) throws IOException {
+		Attribute attribute = new Attribute(in.readUTF(), element);
+		attribute.setType(readString(in));
+		attribute.setDefault(readString(in));
+		int count = in.readInt();
+		if (count >= 0) {
+			String[] enumeration = new String[count];
+			for (int i = 0; i < count; i++) {
+				enumeration[i] = in.readUTF();
+			}
+			attribute.setEnum(enumeration);
+		}
+		attribute.setFixed(in.readBoolean());
+		attribute.setRequired(in.readBoolean());
+		return attribute;
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2013 GEBIT Gesellschaft fuer EDV-Beratung
+ * Copyright (c) 2002, 2026 GEBIT Gesellschaft fuer EDV-Beratung
  * und Informatik-Technologien mbH,
  * Berlin, Duesseldorf, Frankfurt (Germany) and others.
  *
@@ -28,6 +28,7 @@ import java.util.Map.Entry;
 import java.util.ResourceBundle;
 
 import org.eclipse.ant.internal.core.IAntCoreConstants;
+import org.eclipse.ant.internal.ui.AntSymbolIndex;
 import org.eclipse.ant.internal.ui.AntUIPlugin;
 import org.eclipse.ant.internal.ui.AntUtil;
 import org.eclipse.ant.internal.ui.ExternalHyperlink;
@@ -46,11 +47,15 @@ import org.eclipse.ant.internal.ui.model.AntElementNode;
 import org.eclipse.ant.internal.ui.model.AntModel;
 import org.eclipse.ant.internal.ui.model.AntModelCore;
 import org.eclipse.ant.internal.ui.model.AntProjectNode;
+import org.eclipse.ant.internal.ui.model.AntSymbol;
+import org.eclipse.ant.internal.ui.model.AntSymbolScanner;
+import org.eclipse.ant.internal.ui.model.AntTargetNode;
 import org.eclipse.ant.internal.ui.model.IAntElement;
 import org.eclipse.ant.internal.ui.model.IAntModelListener;
 import org.eclipse.ant.internal.ui.preferences.AntEditorPreferenceConstants;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -101,6 +106,7 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.IEditorInput;
+import org.eclipse.ui.IEditorPart;
 import org.eclipse.ui.IPageLayout;
 import org.eclipse.ui.IPartService;
 import org.eclipse.ui.IWorkbenchPage;
@@ -114,6 +120,7 @@ import org.eclipse.ui.part.IShowInTargetList;
 import org.eclipse.ui.texteditor.AbstractDecoratedTextEditorPreferenceConstants;
 import org.eclipse.ui.texteditor.IDocumentProvider;
 import org.eclipse.ui.texteditor.IEditorStatusLine;
+import org.eclipse.ui.texteditor.ITextEditor;
 import org.eclipse.ui.texteditor.ITextEditorActionConstants;
 import org.eclipse.ui.texteditor.TextOperationAction;
 import org.eclipse.ui.views.contentoutline.ContentOutline;
@@ -775,7 +782,7 @@ public class AntEditor extends TextEditor implements IReconcilingParticipant, IP
 			ISourceViewer viewer = getSourceViewer();
 			int textOffset = textSelection.getOffset();
 			IRegion region = XMLTextHover.getRegion(viewer, textOffset);
-			target = findTarget(region);
+			target = findNavigationTarget(region);
 		}
 
 		openTarget(target);
@@ -793,6 +800,11 @@ public class AntEditor extends TextEditor implements IReconcilingParticipant, IP
 			if (errorMessage == null) {
 				return;
 			}
+		} else if (node instanceof AntSymbol) {
+			errorMessage = openSymbol((AntSymbol) node);
+			if (errorMessage == null) {
+				return;
+			}
 		}
 		if (errorMessage == null || errorMessage.length() == 0) {
 			errorMessage = AntEditorMessages.getString("AntEditor.3"); //$NON-NLS-1$
@@ -831,7 +843,7 @@ public class AntEditor extends TextEditor implements IReconcilingParticipant, IP
 						if (node == null) {
 							String path = model.getPath(text, region.getOffset());
 							if (path != null) {
-								path = model.getProjectNode().getProject().replaceProperties(path);
+								path = model.getProjectNode().replaceProperties(path);
 								return path;
 							}
 
@@ -847,6 +859,148 @@ public class AntEditor extends TextEditor implements IReconcilingParticipant, IP
 		return node;
 	}
 
+	/**
+	 * Returns the navigation target at the specified region as {@link #findTarget(IRegion)} does, falling back to a declaration in another buildfile
+	 * of the same project. Unlike {@link #findTarget(IRegion)}, this consults the workspace symbol index and is meant for explicit navigation, such
+	 * as hyperlinks and Open Declaration, only.
+	 *
+	 * @param region
+	 *            The region to find the navigation target
+	 * @return the navigation target at the specified region
+	 */
+	public Object findNavigationTarget(IRegion region) {
+		Object target = findTarget(region);
+		if (target == null && region != null) {
+			return findDeclaration(region);
+		}
+		return target;
+	}
+
+	/**
+	 * Returns the declaration in another buildfile of the project of the edited buildfile that the reference at the given region refers to, or
+	 * <code>null</code> if there is none. Only a target in a <code>depends</code> attribute or a target calling task, a property reference and a
+	 * reference id are looked up, each among the declarations of its own kind.
+	 */
+	private AntSymbol findDeclaration(IRegion region) {
+		AntModel model = getAntModel();
+		IFile file = model == null ? null : model.getFile();
+		if (file == null) {
+			return null;
+		}
+		AntSymbol reference = findReference(file.getFullPath(), region);
+		if (reference == null) {
+			return null;
+		}
+		AntSymbol declaration = findDeclaration(file, reference.getName(), reference.getKind());
+		if (declaration == null && reference.getKind() == AntSymbol.TARGET) {
+			declaration = findDeclaration(file, reference.getName(), AntSymbol.EXTENSION_POINT);
+		}
+		return declaration;
+	}
+
+	/**
+	 * Returns the reference to a target, a property or a reference id in the edited buildfile at the given region, or <code>null</code> if there is
+	 * none. Only the text from the tag at or before the region up to the next tag is scanned, as the region is looked up on every move of the
+	 * mouse over a hyperlink.
+	 */
+	private AntSymbol findReference(IPath path, IRegion region) {
+		IDocument document = getSourceViewer().getDocument();
+		int length = document.getLength();
+		if (length == 0) {
+			return null;
+		}
+		int start = region.getOffset();
+		int end = start + Math.max(region.getLength(), 1);
+		List<AntSymbol> symbols;
+		try {
+			int fragmentStart = Math.min(start, length - 1);
+			while (fragmentStart > 0 && document.getChar(fragmentStart) != '<') {
+				fragmentStart--;
+			}
+			int fragmentEnd = Math.min(end, length);
+			while (fragmentEnd < length && document.getChar(fragmentEnd) != '<') {
+				fragmentEnd++;
+			}
+			String fragment = document.get(fragmentStart, fragmentEnd - fragmentStart);
+			symbols = new AntSymbolScanner().scan(path, fragment, fragmentStart, getParentElementName(fragmentStart));
+		}
+		catch (BadLocationException e) {
+			return null;
+		}
+		for (AntSymbol symbol : symbols) {
+			if (symbol.isDeclaration() || symbol.getOffset() >= end || symbol.getOffset() + symbol.getLength() <= start) {
+				continue;
+			}
+			int kind = symbol.getKind();
+			if (kind == AntSymbol.TARGET || kind == AntSymbol.PROPERTY || kind == AntSymbol.REFERENCE_ID) {
+				return symbol;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the name of the element enclosing the tag at the given offset as known to the Ant model, or <code>null</code> if the tag is the
+	 * root element or the model has not been built yet
+	 */
+	private String getParentElementName(int tagOffset) {
+		AntModel model = getAntModel();
+		AntElementNode node = model == null ? null : model.getNode(tagOffset + 1, false);
+		if (node == null) {
+			return null;
+		}
+		IAntElement parent = node;
+		if (node.getOffset() == tagOffset + 1) {
+			// the element of the tag itself
+			parent = node.getParentNode();
+		}
+		if (parent == null) {
+			return null;
+		}
+		if (parent instanceof AntProjectNode) {
+			return "project"; //$NON-NLS-1$
+		}
+		if (parent instanceof AntTargetNode) {
+			return "target"; //$NON-NLS-1$
+		}
+		return parent.getName();
+	}
+
+	/**
+	 * Returns the declaration of the given name and kind in another buildfile of the project of the given buildfile, or <code>null</code> if there
+	 * is none
+	 */
+	private AntSymbol findDeclaration(IFile file, String name, int kind) {
+		String project = file.getProject().getName();
+		for (AntSymbol symbol : AntSymbolIndex.getDefault().findDeclarations(name, kind)) {
+			IPath path = symbol.getPath();
+			if (!path.equals(file.getFullPath()) && project.equals(path.segment(0))) {
+				return symbol;
+			}
+		}
+		return null;
+	}
+
+	private String openSymbol(AntSymbol symbol) {
+		IFile file = symbol.getFile();
+		if (!file.exists()) {
+			return IAntCoreConstants.EMPTY_STRING;
+		}
+		try {
+			IWorkbenchPage p = getEditorSite().getPage();
+			if (p != null) {
+				IEditorPart part = IDE.openEditor(p, file, isActivePart());
+				if (part instanceof ITextEditor) {
+					((ITextEditor) part).selectAndReveal(symbol.getOffset(), symbol.getLength());
+				}
+			}
+			return null;
+		}
+		catch (PartInitException e) {
+			return e.getLocalizedMessage();
+		}
+	}
+
 	private String openNode(AntElementNode node) {
 		String errorMessage = null;
 		if (node.isExternal()) {
@@ -916,6 +1070,9 @@ public class AntEditor extends TextEditor implements IReconcilingParticipant, IP
 
 		fEditorSelectionChangedListener = new EditorSelectionChangedListener();
 		fEditorSelectionChangedListener.install(getSelectionProvider());
+
+		// start indexing the buildfiles of the workspace in the background so that the declarations in other buildfiles are found
+		AntSymbolIndex.getDefault();
 	}
 
 	private void createFoldingSupport(ProjectionViewer projectionViewer) {
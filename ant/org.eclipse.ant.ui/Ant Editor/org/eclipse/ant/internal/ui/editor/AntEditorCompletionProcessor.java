@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2021 GEBIT Gesellschaft fuer EDV-Beratung
+ * Copyright (c) 2002, 2026 GEBIT Gesellschaft fuer EDV-Beratung
  * und Informatik-Technologien mbH, 
  * Berlin, Duesseldorf, Frankfurt (Germany) and others.
  *
@@ -20,12 +20,18 @@
 
 package org.eclipse.ant.internal.ui.editor;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -38,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.zip.CRC32;
 
 import org.apache.tools.ant.AntTypeDefinition;
 import org.apache.tools.ant.BuildException;
@@ -50,8 +57,6 @@ import org.apache.tools.ant.taskdefs.MacroDef;
 import org.apache.tools.ant.taskdefs.MacroDef.Attribute;
 import org.apache.tools.ant.taskdefs.MacroDef.TemplateElement;
 import org.apache.tools.ant.taskdefs.MacroInstance;
-import org.apache.tools.ant.types.EnumeratedAttribute;
-import org.apache.tools.ant.types.Reference;
 import org.eclipse.ant.internal.core.IAntCoreConstants;
 import org.eclipse.ant.internal.ui.AntUIImages;
 import org.eclipse.ant.internal.ui.AntUIPlugin;
@@ -62,6 +67,7 @@ import org.eclipse.ant.internal.ui.dtd.IElement;
 import org.eclipse.ant.internal.ui.dtd.ISchema;
 import org.eclipse.ant.internal.ui.dtd.ParseError;
 import org.eclipse.ant.internal.ui.dtd.Parser;
+import org.eclipse.ant.internal.ui.dtd.schema.SchemaSerializer;
 import org.eclipse.ant.internal.ui.editor.TaskDescriptionProvider.ProposalNode;
 import org.eclipse.ant.internal.ui.editor.templates.AntContext;
 import org.eclipse.ant.internal.ui.editor.templates.AntTemplateAccess;
@@ -183,10 +189,14 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 
 	private static final String ANT_DTD_FILENAME = "/org/eclipse/ant/internal/ui/editor/ant1.6.2.dtd"; //$NON-NLS-1$
 
+	/**
+	 * The name of the file in the state location that the schema parsed from the dtd is written to
+	 */
+	private static final String SCHEMA_FILENAME = "ant1.6.2.dtd.schema"; //$NON-NLS-1$
+
 	/**
 	 * The DTD.
 	 */
-	private static ISchema fgDtd;
 
 	/**
 	 * Cursor position, counted from the beginning of the document.
@@ -231,19 +241,73 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 	private boolean fTemplatesOnly = false;
 	protected IContentAssistantExtension2 fContentAssistant;
 
+	/**
+	 * The index of the task and type names of the project node it was built for. A reconcile creates a new project node, so the index is rebuilt
+	 * at most once per model generation rather than scanning the type table on every keystroke.
+	 */
+	private AntTypeNameIndex fTaskNameIndex;
+	private AntProjectNode fTaskNameIndexNode;
+
 	public AntEditorCompletionProcessor(AntModel model) {
 		super();
 		antModel = model;
 	}
 
 	/**
-	 * Parses the dtd.
+	 * Parses the dtd, or reads the schema written to the state location when the dtd was last parsed.
 	 */
 	private ISchema parseDtd() throws ParseError, IOException {
-		try (InputStream stream = getClass().getResourceAsStream(ANT_DTD_FILENAME); Reader reader = new InputStreamReader(stream, "UTF-8");) {//$NON-NLS-1$
+		byte[] dtd;
+		try (InputStream stream = getClass().getResourceAsStream(ANT_DTD_FILENAME)) {
+			dtd = stream.readAllBytes();
+		}
+		CRC32 checksum = new CRC32();
+		checksum.update(dtd);
+		long stamp = checksum.getValue();
+
+		File schemaFile = getSchemaFile();
+		if (schemaFile != null && schemaFile.isFile()) {
+			try (InputStream stream = new FileInputStream(schemaFile)) {
+				ISchema schema = SchemaSerializer.read(stream, stamp);
+				if (schema != null) {
+					return schema;
+				}
+			}
+			catch (IOException e) {
+				// the schema is parsed and written again
+			}
+		}
+		ISchema schema;
+		try (Reader reader = new InputStreamReader(new ByteArrayInputStream(dtd), "UTF-8")) { //$NON-NLS-1$
 			Parser parser = new Parser();
-			ISchema schema = parser.parseDTD(reader, "project"); //$NON-NLS-1$
-			return schema;
+			schema = parser.parseDTD(reader, "project"); //$NON-NLS-1$
+		}
+		if (schemaFile != null && schema.getErrorException() == null) {
+			writeSchema(schema, stamp, schemaFile);
+		}
+		return schema;
+	}
+
+	private File getSchemaFile() {
+		AntUIPlugin plugin = AntUIPlugin.getDefault();
+		if (plugin == null) {
+			return null;
+		}
+		return plugin.getStateLocation().append(SCHEMA_FILENAME).toFile();
+	}
+
+	private void writeSchema(ISchema schema, long stamp, File schemaFile) {
+		// write to a temporary file first so that a partially written schema is never read
+		File tempFile = new File(schemaFile.getParentFile(), schemaFile.getName() + ".tmp"); //$NON-NLS-1$
+		try {
+			try (OutputStream stream = new FileOutputStream(tempFile)) {
+				SchemaSerializer.write(schema, stamp, stream);
+			}
+			Files.move(tempFile.toPath(), schemaFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException e) {
+			tempFile.delete();
+			AntUIPlugin.log(e);
 		}
 	}
 
@@ -444,9 +508,11 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 				}
 				break;
 			case PROPOSAL_MODE_ATTRIBUTE_VALUE_PROPOSAL:
-				String textToSearch = document.get().substring(0, cursorPosition - prefix.length());
+				String textToSearch = getStringToPrefix(document, cursorPosition - prefix.length());
 				String attributeString = getAttributeStringFromDocumentStringToPrefix(textToSearch);
-				if ("target".equalsIgnoreCase(currentTaskString) || "extension-point".equalsIgnoreCase(currentTaskString)) { //$NON-NLS-1$ //$NON-NLS-2$
+				if (attributeString == null) {
+					proposals = NO_PROPOSALS;
+				} else if ("target".equalsIgnoreCase(currentTaskString) || "extension-point".equalsIgnoreCase(currentTaskString)) { //$NON-NLS-1$ //$NON-NLS-2$
 					proposals = getTargetAttributeValueProposals(document, textToSearch, prefix, attributeString);
 				} else if ("antcall".equalsIgnoreCase(currentTaskString)) { //$NON-NLS-1$
 					proposals = getAntCallAttributeValueProposals(document, prefix, attributeString);
@@ -508,8 +574,7 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 	}
 
 	private ICompletionProposal[] getReferencesValueProposals(String prefix) {
-		Project project = antModel.getProjectNode().getProject();
-		Map<String, Object> references = project.getReferences();
+		Map<String, Object> references = antModel.getProjectNode().getReferences();
 		if (references.isEmpty()) {
 			return NO_PROPOSALS;
 		}
@@ -698,17 +763,17 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 				if (MACROINSTANCE_NAME.equals(taskClass.getClassName())) {
 					addMacroDefAttributeProposals(taskName, prefix, proposals);
 				} else {
-					IntrospectionHelper helper = getIntrospectionHelper(taskClass);
-					if (helper != null) {
-						addAttributeProposals(helper, taskName, prefix, proposals);
+					AntTypeMetadata metadata = getTypeMetadata(taskClass);
+					if (metadata != null) {
+						addAttributeProposals(metadata, taskName, prefix, proposals);
 					}
 				}
 			} else { // nested user defined element
 				AntTypeDefinition nestedType = getNestedType();
 				if (nestedType != null) {
-					IntrospectionHelper helper = getIntrospectionHelper(nestedType);
-					if (helper != null) {
-						addAttributeProposals(helper, taskName, prefix, proposals);
+					AntTypeMetadata metadata = getTypeMetadata(nestedType);
+					if (metadata != null) {
+						addAttributeProposals(metadata, taskName, prefix, proposals);
 					}
 				}
 			}
@@ -716,10 +781,8 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 		return proposals.toArray(new ICompletionProposal[proposals.size()]);
 	}
 
-	private void addAttributeProposals(IntrospectionHelper helper, String taskName, String prefix, List<ICompletionProposal> proposals) {
-		Enumeration<String> attributes = helper.getAttributes();
-		while (attributes.hasMoreElements()) {
-			String attribute = attributes.nextElement();
+	private void addAttributeProposals(AntTypeMetadata metadata, String taskName, String prefix, List<ICompletionProposal> proposals) {
+		for (String attribute : metadata.getAttributes()) {
 			if (prefix.length() == 0 || attribute.toLowerCase().startsWith(prefix)) {
 				String replacementString = attribute + "=\"\""; //$NON-NLS-1$
 				addAttributeProposal(taskName, prefix, proposals, attribute, replacementString, attribute, false);
@@ -774,6 +837,23 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 		return null;
 	}
 
+	/**
+	 * Returns the retained attributes and nested elements of the given task or type, or <code>null</code> if its class cannot be introspected
+	 */
+	private AntTypeMetadata getTypeMetadata(AntTypeDefinition taskClass) {
+		Project p = antModel.getProjectNode().getProject();
+		Class<?> clazz = taskClass.getExposedClass(p);
+		if (clazz != null) {
+			try {
+				return AntTypeMetadata.getMetadata(p, clazz);
+			}
+			catch (NoClassDefFoundError e) {
+				// ignore as a task may require additional classpath components
+			}
+		}
+		return null;
+	}
+
 	private void addMacroDefAttributeProposals(String taskName, String prefix, List<ICompletionProposal> proposals) {
 		currentProposalMode = PROPOSAL_MODE_ATTRIBUTE_PROPOSAL;
 		AntDefiningTaskNode node = antModel.getDefininingTaskNode(taskName);
@@ -898,16 +978,16 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 		} else { // possibly a user defined task or type
 			AntTypeDefinition taskClass = getTaskClass(taskName);
 			if (taskClass != null) {
-				IntrospectionHelper helper = getIntrospectionHelper(taskClass);
-				if (helper != null) {
-					addAttributeValueProposals(helper, attributeName, prefix, proposals);
+				AntTypeMetadata metadata = getTypeMetadata(taskClass);
+				if (metadata != null) {
+					addAttributeValueProposals(metadata, attributeName, prefix, proposals);
 				}
 			} else { // nested user defined element
 				AntTypeDefinition nestedType = getNestedType();
 				if (nestedType != null) {
-					IntrospectionHelper helper = getIntrospectionHelper(nestedType);
-					if (helper != null) {
-						addAttributeValueProposals(helper, attributeName, prefix, proposals);
+					AntTypeMetadata metadata = getTypeMetadata(nestedType);
+					if (metadata != null) {
+						addAttributeValueProposals(metadata, attributeName, prefix, proposals);
 					}
 				}
 			}
@@ -915,39 +995,26 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 		return proposals.toArray(new ICompletionProposal[proposals.size()]);
 	}
 
-	private void addAttributeValueProposals(IntrospectionHelper helper, String attributeName, String prefix, List<ICompletionProposal> proposals) {
-		Enumeration<String> attributes = helper.getAttributes();
-		while (attributes.hasMoreElements()) {
-			String attribute = attributes.nextElement();
-			if (attribute.equals(attributeName)) {
-				Class<?> attributeType = helper.getAttributeType(attribute);
-				addAttributeValueProposalsForAttributeType(attributeType, prefix, proposals);
+	private void addAttributeValueProposals(AntTypeMetadata metadata, String attributeName, String prefix, List<ICompletionProposal> proposals) {
+		switch (metadata.getAttributeKind(attributeName)) {
+			case AntTypeMetadata.KIND_BOOLEAN:
+				if (prefix.length() <= 5) {
+					addBooleanAttributeValueProposals(prefix, proposals);
+				}
+				break;
+			case AntTypeMetadata.KIND_ENUMERATED:
+				addEnumeratedAttributeValueProposals(metadata.getEnumeratedValues(attributeName), prefix, proposals);
+				break;
+			case AntTypeMetadata.KIND_REFERENCE:
+				proposals.addAll(Arrays.asList(getReferencesValueProposals(prefix)));
+				break;
+			default:
 				break;
-			}
-		}
-	}
-
-	private void addAttributeValueProposalsForAttributeType(Class<?> attributeType, String prefix, List<ICompletionProposal> proposals) {
-		if ((attributeType == Boolean.TYPE || attributeType == Boolean.class) && prefix.length() <= 5) {
-			addBooleanAttributeValueProposals(prefix, proposals);
-		} else if (EnumeratedAttribute.class.isAssignableFrom(attributeType)) {
-			try {
-				addEnumeratedAttributeValueProposals(attributeType, prefix, proposals);
-			}
-			catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
-					| SecurityException e) {
-				// do nothing
-			}
-		} else if (Reference.class == attributeType) {
-			proposals.addAll(Arrays.asList(getReferencesValueProposals(prefix)));
 		}
 	}
 
-	private void addEnumeratedAttributeValueProposals(Class<?> type, String prefix, List<ICompletionProposal> proposals) throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
-		EnumeratedAttribute ea = (EnumeratedAttribute) type.getConstructor().newInstance();
-		String enumerated;
-		for (String value : ea.getValues()) {
-			enumerated = value.toLowerCase();
+	private void addEnumeratedAttributeValueProposals(String[] values, String prefix, List<ICompletionProposal> proposals) {
+		for (String enumerated : values) {
 			if (prefix.length() == 0 || enumerated.startsWith(prefix)) {
 				proposals.add(new AntCompletionProposal(enumerated, cursorPosition
 						- prefix.length(), prefix.length(), enumerated.length(), null, enumerated, null, AntCompletionProposal.TASK_PROPOSAL));
@@ -981,15 +1048,14 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 		// String from beginning to the beginning of the prefix
 		int replacementLength = prefix.length();
 		int replacementOffset = 0;
-		String text = document.get();
-		String stringToPrefix = text.substring(0, aCursorPosition - prefix.length());
+		int prefixOffset = aCursorPosition - prefix.length();
 		// Property proposal
-		String lastTwoCharacters = stringToPrefix.substring(stringToPrefix.length() - 2, stringToPrefix.length());
+		char lastCharacter = getChar(document, prefixOffset - 1);
 		boolean appendBraces = true;
-		if (lastTwoCharacters.equals("${")) { //$NON-NLS-1$
+		if (lastCharacter == '{' && getChar(document, prefixOffset - 2) == '$') {
 			replacementLength += 2;
 			replacementOffset = aCursorPosition - prefix.length() - 2;
-		} else if (lastTwoCharacters.endsWith("$")) { //$NON-NLS-1$
+		} else if (lastCharacter == '$') {
 			replacementLength += 1;
 			replacementOffset = aCursorPosition - prefix.length() - 1;
 		} else {
@@ -998,7 +1064,7 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 			appendBraces = false;
 		}
 
-		if (text.length() > aCursorPosition && text.charAt(aCursorPosition) == '}') {
+		if (getChar(document, aCursorPosition) == '}') {
 			replacementLength += 1;
 		}
 		String propertyName;
@@ -1043,9 +1109,7 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 		ICompletionProposal proposal;
 		if (areTasksOrTypesValidChildren(parentName)) {
 			// use the definitions in the project as that includes more than what is defined in the DTD
-			Project project = antModel.getProjectNode().getProject();
-			Map<String, AntTypeDefinition> tasksAndTypes = ComponentHelper.getComponentHelper(project).getAntTypeTable();
-			createProposals(document, prefix, proposals, tasksAndTypes);
+			createProposals(document, prefix, proposals, getTaskNameIndex(antModel.getProjectNode()));
 			if (parentName.equals("project")) { //$NON-NLS-1$
 				if ("target".startsWith(prefix)) { //$NON-NLS-1$
 					proposals.add(newCompletionProposal(document, prefix, "target")); //$NON-NLS-1$
@@ -1079,12 +1143,9 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 						addMacroDefElementProposals(parentName, prefix, proposals);
 					} else {
 						currentProposalMode = PROPOSAL_MODE_NESTED_ELEMENT_PROPOSAL;
-						IntrospectionHelper helper = getIntrospectionHelper(taskClass);
-						if (helper != null) {
-							Enumeration<String> nested = helper.getNestedElements();
-							String nestedElement;
-							while (nested.hasMoreElements()) {
-								nestedElement = nested.nextElement();
+						AntTypeMetadata metadata = getTypeMetadata(taskClass);
+						if (metadata != null) {
+							for (String nestedElement : metadata.getNestedElements()) {
 								if (prefix.length() == 0 || nestedElement.toLowerCase().startsWith(prefix)) {
 									proposal = newCompletionProposal(document, prefix, nestedElement);
 									proposals.add(proposal);
@@ -1132,17 +1193,28 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 		return NO_PROPOSALS;
 	}
 
-	private void createProposals(IDocument document, String prefix, List<ICompletionProposal> proposals, Map<String, AntTypeDefinition> tasks) {
-		Iterator<String> keys = tasks.keySet().iterator();
-		ICompletionProposal proposal;
-		String key;
-		while (keys.hasNext()) {
-			key = antModel.getUserNamespaceCorrectName(keys.next());
-			if (prefix.length() == 0 || key.toLowerCase().startsWith(prefix)) {
-				proposal = newCompletionProposal(document, prefix, key);
-				proposals.add(proposal);
+	private void createProposals(IDocument document, String prefix, List<ICompletionProposal> proposals, AntTypeNameIndex index) {
+		int start = index.getStart(prefix);
+		int end = index.getEnd(prefix, start);
+		for (int i = start; i < end; i++) {
+			proposals.add(newCompletionProposal(document, prefix, index.getName(i)));
+		}
+	}
+
+	/**
+	 * Returns the index of the task and type names of the given project node, building it if the node has changed since the last request.
+	 */
+	private AntTypeNameIndex getTaskNameIndex(AntProjectNode node) {
+		Map<String, AntTypeDefinition> tasksAndTypes = ComponentHelper.getComponentHelper(node.getProject()).getAntTypeTable();
+		if (fTaskNameIndex == null || fTaskNameIndexNode != node || fTaskNameIndex.size() != tasksAndTypes.size()) {
+			List<String> names = new ArrayList<>(tasksAndTypes.size());
+			for (String key : tasksAndTypes.keySet()) {
+				names.add(antModel.getUserNamespaceCorrectName(key));
 			}
+			fTaskNameIndex = new AntTypeNameIndex(names);
+			fTaskNameIndexNode = node;
 		}
+		return fTaskNameIndex;
 	}
 
 	private ICompletionProposal newCompletionProposal(IDocument document, String aPrefix, String elementName) {
@@ -1153,7 +1225,7 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 		String replacementString = getTaskProposalReplacementString(elementName, hasNestedElements);
 		int replacementOffset = cursorPosition - aPrefix.length();
 		int replacementLength = aPrefix.length();
-		if (replacementOffset > 0 && document.get().charAt(replacementOffset - 1) == '<') {
+		if (replacementOffset > 0 && getChar(document, replacementOffset - 1) == '<') {
 			replacementOffset--;
 			replacementLength++;
 		}
@@ -1271,10 +1343,9 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 		}
 		AntTypeDefinition taskClass = getTaskClass(elementName);
 		if (taskClass != null) {
-			IntrospectionHelper helper = getIntrospectionHelper(taskClass);
-			if (helper != null) {
-				Enumeration<String> nested = helper.getNestedElements();
-				return nested.hasMoreElements();
+			AntTypeMetadata metadata = getTypeMetadata(taskClass);
+			if (metadata != null) {
+				return !metadata.getNestedElements().isEmpty();
 			}
 		}
 		return false;
@@ -1309,44 +1380,82 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 		}
 		ITextSelection selection = (ITextSelection) viewer.getSelectionProvider().getSelection();
 		IDocument doc = viewer.getDocument();
-		return getPrefixFromDocument(doc.get(), selection.getOffset() + selection.getLength()).toLowerCase();
+		return getPrefixFromDocument(doc, selection.getOffset() + selection.getLength()).toLowerCase();
 	}
 
 	/**
-	 * Returns the prefix in the specified document text with respect to the specified offset.
+	 * Returns the prefix in the specified document with respect to the specified offset. Only the characters of the prefix are read from the
+	 * document.
 	 * 
-	 * @param aDocumentText
-	 *            the whole content of the edited file as String
+	 * @param document
+	 *            the edited document
 	 * @param anOffset
 	 *            the cursor position
 	 */
-	protected String getPrefixFromDocument(String aDocumentText, int anOffset) {
+	protected String getPrefixFromDocument(IDocument document, int anOffset) {
 		if (currentPrefix != null) {
 			return currentPrefix;
 		}
 		int startOfWordToken = anOffset;
-
-		char token = 'a';
-		if (startOfWordToken > 0) {
-			token = aDocumentText.charAt(startOfWordToken - 1);
-		}
-
-		while (startOfWordToken > 0 && (Character.isJavaIdentifierPart(token) || '.' == token || '-' == token || ';' == token) && !('$' == token)) {
+		while (startOfWordToken > 0 && isPrefixCharacter(getChar(document, startOfWordToken - 1))) {
 			startOfWordToken--;
-			if (startOfWordToken == 0) {
-				break; // word goes right to the beginning of the doc
-			}
-			token = aDocumentText.charAt(startOfWordToken - 1);
 		}
 
+		currentPrefix = IAntCoreConstants.EMPTY_STRING;
 		if (startOfWordToken != anOffset) {
-			currentPrefix = aDocumentText.substring(startOfWordToken, anOffset).toLowerCase();
-		} else {
-			currentPrefix = IAntCoreConstants.EMPTY_STRING;
+			try {
+				currentPrefix = document.get(startOfWordToken, anOffset - startOfWordToken).toLowerCase();
+			}
+			catch (BadLocationException e) {
+				// no prefix
+			}
 		}
 		return currentPrefix;
 	}
 
+	private boolean isPrefixCharacter(char token) {
+		return (Character.isJavaIdentifierPart(token) || '.' == token || '-' == token || ';' == token) && !('$' == token);
+	}
+
+	/**
+	 * Returns the character of the document at the given offset, or <code>0</code> if the offset is outside of the document.
+	 */
+	private char getChar(IDocument document, int offset) {
+		if (offset < 0 || offset >= document.getLength()) {
+			return 0;
+		}
+		try {
+			return document.getChar(offset);
+		}
+		catch (BadLocationException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Returns the text of the document from the start of the last tag before the given offset up to the offset, or from the beginning of the
+	 * document if there is no tag before the offset. This is all the text that is needed to determine the proposal mode, so the document is not
+	 * copied from its beginning on every completion request.
+	 * 
+	 * @param document
+	 *            the edited document
+	 * @param offset
+	 *            the offset of the prefix
+	 */
+	private String getStringToPrefix(IDocument document, int offset) {
+		int start = offset - 1;
+		while (start > 0 && getChar(document, start) != '<') {
+			start--;
+		}
+		start = Math.max(start, 0);
+		try {
+			return document.get(start, offset - start);
+		}
+		catch (BadLocationException e) {
+			return IAntCoreConstants.EMPTY_STRING;
+		}
+	}
+
 	/**
 	 * Returns the current proposal mode.
 	 */
@@ -1354,13 +1463,12 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 		if (currentProposalMode != -1) {
 			return currentProposalMode;
 		}
-		if (document.getLength() == 0 || (document.getLength() == 1 && document.get().equals("<"))) { //$NON-NLS-1$
+		if (document.getLength() == 0 || (document.getLength() == 1 && getChar(document, 0) == '<')) {
 			return PROPOSAL_MODE_BUILDFILE;
 		}
 
-		// String from beginning of document to the beginning of the prefix
-		String text = document.get();
-		String stringToPrefix = text.substring(0, aCursorPosition - aPrefix.length());
+		// String from the start of the last tag to the beginning of the prefix
+		String stringToPrefix = getStringToPrefix(document, aCursorPosition - aPrefix.length());
 		if (stringToPrefix.length() == 0) {
 			return PROPOSAL_MODE_BUILDFILE;
 		}
@@ -1451,8 +1559,8 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 	 * after invoking this method.
 	 * 
 	 * @param aDocumentStringToPrefix
-	 *            the String that contains the whole string of the currently edited file from the beginning up to the prefix for code completion.
-	 *            Example: {@literal '<project default="name"><property '}.
+	 *            the String that contains the string of the currently edited file from the start of the last tag up to the prefix for code
+	 *            completion. Example: {@literal '<property '}.
 	 * 
 	 * @return the extracted task string or <code>null</code> if no string could be extracted.
 	 */
@@ -1608,13 +1716,11 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 	 * @return a map with all the found properties
 	 */
 	private Map<String, Object> findPropertiesFromDocument() {
-		Project project = antModel.getProjectNode().getProject();
-		return project.getProperties();
+		return antModel.getProjectNode().getProperties();
 	}
 
 	private Map<String, Target> getTargets() {
-		Project project = antModel.getProjectNode().getProject();
-		return project.getTargets();
+		return antModel.getProjectNode().getTargets();
 	}
 
 	protected File getEditedFile() {
@@ -1690,7 +1796,7 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 
 	@Override
 	protected String extractPrefix(ITextViewer textViewer, int offset) {
-		return getPrefixFromDocument(textViewer.getDocument().get(), offset);
+		return getPrefixFromDocument(textViewer.getDocument(), offset);
 	}
 
 	/**
@@ -1765,10 +1871,13 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 	}
 
 	protected ISchema getDtd() {
-		if (fgDtd == null) {
+		CodeCompletionDataCache cache = CodeCompletionDataCache.getDefault();
+		ISchema dtd = (ISchema) cache.get(CodeCompletionDataCache.SCHEMA);
+		if (dtd == null) {
+			final ISchema[] parsed = new ISchema[1];
 			IRunnableWithProgress runnable = monitor -> {
 				try {
-					fgDtd = parseDtd();
+					parsed[0] = parseDtd();
 				}
 				catch (IOException e1) {
 					AntUIPlugin.log(e1);
@@ -1788,8 +1897,12 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 			catch (InterruptedException e) {
 				// do nothing
 			}
+			dtd = parsed[0];
+			if (dtd != null) {
+				cache.put(CodeCompletionDataCache.SCHEMA, dtd);
+			}
 		}
-		return fgDtd;
+		return dtd;
 	}
 
 	/**
@@ -1799,11 +1912,6 @@ public class AntEditorCompletionProcessor extends TemplateCompletionProcessor im
 		return TaskDescriptionProvider.getDefault();
 	}
 
-	protected static void resetCodeCompletionDataStructures() {
-		fgDtd = null;
-		TaskDescriptionProvider.reset();
-	}
-
 	@Override
 	public void assistSessionStarted(ContentAssistEvent event) {
 		IContentAssistant assistant = event.assistant;
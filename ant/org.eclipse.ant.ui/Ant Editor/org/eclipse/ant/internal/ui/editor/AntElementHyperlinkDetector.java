@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,7 +33,7 @@ public class AntElementHyperlinkDetector extends AbstractHyperlinkDetector {
 		}
 		fEditor = getAdapter(AntEditor.class);
 		region = XMLTextHover.getRegion(textViewer, region.getOffset());
-		Object linkTarget = fEditor.findTarget(region);
+		Object linkTarget = fEditor.findNavigationTarget(region);
 		if (linkTarget == null) {
 			return null;
 		}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.internal.ui.editor;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.tools.ant.IntrospectionHelper;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.types.EnumeratedAttribute;
+import org.apache.tools.ant.types.Reference;
+
+/**
+ * The attributes and nested elements of a task or type class as resolved by the {@link IntrospectionHelper}, retained in the
+ * {@link CodeCompletionDataCache} so that repeated code completion on the same task does not enumerate the introspection results or instantiate
+ * enumerated attributes again.
+ * <p>
+ * The metadata is keyed by the class, and so by the class loader that defined it. It does not reference the class, so the class loader of a
+ * task definition can be reclaimed while its metadata is retained.
+ * </p>
+ */
+public class AntTypeMetadata {
+
+	public static final int KIND_UNKNOWN = 0;
+	public static final int KIND_BOOLEAN = 1;
+	public static final int KIND_ENUMERATED = 2;
+	public static final int KIND_REFERENCE = 3;
+	public static final int KIND_OTHER = 4;
+
+	/**
+	 * A cache key which identifies a class without keeping it from being unloaded
+	 */
+	private static class Key {
+		private final WeakReference<Class<?>> fType;
+		private final int fHashCode;
+
+		Key(Class<?> type) {
+			fType = new WeakReference<>(type);
+			fHashCode = System.identityHashCode(type);
+		}
+
+		@Override
+		public int hashCode() {
+			return fHashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Class<?> type = fType.get();
+			return type != null && type == ((Key) obj).fType.get();
+		}
+	}
+
+	private final List<String> fAttributes;
+	private final Map<String, Integer> fAttributeKinds;
+	private final Map<String, String[]> fEnumeratedValues;
+	private final List<String> fNestedElements;
+
+	private AntTypeMetadata(IntrospectionHelper helper) {
+		List<String> attributes = new ArrayList<>();
+		fAttributeKinds = new HashMap<>();
+		fEnumeratedValues = new HashMap<>();
+		Enumeration<String> names = helper.getAttributes();
+		while (names.hasMoreElements()) {
+			String attribute = names.nextElement();
+			attributes.add(attribute);
+			Class<?> type = helper.getAttributeType(attribute);
+			int kind = KIND_OTHER;
+			if (type == Boolean.TYPE || type == Boolean.class) {
+				kind = KIND_BOOLEAN;
+			} else if (EnumeratedAttribute.class.isAssignableFrom(type)) {
+				String[] values = getEnumeratedValues(type);
+				if (values != null) {
+					kind = KIND_ENUMERATED;
+					fEnumeratedValues.put(attribute, values);
+				}
+			} else if (Reference.class == type) {
+				kind = KIND_REFERENCE;
+			}
+			fAttributeKinds.put(attribute, Integer.valueOf(kind));
+		}
+		fAttributes = Collections.unmodifiableList(attributes);
+		fNestedElements = Collections.unmodifiableList(Collections.list(helper.getNestedElements()));
+	}
+
+	private static String[] getEnumeratedValues(Class<?> type) {
+		try {
+			String[] values = ((EnumeratedAttribute) type.getConstructor().newInstance()).getValues();
+			String[] lowerCaseValues = new String[values.length];
+			for (int i = 0; i < values.length; i++) {
+				lowerCaseValues[i] = values[i].toLowerCase();
+			}
+			return lowerCaseValues;
+		}
+		catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
+				| SecurityException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the metadata of the given task or type class, resolving it if it is not retained.
+	 *
+	 * @param project
+	 *            the project the class is defined in
+	 * @param type
+	 *            the task or type class
+	 * @return the metadata of the class
+	 * @throws NoClassDefFoundError
+	 *             if the class requires classes that are not available
+	 */
+	public static AntTypeMetadata getMetadata(Project project, Class<?> type) {
+		Key key = new Key(type);
+		CodeCompletionDataCache cache = CodeCompletionDataCache.getDefault();
+		AntTypeMetadata metadata = (AntTypeMetadata) cache.get(key);
+		if (metadata == null) {
+			metadata = new AntTypeMetadata(IntrospectionHelper.getHelper(project, type));
+			cache.put(key, metadata);
+		}
+		return metadata;
+	}
+
+	/**
+	 * Returns the names of the attributes in the order of the introspection helper
+	 */
+	public List<String> getAttributes() {
+		return fAttributes;
+	}
+
+	/**
+	 * Returns the kind of value of the given attribute, or {@link #KIND_UNKNOWN} if the class has no such attribute
+	 */
+	public int getAttributeKind(String attribute) {
+		Integer kind = fAttributeKinds.get(attribute);
+		return kind == null ? KIND_UNKNOWN : kind.intValue();
+	}
+
+	/**
+	 * Returns the lower case values of the given enumerated attribute, or <code>null</code> if the attribute is not enumerated
+	 */
+	public String[] getEnumeratedValues(String attribute) {
+		return fEnumeratedValues.get(attribute);
+	}
+
+	/**
+	 * Returns the names of the nested elements in the order of the introspection helper
+	 */
+	public List<String> getNestedElements() {
+		return fNestedElements;
+	}
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.ui.editor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * An immutable index of task and type names sorted by their lower case form, so that the names starting with a prefix are found with a binary
+ * search instead of a scan of the whole type table.
+ */
+public class AntTypeNameIndex {
+
+	private final String[] fNames;
+	private final String[] fLowerCaseNames;
+
+	/**
+	 * Creates an index of the given names
+	 *
+	 * @param names
+	 *            the task and type names to index; may contain duplicates
+	 */
+	public AntTypeNameIndex(Collection<String> names) {
+		int size = names.size();
+		String[][] entries = new String[size][];
+		Iterator<String> iter = names.iterator();
+		for (int i = 0; i < size; i++) {
+			String name = iter.next();
+			entries[i] = new String[] { name.toLowerCase(), name };
+		}
+		Arrays.sort(entries, (e1, e2) -> e1[0].compareTo(e2[0]));
+		fNames = new String[size];
+		fLowerCaseNames = new String[size];
+		for (int i = 0; i < size; i++) {
+			fLowerCaseNames[i] = entries[i][0];
+			fNames[i] = entries[i][1];
+		}
+	}
+
+	/**
+	 * Returns the number of names in the index
+	 */
+	public int size() {
+		return fNames.length;
+	}
+
+	/**
+	 * Returns the name at the given position of the index
+	 */
+	public String getName(int index) {
+		return fNames[index];
+	}
+
+	/**
+	 * Returns the position of the first name whose lower case form starts with the given prefix, or the position where such a name would be
+	 * inserted.
+	 *
+	 * @param prefix
+	 *            a lower case prefix
+	 * @return the start of the range of matching names
+	 */
+	public int getStart(String prefix) {
+		int low = 0;
+		int high = fLowerCaseNames.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (fLowerCaseNames[mid].compareTo(prefix) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the position after the last name whose lower case form starts with the given prefix. The matching names are contiguous as every
+	 * name starting with the prefix sorts after the prefix and before any name that does not.
+	 *
+	 * @param prefix
+	 *            a lower case prefix
+	 * @param start
+	 *            the start of the range as returned by {@link #getStart(String)}
+	 * @return the end of the range of matching names
+	 */
+	public int getEnd(String prefix, int start) {
+		int end = start;
+		while (end < fLowerCaseNames.length && fLowerCaseNames[end].startsWith(prefix)) {
+			end++;
+		}
+		return end;
+	}
+}
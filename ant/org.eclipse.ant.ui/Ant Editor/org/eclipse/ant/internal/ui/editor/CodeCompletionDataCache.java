@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.internal.ui.editor;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+
+import org.eclipse.ant.internal.ui.editor.utils.ProjectHelper;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Retains the memory expensive data structures of Ant code completion, such as the schema of the Ant DTD, the task descriptions and the
+ * introspected attributes of tasks.
+ * <p>
+ * The structures are held strongly while they are in use. Once the last Ant model has been disposed and the structures have not been used for a
+ * while, they are only held softly, so that they are kept if memory allows and reclaimed by the garbage collector otherwise. Using a softly held
+ * structure holds it strongly again. As soon as the heap is nearly full after a garbage collection, the structures are released and created again
+ * as they are requested next. The number of entries is bounded, the least recently used entry is discarded first.
+ * </p>
+ * <p>
+ * To be notified of the heap being nearly full, the cache sets the collection usage threshold of the heap memory pools that have none, and resets
+ * those thresholds as it is shut down.
+ * </p>
+ */
+public class CodeCompletionDataCache {
+
+	/**
+	 * The key of the {@link org.eclipse.ant.internal.ui.dtd.ISchema} of the Ant DTD
+	 */
+	public static final String SCHEMA = "schema"; //$NON-NLS-1$
+
+	/**
+	 * The key of the {@link TaskDescriptionProvider}
+	 */
+	public static final String TASK_DESCRIPTIONS = "taskDescriptions"; //$NON-NLS-1$
+
+	private static final long DECAY_DELAY = 5 * 60 * 1000; // 5 minutes
+
+	private static final int MAX_ENTRIES = 256;
+
+	/**
+	 * The ratio of the heap used after a garbage collection above which the structures are released
+	 */
+	private static final double MEMORY_USAGE_THRESHOLD = 0.85;
+
+	private static CodeCompletionDataCache fgDefault;
+
+	private static class Entry {
+		Object fValue;
+		SoftReference<Object> fSoftValue;
+
+		Entry(Object value) {
+			fValue = value;
+		}
+
+		Object get() {
+			if (fValue == null && fSoftValue != null) {
+				fValue = fSoftValue.get();
+				fSoftValue = null;
+			}
+			return fValue;
+		}
+
+		void decay() {
+			if (fValue != null) {
+				fSoftValue = new SoftReference<>(fValue);
+				fValue = null;
+			}
+		}
+	}
+
+	private Map<Object, Entry> fEntries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private long fLastAccess = System.currentTimeMillis();
+	private int fHits = 0;
+	private int fLoads = 0;
+
+	private Job fDecayJob = new Job("Decay Ant code completion data structures") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			long idle = System.currentTimeMillis() - getLastAccess();
+			if (idle < DECAY_DELAY) {
+				// used since the last Ant model was disposed
+				schedule(DECAY_DELAY - idle);
+			} else {
+				decay();
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	private NotificationListener fMemoryListener = (notification, handback) -> {
+		if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType())) {
+			lowMemory();
+		}
+	};
+
+	/**
+	 * The collection usage thresholds set by this cache by memory pool
+	 */
+	private Map<MemoryPoolMXBean, Long> fThresholds = new HashMap<>();
+
+	private CodeCompletionDataCache() {
+		fDecayJob.setSystem(true);
+		fDecayJob.setPriority(Job.DECORATE);
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			// the pools that support a usage threshold hold the long lived objects
+			if (pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported() && pool.isCollectionUsageThresholdSupported()
+					&& pool.getCollectionUsageThreshold() == 0) {
+				long max = pool.getUsage().getMax();
+				if (max > 0) {
+					long threshold = (long) (max * MEMORY_USAGE_THRESHOLD);
+					pool.setCollectionUsageThreshold(threshold);
+					fThresholds.put(pool, Long.valueOf(threshold));
+				}
+			}
+		}
+		((NotificationEmitter) ManagementFactory.getMemoryMXBean()).addNotificationListener(fMemoryListener, null, null);
+	}
+
+	public static synchronized CodeCompletionDataCache getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new CodeCompletionDataCache();
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Discards the retained structures, stops listening to memory notifications and resets the collection usage thresholds set by the cache
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			fgDefault.fDecayJob.cancel();
+			try {
+				((NotificationEmitter) ManagementFactory.getMemoryMXBean()).removeNotificationListener(fgDefault.fMemoryListener);
+			}
+			catch (ListenerNotFoundException e) {
+				// do nothing
+			}
+			for (Map.Entry<MemoryPoolMXBean, Long> threshold : fgDefault.fThresholds.entrySet()) {
+				MemoryPoolMXBean pool = threshold.getKey();
+				// unless another component has set a threshold since
+				if (pool.isValid() && pool.getCollectionUsageThreshold() == threshold.getValue().longValue()) {
+					pool.setCollectionUsageThreshold(0);
+				}
+			}
+			fgDefault.fThresholds.clear();
+			fgDefault.clear();
+			fgDefault = null;
+		}
+	}
+
+	/**
+	 * Returns the structure for the given key and holds it strongly.
+	 *
+	 * @param key
+	 *            the key of the structure
+	 * @return the structure or <code>null</code> if it has to be created and {@link #put(Object, Object) put} again
+	 */
+	public synchronized Object get(Object key) {
+		fLastAccess = System.currentTimeMillis();
+		Entry entry = fEntries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		Object value = entry.get();
+		if (value == null) {
+			// reclaimed by the garbage collector
+			fEntries.remove(key);
+			return null;
+		}
+		fHits++;
+		return value;
+	}
+
+	/**
+	 * Retains the structure for the given key
+	 */
+	public synchronized void put(Object key, Object value) {
+		fLastAccess = System.currentTimeMillis();
+		fEntries.put(key, new Entry(value));
+		fLoads++;
+	}
+
+	/**
+	 * Removes all structures and resets the statistics
+	 */
+	public synchronized void clear() {
+		fEntries.clear();
+		fHits = 0;
+		fLoads = 0;
+	}
+
+	/**
+	 * Returns the number of structures that were found retained
+	 */
+	public synchronized int getHitCount() {
+		return fHits;
+	}
+
+	/**
+	 * Returns the number of structures that had to be created
+	 */
+	public synchronized int getLoadCount() {
+		return fLoads;
+	}
+
+	private synchronized long getLastAccess() {
+		return fLastAccess;
+	}
+
+	/**
+	 * Holds the structures softly. The cached XML readers of the {@link ProjectHelper} are discarded as well.
+	 */
+	public void decay() {
+		synchronized (this) {
+			for (Entry entry : fEntries.values()) {
+				entry.decay();
+			}
+		}
+		ProjectHelper.reset();
+	}
+
+	/**
+	 * Called as the heap is nearly full after a garbage collection: releases the structures, which are created again as they are requested next.
+	 * The cached XML readers of the {@link ProjectHelper} are discarded as well.
+	 */
+	public void lowMemory() {
+		synchronized (this) {
+			fEntries.clear();
+		}
+		ProjectHelper.reset();
+	}
+
+	/**
+	 * Called as an Ant model is created to keep the structures from decaying
+	 */
+	public void cancelDecay() {
+		fDecayJob.cancel();
+	}
+
+	/**
+	 * Called as the last Ant model is disposed to let the structures decay once they are no longer used
+	 */
+	public void scheduleDecay() {
+		fDecayJob.schedule(DECAY_DELAY);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.util.List;
 import org.eclipse.ant.internal.ui.editor.text.XMLTextHover;
 import org.eclipse.ant.internal.ui.model.AntElementNode;
 import org.eclipse.ant.internal.ui.model.AntModel;
+import org.eclipse.ant.internal.ui.model.AntProjectNode;
 import org.eclipse.ant.internal.ui.model.IAntElement;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
@@ -68,11 +69,19 @@ public class OccurrencesFinder {
 		if (occurrencesIdentifier == null) {
 			return null;
 		}
-		List<IAntElement> nodes = new ArrayList<>(1);
-		nodes.add(fAntModel.getProjectNode());
-		List<IAntElement> usages = new ArrayList<>();
+		AntProjectNode projectNode = fAntModel.getProjectNode();
+		if (projectNode == null) {
+			return null;
+		}
+		// the nodes containing an occurrence are looked up in the index of the project
+		List<IAntElement> occurrences = projectNode.getOccurrences(occurrencesIdentifier);
+		List<IAntElement> usages = new ArrayList<>(occurrences.size() + 1);
 		usages.add(node);
-		scanNodesForOccurrences(nodes, usages, occurrencesIdentifier);
+		for (IAntElement occurrence : occurrences) {
+			if (!node.equals(occurrence)) {
+				usages.add(occurrence);
+			}
+		}
 		String identifier;
 		try {
 			identifier = fDocument.get(region.getOffset(), region.getLength());
@@ -95,15 +104,4 @@ public class OccurrencesFinder {
 		}
 		return positions;
 	}
-
-	private void scanNodesForOccurrences(List<IAntElement> nodes, List<IAntElement> usages, String identifier) {
-		for (IAntElement node : nodes) {
-			if (!usages.contains(node) && node.containsOccurrence(identifier)) {
-				usages.add(node);
-			}
-			if (node.hasChildren()) {
-				scanNodesForOccurrences(node.getChildNodes(), usages, identifier);
-			}
-		}
-	}
-}
\ No newline at end of file
+}
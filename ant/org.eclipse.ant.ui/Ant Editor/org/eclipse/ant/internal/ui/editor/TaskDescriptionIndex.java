@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.ui.editor;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A precompiled index of the task and attribute descriptions of <code>anttasks_1.6.0.xml</code>, generated by the
+ * <code>TaskDescriptionIndexGenerator</code> of the content assist development tools.
+ * <p>
+ * The index is read with a single read of the resource. It consists of a table of distinct strings, stored as UTF-8 bytes with their offsets and
+ * decoded only when requested, a table of tasks sorted by name and a table of attributes and nested elements, sorted by name within each task, so
+ * that a task and its children are found with binary searches and no task is materialized before it is requested.
+ * </p>
+ */
+public class TaskDescriptionIndex {
+
+	/**
+	 * The resource that contains the index of the task descriptions.
+	 */
+	public static final String TASKS_DESCRIPTION_INDEX_FILE_NAME = "/org/eclipse/ant/internal/ui/editor/anttasks_1.6.0.index"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x41544449; // "ATDI"
+	private static final int VERSION = 1;
+	private static final int NONE = -1;
+
+	private static final int TASK_SIZE = 4;
+	private static final int CHILD_SIZE = 3;
+
+	private final ByteBuffer fBuffer;
+	private final int fStringCount;
+	private final int fOffsetsStart;
+	private final int fDataStart;
+	private final int fTaskCount;
+	private final int fTasksStart;
+	private final int fChildCount;
+	private final int fChildrenStart;
+	private final String[] fStrings;
+
+	private TaskDescriptionIndex(ByteBuffer buffer) throws IOException {
+		fBuffer = buffer;
+		if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+			throw new IOException("Not a task description index"); //$NON-NLS-1$
+		}
+		fStringCount = getCount(buffer.position());
+		fOffsetsStart = buffer.position() + 4;
+		fDataStart = fOffsetsStart + (fStringCount + 1) * 4;
+		int tasksPosition = fDataStart + getCount(fDataStart - 4);
+		fTaskCount = getCount(tasksPosition);
+		fTasksStart = tasksPosition + 4;
+		int childrenPosition = fTasksStart + fTaskCount * TASK_SIZE * 4;
+		fChildCount = getCount(childrenPosition);
+		fChildrenStart = childrenPosition + 4;
+		if (fChildrenStart + fChildCount * CHILD_SIZE * 4 != buffer.limit()) {
+			throw new IOException("Truncated task description index"); //$NON-NLS-1$
+		}
+		fStrings = new String[fStringCount];
+	}
+
+	private int getCount(int position) throws IOException {
+		if (position < 0 || position + 4 > fBuffer.limit()) {
+			throw new IOException("Truncated task description index"); //$NON-NLS-1$
+		}
+		int count = fBuffer.getInt(position);
+		if (count < 0) {
+			throw new IOException("Invalid task description index"); //$NON-NLS-1$
+		}
+		return count;
+	}
+
+	/**
+	 * Reads an index from the given stream
+	 *
+	 * @param stream
+	 *            the stream to read; it is not closed
+	 * @return the index
+	 * @throws IOException
+	 *             if the stream cannot be read or does not contain an index
+	 */
+	public static TaskDescriptionIndex read(InputStream stream) throws IOException {
+		try {
+			return new TaskDescriptionIndex(ByteBuffer.wrap(stream.readAllBytes()));
+		}
+		catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+			throw new IOException("Truncated task description index", e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Returns the id of the task with the given name, or <code>-1</code> if the index has no such task
+	 */
+	public int getTask(String name) {
+		return find(name, fTasksStart, TASK_SIZE, 0, fTaskCount);
+	}
+
+	/**
+	 * Returns the description of the given task, or <code>null</code> if it has none
+	 */
+	public String getTaskDescription(int task) {
+		return getString(getInt(fTasksStart, TASK_SIZE, task, 1));
+	}
+
+	/**
+	 * Returns the id of the first attribute or nested element of the given task. The children of a task have consecutive ids in name order.
+	 */
+	public int getFirstChild(int task) {
+		return getInt(fTasksStart, TASK_SIZE, task, 2);
+	}
+
+	/**
+	 * Returns the number of attributes and nested elements of the given task
+	 */
+	public int getChildCount(int task) {
+		return getInt(fTasksStart, TASK_SIZE, task, 3);
+	}
+
+	/**
+	 * Returns the id of the attribute or nested element with the given name of the given task, or <code>-1</code> if the task has no such child
+	 */
+	public int getChild(int task, String name) {
+		int first = getFirstChild(task);
+		return find(name, fChildrenStart, CHILD_SIZE, first, first + getChildCount(task));
+	}
+
+	/**
+	 * Returns the name of the given attribute or nested element
+	 */
+	public String getChildName(int child) {
+		return getString(getInt(fChildrenStart, CHILD_SIZE, child, 0));
+	}
+
+	/**
+	 * Returns the description of the given attribute or nested element, or <code>null</code> if it has none
+	 */
+	public String getChildDescription(int child) {
+		return getString(getInt(fChildrenStart, CHILD_SIZE, child, 1));
+	}
+
+	/**
+	 * Returns the required value of the given attribute or nested element, or <code>null</code> if it has none
+	 */
+	public String getChildRequired(int child) {
+		return getString(getInt(fChildrenStart, CHILD_SIZE, child, 2));
+	}
+
+	private int getInt(int tableStart, int entrySize, int entry, int field) {
+		return fBuffer.getInt(tableStart + (entry * entrySize + field) * 4);
+	}
+
+	/**
+	 * Binary search for the entry with the given name in a table whose entries start with a name and are sorted by name
+	 */
+	private int find(String name, int tableStart, int entrySize, int low, int high) {
+		int lastEntry = high - 1;
+		int firstEntry = low;
+		while (firstEntry <= lastEntry) {
+			int mid = (firstEntry + lastEntry) >>> 1;
+			int comparison = getString(getInt(tableStart, entrySize, mid, 0)).compareTo(name);
+			if (comparison < 0) {
+				firstEntry = mid + 1;
+			} else if (comparison > 0) {
+				lastEntry = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return NONE;
+	}
+
+	private String getString(int id) {
+		if (id == NONE) {
+			return null;
+		}
+		String string = fStrings[id];
+		if (string == null) {
+			int start = fBuffer.getInt(fOffsetsStart + id * 4);
+			int end = fBuffer.getInt(fOffsetsStart + (id + 1) * 4);
+			string = new String(fBuffer.array(), fDataStart + start, end - start, StandardCharsets.UTF_8);
+			fStrings[id] = string;
+		}
+		return string;
+	}
+
+	/**
+	 * Collects task descriptions and writes them as an index.
+	 */
+	public static class Writer {
+
+		private final Map<String, String> fTaskDescriptions = new TreeMap<>();
+		private final Map<String, Map<String, String[]>> fTaskChildren = new HashMap<>();
+
+		/**
+		 * Adds a task. A task that is added again replaces the task and its children.
+		 */
+		public void addTask(String name, String description) {
+			fTaskDescriptions.put(name, description);
+			fTaskChildren.put(name, new TreeMap<>());
+		}
+
+		/**
+		 * Adds an attribute or nested element to a task that has been added. A child that is added again replaces the child.
+		 */
+		public void addChild(String task, String name, String description, String required) {
+			fTaskChildren.get(task).put(name, new String[] { name, description, required });
+		}
+
+		/**
+		 * Writes the index
+		 *
+		 * @param stream
+		 *            the stream to write to; it is not closed
+		 */
+		public void write(OutputStream stream) throws IOException {
+			List<String> strings = new ArrayList<>();
+			Map<String, Integer> stringIds = new HashMap<>();
+			List<int[]> tasks = new ArrayList<>();
+			List<int[]> children = new ArrayList<>();
+			for (Map.Entry<String, String> task : fTaskDescriptions.entrySet()) {
+				Map<String, String[]> taskChildren = fTaskChildren.get(task.getKey());
+				tasks.add(new int[] { getStringId(task.getKey(), strings, stringIds), getStringId(task.getValue(), strings, stringIds),
+						children.size(), taskChildren.size() });
+				for (String[] child : taskChildren.values()) {
+					children.add(new int[] { getStringId(child[0], strings, stringIds), getStringId(child[1], strings, stringIds),
+							getStringId(child[2], strings, stringIds) });
+				}
+			}
+
+			DataOutputStream out = new DataOutputStream(stream);
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(strings.size());
+			List<byte[]> data = new ArrayList<>(strings.size());
+			int offset = 0;
+			for (String string : strings) {
+				byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+				data.add(bytes);
+				out.writeInt(offset);
+				offset += bytes.length;
+			}
+			out.writeInt(offset);
+			for (byte[] bytes : data) {
+				out.write(bytes);
+			}
+			writeTable(out, tasks);
+			writeTable(out, children);
+			out.flush();
+		}
+
+		private int getStringId(String string, List<String> strings, Map<String, Integer> stringIds) {
+			if (string == null) {
+				return NONE;
+			}
+			Integer id = stringIds.get(string);
+			if (id == null) {
+				id = Integer.valueOf(strings.size());
+				strings.add(string);
+				stringIds.put(string, id);
+			}
+			return id.intValue();
+		}
+
+		private void writeTable(DataOutputStream out, List<int[]> entries) throws IOException {
+			out.writeInt(entries.size());
+			for (int[] entry : entries) {
+				for (int value : entry) {
+					out.writeInt(value);
+				}
+			}
+		}
+	}
+}
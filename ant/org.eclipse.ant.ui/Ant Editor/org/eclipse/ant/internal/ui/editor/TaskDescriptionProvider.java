@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2013 GEBIT Gesellschaft fuer EDV-Beratung
+ * Copyright (c) 2002, 2026 GEBIT Gesellschaft fuer EDV-Beratung
  * und Informatik-Technologien mbH, 
  * Berlin, Duesseldorf, Frankfurt (Germany) and others.
  *
@@ -18,10 +18,12 @@
 package org.eclipse.ant.internal.ui.editor;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -43,8 +45,9 @@ import org.xml.sax.helpers.DefaultHandler;
 /**
  * The <code>TaskDescriptionProvider</code> provides the additional descriptions for tasks and attributes for the code assist.
  * <p>
- * Descriptions for task are originally provided with the XML file <code>TASKS_DESCRIPTION_XML_FILE_NAME</code>. This file is parsed by the provider
- * and requested descriptions are returned.
+ * Descriptions for task are originally provided with the XML file <code>TASKS_DESCRIPTION_XML_FILE_NAME</code>. The provider reads the
+ * {@link TaskDescriptionIndex} generated from this file and materializes the descriptions of a task when they are first requested. The XML file
+ * is only parsed if the index cannot be read.
  * </p>
  */
 public class TaskDescriptionProvider {
@@ -93,15 +96,21 @@ public class TaskDescriptionProvider {
 		}
 	}
 
-	private static TaskDescriptionProvider fgDefault;
-
 	/**
 	 * Mapping of {@link String} to {@link ProposalNode} <br>
 	 * <br>
 	 * <code>Map&lt;String, ProposalNode&gt;</code>
+	 * <p>
+	 * When the descriptions are read from the index, this holds the tasks materialized so far.
+	 * </p>
 	 */
 	private Map<String, ProposalNode> taskNodes = null;
 
+	/**
+	 * The precompiled index of the descriptions, or <code>null</code> if the descriptions were parsed from the XML file
+	 */
+	private TaskDescriptionIndex index = null;
+
 	/**
 	 * Meant to be a singleton
 	 */
@@ -109,22 +118,49 @@ public class TaskDescriptionProvider {
 	}
 
 	public static TaskDescriptionProvider getDefault() {
-		if (fgDefault == null) {
-			fgDefault = new TaskDescriptionProvider();
-			IRunnableWithProgress runnable = monitor -> fgDefault.initialize();
+		CodeCompletionDataCache cache = CodeCompletionDataCache.getDefault();
+		TaskDescriptionProvider provider = (TaskDescriptionProvider) cache.get(CodeCompletionDataCache.TASK_DESCRIPTIONS);
+		if (provider == null) {
+			final TaskDescriptionProvider newProvider = new TaskDescriptionProvider();
+			// reading the index is a single read of a resource, only parsing the XML file needs the busy cursor
+			if (!newProvider.readIndex()) {
+				IRunnableWithProgress runnable = monitor -> newProvider.initialize();
 
-			IProgressService service = PlatformUI.getWorkbench().getProgressService();
-			try {
-				service.busyCursorWhile(runnable);
-			}
-			catch (InvocationTargetException e) {
-				// do nothing
+				IProgressService service = PlatformUI.getWorkbench().getProgressService();
+				try {
+					service.busyCursorWhile(runnable);
+				}
+				catch (InvocationTargetException e) {
+					// do nothing
+				}
+				catch (InterruptedException e) {
+					// do nothing
+				}
 			}
-			catch (InterruptedException e) {
-				// do nothing
+			provider = newProvider;
+			cache.put(CodeCompletionDataCache.TASK_DESCRIPTIONS, provider);
+		}
+		return provider;
+	}
+
+	/**
+	 * Reads the precompiled index of the task description XML file.
+	 * 
+	 * @return <code>true</code> if the index was read, <code>false</code> if the XML file must be parsed
+	 */
+	boolean readIndex() {
+		try (InputStream stream = getClass().getResourceAsStream(TaskDescriptionIndex.TASKS_DESCRIPTION_INDEX_FILE_NAME)) {
+			if (stream == null) {
+				return false;
 			}
+			index = TaskDescriptionIndex.read(stream);
+			taskNodes = new ConcurrentHashMap<>();
+			return true;
+		}
+		catch (IOException e) {
+			AntUIPlugin.log(e);
+			return false;
 		}
-		return fgDefault;
 	}
 
 	/**
@@ -236,7 +272,7 @@ public class TaskDescriptionProvider {
 	 * @return description string or <code>null</code> if task not known or no description available.
 	 */
 	public String getDescriptionForTask(String aTaskName) {
-		ProposalNode task = taskNodes.get(aTaskName);
+		ProposalNode task = getTaskNode(aTaskName);
 		if (task != null) {
 			return task.desc;
 		}
@@ -249,7 +285,7 @@ public class TaskDescriptionProvider {
 	 * @return description string or <code>null</code> if task or attribute not known or no description available.
 	 */
 	public String getDescriptionForTaskAttribute(String aTaskName, String anAttributeName) {
-		ProposalNode task = taskNodes.get(aTaskName);
+		ProposalNode task = getTaskNode(aTaskName);
 		if (task != null) {
 			ProposalNode att = task.getChild(anAttributeName);
 			if (att != null) {
@@ -265,7 +301,7 @@ public class TaskDescriptionProvider {
 	 * @return required string or <code>null</code> if task or attribute not known or no description available.
 	 */
 	public String getRequiredAttributeForTaskAttribute(String aTaskName, String anAttributeName) {
-		ProposalNode task = taskNodes.get(aTaskName);
+		ProposalNode task = getTaskNode(aTaskName);
 		if (task != null) {
 			ProposalNode att = task.getChild(anAttributeName);
 			if (att != null) {
@@ -283,13 +319,32 @@ public class TaskDescriptionProvider {
 	 * @since 3.5
 	 */
 	ProposalNode getTaskNode(String aTaskName) {
-		return taskNodes.get(aTaskName);
+		ProposalNode task = taskNodes.get(aTaskName);
+		if (task == null && index != null) {
+			task = createTaskNode(aTaskName);
+			if (task != null) {
+				taskNodes.put(aTaskName, task);
+			}
+		}
+		return task;
 	}
 
-	protected static void reset() {
-		if (fgDefault != null && fgDefault.taskNodes != null) {
-			fgDefault.taskNodes.clear();
+	/**
+	 * Materializes the {@link ProposalNode} of the given task and its children from the index
+	 * 
+	 * @param aTaskName
+	 * @return the new {@link ProposalNode} or <code>null</code> if the index does not contain the task
+	 */
+	private ProposalNode createTaskNode(String aTaskName) {
+		int taskId = index.getTask(aTaskName);
+		if (taskId == -1) {
+			return null;
+		}
+		ProposalNode task = new ProposalNode(index.getTaskDescription(taskId), null);
+		int first = index.getFirstChild(taskId);
+		for (int child = first; child < first + index.getChildCount(taskId); child++) {
+			task.addChild(index.getChildName(child), new ProposalNode(index.getChildDescription(child), index.getChildRequired(child)));
 		}
-		fgDefault = null;
+		return task;
 	}
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2013 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,12 @@
 package org.eclipse.ant.internal.ui.editor.outline;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.eclipse.ant.core.AntCorePlugin;
 import org.eclipse.ant.internal.core.IAntCoreConstants;
@@ -55,8 +57,18 @@ public class AntEditorMarkerUpdater {
 			updateMarkers0(fProblems);
 			return new Status(IStatus.OK, AntUIPlugin.getUniqueIdentifier(), IStatus.OK, IAntCoreConstants.EMPTY_STRING, null);
 		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == FAMILY;
+		}
 	}
 
+	/**
+	 * The family of the jobs that update the build file problem markers
+	 */
+	public static final Object FAMILY = new Object();
+
 	private IAntModel fModel = null;
 	private List<IProblem> fCollectedProblems = new ArrayList<>();
 	public static final String BUILDFILE_PROBLEM_MARKER = AntUIPlugin.PI_ANTUI + ".buildFileProblem"; //$NON-NLS-1$
@@ -73,22 +85,49 @@ public class AntEditorMarkerUpdater {
 		fCollectedProblems.clear();
 	}
 
-	private void removeProblems() {
-		IFile file = getFile();
-		if (file == null || !file.exists()) {
-			return;
+	/**
+	 * Identifies a marker by the attributes it is created with, so that the marker of a problem reported again is retained
+	 */
+	private static class MarkerKey {
+		private final Object fMessage;
+		private final Object fSeverity;
+		private final Object fLineNumber;
+		private final Object fCharStart;
+		private final Object fCharEnd;
+
+		MarkerKey(Object[] values) {
+			fMessage = values[0];
+			fSeverity = values[1];
+			fLineNumber = values[2];
+			fCharStart = values[3];
+			fCharEnd = values[4];
 		}
-		try {
-			file.deleteMarkers(BUILDFILE_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fMessage, fSeverity, fLineNumber, fCharStart, fCharEnd);
 		}
-		catch (CoreException e) {
-			AntUIPlugin.log(e);
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof MarkerKey)) {
+				return false;
+			}
+			MarkerKey other = (MarkerKey) obj;
+			return Objects.equals(fMessage, other.fMessage) && Objects.equals(fSeverity, other.fSeverity)
+					&& Objects.equals(fLineNumber, other.fLineNumber) && Objects.equals(fCharStart, other.fCharStart)
+					&& Objects.equals(fCharEnd, other.fCharEnd);
 		}
 	}
 
-	private void createMarker(IProblem problem) {
+	private static final String[] KEY_ATTRIBUTES = new String[] { IMarker.MESSAGE, IMarker.SEVERITY, IMarker.LINE_NUMBER, IMarker.CHAR_START,
+			IMarker.CHAR_END };
+
+	private void createMarker(Map<String, Object> attributes) {
 		IFile file = getFile();
-		Map<String, Object> attributes = getMarkerAttributes(problem);
 		try {
 			MarkerUtilities.createMarker(file, attributes, BUILDFILE_PROBLEM_MARKER);
 		}
@@ -116,19 +155,52 @@ public class AntEditorMarkerUpdater {
 		}
 	}
 
+	/**
+	 * Updates the markers of the file to the given problems. The markers of problems that are still reported are retained, so only the markers
+	 * of problems that were fixed or introduced since the last update are deleted or created.
+	 */
 	private void updateMarkers0(List<IProblem> problems) {
-		removeProblems();
-		if (!shouldAddMarkers()) {
+		IFile file = getFile();
+		if (file == null || !file.exists()) {
 			return;
 		}
-
-		if (problems.size() > 0) {
-			Iterator<IProblem> e = problems.iterator();
-			while (e.hasNext()) {
-				IProblem problem = e.next();
-				createMarker(problem);
+		if (!shouldAddMarkers()) {
+			problems = Collections.emptyList();
+		}
+		try {
+			Map<MarkerKey, List<IMarker>> markers = new HashMap<>();
+			for (IMarker marker : file.findMarkers(BUILDFILE_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE)) {
+				markers.computeIfAbsent(new MarkerKey(marker.getAttributes(KEY_ATTRIBUTES)), key -> new ArrayList<>(1)).add(marker);
+			}
+			for (IProblem problem : problems) {
+				Map<String, Object> attributes = getMarkerAttributes(problem);
+				MarkerKey key = new MarkerKey(getKeyValues(attributes));
+				List<IMarker> existing = markers.get(key);
+				if (existing != null && !existing.isEmpty()) {
+					existing.remove(existing.size() - 1);
+				} else {
+					createMarker(attributes);
+				}
+			}
+			List<IMarker> deletions = new ArrayList<>();
+			for (List<IMarker> remaining : markers.values()) {
+				deletions.addAll(remaining);
 			}
+			if (!deletions.isEmpty()) {
+				file.getWorkspace().deleteMarkers(deletions.toArray(new IMarker[deletions.size()]));
+			}
+		}
+		catch (CoreException e) {
+			AntUIPlugin.log(e);
+		}
+	}
+
+	private Object[] getKeyValues(Map<String, Object> attributes) {
+		Object[] values = new Object[KEY_ATTRIBUTES.length];
+		for (int i = 0; i < KEY_ATTRIBUTES.length; i++) {
+			values[i] = attributes.get(KEY_ATTRIBUTES[i]);
 		}
+		return values;
 	}
 
 	private IFile getFile() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2013 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,11 +16,9 @@ package org.eclipse.ant.internal.ui.editor.text;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.eclipse.ant.internal.ui.editor.AntEditor;
 import org.eclipse.ant.internal.ui.model.AntElementNode;
@@ -36,58 +34,143 @@ import org.eclipse.jface.text.source.projection.ProjectionAnnotationModel;
 
 public class AntFoldingStructureProvider {
 
+	/**
+	 * A foldable region of the document, spanning whole lines, and the element it was computed for
+	 */
+	private static class FoldingRegion {
+		final int fOffset;
+		final int fLength;
+		final IAntElement fElement;
+
+		FoldingRegion(int offset, int length, IAntElement element) {
+			fOffset = offset;
+			fLength = length;
+			fElement = element;
+		}
+	}
+
+	/**
+	 * A projection annotation of a previous update and its position at the time of this update
+	 */
+	private static class AnnotatedRegion {
+		final Annotation fAnnotation;
+		final int fOffset;
+		final int fLength;
+
+		AnnotatedRegion(Annotation annotation, Position position) {
+			fAnnotation = annotation;
+			fOffset = position.getOffset();
+			fLength = position.getLength();
+		}
+	}
+
 	private AntEditor fEditor;
 	private IDocument fDocument;
 
 	/**
-	 * A mapping of the foldable position to the <code>AntElementNode</code> that represent that region
+	 * The projection annotations added or retained by the last update and the model they belong to. The positions of the annotations are updated
+	 * by the model as the document changes, so they are compared with the new regions at the time of the next update.
 	 */
-	private Map<Position, IAntElement> fPositionToElement = new HashMap<>();
+	private List<Annotation> fAnnotations = new ArrayList<>();
+	private ProjectionAnnotationModel fAnnotationModel;
 
 	public AntFoldingStructureProvider(AntEditor editor) {
 		fEditor = editor;
 	}
 
-	private void updateFoldingRegions(ProjectionAnnotationModel model, Set<Position> currentRegions) {
-		Annotation[] deletions = computeDifferences(model, currentRegions);
-
-		Map<Annotation, Position> additionsMap = new HashMap<>();
-		for (Position position : currentRegions) {
-			IAntElement node = fPositionToElement.get(position);
-			additionsMap.put(new ProjectionAnnotation(node.collapseProjection()), position);
+	/**
+	 * Merges the given regions, sorted by offset and length, with the annotations of the previous update sorted the same way. Annotations whose
+	 * position equals a region are retained, so only the regions that changed are removed from or added to the model.
+	 */
+	private void updateFoldingRegions(ProjectionAnnotationModel model, List<FoldingRegion> regions) {
+		List<AnnotatedRegion> previous = getPreviousRegions(model);
+		List<Annotation> annotations = new ArrayList<>(regions.size());
+		List<Annotation> deletions = new ArrayList<>();
+		Map<Annotation, Position> additions = new HashMap<>();
+		int i = 0;
+		int j = 0;
+		while (i < previous.size() || j < regions.size()) {
+			int comparison;
+			if (i == previous.size()) {
+				comparison = 1;
+			} else if (j == regions.size()) {
+				comparison = -1;
+			} else {
+				AnnotatedRegion annotated = previous.get(i);
+				FoldingRegion region = regions.get(j);
+				comparison = compare(annotated.fOffset, annotated.fLength, region.fOffset, region.fLength);
+			}
+			if (comparison == 0) {
+				annotations.add(previous.get(i++).fAnnotation);
+				j++;
+			} else if (comparison < 0) {
+				deletions.add(previous.get(i++).fAnnotation);
+			} else {
+				FoldingRegion region = regions.get(j++);
+				Annotation annotation = new ProjectionAnnotation(region.fElement.collapseProjection());
+				additions.put(annotation, new Position(region.fOffset, region.fLength));
+				annotations.add(annotation);
+			}
 		}
+		fAnnotations = annotations;
 
-		if ((deletions.length != 0 || additionsMap.size() != 0)) {
-			model.modifyAnnotations(deletions, additionsMap, new Annotation[] {});
+		if (!deletions.isEmpty() || !additions.isEmpty()) {
+			model.modifyAnnotations(deletions.toArray(new Annotation[deletions.size()]), additions, new Annotation[] {});
 		}
 	}
 
-	private Annotation[] computeDifferences(ProjectionAnnotationModel model, Set<Position> additions) {
-		List<Annotation> deletions = new ArrayList<>();
-		for (Iterator<Annotation> iter = model.getAnnotationIterator(); iter.hasNext();) {
-			Object annotation = iter.next();
-			if (annotation instanceof ProjectionAnnotation) {
-				Annotation annot = (Annotation) annotation;
-				Position position = model.getPosition(annot);
-				if (additions.contains(position)) {
-					additions.remove(position);
-				} else {
-					deletions.add(annot);
+	/**
+	 * Returns the annotations of the previous update that are still in the model, sorted by their current position
+	 */
+	private List<AnnotatedRegion> getPreviousRegions(ProjectionAnnotationModel model) {
+		if (model != fAnnotationModel) {
+			// a new model has no annotations of this provider, but take over any projection annotations it has
+			fAnnotationModel = model;
+			fAnnotations = new ArrayList<>();
+			for (Iterator<Annotation> iter = model.getAnnotationIterator(); iter.hasNext();) {
+				Annotation annotation = iter.next();
+				if (annotation instanceof ProjectionAnnotation) {
+					fAnnotations.add(annotation);
 				}
 			}
 		}
-		return deletions.toArray(new Annotation[deletions.size()]);
+		List<AnnotatedRegion> previous = new ArrayList<>(fAnnotations.size());
+		for (Annotation annotation : fAnnotations) {
+			Position position = model.getPosition(annotation);
+			if (position != null && !position.isDeleted()) {
+				previous.add(new AnnotatedRegion(annotation, position));
+			}
+		}
+		previous.sort((r1, r2) -> compare(r1.fOffset, r1.fLength, r2.fOffset, r2.fLength));
+		return previous;
+	}
+
+	private static int compare(int offset1, int length1, int offset2, int length2) {
+		if (offset1 != offset2) {
+			return offset1 < offset2 ? -1 : 1;
+		}
+		return Integer.compare(length1, length2);
 	}
 
 	public void updateFoldingRegions(AntModel antModel) {
-		fPositionToElement = new HashMap<>();
-		try {
-			ProjectionAnnotationModel model = fEditor.getAdapter(ProjectionAnnotationModel.class);
-			if (model == null) {
-				return;
-			}
+		ProjectionAnnotationModel model = fEditor.getAdapter(ProjectionAnnotationModel.class);
+		if (model == null) {
+			return;
+		}
+		updateFoldingRegions(antModel, model);
+	}
 
-			Set<Position> currentRegions = new HashSet<>();
+	/**
+	 * Updates the projection annotations of the given annotation model to the foldable elements of the given Ant model.
+	 * 
+	 * @param antModel
+	 *            the model of the document of this provider
+	 * @param model
+	 *            the annotation model to update
+	 */
+	public void updateFoldingRegions(AntModel antModel, ProjectionAnnotationModel model) {
+		try {
+			List<FoldingRegion> regions = new ArrayList<>();
 			List<IAntElement> root = new ArrayList<>();
 			AntProjectNode node = antModel.getProjectNode();
 			if (node != null && node.getOffset() != -1) {
@@ -95,16 +178,29 @@ public class AntFoldingStructureProvider {
 				List<AntElementNode> nodes = antModel.getNonStructuralNodes();
 				root.addAll(nodes);
 			}
-			addFoldingRegions(currentRegions, root);
-			updateFoldingRegions(model, currentRegions);
+			addFoldingRegions(regions, root);
+			// the non structural nodes follow the project node, and elements spanning the same lines fold the same region
+			regions.sort((r1, r2) -> compare(r1.fOffset, r1.fLength, r2.fOffset, r2.fLength));
+			removeDuplicates(regions);
+			updateFoldingRegions(model, regions);
 		}
 		catch (BadLocationException be) {
 			// ignore as document has changed
 		}
 	}
 
-	private void addFoldingRegions(Set<Position> regions, List<IAntElement> children) throws BadLocationException {
-		// add a Position to 'regions' for each foldable region
+	private void removeDuplicates(List<FoldingRegion> regions) {
+		int count = 0;
+		for (FoldingRegion region : regions) {
+			if (count == 0 || compare(regions.get(count - 1).fOffset, regions.get(count - 1).fLength, region.fOffset, region.fLength) != 0) {
+				regions.set(count++, region);
+			}
+		}
+		regions.subList(count, regions.size()).clear();
+	}
+
+	private void addFoldingRegions(List<FoldingRegion> regions, List<IAntElement> children) throws BadLocationException {
+		// add a region to 'regions' for each foldable element
 		for (IAntElement element : children) {
 			if (element.getImportNode() != null || element.isExternal()) {
 				continue; // elements are not really in this document and therefore are not foldable
@@ -114,14 +210,12 @@ public class AntFoldingStructureProvider {
 			if (startLine < endLine) {
 				int start = fDocument.getLineOffset(startLine);
 				int end = fDocument.getLineOffset(endLine) + fDocument.getLineLength(endLine);
-				Position position = new Position(start, end - start);
-				regions.add(position);
-				fPositionToElement.put(position, element);
-			}
+				regions.add(new FoldingRegion(start, end - start, element));
 
-			List<IAntElement> childNodes = element.getChildNodes();
-			if (childNodes != null) {
-				addFoldingRegions(regions, childNodes);
+				List<IAntElement> childNodes = element.getChildNodes();
+				if (childNodes != null) {
+					addFoldingRegions(regions, childNodes);
+				}
 			}
 		}
 	}
@@ -0,0 +1,463 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.ui.editor.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.ant.internal.ui.AntUIPlugin;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.ext.LexicalHandler;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * A cache of the parsed content of imported buildfiles, shared by the parses of all Ant models. The first parse that imports a buildfile records
+ * the SAX events of the file, and later parses that import the unchanged file replay the events into their handlers instead of reading and parsing
+ * the file again. The events do not depend on the importing project, so each model still creates its own targets, tasks and properties from them.
+ * <p>
+ * Only files that parse without problems and do not use entities are recorded. A recording is discarded as soon as its file is modified.
+ * </p>
+ */
+public class ImportedBuildFileCache implements IResourceChangeListener {
+
+	private static final int MAX_ENTRIES = 32;
+
+	/**
+	 * Files larger than this are parsed every time to bound the memory of the cache
+	 */
+	private static final long MAX_FILE_LENGTH = 1024 * 1024;
+
+	private static ImportedBuildFileCache fgDefault;
+
+	private interface Replay {
+		void replay(DefaultHandler handler, LexicalHandler lexicalHandler) throws SAXException;
+	}
+
+	private static class Event {
+		int fLine;
+		int fColumn;
+		Replay fReplay;
+
+		Event(int line, int column, Replay replay) {
+			fLine = line;
+			fColumn = column;
+			fReplay = replay;
+		}
+	}
+
+	private static class ReplayLocator implements Locator {
+		String fSystemId;
+		int fLine = -1;
+		int fColumn = -1;
+
+		ReplayLocator(String systemId) {
+			fSystemId = systemId;
+		}
+
+		@Override
+		public String getPublicId() {
+			return null;
+		}
+
+		@Override
+		public String getSystemId() {
+			return fSystemId;
+		}
+
+		@Override
+		public int getLineNumber() {
+			return fLine;
+		}
+
+		@Override
+		public int getColumnNumber() {
+			return fColumn;
+		}
+	}
+
+	/**
+	 * The SAX events of one imported buildfile
+	 */
+	static class Recording {
+		private String fPath;
+		private String fSystemId;
+		private long fLastModified;
+		private long fLength;
+		private List<Event> fEvents = new ArrayList<>();
+
+		Recording(File file, String systemId) {
+			fPath = file.getAbsolutePath();
+			fSystemId = systemId;
+			fLastModified = file.lastModified();
+			fLength = file.length();
+		}
+
+		boolean isCurrent() {
+			File file = new File(fPath);
+			return file.lastModified() == fLastModified && file.length() == fLength;
+		}
+
+		/**
+		 * Sends the recorded events to the given handlers, as a parse of the file would
+		 */
+		void replay(DefaultHandler handler, LexicalHandler lexicalHandler) throws SAXException {
+			ReplayLocator locator = new ReplayLocator(fSystemId);
+			handler.setDocumentLocator(locator);
+			for (Event event : fEvents) {
+				locator.fLine = event.fLine;
+				locator.fColumn = event.fColumn;
+				event.fReplay.replay(handler, lexicalHandler);
+			}
+		}
+	}
+
+	/**
+	 * Forwards the events of a parse to the handlers of the parse and records them
+	 */
+	static class Recorder extends DefaultHandler implements LexicalHandler {
+		private DefaultHandler fHandler;
+		private LexicalHandler fLexicalHandler;
+		private Recording fRecording;
+		private Locator fLocator;
+		private boolean fRecordable = true;
+
+		Recorder(File file, String systemId, DefaultHandler handler, LexicalHandler lexicalHandler) {
+			fHandler = handler;
+			fLexicalHandler = lexicalHandler;
+			fRecording = new Recording(file, systemId);
+		}
+
+		/**
+		 * Returns the recording of the parse or <code>null</code> if the file cannot be replayed
+		 */
+		Recording getRecording() {
+			return fRecordable ? fRecording : null;
+		}
+
+		private void record(Replay replay) {
+			if (!fRecordable) {
+				return;
+			}
+			if (fLocator == null) {
+				fRecording.fEvents.add(new Event(-1, -1, replay));
+			} else {
+				fRecording.fEvents.add(new Event(fLocator.getLineNumber(), fLocator.getColumnNumber(), replay));
+			}
+		}
+
+		@Override
+		public void setDocumentLocator(Locator locator) {
+			fLocator = locator;
+			fHandler.setDocumentLocator(locator);
+		}
+
+		@Override
+		public void startDocument() throws SAXException {
+			record((handler, lexicalHandler) -> handler.startDocument());
+			fHandler.startDocument();
+		}
+
+		@Override
+		public void endDocument() throws SAXException {
+			record((handler, lexicalHandler) -> handler.endDocument());
+			fHandler.endDocument();
+		}
+
+		@Override
+		public void startPrefixMapping(String prefix, String uri) throws SAXException {
+			record((handler, lexicalHandler) -> handler.startPrefixMapping(prefix, uri));
+			fHandler.startPrefixMapping(prefix, uri);
+		}
+
+		@Override
+		public void endPrefixMapping(String prefix) throws SAXException {
+			record((handler, lexicalHandler) -> handler.endPrefixMapping(prefix));
+			fHandler.endPrefixMapping(prefix);
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+			Attributes copy = new AttributesImpl(attributes);
+			record((handler, lexicalHandler) -> handler.startElement(uri, localName, qName, copy));
+			fHandler.startElement(uri, localName, qName, attributes);
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) throws SAXException {
+			record((handler, lexicalHandler) -> handler.endElement(uri, localName, qName));
+			fHandler.endElement(uri, localName, qName);
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) throws SAXException {
+			char[] copy = Arrays.copyOfRange(ch, start, start + length);
+			record((handler, lexicalHandler) -> handler.characters(copy, 0, copy.length));
+			fHandler.characters(ch, start, length);
+		}
+
+		@Override
+		public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+			char[] copy = Arrays.copyOfRange(ch, start, start + length);
+			record((handler, lexicalHandler) -> handler.ignorableWhitespace(copy, 0, copy.length));
+			fHandler.ignorableWhitespace(ch, start, length);
+		}
+
+		@Override
+		public void processingInstruction(String target, String data) throws SAXException {
+			record((handler, lexicalHandler) -> handler.processingInstruction(target, data));
+			fHandler.processingInstruction(target, data);
+		}
+
+		@Override
+		public void skippedEntity(String name) throws SAXException {
+			fRecordable = false;
+			fHandler.skippedEntity(name);
+		}
+
+		@Override
+		public InputSource resolveEntity(String publicId, String systemId) throws IOException, SAXException {
+			InputSource source = fHandler.resolveEntity(publicId, systemId);
+			if (source != null) {
+				// the model is told of the entities of the file as they are resolved
+				fRecordable = false;
+			}
+			return source;
+		}
+
+		@Override
+		public void notationDecl(String name, String publicId, String systemId) throws SAXException {
+			fRecordable = false;
+			fHandler.notationDecl(name, publicId, systemId);
+		}
+
+		@Override
+		public void unparsedEntityDecl(String name, String publicId, String systemId, String notationName) throws SAXException {
+			fRecordable = false;
+			fHandler.unparsedEntityDecl(name, publicId, systemId, notationName);
+		}
+
+		@Override
+		public void warning(SAXParseException e) throws SAXException {
+			fRecordable = false;
+			fHandler.warning(e);
+		}
+
+		@Override
+		public void error(SAXParseException e) throws SAXException {
+			fRecordable = false;
+			fHandler.error(e);
+		}
+
+		@Override
+		public void fatalError(SAXParseException e) throws SAXException {
+			fRecordable = false;
+			fHandler.fatalError(e);
+		}
+
+		@Override
+		public void startDTD(String name, String publicId, String systemId) throws SAXException {
+			record((handler, lexicalHandler) -> lexicalHandler.startDTD(name, publicId, systemId));
+			fLexicalHandler.startDTD(name, publicId, systemId);
+		}
+
+		@Override
+		public void endDTD() throws SAXException {
+			record((handler, lexicalHandler) -> lexicalHandler.endDTD());
+			fLexicalHandler.endDTD();
+		}
+
+		@Override
+		public void startEntity(String name) throws SAXException {
+			fRecordable = false;
+			fLexicalHandler.startEntity(name);
+		}
+
+		@Override
+		public void endEntity(String name) throws SAXException {
+			fLexicalHandler.endEntity(name);
+		}
+
+		@Override
+		public void startCDATA() throws SAXException {
+			record((handler, lexicalHandler) -> lexicalHandler.startCDATA());
+			fLexicalHandler.startCDATA();
+		}
+
+		@Override
+		public void endCDATA() throws SAXException {
+			record((handler, lexicalHandler) -> lexicalHandler.endCDATA());
+			fLexicalHandler.endCDATA();
+		}
+
+		@Override
+		public void comment(char[] ch, int start, int length) throws SAXException {
+			char[] copy = Arrays.copyOfRange(ch, start, start + length);
+			record((handler, lexicalHandler) -> lexicalHandler.comment(copy, 0, copy.length));
+			fLexicalHandler.comment(ch, start, length);
+		}
+	}
+
+	private Map<String, Recording> fRecordings = new LinkedHashMap<String, Recording>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Recording> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private int fHits = 0;
+	private int fMisses = 0;
+
+	private ImportedBuildFileCache() {
+	}
+
+	/**
+	 * Returns the shared cache, which listens to resource changes in the workspace until {@link #shutdown()} is called.
+	 *
+	 * @return the shared cache
+	 */
+	public static synchronized ImportedBuildFileCache getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new ImportedBuildFileCache();
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(fgDefault, IResourceChangeEvent.POST_CHANGE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Discards the shared cache and stops listening to resource changes
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(fgDefault);
+			fgDefault = null;
+		}
+	}
+
+	/**
+	 * Returns the recording of the given file if the file has not been modified since it was recorded
+	 */
+	synchronized Recording get(File file) {
+		String path = file.getAbsolutePath();
+		Recording recording = fRecordings.get(path);
+		if (recording != null && !recording.isCurrent()) {
+			fRecordings.remove(path);
+			recording = null;
+		}
+		if (recording == null) {
+			fMisses++;
+		} else {
+			fHits++;
+		}
+		return recording;
+	}
+
+	/**
+	 * Returns a recorder for a parse of the given file or <code>null</code> if the file is not to be recorded
+	 */
+	Recorder newRecorder(File file, String systemId, DefaultHandler handler, LexicalHandler lexicalHandler) {
+		if (file.length() > MAX_FILE_LENGTH) {
+			return null;
+		}
+		return new Recorder(file, systemId, handler, lexicalHandler);
+	}
+
+	/**
+	 * Caches the recording of a completed parse
+	 */
+	void put(Recorder recorder) {
+		Recording recording = recorder.getRecording();
+		if (recording != null && recording.isCurrent()) {
+			synchronized (this) {
+				fRecordings.put(recording.fPath, recording);
+			}
+		}
+	}
+
+	/**
+	 * Removes all recordings and resets the statistics
+	 */
+	public synchronized void clear() {
+		fRecordings.clear();
+		fHits = 0;
+		fMisses = 0;
+	}
+
+	/**
+	 * Returns the number of imports that were replayed from the cache
+	 */
+	public synchronized int getHitCount() {
+		return fHits;
+	}
+
+	/**
+	 * Returns the number of imports that were parsed
+	 */
+	public synchronized int getMissCount() {
+		return fMisses;
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		final Set<String> changed = new HashSet<>();
+		try {
+			delta.accept(child -> {
+				IResource resource = child.getResource();
+				if (resource.getType() == IResource.FILE) {
+					if (child.getKind() == IResourceDelta.REMOVED || (child.getFlags() & IResourceDelta.CONTENT) != 0) {
+						IPath location = resource.getLocation();
+						if (location != null) {
+							changed.add(location.toFile().getAbsolutePath());
+						}
+					}
+					return false;
+				}
+				return true;
+			});
+		}
+		catch (CoreException e) {
+			AntUIPlugin.log(e);
+			return;
+		}
+		if (!changed.isEmpty()) {
+			synchronized (this) {
+				fRecordings.keySet().removeAll(changed);
+			}
+		}
+	}
+}
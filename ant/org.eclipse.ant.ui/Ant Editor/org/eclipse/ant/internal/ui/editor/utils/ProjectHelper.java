@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -52,61 +54,81 @@ import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 import org.xml.sax.XMLReader;
 import org.xml.sax.ext.LexicalHandler;
+import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Derived from the original Ant ProjectHelper2 with help from the JAXPUtils class. This class provides parsing for using a String as a source and
  * provides handlers that will continue parsing to completion upon hitting errors.
+ * <p>
+ * The state of a parse is kept by the Ant project being parsed, so that several Ant models can be parsed at the same time on different threads.
+ * </p>
  */
 public class ProjectHelper extends ProjectHelper2 {
 
 	/**
-	 * helper for path -&gt; URI and URI -&gt; path conversions.
+	 * The key of the reference to the {@link ParseContext} of the project being parsed
 	 */
-	private static FileUtils fu = null;
+	private static final String PARSE_CONTEXT_REFERENCE = "org.eclipse.ant.ui.parsing.context"; //$NON-NLS-1$
 
 	/**
 	 * The build file that is to be parsed. Must be set if parsing is to be successful.
 	 */
 	private File buildFile = null;
 
-	private static String currentEntityName = null;
-	private static String currentEntityPath = null;
-
-	private static int currentImportStackSize = 1;
-
 	/**
-	 * The Ant Model
+	 * Readers that are not in use by a parse; bounded by the number of parses that ran at the same time
 	 */
-	private static IAntModel fgAntModel;
+	private static Deque<XMLReader> fgXMLReaders = new ArrayDeque<>();
 
 	/**
-	 * The current Ant parsing context
+	 * The state of the parse of an Ant model, including the handlers, which are not shared between parses as they keep state too.
 	 */
-	private static AntXMLContext fgAntContext;
+	static class ParseContext {
 
-	private static AntHandler elementHandler = new ElementHandler();
-	private static AntHandler projectHandler = new ProjectHandler();
-	private static AntHandler targetHandler = new TargetHandler();
-	private static AntHandler mainHandler = new MainHandler();
-	private static LexicalHandler lexicalHandler = new LexHandler();
+		private IAntModel fAntModel;
+		private AntXMLContext fAntContext;
 
-	private static XMLReader fgXMLReader = null;
-	/*
-	 * Required to remember the project names (in case they are required for target-prefixing). The build file(s) are parsed anyway and hence the
-	 * project name is added to this map when it gets parsed.
-	 */
-	private static Map<String, String> parsedProjectNames = null;
+		private String fCurrentEntityName = null;
+		private String fCurrentEntityPath = null;
+
+		private int fCurrentImportStackSize = 1;
+
+		/*
+		 * Required to remember the project names (in case they are required for target-prefixing). The build file(s) are parsed anyway and hence
+		 * the project name is added to this map when it gets parsed.
+		 */
+		private Map<String, String> fParsedProjectNames = null;
+
+		private AntHandler fElementHandler = new ElementHandler(this);
+		private AntHandler fProjectHandler = new ProjectHandler(this);
+		private AntHandler fTargetHandler = new TargetHandler(this);
+		private AntHandler fMainHandler = new MainHandler(this);
+		private LexicalHandler fLexicalHandler = new LexHandler(this);
+
+		ParseContext(IAntModel antModel) {
+			fAntModel = antModel;
+		}
+
+		IAntModel getAntModel() {
+			return fAntModel;
+		}
+	}
 
 	public static class ElementHandler extends ProjectHelper2.ElementHandler {
 
+		private ParseContext fParseContext;
 		private UnknownElement task = null;
 		private Task currentTask = null;
 
 		private Map<String, String> fNormalizedFileNames = new HashMap<>();
 
+		ElementHandler(ParseContext parseContext) {
+			fParseContext = parseContext;
+		}
+
 		@Override
 		public AntHandler onStartChild(String uri, String tag, String qname, Attributes attrs, AntXMLContext context) {
-			return ProjectHelper.elementHandler;
+			return fParseContext.fElementHandler;
 		}
 
 		@Override
@@ -121,13 +143,13 @@ public class ProjectHelper extends ProjectHelper2 {
 				onStartElement0(uri, tag, qname, attrs, context);
 
 				Locator locator = context.getLocator();
-				getAntModel().addTask(task, currentTask, attrs, locator.getLineNumber(), locator.getColumnNumber());
+				fParseContext.getAntModel().addTask(task, currentTask, attrs, locator.getLineNumber(), locator.getColumnNumber());
 
 			}
 			catch (BuildException be) {
 				Locator locator = context.getLocator();
-				getAntModel().addTask(task, currentTask, attrs, locator.getLineNumber(), locator.getColumnNumber());
-				getAntModel().error(be);
+				fParseContext.getAntModel().addTask(task, currentTask, attrs, locator.getLineNumber(), locator.getColumnNumber());
+				fParseContext.getAntModel().error(be);
 			}
 		}
 
@@ -136,8 +158,8 @@ public class ProjectHelper extends ProjectHelper2 {
 			super.onEndElement(uri, tag, context);
 
 			Locator locator = context.getLocator();
-			if (getAntModel().canGetTaskInfo()) {
-				getAntModel().setCurrentElementLength(locator.getLineNumber(), locator.getColumnNumber());
+			if (fParseContext.getAntModel().canGetTaskInfo()) {
+				fParseContext.getAntModel().setCurrentElementLength(locator.getLineNumber(), locator.getColumnNumber());
 			}
 		}
 
@@ -234,33 +256,34 @@ public class ProjectHelper extends ProjectHelper2 {
 				super.characters(buf, start, count, context);
 			}
 			catch (SAXParseException e) {
-				ErrorHelper.handleErrorFromElementText(start, count, context, e);
+				ErrorHelper.handleErrorFromElementText(start, count, context, fParseContext.getAntModel(), e);
 			}
 			catch (BuildException be) {
-				ErrorHelper.handleErrorFromElementText(start, count, context, be);
+				ErrorHelper.handleErrorFromElementText(start, count, context, fParseContext.getAntModel(), be);
 			}
 		}
 
-		public void reset() {
-			task = null;
-			currentTask = null;
-			fNormalizedFileNames.clear();
-		}
 	}
 
 	public static class MainHandler extends ProjectHelper2.MainHandler {
 
+		private ParseContext fParseContext;
+
+		MainHandler(ParseContext parseContext) {
+			fParseContext = parseContext;
+		}
+
 		@Override
 		public AntHandler onStartChild(String uri, String name, String qname, Attributes attrs, AntXMLContext context) throws SAXParseException {
 			if (name.equals("project") //$NON-NLS-1$
 					&& (uri.length() == 0 || uri.equals(ANT_CORE_URI))) {
-				return ProjectHelper.projectHandler;
+				return fParseContext.fProjectHandler;
 			}
 			try {
 				return super.onStartChild(uri, name, qname, attrs, context);
 			}
 			catch (SAXParseException e) {
-				getAntModel().error(e);
+				fParseContext.getAntModel().error(e);
 				throw e;
 			}
 		}
@@ -269,23 +292,31 @@ public class ProjectHelper extends ProjectHelper2 {
 	/**
 	 * Gets the associated project name by the absolute build-file path
 	 *
+	 * @param project
+	 *            The project being parsed
 	 * @param buildFile
 	 *            The file
 	 * @return The project name
 	 */
-	public static String getProjectNameOfBuildFile(IFile buildFile) {
-		return parsedProjectNames.get(getBuildFileKey(buildFile));
+	public static String getProjectNameOfBuildFile(Project project, IFile buildFile) {
+		return getProjectNameOfBuildFile(project, getBuildFileKey(buildFile));
 	}
 
 	/**
 	 * Gets the associated project name by the absolute build-file path
 	 *
+	 * @param project
+	 *            The project being parsed
 	 * @param buildFile
 	 *            The file
 	 * @return The project name
 	 */
-	public static String getProjectNameOfBuildFile(String absolutePath) {
-		return parsedProjectNames.get(absolutePath);
+	public static String getProjectNameOfBuildFile(Project project, String absolutePath) {
+		ParseContext parseContext = getParseContext(project);
+		if (parseContext == null || parseContext.fParsedProjectNames == null) {
+			return null;
+		}
+		return parseContext.fParsedProjectNames.get(absolutePath);
 	}
 
 	/**
@@ -302,49 +333,60 @@ public class ProjectHelper extends ProjectHelper2 {
 	/**
 	 * Adds a parsed project-name to the property-holder (and initializes the collection if necessary)
 	 *
+	 * @param parseContext
+	 *            The state of the parse
 	 * @param key
 	 *            The key (file-path).
 	 * @param projectName
 	 *            The projectname to add.
 	 */
-	public static void storeParsedProjectName(String key, String projectName) {
+	private static void storeParsedProjectName(ParseContext parseContext, String key, String projectName) {
 		// init if required
-		if (parsedProjectNames == null) {
-			parsedProjectNames = new HashMap<>();
+		if (parseContext.fParsedProjectNames == null) {
+			parseContext.fParsedProjectNames = new HashMap<>();
 		}
-		parsedProjectNames.put(key, projectName);
+		parseContext.fParsedProjectNames.put(key, projectName);
 	}
 
 	/**
-	 * Clear the parsed project-holder to avoid potential memory leaks.
+	 * Clear the parsed project-holder of the project to avoid potential memory leaks.
+	 *
+	 * @param project
+	 *            The project that has been parsed
 	 */
-	public static void clearAdditionalPropertyHolders() {
+	public static void clearAdditionalPropertyHolders(Project project) {
 		/*
 		 * Currently only this "property-holder" is used. Extend if necessary.
 		 */
-		if (parsedProjectNames != null) {
-			parsedProjectNames.clear();
-			parsedProjectNames = null;
+		ParseContext parseContext = getParseContext(project);
+		if (parseContext != null) {
+			parseContext.fParsedProjectNames = null;
 		}
 	}
 
 	public static class ProjectHandler extends ProjectHelper2.ProjectHandler {
 
+		private ParseContext fParseContext;
+
+		ProjectHandler(ParseContext parseContext) {
+			fParseContext = parseContext;
+		}
+
 		@Override
 		public AntHandler onStartChild(String uri, String name, String qname, Attributes attrs, AntXMLContext context) {
 			if ((name.equals("target") || name.equals("extension-point"))//$NON-NLS-1$ //$NON-NLS-2$
 					&& (uri.length() == 0 || uri.equals(ANT_CORE_URI))) {
-				return ProjectHelper.targetHandler;
+				return fParseContext.fTargetHandler;
 			}
-			return ProjectHelper.elementHandler;
+			return fParseContext.fElementHandler;
 		}
 
 		@Override
 		public void onEndElement(String uri, String tag, AntXMLContext context) {
 			super.onEndElement(uri, tag, context);
-			if (currentImportStackSize == 1) {
+			if (fParseContext.fCurrentImportStackSize == 1) {
 				Locator locator = context.getLocator();
-				getAntModel().setCurrentElementLength(locator.getLineNumber(), locator.getColumnNumber());
+				fParseContext.getAntModel().setCurrentElementLength(locator.getLineNumber(), locator.getColumnNumber());
 			}
 		}
 
@@ -357,26 +399,26 @@ public class ProjectHelper extends ProjectHelper2 {
 				// just an additional check if the name is non-empty
 				if (this.isCurrentProjectNameValid(currentProjectName)) {
 					if (context.getBuildFile() != null) {
-						storeParsedProjectName(context.getBuildFile().getAbsolutePath(), currentProjectName);
+						storeParsedProjectName(fParseContext, context.getBuildFile().getAbsolutePath(), currentProjectName);
 					} else if (context.getBuildFileURL() != null) {
-						storeParsedProjectName(new File(context.getBuildFileURL().getPath()).getAbsolutePath(), currentProjectName);
+						storeParsedProjectName(fParseContext, new File(context.getBuildFileURL().getPath()).getAbsolutePath(), currentProjectName);
 					}
 				}
 			}
 			catch (SAXParseException e) {
-				getAntModel().error(e);
+				fParseContext.getAntModel().error(e);
 			}
 			catch (BuildException be) {
-				getAntModel().error(be);
+				fParseContext.getAntModel().error(be);
 			}
 			if (context.getCurrentTarget() == null) {
 				// exception occurred creating the project
 				context.getProject().addTarget(IAntCoreConstants.EMPTY_STRING, context.getImplicitTarget());
 				context.setCurrentTarget(context.getImplicitTarget());
 			}
-			if (currentImportStackSize == 1) {
+			if (fParseContext.fCurrentImportStackSize == 1) {
 				Locator locator = context.getLocator();
-				getAntModel().addProject(context.getProject(), locator.getLineNumber(), locator.getColumnNumber());
+				fParseContext.getAntModel().addProject(context.getProject(), locator.getLineNumber(), locator.getColumnNumber());
 			}
 		}
 
@@ -397,18 +439,25 @@ public class ProjectHelper extends ProjectHelper2 {
 				super.characters(buf, start, count, context);
 			}
 			catch (SAXParseException e) {
-				ErrorHelper.handleErrorFromElementText(start, count, context, e);
+				ErrorHelper.handleErrorFromElementText(start, count, context, fParseContext.getAntModel(), e);
 			}
 			catch (BuildException be) {
-				ErrorHelper.handleErrorFromElementText(start, count, context, be);
+				ErrorHelper.handleErrorFromElementText(start, count, context, fParseContext.getAntModel(), be);
 			}
 		}
 	}
 
 	public static class TargetHandler extends ProjectHelper2.TargetHandler {
+
+		private ParseContext fParseContext;
+
+		TargetHandler(ParseContext parseContext) {
+			fParseContext = parseContext;
+		}
+
 		@Override
 		public AntHandler onStartChild(String uri, String name, String qname, Attributes attrs, AntXMLContext context) {
-			return ProjectHelper.elementHandler;
+			return fParseContext.fElementHandler;
 		}
 
 		@Override
@@ -417,7 +466,7 @@ public class ProjectHelper extends ProjectHelper2 {
 				super.onStartElement(uri, tag, qname, attrs, context);
 				Target newTarget = context.getCurrentTarget();
 				Locator locator = context.getLocator();
-				getAntModel().addTarget(newTarget, locator.getLineNumber(), locator.getColumnNumber());
+				fParseContext.getAntModel().addTarget(newTarget, locator.getLineNumber(), locator.getColumnNumber());
 			}
 			catch (SAXParseException e) {
 				handleErrorInTarget(context, e);
@@ -430,15 +479,15 @@ public class ProjectHelper extends ProjectHelper2 {
 		private void handleErrorInTarget(AntXMLContext context, Exception e) {
 			Target newTarget = context.getCurrentTarget();
 			Locator locator = context.getLocator();
-			getAntModel().addTarget(newTarget, locator.getLineNumber(), locator.getColumnNumber());
-			getAntModel().errorFromElement(e, null, locator.getLineNumber(), locator.getColumnNumber());
+			fParseContext.getAntModel().addTarget(newTarget, locator.getLineNumber(), locator.getColumnNumber());
+			fParseContext.getAntModel().errorFromElement(e, null, locator.getLineNumber(), locator.getColumnNumber());
 		}
 
 		@Override
 		public void onEndElement(String uri, String tag, AntXMLContext context) {
 			super.onEndElement(uri, tag, context);
 			Locator locator = context.getLocator();
-			getAntModel().setCurrentElementLength(locator.getLineNumber(), locator.getColumnNumber());
+			fParseContext.getAntModel().setCurrentElementLength(locator.getLineNumber(), locator.getColumnNumber());
 		}
 
 		@Override
@@ -447,33 +496,36 @@ public class ProjectHelper extends ProjectHelper2 {
 				super.characters(buf, start, count, context);
 			}
 			catch (SAXParseException e) {
-				ErrorHelper.handleErrorFromElementText(start, count, context, e);
+				ErrorHelper.handleErrorFromElementText(start, count, context, fParseContext.getAntModel(), e);
 			}
 			catch (BuildException be) {
-				ErrorHelper.handleErrorFromElementText(start, count, context, be);
+				ErrorHelper.handleErrorFromElementText(start, count, context, fParseContext.getAntModel(), be);
 			}
 		}
 	}
 
 	public static class RootHandler extends ProjectHelper2.RootHandler {
 
-		public RootHandler(AntXMLContext context, AntHandler rootHandler) {
-			super(context, rootHandler);
+		private ParseContext fParseContext;
+
+		RootHandler(AntXMLContext context, ParseContext parseContext) {
+			super(context, parseContext.fMainHandler);
+			fParseContext = parseContext;
 		}
 
 		@Override
 		public void error(SAXParseException e) {
-			getAntModel().error(e);
+			fParseContext.getAntModel().error(e);
 		}
 
 		@Override
 		public void fatalError(SAXParseException e) {
-			getAntModel().fatalError(e);
+			fParseContext.getAntModel().fatalError(e);
 		}
 
 		@Override
 		public void warning(SAXParseException e) {
-			getAntModel().warning(e);
+			fParseContext.getAntModel().warning(e);
 		}
 
 		@Override
@@ -481,11 +533,11 @@ public class ProjectHelper extends ProjectHelper2 {
 			InputSource source = super.resolveEntity(publicId, systemId);
 			if (source != null) {
 				String path = getFileUtils().fromURI(source.getSystemId());
-				if (currentEntityName == null) {
-					currentEntityPath = path;
+				if (fParseContext.fCurrentEntityName == null) {
+					fParseContext.fCurrentEntityPath = path;
 				} else {
-					getAntModel().addEntity(currentEntityName, path);
-					currentEntityName = null;
+					fParseContext.getAntModel().addEntity(fParseContext.fCurrentEntityName, path);
+					fParseContext.fCurrentEntityName = null;
 				}
 			}
 			return source;
@@ -495,30 +547,37 @@ public class ProjectHelper extends ProjectHelper2 {
 		public void startPrefixMapping(String prefix, String uri) {
 
 			super.startPrefixMapping(prefix, uri);
-			getAntModel().addPrefixMapping(prefix, uri);
+			fParseContext.getAntModel().addPrefixMapping(prefix, uri);
 		}
 	}
 
 	private static class ErrorHelper {
-		public static void handleErrorFromElementText(int start, int count, AntXMLContext context, Exception e) {
+		public static void handleErrorFromElementText(int start, int count, AntXMLContext context, IAntModel antModel, Exception e) {
 			Locator locator = context.getLocator();
 			int columnNumber = locator.getColumnNumber();
 			if (columnNumber > -1) {
 				int offset = start;
 				try {
-					offset = getAntModel().getOffset(locator.getLineNumber(), 1);
+					offset = antModel.getOffset(locator.getLineNumber(), 1);
 				}
 				catch (BadLocationException e1) {
 					// do nothing
 				}
-				getAntModel().errorFromElementText(e, offset, locator.getColumnNumber());
+				antModel.errorFromElementText(e, offset, locator.getColumnNumber());
 			} else {
-				getAntModel().errorFromElementText(e, start, count);
+				antModel.errorFromElementText(e, start, count);
 			}
 		}
 	}
 
 	private static class LexHandler implements LexicalHandler {
+
+		private ParseContext fParseContext;
+
+		LexHandler(ParseContext parseContext) {
+			fParseContext = parseContext;
+		}
+
 		@Override
 		public void endCDATA() throws SAXException {
 			// do nothing
@@ -526,10 +585,10 @@ public class ProjectHelper extends ProjectHelper2 {
 
 		@Override
 		public void endDTD() throws SAXException {
-			if (getAntModel().canGetLexicalInfo()) {
-				AntXMLContext context = getContext();
+			if (fParseContext.getAntModel().canGetLexicalInfo()) {
+				AntXMLContext context = fParseContext.fAntContext;
 				Locator locator = context.getLocator();
-				getAntModel().setCurrentElementLength(locator.getLineNumber(), locator.getColumnNumber());
+				fParseContext.getAntModel().setCurrentElementLength(locator.getLineNumber(), locator.getColumnNumber());
 			}
 		}
 
@@ -540,11 +599,11 @@ public class ProjectHelper extends ProjectHelper2 {
 
 		@Override
 		public void comment(char[] ch, int start, int length) throws SAXException {
-			if (getAntModel().canGetLexicalInfo()) {
-				AntXMLContext context = getContext();
+			if (fParseContext.getAntModel().canGetLexicalInfo()) {
+				AntXMLContext context = fParseContext.fAntContext;
 				Locator locator = context.getLocator();
 				if (locator != null) {
-					getAntModel().addComment(locator.getLineNumber(), locator.getColumnNumber(), length);
+					fParseContext.getAntModel().addComment(locator.getLineNumber(), locator.getColumnNumber(), length);
 				}
 			}
 		}
@@ -556,28 +615,24 @@ public class ProjectHelper extends ProjectHelper2 {
 
 		@Override
 		public void startEntity(String name) throws SAXException {
-			if (currentEntityPath == null) {
-				currentEntityName = name;
+			if (fParseContext.fCurrentEntityPath == null) {
+				fParseContext.fCurrentEntityName = name;
 			} else {
-				getAntModel().addEntity(name, currentEntityPath);
-				currentEntityPath = null;
+				fParseContext.getAntModel().addEntity(name, fParseContext.fCurrentEntityPath);
+				fParseContext.fCurrentEntityPath = null;
 			}
 		}
 
 		@Override
 		public void startDTD(String name, String publicId, String systemId) throws SAXException {
-			if (getAntModel().canGetLexicalInfo()) {
-				AntXMLContext context = getContext();
+			if (fParseContext.getAntModel().canGetLexicalInfo()) {
+				AntXMLContext context = fParseContext.fAntContext;
 				Locator locator = context.getLocator();
-				getAntModel().addDTD(name, locator.getLineNumber(), locator.getColumnNumber());
+				fParseContext.getAntModel().addDTD(name, locator.getLineNumber(), locator.getColumnNumber());
 			}
 		}
 	}
 
-	public ProjectHelper(IAntModel model) {
-		setAntModel(model);
-	}
-
 	/**
 	 * Constructor
 	 * <p>
@@ -611,18 +666,31 @@ public class ProjectHelper extends ProjectHelper2 {
 			return;
 		}
 		AntXMLContext context = (AntXMLContext) project.getReference("ant.parsing.context"); //$NON-NLS-1$
+		ParseContext parseContext = getParseContext(project);
 		// switch to using "our" handler so parsing will continue on hitting errors.
-		handler = new RootHandler(context, mainHandler);
+		handler = new RootHandler(context, parseContext);
 		InputStream stream = null;
+		XMLReader parser = null;
+		ImportedBuildFileCache.Recorder recorder = null;
 		try {
 			InputSource inputSource = null;
 			if ((source instanceof File)) {
 				buildFile = (File) source;
 				buildFile = getFileUtils().normalize(buildFile.getAbsolutePath());
+				if (parseContext.fCurrentImportStackSize > 1) {
+					ImportedBuildFileCache cache = ImportedBuildFileCache.getDefault();
+					ImportedBuildFileCache.Recording recording = cache.get(buildFile);
+					if (recording != null) {
+						context.setBuildFile(buildFile);
+						recording.replay(handler, parseContext.fLexicalHandler);
+						return;
+					}
+					recorder = cache.newRecorder(buildFile, getFileUtils().toURI(buildFile.getAbsolutePath()), handler, parseContext.fLexicalHandler);
+				}
 				stream = new FileInputStream(buildFile);
 				inputSource = new InputSource(stream);
 			} else if (source instanceof String) {
-				IAntModel model = getAntModel();
+				IAntModel model = parseContext.getAntModel();
 				String encoding = IAntCoreConstants.UTF_8;
 				if (model != null) {
 					encoding = model.getEncoding();
@@ -638,7 +706,7 @@ public class ProjectHelper extends ProjectHelper2 {
 			// will not reflect classpath changes that effect which XML parser will be returned.
 			// see bug 59764
 			// XMLReader parser = JAXPUtils.getNamespaceXMLReader();
-			XMLReader parser = getNamespaceXMLReader();
+			parser = acquireNamespaceXMLReader();
 			if (parser == null) {
 				throw new BuildException(ProjectHelperMessages.ProjectHelper_0);
 			}
@@ -653,16 +721,25 @@ public class ProjectHelper extends ProjectHelper2 {
 
 			context.setBuildFile(buildFile);
 
-			parser.setContentHandler(handler);
-			parser.setEntityResolver(handler);
-			parser.setErrorHandler(handler);
-			parser.setDTDHandler(handler);
+			DefaultHandler parseHandler = handler;
+			LexicalHandler lexicalHandler = parseContext.fLexicalHandler;
+			if (recorder != null) {
+				parseHandler = recorder;
+				lexicalHandler = recorder;
+			}
+			parser.setContentHandler(parseHandler);
+			parser.setEntityResolver(parseHandler);
+			parser.setErrorHandler(parseHandler);
+			parser.setDTDHandler(parseHandler);
 			parser.setProperty("http://xml.org/sax/properties/lexical-handler", lexicalHandler); //$NON-NLS-1$
 
 			parser.parse(inputSource);
+			if (recorder != null) {
+				ImportedBuildFileCache.getDefault().put(recorder);
+			}
 		}
 		catch (SAXParseException exc) {
-			getAntModel().fatalError(exc);
+			parseContext.getAntModel().fatalError(exc);
 		}
 		catch (SAXException exc) {
 			// ignore as we will be parsing incomplete source
@@ -677,6 +754,9 @@ public class ProjectHelper extends ProjectHelper2 {
 			throw new BuildException(exc);
 		}
 		finally {
+			if (parser != null) {
+				releaseNamespaceXMLReader(parser);
+			}
 			try {
 				if (stream != null) {
 					stream.close();
@@ -696,7 +776,6 @@ public class ProjectHelper extends ProjectHelper2 {
 	 */
 	public void setBuildFile(File file) {
 		buildFile = file;
-		currentImportStackSize = 1;
 	}
 
 	/*
@@ -706,15 +785,16 @@ public class ProjectHelper extends ProjectHelper2 {
 	@Override
 	public void parse(Project project, Object source) throws BuildException {
 		AntXMLContext context = (AntXMLContext) project.getReference("ant.parsing.context"); //$NON-NLS-1$
+		ParseContext parseContext = getParseContext(project);
 		if (context == null) {
 			getImportStack().removeAllElements();
 			context = new AntXMLContext(project);
 			project.addReference("ant.parsing.context", context); //$NON-NLS-1$
 			project.addReference("ant.targets", context.getTargets()); //$NON-NLS-1$
-			fgAntContext = context;
+			parseContext.fAntContext = context;
 		}
 		getImportStack().addElement(source);
-		currentImportStackSize = getImportStack().size();
+		parseContext.fCurrentImportStackSize = getImportStack().size();
 		if (getImportStack().size() > 1) {
 			// we are in an imported file.
 			context.setIgnoreProjectTag(true);
@@ -729,7 +809,7 @@ public class ProjectHelper extends ProjectHelper2 {
 				context.setCurrentTarget(newCurrent);
 				context.setCurrentTargets(new HashMap<String, Target>());
 				context.setImplicitTarget(newCurrent);
-				parse(project, source, new RootHandler(context, mainHandler));
+				parse(project, source, new RootHandler(context, parseContext));
 			}
 			finally {
 				context.setCurrentTarget(currentTarget);
@@ -739,53 +819,70 @@ public class ProjectHelper extends ProjectHelper2 {
 		} else {
 			// top level file
 			context.setCurrentTargets(new HashMap<String, Target>());
-			parse(project, source, new RootHandler(context, mainHandler));
+			parse(project, source, new RootHandler(context, parseContext));
 		}
 	}
 
+	/**
+	 * Discards the cached XML readers so that new parses use the XML parser of the current Ant classpath
+	 */
 	public static void reset() {
-		fgXMLReader = null;
-		fu = null;
-	}
-
-	public static void setAntModel(IAntModel antModel) {
-		fgAntModel = antModel;
-		((ProjectHelper.ElementHandler) elementHandler).reset();
-		fu = null;
-		fgAntContext = null;
+		synchronized (fgXMLReaders) {
+			fgXMLReaders.clear();
+		}
 	}
 
-	public static IAntModel getAntModel() {
-		return fgAntModel;
+	/**
+	 * Starts a new parse of the project for the given model, discarding the state of a previous parse of the project
+	 *
+	 * @param project
+	 *            the project about to be parsed
+	 * @param antModel
+	 *            the model to notify of the elements parsed
+	 */
+	public static void setAntModel(Project project, IAntModel antModel) {
+		project.addReference(PARSE_CONTEXT_REFERENCE, new ParseContext(antModel));
 	}
 
-	public static AntXMLContext getContext() {
-		return fgAntContext;
+	private static ParseContext getParseContext(Project project) {
+		return (ParseContext) project.getReference(PARSE_CONTEXT_REFERENCE);
 	}
 
 	private static FileUtils getFileUtils() {
-		if (fu == null) {
-			fu = FileUtils.getFileUtils();
-		}
-		return fu;
+		return FileUtils.getFileUtils();
 	}
 
 	/**
-	 * Returns a newly created SAX 2 XMLReader, which is namespace aware
+	 * Returns a SAX 2 XMLReader, which is namespace aware, that is not in use by another parse. The reader must be released once the parse is
+	 * done.
 	 *
-	 * @return a SAX 2 XMLReader.
+	 * @return a SAX 2 XMLReader or <code>null</code> if none could be created.
 	 * @since Ant 1.6 from org.apache.tools.ant.util.JAXPUtils
 	 */
-	private XMLReader getNamespaceXMLReader() throws BuildException {
-		if (fgXMLReader == null) {
-			try {
-				fgXMLReader = newSAXParser(getNSParserFactory()).getXMLReader();
-			}
-			catch (SAXException e) {
-				// do nothing
+	private XMLReader acquireNamespaceXMLReader() throws BuildException {
+		synchronized (fgXMLReaders) {
+			XMLReader reader = fgXMLReaders.poll();
+			if (reader != null) {
+				return reader;
 			}
 		}
-		return fgXMLReader;
+		SAXParser parser = newSAXParser(getNSParserFactory());
+		if (parser == null) {
+			return null;
+		}
+		try {
+			return parser.getXMLReader();
+		}
+		catch (SAXException e) {
+			// do nothing
+		}
+		return null;
+	}
+
+	private void releaseNamespaceXMLReader(XMLReader reader) {
+		synchronized (fgXMLReaders) {
+			fgXMLReaders.push(reader);
+		}
 	}
 
 	/**
@@ -0,0 +1,590 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.ui;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.ant.internal.ui.model.AntSymbol;
+import org.eclipse.ant.internal.ui.model.AntSymbolScanner;
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * A workspace wide index of the declarations of and references to the targets, extension points, macro definitions, properties and reference ids
+ * of all buildfiles in the workspace, that is of all files {@link AntUtil#isKnownAntFile(IResource) known} to be buildfiles, found with the
+ * {@link AntSymbolScanner}.
+ * <p>
+ * The index is maintained by a background job. When the index is first requested, the job reads the index written at the end of the previous
+ * session, if any, and rescans only the buildfiles whose modification stamp has changed since. After that the job rescans the buildfiles reported
+ * as changed by resource deltas. Lookups never wait for the job and answer from the symbols indexed so far.
+ * </p>
+ */
+public class AntSymbolIndex implements IResourceChangeListener {
+
+	/**
+	 * The family of the job maintaining the index
+	 */
+	public static final Object FAMILY = new Object();
+
+	/**
+	 * Matches symbols of any kind in lookups
+	 */
+	public static final int ANY_KIND = -1;
+
+	/**
+	 * The name of the file in the state location that the index is written to
+	 */
+	private static final String INDEX_FILENAME = "antSymbols.index"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x4153594D; // "ASYM"
+	private static final int VERSION = 1;
+	private static final int DECLARATION = 0x80;
+
+	private static final AntSymbol[] NO_SYMBOLS = new AntSymbol[0];
+
+	private static final Comparator<AntSymbol> LOCATION_ORDER = Comparator.comparing((AntSymbol symbol) -> symbol.getPath().toString())
+			.thenComparingInt(AntSymbol::getOffset);
+
+	private static AntSymbolIndex fgDefault;
+
+	private static class FileEntry {
+		long fStamp;
+
+		/**
+		 * The symbols of the file, empty if the file is not a buildfile
+		 */
+		AntSymbol[] fSymbols;
+
+		FileEntry(long stamp, AntSymbol[] symbols) {
+			fStamp = stamp;
+			fSymbols = symbols;
+		}
+	}
+
+	private class IndexJob extends Job {
+
+		IndexJob() {
+			super(AntUIModelMessages.AntSymbolIndex_0);
+			setSystem(true);
+			setPriority(Job.DECORATE);
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == FAMILY;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			if (!fLoaded) {
+				load();
+				fLoaded = true;
+			}
+			while (true) {
+				List<IResource> resources;
+				synchronized (AntSymbolIndex.this) {
+					if (fPending.isEmpty()) {
+						return Status.OK_STATUS;
+					}
+					resources = new ArrayList<>(fPending);
+					fPending.clear();
+				}
+				for (int i = 0; i < resources.size(); i++) {
+					if (monitor.isCanceled()) {
+						addPending(resources.subList(i, resources.size()));
+						return Status.CANCEL_STATUS;
+					}
+					IResource resource = resources.get(i);
+					if (resource.getType() == IResource.FILE) {
+						update((IFile) resource);
+					} else {
+						updateContainer((IContainer) resource);
+					}
+				}
+			}
+		}
+	}
+
+	private final File fIndexFile;
+	private final Job fJob = new IndexJob();
+	private volatile boolean fLoaded = false;
+	private boolean fDirty = false;
+
+	private final Map<IPath, FileEntry> fFiles = new HashMap<>();
+	private final NavigableMap<String, List<AntSymbol>> fDeclarations = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+	private final Map<String, List<AntSymbol>> fReferences = new HashMap<>();
+
+	/**
+	 * The files to rescan and the containers whose files to rescan
+	 */
+	private final Set<IResource> fPending = new LinkedHashSet<>();
+
+	private AntSymbolIndex(File indexFile) {
+		fIndexFile = indexFile;
+		fPending.add(ResourcesPlugin.getWorkspace().getRoot());
+	}
+
+	/**
+	 * Returns the shared index, which is maintained in the background until {@link #shutdown()} is called.
+	 *
+	 * @return the shared index
+	 */
+	public static synchronized AntSymbolIndex getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new AntSymbolIndex(AntUIPlugin.getDefault().getStateLocation().append(INDEX_FILENAME).toFile());
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(fgDefault, IResourceChangeEvent.POST_CHANGE);
+			fgDefault.fJob.schedule();
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Stops maintaining the shared index and writes it to the state location, if it has been requested
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(fgDefault);
+			fgDefault.fJob.cancel();
+			try {
+				fgDefault.fJob.join();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			fgDefault.save();
+			fgDefault = null;
+		}
+	}
+
+	/**
+	 * Returns the declarations of the given name.
+	 *
+	 * @param name
+	 *            the name of the declared target, extension point, macro definition, property or reference id
+	 * @param kind
+	 *            the kind of the declarations as defined by {@link AntSymbol}, or {@link #ANY_KIND}
+	 * @return the declarations ordered by buildfile and offset
+	 */
+	public List<AntSymbol> findDeclarations(String name, int kind) {
+		List<AntSymbol> declarations = new ArrayList<>();
+		synchronized (this) {
+			addMatches(fDeclarations.get(name), name, kind, declarations);
+		}
+		declarations.sort(LOCATION_ORDER);
+		return declarations;
+	}
+
+	/**
+	 * Returns the references to the given name. The references to an extension point are the references to targets of the same name, as both
+	 * are referred to the same way.
+	 *
+	 * @param name
+	 *            the name of the referenced target, extension point, macro definition, property or reference id
+	 * @param kind
+	 *            the kind of the references as defined by {@link AntSymbol}, or {@link #ANY_KIND}
+	 * @return the references ordered by buildfile and offset
+	 */
+	public List<AntSymbol> findReferences(String name, int kind) {
+		if (kind == AntSymbol.EXTENSION_POINT) {
+			kind = AntSymbol.TARGET;
+		}
+		List<AntSymbol> references = new ArrayList<>();
+		synchronized (this) {
+			addMatches(fReferences.get(name), name, kind, references);
+		}
+		references.sort(LOCATION_ORDER);
+		return references;
+	}
+
+	/**
+	 * Returns the declarations whose name starts with the given prefix, ignoring case, as needed to select a declaration by typing the start of its
+	 * name.
+	 *
+	 * @param prefix
+	 *            the prefix of the names
+	 * @param kind
+	 *            the kind of the declarations as defined by {@link AntSymbol}, or {@link #ANY_KIND}
+	 * @return the declarations ordered by name, buildfile and offset
+	 */
+	public List<AntSymbol> findDeclarationsByPrefix(String prefix, int kind) {
+		List<AntSymbol> declarations = new ArrayList<>();
+		synchronized (this) {
+			Collection<List<AntSymbol>> matches = prefix.length() == 0 ? fDeclarations.values()
+					: fDeclarations.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+			for (List<AntSymbol> symbols : matches) {
+				addMatches(symbols, null, kind, declarations);
+			}
+		}
+		declarations.sort(Comparator.comparing(AntSymbol::getName, String.CASE_INSENSITIVE_ORDER).thenComparing(LOCATION_ORDER));
+		return declarations;
+	}
+
+	private void addMatches(List<AntSymbol> symbols, String name, int kind, List<AntSymbol> matches) {
+		if (symbols == null) {
+			return;
+		}
+		for (AntSymbol symbol : symbols) {
+			if ((kind == ANY_KIND || symbol.getKind() == kind) && (name == null || name.equals(symbol.getName()))) {
+				matches.add(symbol);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether every buildfile of the workspace has been indexed and no change is waiting to be indexed
+	 */
+	public synchronized boolean isUpToDate() {
+		return fLoaded && fPending.isEmpty() && fJob.getState() == Job.NONE;
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		final Set<String> extensions = getBuildFileExtensions();
+		final List<IResource> changed = new ArrayList<>();
+		final List<IPath> removed = new ArrayList<>();
+		try {
+			delta.accept(child -> {
+				IResource resource = child.getResource();
+				if (child.getKind() == IResourceDelta.REMOVED) {
+					removed.add(resource.getFullPath());
+					return false;
+				}
+				if (resource.getType() == IResource.FILE) {
+					if (child.getKind() == IResourceDelta.ADDED
+							|| (child.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.REPLACED | IResourceDelta.ENCODING)) != 0) {
+						if (hasBuildFileExtension(resource.getName(), extensions)) {
+							changed.add(resource);
+						}
+					}
+					return false;
+				}
+				if (resource.getType() == IResource.PROJECT && (child.getFlags() & IResourceDelta.OPEN) != 0) {
+					if (((IProject) resource).isOpen()) {
+						changed.add(resource);
+					} else {
+						removed.add(resource.getFullPath());
+					}
+					return false;
+				}
+				return true;
+			});
+		}
+		catch (CoreException e) {
+			AntUIPlugin.log(e);
+			return;
+		}
+		for (IPath path : removed) {
+			removeAll(path);
+		}
+		if (!changed.isEmpty()) {
+			addPending(changed);
+		}
+	}
+
+	private void addPending(Collection<? extends IResource> resources) {
+		synchronized (this) {
+			fPending.addAll(resources);
+		}
+		fJob.schedule();
+	}
+
+	/**
+	 * Indexes the buildfiles of the given container that are not indexed or have been modified since they were indexed, and removes the files
+	 * that no longer exist
+	 */
+	private void updateContainer(IContainer container) {
+		final Set<String> extensions = getBuildFileExtensions();
+		final List<IFile> files = new ArrayList<>();
+		if (container.isAccessible()) {
+			try {
+				container.accept(proxy -> {
+					if (proxy.isDerived() || proxy.isTeamPrivateMember()) {
+						return false;
+					}
+					if (proxy.getType() == IResource.FILE) {
+						if (hasBuildFileExtension(proxy.getName(), extensions)) {
+							files.add((IFile) proxy.requestResource());
+						}
+						return false;
+					}
+					return true;
+				}, IResource.NONE);
+			}
+			catch (CoreException e) {
+				AntUIPlugin.log(e);
+			}
+		}
+		Set<IPath> paths = new HashSet<>(files.size());
+		for (IFile file : files) {
+			paths.add(file.getFullPath());
+		}
+		IPath containerPath = container.getFullPath();
+		List<IPath> deleted = new ArrayList<>();
+		synchronized (this) {
+			for (IPath path : fFiles.keySet()) {
+				if (containerPath.isPrefixOf(path) && !paths.contains(path)) {
+					deleted.add(path);
+				}
+			}
+		}
+		for (IPath path : deleted) {
+			remove(path);
+		}
+		// the files are queued so that the job can be canceled between them
+		if (!files.isEmpty()) {
+			synchronized (this) {
+				fPending.addAll(files);
+			}
+		}
+	}
+
+	/**
+	 * Indexes the given file unless it has not been modified since it was indexed
+	 */
+	private void update(IFile file) {
+		IPath path = file.getFullPath();
+		if (!file.isAccessible() || file.isDerived()) {
+			remove(path);
+			return;
+		}
+		long stamp = file.getModificationStamp();
+		synchronized (this) {
+			FileEntry entry = fFiles.get(path);
+			if (entry != null && entry.fStamp == stamp) {
+				return;
+			}
+		}
+		AntSymbol[] symbols = NO_SYMBOLS;
+		if (AntUtil.isKnownAntFile(file)) {
+			try {
+				symbols = new AntSymbolScanner().scan(path, getContents(file)).toArray(NO_SYMBOLS);
+			}
+			catch (CoreException | IOException e) {
+				// the file is indexed again when it changes
+				remove(path);
+				return;
+			}
+		}
+		put(file, new FileEntry(stamp, symbols));
+	}
+
+	private String getContents(IFile file) throws CoreException, IOException {
+		String contents;
+		try (InputStream stream = file.getContents(true)) {
+			contents = new String(stream.readAllBytes(), file.getCharset());
+		}
+		// the offsets are those of the document, which does not contain the byte order mark
+		if (contents.length() > 0 && contents.charAt(0) == '\uFEFF') {
+			contents = contents.substring(1);
+		}
+		return contents;
+	}
+
+	/**
+	 * Adds the symbols scanned from the given file unless the file has been removed or modified since it was scanned. As the resource change
+	 * listener removes a deleted file under the same lock, the removal is either seen here or applied after the symbols are added.
+	 */
+	private synchronized void put(IFile file, FileEntry entry) {
+		if (!file.exists() || file.getModificationStamp() != entry.fStamp) {
+			// a modified file is queued again by its resource delta
+			return;
+		}
+		put(file.getFullPath(), entry);
+	}
+
+	private synchronized void put(IPath path, FileEntry entry) {
+		remove(path);
+		fFiles.put(path, entry);
+		for (AntSymbol symbol : entry.fSymbols) {
+			Map<String, List<AntSymbol>> symbols = symbol.isDeclaration() ? fDeclarations : fReferences;
+			symbols.computeIfAbsent(symbol.getName(), name -> new ArrayList<>(2)).add(symbol);
+		}
+		fDirty = true;
+	}
+
+	private synchronized void remove(IPath path) {
+		FileEntry entry = fFiles.remove(path);
+		if (entry == null) {
+			return;
+		}
+		Set<String> declared = new HashSet<>();
+		Set<String> referenced = new HashSet<>();
+		for (AntSymbol symbol : entry.fSymbols) {
+			(symbol.isDeclaration() ? declared : referenced).add(symbol.getName());
+		}
+		removeSymbols(fDeclarations, declared, path);
+		removeSymbols(fReferences, referenced, path);
+		fDirty = true;
+	}
+
+	private void removeSymbols(Map<String, List<AntSymbol>> symbols, Set<String> names, IPath path) {
+		for (String name : names) {
+			List<AntSymbol> list = symbols.get(name);
+			if (list != null) {
+				list.removeIf(symbol -> symbol.getPath().equals(path));
+				if (list.isEmpty()) {
+					symbols.remove(name);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the file or all files of the container at the given path
+	 */
+	private synchronized void removeAll(IPath path) {
+		List<IPath> paths = new ArrayList<>();
+		for (IPath file : fFiles.keySet()) {
+			if (path.isPrefixOf(file)) {
+				paths.add(file);
+			}
+		}
+		for (IPath file : paths) {
+			remove(file);
+		}
+	}
+
+	private static Set<String> getBuildFileExtensions() {
+		Set<String> extensions = new HashSet<>();
+		for (String extension : AntUtil.getKnownBuildFileExtensions()) {
+			extensions.add(extension.toLowerCase(Locale.ENGLISH));
+		}
+		return extensions;
+	}
+
+	private static boolean hasBuildFileExtension(String name, Set<String> extensions) {
+		int dot = name.lastIndexOf('.');
+		return dot != -1 && extensions.contains(name.substring(dot + 1).toLowerCase(Locale.ENGLISH));
+	}
+
+	/**
+	 * Reads the index written by {@link #save()}. Each file is checked against the workspace when its container is updated.
+	 */
+	private void load() {
+		if (!fIndexFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fIndexFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return;
+			}
+			int fileCount = in.readInt();
+			for (int i = 0; i < fileCount; i++) {
+				IPath path = new Path(in.readUTF());
+				long stamp = in.readLong();
+				int count = in.readInt();
+				if (count < 0) {
+					throw new IOException("Invalid symbol count: " + count); //$NON-NLS-1$
+				}
+				AntSymbol[] symbols = new AntSymbol[count];
+				for (int j = 0; j < count; j++) {
+					int kind = in.readUnsignedByte();
+					String name = in.readUTF();
+					symbols[j] = new AntSymbol(path, kind & ~DECLARATION, name, in.readInt(), in.readInt(), (kind & DECLARATION) != 0);
+				}
+				synchronized (this) {
+					// a file indexed from a resource delta in the meantime is current
+					if (!fFiles.containsKey(path)) {
+						put(path, new FileEntry(stamp, symbols));
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			AntUIPlugin.log(e);
+		}
+		synchronized (this) {
+			fDirty = false;
+		}
+	}
+
+	/**
+	 * Writes the index to the state location if it has changed since it was read
+	 */
+	private void save() {
+		List<Map.Entry<IPath, FileEntry>> files;
+		synchronized (this) {
+			if (!fDirty) {
+				return;
+			}
+			files = new ArrayList<>(fFiles.entrySet());
+			fDirty = false;
+		}
+		// write to a temporary file first so that a partially written index is never read
+		File tempFile = new File(fIndexFile.getParentFile(), fIndexFile.getName() + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(files.size());
+				for (Map.Entry<IPath, FileEntry> file : files) {
+					out.writeUTF(file.getKey().toString());
+					out.writeLong(file.getValue().fStamp);
+					AntSymbol[] symbols = file.getValue().fSymbols;
+					out.writeInt(symbols.length);
+					for (AntSymbol symbol : symbols) {
+						out.writeByte(symbol.getKind() | (symbol.isDeclaration() ? DECLARATION : 0));
+						out.writeUTF(symbol.getName());
+						out.writeInt(symbol.getOffset());
+						out.writeInt(symbol.getLength());
+					}
+				}
+			}
+			Files.move(tempFile.toPath(), fIndexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException e) {
+			tempFile.delete();
+			AntUIPlugin.log(e);
+		}
+	}
+}
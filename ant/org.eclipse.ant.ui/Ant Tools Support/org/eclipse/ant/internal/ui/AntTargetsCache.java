@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.ui;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.ant.internal.core.AntCoreUtil;
+import org.eclipse.ant.internal.ui.model.AntElementNode;
+import org.eclipse.ant.internal.ui.model.AntProjectNode;
+import org.eclipse.ant.internal.ui.model.AntTargetNode;
+import org.eclipse.ant.internal.ui.model.IAntElement;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * A workspace wide cache of the targets of parsed buildfiles. An entry is keyed by the buildfile and the inputs of the parse, such as the properties
+ * and property files, and is valid as long as none of the files the targets were parsed from, the buildfile, the files it imports and the property
+ * files, has been modified since. Entries are also removed as soon as the workspace reports a change to one of those files.
+ */
+public class AntTargetsCache implements IResourceChangeListener {
+
+	private static final int MAX_ENTRIES = 64;
+
+	private static AntTargetsCache fgDefault;
+
+	private static class Entry {
+		AntTargetNode[] fTargets;
+
+		/**
+		 * The last modification time of each file the targets were parsed from by absolute path
+		 */
+		Map<String, Long> fTimeStamps;
+
+		Entry(AntTargetNode[] targets, Map<String, Long> timeStamps) {
+			fTargets = targets;
+			fTimeStamps = timeStamps;
+		}
+
+		boolean isCurrent() {
+			for (Map.Entry<String, Long> stamp : fTimeStamps.entrySet()) {
+				if (getTimeStamp(stamp.getKey()) != stamp.getValue().longValue()) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private Map<List<Object>, Entry> fEntries = new LinkedHashMap<List<Object>, Entry>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<Object>, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private int fHits = 0;
+	private int fMisses = 0;
+	private int fInvalidations = 0;
+
+	private AntTargetsCache() {
+	}
+
+	/**
+	 * Returns the shared cache, which listens to resource changes in the workspace until {@link #shutdown()} is called.
+	 *
+	 * @return the shared cache
+	 */
+	public static synchronized AntTargetsCache getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new AntTargetsCache();
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(fgDefault, IResourceChangeEvent.POST_CHANGE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Discards the shared cache and stops listening to resource changes
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(fgDefault);
+			fgDefault = null;
+		}
+	}
+
+	/**
+	 * Returns a copy of the cached targets for the given key if none of the files they were parsed from has been modified since.
+	 *
+	 * @param key
+	 *            the key whose first element is the absolute path of the buildfile, followed by the inputs of the parse
+	 * @return the targets or <code>null</code> if there are no current targets for the key
+	 */
+	public synchronized AntTargetNode[] get(List<Object> key) {
+		Entry entry = fEntries.get(key);
+		if (entry != null && !entry.isCurrent()) {
+			fEntries.remove(key);
+			fInvalidations++;
+			entry = null;
+		}
+		if (entry == null) {
+			fMisses++;
+			return null;
+		}
+		fHits++;
+		return entry.fTargets.clone();
+	}
+
+	/**
+	 * Caches the targets of the given project node for the key. The targets are not cached if the buildfile could not be parsed.
+	 *
+	 * @param key
+	 *            the key whose first element is the absolute path of the buildfile, followed by the inputs of the parse
+	 * @param project
+	 *            the project node the targets were taken from, used to find the files they were parsed from
+	 * @param targets
+	 *            the targets or <code>null</code>
+	 * @param inputFiles
+	 *            additional files read by the parse, such as property files relative to the buildfile, or <code>null</code>
+	 */
+	public void put(List<Object> key, AntProjectNode project, AntTargetNode[] targets, String[] inputFiles) {
+		if (targets == null || project == null) {
+			remove((String) key.get(0));
+			return;
+		}
+		String buildFileLocation = (String) key.get(0);
+		Set<String> files = new HashSet<>();
+		files.add(buildFileLocation);
+		for (IAntElement node : project.getChildNodes()) {
+			String filePath = ((AntElementNode) node).getFilePath();
+			if (filePath != null) {
+				files.add(new File(filePath).getAbsolutePath());
+			}
+		}
+		if (inputFiles != null) {
+			for (String inputFile : inputFiles) {
+				files.add(AntCoreUtil.getFileRelativeToBaseDir(inputFile, null, buildFileLocation).getAbsolutePath());
+			}
+		}
+		Map<String, Long> timeStamps = new HashMap<>(files.size());
+		for (String file : files) {
+			timeStamps.put(file, Long.valueOf(getTimeStamp(file)));
+		}
+		synchronized (this) {
+			fEntries.put(key, new Entry(targets.clone(), timeStamps));
+		}
+	}
+
+	/**
+	 * Removes all cached targets of the buildfile at the given location
+	 *
+	 * @param path
+	 *            the absolute path of the buildfile
+	 */
+	public synchronized void remove(String path) {
+		fEntries.keySet().removeIf(key -> key.get(0).equals(path));
+	}
+
+	/**
+	 * Removes all cached targets and resets the statistics
+	 */
+	public synchronized void clear() {
+		fEntries.clear();
+		fHits = 0;
+		fMisses = 0;
+		fInvalidations = 0;
+	}
+
+	/**
+	 * Returns the number of lookups that were answered from the cache
+	 */
+	public synchronized int getHitCount() {
+		return fHits;
+	}
+
+	/**
+	 * Returns the number of lookups that required the buildfile to be parsed
+	 */
+	public synchronized int getMissCount() {
+		return fMisses;
+	}
+
+	/**
+	 * Returns the number of entries that were discarded as one of the files they were parsed from had changed
+	 */
+	public synchronized int getInvalidationCount() {
+		return fInvalidations;
+	}
+
+	/**
+	 * Returns the ratio of lookups that were answered from the cache, or <code>0</code> if there have been no lookups
+	 */
+	public synchronized double getHitRate() {
+		int lookups = fHits + fMisses;
+		return lookups == 0 ? 0 : (double) fHits / lookups;
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		final Set<String> changed = new HashSet<>();
+		try {
+			delta.accept(child -> {
+				IResource resource = child.getResource();
+				if (resource.getType() == IResource.FILE) {
+					boolean removed = child.getKind() == IResourceDelta.REMOVED;
+					if (removed || (child.getKind() == IResourceDelta.CHANGED && (child.getFlags() & IResourceDelta.CONTENT) != 0)) {
+						IPath location = resource.getLocation();
+						if (location != null) {
+							changed.add(location.toFile().getAbsolutePath());
+						}
+					}
+					return false;
+				}
+				return true;
+			});
+		}
+		catch (CoreException e) {
+			AntUIPlugin.log(e);
+			return;
+		}
+		if (!changed.isEmpty()) {
+			invalidate(changed);
+		}
+	}
+
+	private synchronized void invalidate(Collection<String> changedFiles) {
+		Iterator<Entry> entries = fEntries.values().iterator();
+		while (entries.hasNext()) {
+			Entry entry = entries.next();
+			for (String file : changedFiles) {
+				if (entry.fTimeStamps.containsKey(file)) {
+					entries.remove();
+					fInvalidations++;
+					break;
+				}
+			}
+		}
+	}
+
+	private static long getTimeStamp(String path) {
+		return new File(path).lastModified();
+	}
+}
@@ -23,6 +23,8 @@ public class AntUIModelMessages extends NLS {
 	public static String AntUtil_0;
 	public static String AntUtil_1;
 
+	public static String AntSymbolIndex_0;
+
 	static {
 		// load message values from bundle file
 		NLS.initializeMessages(BUNDLE_NAME, AntUIModelMessages.class);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,9 @@ package org.eclipse.ant.internal.ui;
 import java.util.Locale;
 
 import org.eclipse.ant.internal.core.IAntCoreConstants;
-import org.eclipse.ant.internal.ui.editor.DecayCodeCompletionDataStructuresThread;
+import org.eclipse.ant.internal.ui.editor.CodeCompletionDataCache;
 import org.eclipse.ant.internal.ui.editor.text.AntEditorDocumentProvider;
+import org.eclipse.ant.internal.ui.editor.utils.ImportedBuildFileCache;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.preference.IPreferenceStore;
@@ -82,7 +83,10 @@ public class AntUIPlugin extends AbstractUIPlugin {
 	public void stop(BundleContext context) throws Exception {
 		try {
 			AntUIImages.disposeImageDescriptorRegistry();
-			DecayCodeCompletionDataStructuresThread.cancel();
+			CodeCompletionDataCache.shutdown();
+			AntTargetsCache.shutdown();
+			AntSymbolIndex.shutdown();
+			ImportedBuildFileCache.shutdown();
 			ColorManager.getDefault().dispose();
 		}
 		finally {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,9 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,7 @@ import org.eclipse.ant.internal.ui.model.AntElementNode;
 import org.eclipse.ant.internal.ui.model.AntModel;
 import org.eclipse.ant.internal.ui.model.AntProjectNode;
 import org.eclipse.ant.internal.ui.model.AntTargetNode;
+import org.eclipse.ant.internal.ui.model.AntTargetScanner;
 import org.eclipse.ant.internal.ui.model.IAntElement;
 import org.eclipse.ant.internal.ui.model.IAntModel;
 import org.eclipse.ant.internal.ui.model.LocationProvider;
@@ -181,18 +183,39 @@ public final class AntUtil {
 			return null;
 		}
 		URL[] urls = getCustomClasspath(config);
-		// no lexical, no position, no task
-		IAntModel model = getAntModel(buildfile, urls, false, false, false);
+		Map<String, String> properties = null;
 		try {
-			model.setProperties(getAllProperties(config));
+			properties = getAllProperties(config);
 		}
 		catch (CoreException ex) {
 			// do nothing
 		}
-		model.setPropertyFiles(getPropertyFiles(config));
-		AntProjectNode project = model.getProjectNode(); // forces a reconcile
-		model.dispose();
-		return getTargets(project);
+		String[] propertyFiles = getPropertyFiles(config);
+		List<Object> key = Arrays.asList(buildfile.getAbsolutePath(), properties, propertyFiles == null ? null
+				: Arrays.asList(propertyFiles), urls == null ? null : Arrays.toString(urls));
+		AntTargetsCache cache = AntTargetsCache.getDefault();
+		AntTargetNode[] targets = cache.get(key);
+		if (targets != null) {
+			return targets;
+		}
+		// the targets are listed without resolving any task
+		AntTargetScanner scanner = new AntTargetScanner();
+		scanner.setProperties(properties);
+		scanner.setPropertyFiles(propertyFiles);
+		AntProjectNode project = scanner.scan(buildfile);
+		if (project == null) {
+			// no lexical, no position, no task
+			IAntModel model = getAntModel(buildfile, urls, false, false, false);
+			if (properties != null) {
+				model.setProperties(properties);
+			}
+			model.setPropertyFiles(propertyFiles);
+			project = model.getProjectNode(); // forces a reconcile
+			model.dispose();
+		}
+		targets = getTargets(project);
+		cache.put(key, project, targets, propertyFiles);
+		return targets;
 	}
 
 	private static Map<String, String> getAllProperties(ILaunchConfiguration config) throws CoreException {
@@ -246,6 +269,12 @@ public final class AntUtil {
 		if (buildfile == null) {
 			return null;
 		}
+		List<Object> key = Collections.singletonList(buildfile.getAbsolutePath());
+		AntTargetsCache cache = AntTargetsCache.getDefault();
+		AntTargetNode[] targets = cache.get(key);
+		if (targets != null) {
+			return targets;
+		}
 		// tasks and position info but no lexical info
 		IAntModel model = getAntModel(buildfile, null, false, true, true);
 		AntProjectNode project = model.getProjectNode();
@@ -253,16 +282,18 @@ public final class AntUtil {
 			model.dispose();
 			return null;
 		}
-		AntTargetNode[] targets = getTargets(project);
+		targets = getTargets(project);
 		if (targets == null) {
-			Hashtable<String, Target> antTargets = project.getProject().getTargets();
-			Target implicitTarget = antTargets.get(IAntCoreConstants.EMPTY_STRING);
+			Target implicitTarget = project.getTargets().get(IAntCoreConstants.EMPTY_STRING);
 			if (implicitTarget != null) {
 				AntTargetNode implicitTargetNode = AntTargetNode.newAntTargetNode(implicitTarget);
 				project.addChildNode(implicitTargetNode);
-				return new AntTargetNode[] { implicitTargetNode };
+				targets = new AntTargetNode[] { implicitTargetNode };
 			}
 		}
+		cache.put(key, project, targets, null);
+		// the targets keep the tree published by the model, which no longer has to listen to changes
+		model.dispose();
 		return targets;
 	}
 
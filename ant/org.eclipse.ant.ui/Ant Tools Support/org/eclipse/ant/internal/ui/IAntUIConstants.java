@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,11 @@ public interface IAntUIConstants {
 	 */
 	public static final String ANT_VIEW_ID = PLUGIN_ID + ".AntView"; //$NON-NLS-1$
 
+	/**
+	 * Ant Profile View identifier (value <code>org.eclipse.ant.ui.views.AntProfileView</code>).
+	 */
+	public static final String ANT_PROFILE_VIEW_ID = PLUGIN_ID + ".views.AntProfileView"; //$NON-NLS-1$
+
 	// ------- Images -------
 	/**
 	 * Main tab image.
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.ui.console;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.tools.ant.Project;
+import org.eclipse.ant.internal.launching.AntLaunch;
+import org.eclipse.ant.internal.launching.IAntOutputController;
+import org.eclipse.ant.internal.ui.AntUIImages;
+import org.eclipse.ant.internal.ui.IAntUIConstants;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.action.ActionContributionItem;
+import org.eclipse.jface.action.IAction;
+import org.eclipse.jface.action.IMenuCreator;
+import org.eclipse.jface.action.IToolBarManager;
+import org.eclipse.jface.dialogs.IInputValidator;
+import org.eclipse.jface.dialogs.InputDialog;
+import org.eclipse.jface.window.Window;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Menu;
+import org.eclipse.swt.widgets.MenuItem;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.IActionBars;
+import org.eclipse.ui.console.IConsole;
+import org.eclipse.ui.console.IConsoleConstants;
+import org.eclipse.ui.console.IConsolePageParticipant;
+import org.eclipse.ui.part.IPageBookViewPage;
+
+/**
+ * Contributes a drop-down to the console of an Ant build run in a separate JRE which changes the output level of the running build and mutes the
+ * output of individual task types. The output is filtered where the build runs, so filtered messages are never sent to Eclipse.
+ */
+public class AntConsolePageParticipant implements IConsolePageParticipant {
+
+	private static final int[] LEVELS = new int[] { Project.MSG_ERR, Project.MSG_WARN, Project.MSG_INFO, Project.MSG_VERBOSE, Project.MSG_DEBUG };
+
+	private IProcess fProcess;
+	private Shell fShell;
+	private OutputControlAction fAction;
+
+	/**
+	 * Drop-down action listing the output levels and the muted tasks of the build
+	 */
+	private class OutputControlAction extends Action implements IMenuCreator {
+		private Menu fMenu;
+
+		OutputControlAction() {
+			super(ConsoleMessages.AntConsolePageParticipant_0, IAction.AS_DROP_DOWN_MENU);
+			setToolTipText(ConsoleMessages.AntConsolePageParticipant_0);
+			setImageDescriptor(AntUIImages.getImageDescriptor(IAntUIConstants.IMG_ANT));
+			setMenuCreator(this);
+		}
+
+		@Override
+		public void run() {
+			muteTask();
+		}
+
+		@Override
+		public void dispose() {
+			if (fMenu != null) {
+				fMenu.dispose();
+				fMenu = null;
+			}
+		}
+
+		@Override
+		public Menu getMenu(Control parent) {
+			dispose();
+			fMenu = new Menu(parent);
+			IAntOutputController controller = getController();
+			String[] labels = new String[] { ConsoleMessages.AntConsolePageParticipant_1, ConsoleMessages.AntConsolePageParticipant_2,
+					ConsoleMessages.AntConsolePageParticipant_3, ConsoleMessages.AntConsolePageParticipant_4, ConsoleMessages.AntConsolePageParticipant_5 };
+			for (int i = 0; i < LEVELS.length; i++) {
+				final int level = LEVELS[i];
+				Action levelAction = new Action(labels[i], IAction.AS_RADIO_BUTTON) {
+					@Override
+					public void run() {
+						IAntOutputController current = getController();
+						if (current != null && isChecked()) {
+							current.setOutputLevel(level);
+						}
+					}
+				};
+				levelAction.setEnabled(controller != null);
+				levelAction.setChecked(controller != null && controller.getOutputLevel() == level);
+				new ActionContributionItem(levelAction).fill(fMenu, -1);
+			}
+			new MenuItem(fMenu, SWT.SEPARATOR);
+			Action muteAction = new Action(ConsoleMessages.AntConsolePageParticipant_6) {
+				@Override
+				public void run() {
+					muteTask();
+				}
+			};
+			muteAction.setEnabled(controller != null);
+			new ActionContributionItem(muteAction).fill(fMenu, -1);
+			if (controller != null) {
+				Set<String> muted = new TreeSet<>(controller.getMutedTasks());
+				for (final String taskName : muted) {
+					Action unmuteAction = new Action(taskName, IAction.AS_CHECK_BOX) {
+						@Override
+						public void run() {
+							IAntOutputController current = getController();
+							if (current != null) {
+								current.setTaskMuted(taskName, isChecked());
+							}
+						}
+					};
+					unmuteAction.setChecked(true);
+					new ActionContributionItem(unmuteAction).fill(fMenu, -1);
+				}
+			}
+			return fMenu;
+		}
+
+		@Override
+		public Menu getMenu(Menu parent) {
+			return null;
+		}
+
+		private void muteTask() {
+			IAntOutputController controller = getController();
+			if (controller == null) {
+				return;
+			}
+			IInputValidator validator = newText -> newText.trim().length() == 0 ? ConsoleMessages.AntConsolePageParticipant_8 : null;
+			InputDialog dialog = new InputDialog(fShell, ConsoleMessages.AntConsolePageParticipant_6, ConsoleMessages.AntConsolePageParticipant_7, null, validator);
+			if (dialog.open() == Window.OK) {
+				controller.setTaskMuted(dialog.getValue().trim(), true);
+			}
+		}
+	}
+
+	@Override
+	public void init(IPageBookViewPage page, IConsole console) {
+		if (!(console instanceof org.eclipse.debug.ui.console.IConsole)) {
+			return;
+		}
+		fProcess = ((org.eclipse.debug.ui.console.IConsole) console).getProcess();
+		if (!(fProcess.getLaunch() instanceof AntLaunch) || getController() == null) {
+			// only builds in a separate JRE can be controlled
+			return;
+		}
+		fShell = page.getSite().getShell();
+		fAction = new OutputControlAction();
+		IActionBars bars = page.getSite().getActionBars();
+		IToolBarManager toolBar = bars.getToolBarManager();
+		toolBar.appendToGroup(IConsoleConstants.LAUNCH_GROUP, fAction);
+		bars.updateActionBars();
+	}
+
+	/**
+	 * @return the controller of the running build or <code>null</code> if the build has finished
+	 */
+	IAntOutputController getController() {
+		if (fProcess == null || fProcess.isTerminated()) {
+			return null;
+		}
+		ILaunch launch = fProcess.getLaunch();
+		if (launch instanceof AntLaunch) {
+			return ((AntLaunch) launch).getOutputController();
+		}
+		return null;
+	}
+
+	@Override
+	public void dispose() {
+		if (fAction != null) {
+			fAction.dispose();
+			fAction = null;
+		}
+		fProcess = null;
+		fShell = null;
+	}
+
+	@Override
+	public void activated() {
+		// do nothing
+	}
+
+	@Override
+	public void deactivated() {
+		// do nothing
+	}
+
+	@Override
+	public <T> T getAdapter(Class<T> adapter) {
+		return null;
+	}
+}
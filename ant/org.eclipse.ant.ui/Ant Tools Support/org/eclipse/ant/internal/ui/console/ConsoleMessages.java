@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,4 +24,14 @@ public class ConsoleMessages extends NLS {
 	}
 
 	public static String JavacMarkerCreator_0;
+
+	public static String AntConsolePageParticipant_0;
+	public static String AntConsolePageParticipant_1;
+	public static String AntConsolePageParticipant_2;
+	public static String AntConsolePageParticipant_3;
+	public static String AntConsolePageParticipant_4;
+	public static String AntConsolePageParticipant_5;
+	public static String AntConsolePageParticipant_6;
+	public static String AntConsolePageParticipant_7;
+	public static String AntConsolePageParticipant_8;
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.ant.internal.ui.console;
 
 import org.eclipse.ant.internal.ui.launchConfigurations.TaskLinkManager;
+import org.eclipse.ant.internal.ui.views.AntProfileView;
 import org.eclipse.debug.ui.console.IConsole;
 import org.eclipse.debug.ui.console.IConsoleLineTrackerExtension;
 import org.eclipse.jface.text.IRegion;
@@ -48,5 +49,6 @@ public class TaskLineTracker implements IConsoleLineTrackerExtension {
 	public void consoleClosed() {
 		TaskLinkManager.dispose(fConsole.getProcess());
 		AbstractJavacPatternMatcher.consoleClosed(fConsole.getProcess());
+		AntProfileView.showProfile(fConsole.getProcess());
 	}
 }
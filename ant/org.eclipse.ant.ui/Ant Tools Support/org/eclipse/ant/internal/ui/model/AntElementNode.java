@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 GEBIT Gesellschaft fuer EDV-Beratung
+ * Copyright (c) 2002, 2026 GEBIT Gesellschaft fuer EDV-Beratung
  * und Informatik-Technologien mbH, 
  * Berlin, Duesseldorf, Frankfurt (Germany) and others.
  *
@@ -28,6 +28,7 @@ import java.net.URL;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.ant.internal.core.IAntCoreConstants;
 import org.eclipse.ant.internal.ui.AntImageDescriptor;
@@ -49,7 +50,7 @@ import org.eclipse.swt.graphics.Image;
  * General representation of an Ant buildfile element.
  * 
  */
-public class AntElementNode implements IAdaptable, IAntElement {
+public class AntElementNode implements IAdaptable, IAntElement, Cloneable {
 
 	/**
 	 * The offset of the corresponding source.
@@ -394,16 +395,27 @@ public class AntElementNode implements IAdaptable, IAntElement {
 				}
 			}
 		}
-		if (fLength == -1 && fOffset <= sourceOffset && !isExternal()) { // this is still an open element
-			return this;
-		}
-		if (fOffset <= sourceOffset && sourceOffset <= (fOffset + fLength - 2)) {
+		if (containsOffset(sourceOffset)) {
 			return this;
 		}
 
 		return null;
 	}
 
+	/**
+	 * Returns whether the given offset lies within this node, not taking its children into account
+	 *
+	 * @param sourceOffset
+	 *            the offset in the document
+	 * @return whether this node contains the offset
+	 */
+	protected boolean containsOffset(int sourceOffset) {
+		if (fLength == -1 && fOffset <= sourceOffset && !isExternal()) { // this is still an open element
+			return true;
+		}
+		return fOffset <= sourceOffset && sourceOffset <= (fOffset + fLength - 2);
+	}
+
 	public Image getImage() {
 		int flags = 0;
 
@@ -478,6 +490,58 @@ public class AntElementNode implements IAdaptable, IAntElement {
 		fChildNodes = null;
 	}
 
+	/**
+	 * Returns a copy of this node and its descendants with the given parent. The copies share the Ant tasks and targets with the nodes they copy.
+	 * Each node copied is mapped to its copy in the given map.
+	 *
+	 * @param parent
+	 *            the parent of the copy
+	 * @param copies
+	 *            the map of the nodes copied to their copies, compared by identity
+	 * @return the copy of this node
+	 */
+	protected AntElementNode copy(AntElementNode parent, Map<AntElementNode, AntElementNode> copies) {
+		AntElementNode copy;
+		try {
+			copy = (AntElementNode) clone();
+		}
+		catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+		copies.put(this, copy);
+		copy.fParent = parent;
+		List<IAntElement> children = getChildNodes();
+		if (children != null) {
+			copy.fChildNodes = new ArrayList<>(children.size());
+			for (IAntElement child : children) {
+				copy.fChildNodes.add(((AntElementNode) child).copy(copy, copies));
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * Replaces the import node of this copy by its copy
+	 */
+	void updateImportNode(Map<AntElementNode, AntElementNode> copies) {
+		AntElementNode importNode = copies.get(fImportNode);
+		if (importNode != null) {
+			fImportNode = importNode;
+		}
+	}
+
+	/**
+	 * Updates the position of this copy for a change of the document that replaced the text between the given offsets and grew the document by
+	 * the given number of characters. A node after the change is shifted, a node enclosing the change grows or shrinks.
+	 */
+	void updatePosition(int offset, int oldEnd, int delta) {
+		if (fOffset >= oldEnd) {
+			fOffset += delta;
+		} else if (fLength >= 0 && fOffset + fLength > offset) {
+			fLength += delta;
+		}
+	}
+
 	public void setExternalInfo(int line, int column) {
 		fLine = line;
 		fColumn = column;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 arctis Softwaretechnologie GmbH and others.
+ * Copyright (c) 2019, 2026 arctis Softwaretechnologie GmbH and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -142,9 +142,9 @@ public class AntIncludeNode extends AntImportNode {
 		 */
 		IFile projectSpecificBuildFile = this.handleCorrectBuildFile(importedFromNode);
 		if (projectSpecificBuildFile != null) {
-			return org.eclipse.ant.internal.ui.editor.utils.ProjectHelper.getProjectNameOfBuildFile(projectSpecificBuildFile);
+			return org.eclipse.ant.internal.ui.editor.utils.ProjectHelper.getProjectNameOfBuildFile(getTask().getProject(), projectSpecificBuildFile);
 		}
-		return org.eclipse.ant.internal.ui.editor.utils.ProjectHelper.getProjectNameOfBuildFile(this.getFilePath());
+		return org.eclipse.ant.internal.ui.editor.utils.ProjectHelper.getProjectNameOfBuildFile(getTask().getProject(), this.getFilePath());
 	}
 
 	/**
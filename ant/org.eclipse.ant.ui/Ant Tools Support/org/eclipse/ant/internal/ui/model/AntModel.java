@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,9 +24,11 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +36,8 @@ import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 import org.apache.tools.ant.AntTypeDefinition;
@@ -44,7 +48,6 @@ import org.apache.tools.ant.Location;
 import org.apache.tools.ant.Main;
 import org.apache.tools.ant.Project;
 import org.apache.tools.ant.ProjectHelperRepository;
-import org.apache.tools.ant.RuntimeConfigurable;
 import org.apache.tools.ant.Target;
 import org.apache.tools.ant.Task;
 import org.apache.tools.ant.TaskAdapter;
@@ -60,7 +63,7 @@ import org.eclipse.ant.internal.core.AntSecurityManager;
 import org.eclipse.ant.internal.core.IAntCoreConstants;
 import org.eclipse.ant.internal.ui.AntUIPlugin;
 import org.eclipse.ant.internal.ui.AntUtil;
-import org.eclipse.ant.internal.ui.editor.DecayCodeCompletionDataStructuresThread;
+import org.eclipse.ant.internal.ui.editor.CodeCompletionDataCache;
 import org.eclipse.ant.internal.ui.editor.outline.AntEditorMarkerUpdater;
 import org.eclipse.ant.internal.ui.editor.utils.ProjectHelper;
 import org.eclipse.ant.internal.ui.preferences.AntEditorPreferenceConstants;
@@ -68,6 +71,7 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.QualifiedName;
 import org.eclipse.core.runtime.content.IContentDescription;
@@ -78,6 +82,7 @@ import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentListener;
@@ -87,15 +92,47 @@ import org.xml.sax.SAXParseException;
 
 public class AntModel implements IAntModel {
 
+	/**
+	 * The tree published by a reconcile: the project node and the nodes outside of the project, such as comments. A published tree is never
+	 * changed; a reconcile publishes a new tree in place of it as a whole.
+	 */
+	private static class PublishedTree {
+		final AntProjectNode fProjectNode;
+		final List<AntElementNode> fNonStructuralNodes;
+
+		PublishedTree(AntProjectNode projectNode, List<AntElementNode> nonStructuralNodes) {
+			fProjectNode = projectNode;
+			fNonStructuralNodes = nonStructuralNodes;
+		}
+	}
+
+	private static final PublishedTree NO_TREE = new PublishedTree(null, Collections.emptyList());
+
 	private static ClassLoader fgClassLoader;
+	/**
+	 * The number of parses using the shared class loader. The plug-in context class loader of the shared class loader is set by the first of them
+	 * and cleared by the last.
+	 */
+	private static int fgClassLoaderUsers = 0;
 	private static int fgInstanceCount = 0;
 	private static Object loaderLock = new Object();
+	private static Object resolveLock = new Object();
 
 	private IDocument fDocument;
 	private IProblemRequestor fProblemRequestor;
 	private LocationProvider fLocationProvider;
 
+	/**
+	 * The project node being built by the current parse
+	 */
 	private AntProjectNode fProjectNode;
+
+	/**
+	 * The tree of the last completed reconcile. A parse builds a new tree, reusing the Ant project of the previous parse, and a reconcile without
+	 * parsing updates the positions of a copy of the tree. The project node of a published tree keeps the values of the Ant project as they were
+	 * when the tree was published, see {@link AntProjectNode#publishProjectValues()}.
+	 */
+	private volatile PublishedTree fPublishedTree = NO_TREE;
 	private AntTargetNode fCurrentTargetNode;
 	private AntElementNode fLastNode;
 	private AntElementNode fNodeBeingResolved;
@@ -116,7 +153,62 @@ public class AntModel implements IAntModel {
 	private List<AntTaskNode> fTaskNodes = new ArrayList<>();
 
 	private final Object fDirtyLock = new Object();
-	private boolean fIsDirty = true;
+	private volatile boolean fIsDirty = true;
+
+	/**
+	 * Serializes reconciles; the parse state of the model is only accessed while holding this lock
+	 */
+	private final ReentrantLock fReconcileLock = new ReentrantLock();
+
+	/**
+	 * The time in milliseconds {@link #getProjectNode(boolean)} waits for a reconcile in progress before returning the tree published last
+	 */
+	private static final long RECONCILE_WAIT = 500;
+	private boolean fReconciling = false;
+	private boolean fDisposed = false;
+
+	/**
+	 * The snapshot of the document being parsed, or <code>null</code> if no parse is in progress
+	 */
+	private volatile IDocument fParseDocument;
+
+	/**
+	 * The problems found by the current parse, reported once the parse has completed
+	 */
+	private List<IProblem> fPendingProblems = new ArrayList<>();
+	private boolean fIsReporting = false;
+
+	/**
+	 * Whether the next reconcile has to parse the whole document. If not, the document has only been changed within the region described by
+	 * {@link #fDirtyOffset}, {@link #fDirtyEnd} and {@link #fDirtyDelta}, and none of the changes inserted or removed markup.
+	 */
+	private boolean fFullParseRequired = true;
+
+	/**
+	 * Whether the changes since the last reconcile inserted or removed characters other than whitespace
+	 */
+	private boolean fDirtyTextChanged = false;
+
+	/**
+	 * The start of the region of the document changed since the last reconcile, or <code>-1</code> if nothing has been changed
+	 */
+	private int fDirtyOffset = -1;
+
+	/**
+	 * The end of the changed region in the current document
+	 */
+	private int fDirtyEnd = -1;
+
+	/**
+	 * The number of characters the document has grown by since the last reconcile
+	 */
+	private int fDirtyDelta = 0;
+
+	/**
+	 * Whether problems have been reported for the published project node
+	 */
+	private boolean fHasProblems = false;
+
 	private File fEditedFile = null;
 
 	private ClassLoader fLocalClassLoader = null;
@@ -206,7 +298,7 @@ public class AntModel implements IAntModel {
 			AntModelCore.getDefault().startBreakpointListening();
 		}
 		fgInstanceCount++;
-		DecayCodeCompletionDataStructuresThread.cancel();
+		CodeCompletionDataCache.getDefault().cancelDecay();
 		ProjectHelper helper = getProjectHelper();
 		if (helper == null) {
 			ProjectHelperRepository.getInstance().registerProjectHelper(ProjectHelper.class);
@@ -234,13 +326,25 @@ public class AntModel implements IAntModel {
 
 	@Override
 	public void dispose() {
-		synchronized (getLockObject()) {
-			if (fDocument != null && fListener != null) {
-				fDocument.removeDocumentListener(fListener);
+		// cancel a parse in progress
+		fIsDirty = true;
+		fReconcileLock.lock();
+		try {
+			if (fDisposed) {
+				// a model may be disposed by each node sharing it
+				return;
+			}
+			fDisposed = true;
+			synchronized (getLockObject()) {
+				if (fDocument != null && fListener != null) {
+					fDocument.removeDocumentListener(fListener);
+				}
+				fDocument = null;
+				fLocationProvider = null;
 			}
-			fDocument = null;
-			fLocationProvider = null;
-			ProjectHelper.setAntModel(null);
+		}
+		finally {
+			fReconcileLock.unlock();
 		}
 
 		IEclipsePreferences node = InstanceScope.INSTANCE.getNode(AntCorePlugin.PI_ANTCORE);
@@ -255,12 +359,21 @@ public class AntModel implements IAntModel {
 		fgInstanceCount--;
 		if (fgInstanceCount == 0) {
 			fgClassLoader = null;
-			DecayCodeCompletionDataStructuresThread.getDefault().start();
+			CodeCompletionDataCache.getDefault().scheduleDecay();
 			AntModelCore.getDefault().stopBreakpointListening();
 			cleanup();
 		}
 	}
 
+	/**
+	 * Returns the snapshot of the document while it is being parsed, the document otherwise. The positions computed while parsing are positions in
+	 * the snapshot.
+	 */
+	private IDocument getParseDocument() {
+		IDocument snapshot = fParseDocument;
+		return snapshot != null ? snapshot : fDocument;
+	}
+
 	private Object getLockObject() {
 		if (fDocument instanceof ISynchronizable) {
 			Object lock = ((ISynchronizable) fDocument).getLockObject();
@@ -272,7 +385,7 @@ public class AntModel implements IAntModel {
 	}
 
 	private void cleanup() {
-		AntProjectNode projectNode = getProjectNode();
+		AntProjectNode projectNode = fPublishedTree.fProjectNode;
 		if (projectNode != null) {
 			// cleanup the introspection helpers that may have been generated
 			IntrospectionHelper.clearCache();
@@ -287,24 +400,323 @@ public class AntModel implements IAntModel {
 			if (!fShouldReconcile || !fIsDirty) {
 				return;
 			}
-			fIsDirty = false;
 		}
 
+		fReconcileLock.lock();
+		try {
+			if (fReconciling) {
+				// called while resolving the model being built
+				return;
+			}
+			fReconciling = true;
+			try {
+				internalReconcile();
+			}
+			finally {
+				fReconciling = false;
+			}
+		}
+		finally {
+			fReconcileLock.unlock();
+		}
+	}
+
+	/**
+	 * Takes a snapshot of the document and parses it without holding the lock of the document, so that the document can be changed while the
+	 * snapshot is parsed. A change of the document cancels the parse; the next reconcile parses the changed document. Once the parse has completed,
+	 * the new project node is published as a whole, so readers never see a partially built tree.
+	 */
+	private void internalReconcile() {
+		IDocument snapshot = null;
 		synchronized (getLockObject()) {
 			if (fLocationProvider == null) {
 				// disposed
 				return;
 			}
 
+			boolean fullParse;
+			int dirtyOffset;
+			int dirtyEnd;
+			int dirtyDelta;
+			boolean textChanged;
+			synchronized (fDirtyLock) {
+				if (!fIsDirty) {
+					// reconciled by another thread in the meantime
+					return;
+				}
+				fIsDirty = false;
+				fullParse = fFullParseRequired;
+				dirtyOffset = fDirtyOffset;
+				dirtyEnd = fDirtyEnd;
+				dirtyDelta = fDirtyDelta;
+				textChanged = fDirtyTextChanged;
+				fFullParseRequired = false;
+				fDirtyOffset = -1;
+				fDirtyEnd = -1;
+				fDirtyDelta = 0;
+				fDirtyTextChanged = false;
+			}
 			if (fDocument == null) {
 				fProjectNode = null;
+				fPublishedTree = NO_TREE;
+			} else if (!fullParse && reconcileIncrementally(dirtyOffset, dirtyEnd, dirtyDelta, textChanged)) {
+				if (dirtyOffset == -1) {
+					return;
+				}
 			} else {
+				snapshot = new Document(fDocument.get());
+			}
+		}
+
+		if (snapshot != null) {
+			fParseDocument = snapshot;
+			try {
 				reset();
-				parseDocument(fDocument);
+				parseDocument(snapshot);
 				reconcileTaskAndTypes();
 			}
-			AntModelCore.getDefault().notifyAntModelListeners(new AntModelChangeEvent(this));
+			catch (OperationCanceledException e) {
+				// the document has been changed while parsing
+			}
+			finally {
+				fParseDocument = null;
+			}
+			if (fProjectNode != null && !fIsDirty) {
+				fProjectNode.indexOffsets();
+				fProjectNode.indexOccurrences();
+				fProjectNode.publishProjectValues();
+			}
+			synchronized (fDirtyLock) {
+				if (fIsDirty) {
+					// the model no longer matches the document, and the changes recorded since the snapshot do not
+					// describe how the published tree differs from the document
+					fFullParseRequired = true;
+					return;
+				}
+				fPublishedTree = new PublishedTree(fProjectNode, fNonStructuralNodes);
+			}
+			reportProblems();
+		}
+		AntModelCore.getDefault().notifyAntModelListeners(new AntModelChangeEvent(this));
+	}
+
+	/**
+	 * Aborts the parse of a snapshot if the document has been changed since the snapshot was taken
+	 */
+	private void checkCanceled() {
+		if (fIsDirty && fParseDocument != null) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	/**
+	 * Updates the model for changes of the document that the model does not keep, without parsing the document. This is the case when the
+	 * changed region only contains whitespace between elements or between the attributes of a tag, or the text of a comment. The published tree
+	 * is copied; in the copy, the nodes after the region are shifted and the nodes enclosing the region grow or shrink by the change in length.
+	 * The copy is then published in place of the tree, which readers may still be using.
+	 * <p>
+	 * The values of attributes and the text of elements are kept by the Ant tasks of the model, for example as the description of the project, so
+	 * changing them requires a parse. Any other change is handled by parsing the whole document: a single changed element is not parsed on its own
+	 * and spliced into the tree, as the Ant project helper needs the context of the whole project, such as its targets, properties and definitions,
+	 * to parse an element.
+	 * </p>
+	 *
+	 * @param offset
+	 *            the start of the changed region, or <code>-1</code> if the document has not been changed
+	 * @param end
+	 *            the end of the changed region in the current document
+	 * @param delta
+	 *            the number of characters the document has grown by
+	 * @param textChanged
+	 *            whether characters other than whitespace have been inserted or removed
+	 * @return whether the model has been updated, <code>false</code> if the document has to be parsed
+	 */
+	private boolean reconcileIncrementally(int offset, int end, int delta, boolean textChanged) {
+		PublishedTree tree = fPublishedTree;
+		AntProjectNode projectNode = tree.fProjectNode;
+		if (projectNode == null || fHasProblems || !canGetPositionInfo()) {
+			return false;
+		}
+		if (offset == -1) {
+			return true;
+		}
+		try {
+			if (containsMarkup(fDocument.get(offset, end - offset))) {
+				return false;
+			}
+			if (!isCommentText(offset, end, delta) && (textChanged || !isSeparatingWhitespace(offset, end, delta))) {
+				return false;
+			}
+		}
+		catch (BadLocationException e) {
+			return false;
+		}
+		int oldEnd = end - delta;
+		List<AntElementNode> nodes = new ArrayList<>();
+		collectNodes(projectNode, nodes);
+		nodes.addAll(tree.fNonStructuralNodes);
+		for (AntElementNode node : nodes) {
+			if (node.isExternal()) {
+				continue;
+			}
+			int nodeOffset = node.getOffset();
+			int nodeEnd = nodeOffset + node.getLength();
+			if (nodeOffset >= oldEnd || node.getLength() < 0 || nodeEnd <= offset) {
+				continue;
+			}
+			if (nodeOffset > offset || nodeEnd < oldEnd || node instanceof AntDefiningTaskNode) {
+				// the change overlaps the markup of the node or changes the text of a definition
+				return false;
+			}
+		}
+
+		Map<AntElementNode, AntElementNode> copies = new IdentityHashMap<>();
+		AntProjectNode projectCopy = projectNode.copyTree(copies);
+		List<AntElementNode> nonStructuralNodes = new ArrayList<>(tree.fNonStructuralNodes.size());
+		for (AntElementNode node : tree.fNonStructuralNodes) {
+			nonStructuralNodes.add(node.copy(null, copies));
+		}
+		for (AntElementNode node : copies.values()) {
+			if (!node.isExternal()) {
+				node.updatePosition(offset, oldEnd, delta);
+			}
+		}
+		projectCopy.indexOffsets();
+		projectCopy.indexOccurrences();
+		if (fTaskNameToDefiningNode != null) {
+			Map<String, AntDefiningTaskNode> definingNodes = new HashMap<>(fTaskNameToDefiningNode);
+			for (Entry<String, AntDefiningTaskNode> entry : definingNodes.entrySet()) {
+				AntElementNode copy = copies.get(entry.getValue());
+				if (copy != null) {
+					entry.setValue((AntDefiningTaskNode) copy);
+				}
+			}
+			fTaskNameToDefiningNode = definingNodes;
+		}
+		fProjectNode = projectCopy;
+		fNonStructuralNodes = nonStructuralNodes;
+		fPublishedTree = new PublishedTree(projectCopy, nonStructuralNodes);
+		return true;
+	}
+
+	private void collectNodes(AntElementNode node, List<AntElementNode> nodes) {
+		nodes.add(node);
+		if (node.hasChildren()) {
+			for (IAntElement child : node.getChildNodes()) {
+				collectNodes((AntElementNode) child, nodes);
+			}
+		}
+	}
+
+	private boolean isWhitespace(String text) {
+		if (text == null) {
+			return true;
+		}
+		for (int i = 0; i < text.length(); i++) {
+			if (!Character.isWhitespace(text.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean containsMarkup(String text) {
+		if (text == null) {
+			return false;
+		}
+		for (int i = 0; i < text.length(); i++) {
+			switch (text.charAt(i)) {
+				case '<':
+				case '>':
+				case '&':
+				case '$':
+					return true;
+				default:
+					break;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the given region of the document only contains whitespace that separates elements, or that separates the attributes of a tag
+	 * and did so before the change as well.
+	 */
+	private boolean isSeparatingWhitespace(int offset, int end, int delta) throws BadLocationException {
+		for (int i = offset; i < end; i++) {
+			if (!Character.isWhitespace(fDocument.getChar(i))) {
+				return false;
+			}
+		}
+		int start = offset;
+		while (start > 0 && Character.isWhitespace(fDocument.getChar(start - 1))) {
+			start--;
+		}
+		int length = fDocument.getLength();
+		int stop = end;
+		while (stop < length && Character.isWhitespace(fDocument.getChar(stop))) {
+			stop++;
+		}
+		if (start == 0 || stop == length) {
+			return false;
+		}
+		if (fDocument.getChar(start - 1) == '>' && fDocument.getChar(stop) == '<') {
+			// whitespace between elements
+			return true;
+		}
+		if (stop == start || stop - start - delta <= 0) {
+			// whitespace inserted between or removed from two names or values of a tag changes the tag
+			return false;
+		}
+		int tagStart = start - 1;
+		while (tagStart >= 0 && fDocument.getChar(tagStart) != '<') {
+			if (fDocument.getChar(tagStart) == '>') {
+				return false;
+			}
+			tagStart--;
+		}
+		if (tagStart < 0 || tagStart + 1 == start || fDocument.getChar(tagStart + 1) == '!' || fDocument.getChar(tagStart + 1) == '?') {
+			return false;
+		}
+		// the whitespace must not be part of an attribute value
+		char quote = 0;
+		for (int i = tagStart + 1; i < start; i++) {
+			char c = fDocument.getChar(i);
+			if (quote == 0) {
+				if (c == '"' || c == '\'') {
+					quote = c;
+				}
+			} else if (c == quote) {
+				quote = 0;
+			}
+		}
+		return quote == 0;
+	}
+
+	/**
+	 * Returns whether the given region of the document lies within the text of a comment of the model, and the comment is still well-formed. Only
+	 * the text of that comment is read from the document.
+	 */
+	private boolean isCommentText(int offset, int end, int delta) throws BadLocationException {
+		int oldEnd = end - delta;
+		for (AntElementNode node : fPublishedTree.fNonStructuralNodes) {
+			if (!(node instanceof AntCommentNode) || node.isExternal()) {
+				continue;
+			}
+			// the node spans the text of the comment, without its delimiters
+			int textOffset = node.getOffset();
+			int textLength = node.getLength();
+			if (textOffset < 4 || textOffset > offset || oldEnd > textOffset + textLength) {
+				continue;
+			}
+			String comment = fDocument.get(textOffset - 4, textLength + delta + 7);
+			if (!comment.startsWith("<!--") || !comment.endsWith("-->")) { //$NON-NLS-1$ //$NON-NLS-2$
+				return false;
+			}
+			String text = comment.substring(4, comment.length() - 3);
+			return !text.contains("--") && !text.endsWith("-"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
+		return false;
 	}
 
 	private void reset() {
@@ -319,6 +731,8 @@ public class AntModel implements IAntModel {
 		fNamespacePrefixMappings = null;
 
 		fNonStructuralNodes = new ArrayList<>(1);
+		fPendingProblems = new ArrayList<>();
+		fIsReporting = false;
 		if (fDefinersToText != null) {
 			fPreviousDefinersToText = new HashMap<>(fDefinersToText);
 			fDefinersToText = null;
@@ -333,7 +747,7 @@ public class AntModel implements IAntModel {
 			return;
 		}
 		ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
-		ClassLoader parsingClassLoader = getClassLoader(originalClassLoader);
+		ClassLoader parsingClassLoader = acquireClassLoader(originalClassLoader);
 		Thread.currentThread().setContextClassLoader(parsingClassLoader);
 		Project project = null;
 		try {
@@ -341,18 +755,21 @@ public class AntModel implements IAntModel {
 			String textToParse = input.get();
 			if (fProjectNode == null || !fProjectNode.hasChildren()) {
 				fProjectNode = null;
+				// the definitions of the previous parse are not in the new project, the definers have to be executed again
+				fPreviousDefinersToText = null;
 				project = new AntModelProject();
 				projectHelper = prepareForFullParse(project, parsingClassLoader);
 			} else {
+				// the published tree keeps the values of the project, the parse builds a new tree on the reset project
 				project = fProjectNode.getProject();
 				projectHelper = (ProjectHelper) project.getReference("ant.projectHelper"); //$NON-NLS-1$
 				projectHelper.setBuildFile(getEditedFile());
-				prepareForFullIncremental();
+				prepareForFullIncremental((AntModelProject) project);
 			}
 			beginReporting();
 			Map<String, Object> references = project.getReferences();
 			references.remove("ant.parsing.context"); //$NON-NLS-1$
-			ProjectHelper.setAntModel(this);
+			ProjectHelper.setAntModel(project, this);
 			projectHelper.parse(project, textToParse);
 
 		}
@@ -360,30 +777,43 @@ public class AntModel implements IAntModel {
 			handleBuildException(e, null);
 		}
 		finally {
-			if (parsed) {
-				SecurityManager origSM = System.getSecurityManager();
-				processAntHome(true);
-				try {
-					// set a security manager to disallow system exit and system property setting
-					System.setSecurityManager(new AntSecurityManager(origSM, Thread.currentThread(), false));
-					resolveBuildfile();
-					endReporting();
-					// clear the additional property-holder(s) to avoid potential memory leaks
-					ProjectHelper.clearAdditionalPropertyHolders();
-				}
-				catch (AntSecurityException e) {
-					// do nothing
-				}
-				finally {
-					Thread.currentThread().setContextClassLoader(originalClassLoader);
-					getClassLoader(null);
-					System.setSecurityManager(origSM);
-					project.fireBuildFinished(null); // cleanup (IntrospectionHelper)
+			try {
+				if (parsed) {
+					// models are parsed concurrently but the security manager is global: resolve one model at a time
+					synchronized (resolveLock) {
+						SecurityManager origSM = System.getSecurityManager();
+						try {
+							// set a security manager to disallow system exit and system property setting
+							System.setSecurityManager(new AntSecurityManager(origSM, Thread.currentThread(), false));
+							checkCanceled();
+							resolveBuildfile();
+							// clear the additional property-holder(s) to avoid potential memory leaks
+							ProjectHelper.clearAdditionalPropertyHolders(project);
+						}
+						catch (AntSecurityException e) {
+							// do nothing
+						}
+						finally {
+							System.setSecurityManager(origSM);
+							project.fireBuildFinished(null); // cleanup (IntrospectionHelper)
+						}
+					}
 				}
 			}
+			finally {
+				Thread.currentThread().setContextClassLoader(originalClassLoader);
+				releaseClassLoader(parsingClassLoader);
+			}
 		}
 	}
 
+	private void prepareForFullIncremental(AntModelProject project) {
+		project.reset();
+		fProjectNode = null;
+		fTaskToNode = new HashMap<>();
+		fTaskNodes = new ArrayList<>();
+	}
+
 	private ProjectHelper prepareForFullParse(Project project, ClassLoader parsingClassLoader) {
 		initializeProject(project, parsingClassLoader);
 		// Ant's parsing facilities always works on a file, therefore we need
@@ -398,26 +828,28 @@ public class AntModel implements IAntModel {
 		project.setUserProperty("ant.version", Main.getAntVersion()); //$NON-NLS-1$
 
 		ProjectHelper projectHelper = getProjectHelper();
-		ProjectHelper.setAntModel(this);
+		ProjectHelper.setAntModel(project, this);
 		projectHelper.setBuildFile(file);
 		project.addReference("ant.projectHelper", projectHelper); //$NON-NLS-1$
 		return projectHelper;
 	}
 
-	private void prepareForFullIncremental() {
-		fProjectNode.reset();
-		fTaskToNode = new HashMap<>();
-		fTaskNodes = new ArrayList<>();
-	}
-
 	private void initializeProject(Project project, ClassLoader loader) {
-		try {
-			processAntHome(false);
-		}
-		catch (AntSecurityException ex) {
-			// do nothing - Ant home can not be set from this thread
+		// the Ant home is passed to the project as system properties, which are global: initialize one project at a time
+		synchronized (resolveLock) {
+			try {
+				processAntHome(false);
+			}
+			catch (AntSecurityException ex) {
+				// do nothing - Ant home can not be set from this thread
+			}
+			try {
+				project.init();
+			}
+			finally {
+				processAntHome(true);
+			}
 		}
-		project.init();
 		setProperties(project);
 		setTasks(project, loader);
 		setTypes(project, loader);
@@ -681,7 +1113,7 @@ public class AntModel implements IAntModel {
 			} else {
 				line = location.getLineNumber();
 				if (line == 0) {
-					AntProjectNode projectNode = getProjectNode();
+					AntProjectNode projectNode = fProjectNode;
 					if (projectNode != null) {
 						length = projectNode.getSelectionLength();
 						nonWhitespaceOffset = projectNode.getOffset();
@@ -749,6 +1181,7 @@ public class AntModel implements IAntModel {
 
 	@Override
 	public void addTarget(Target newTarget, int line, int column) {
+		checkCanceled();
 		AntTargetNode targetNode = AntTargetNode.newAntTargetNode(newTarget);
 		fProjectNode.addChildNode(targetNode);
 		fCurrentTargetNode = targetNode;
@@ -798,6 +1231,7 @@ public class AntModel implements IAntModel {
 
 	@Override
 	public void addTask(Task newTask, Task parentTask, Attributes attributes, int line, int column) {
+		checkCanceled();
 		if (!canGetTaskInfo()) {
 			// need to add top level tasks so imports are executed even when
 			// the model is not interested in task level resolution
@@ -820,8 +1254,18 @@ public class AntModel implements IAntModel {
 			taskNode = newNotWellKnownTaskNode(newTask, attributes);
 			AntTaskNode parentNode = fTaskToNode.get(parentTask);
 			parentNode.addChildNode(taskNode);
+			if (parentNode instanceof AntDefiningTaskNode) {
+				String name = attributes.getValue(IAntCoreConstants.NAME);
+				if (name != null) {
+					fProjectNode.addMacroDefAttributeNode(name, taskNode);
+				}
+			}
 		}
 		fTaskToNode.put(newTask, taskNode);
+		String id = attributes.getValue("id"); //$NON-NLS-1$
+		if (id != null) {
+			fProjectNode.addReferenceNode(id, taskNode);
+		}
 
 		fStillOpenElements.push(taskNode);
 		computeOffset(taskNode, line, column);
@@ -990,7 +1434,8 @@ public class AntModel implements IAntModel {
 			int offset;
 			if (column <= 0) {
 				column = getLastCharColumn(line);
-				String lineText = fDocument.get(fDocument.getLineOffset(line - 1), column);
+				IDocument document = getParseDocument();
+				String lineText = document.get(document.getLineOffset(line - 1), column);
 				StringBuilder searchString = new StringBuilder("</"); //$NON-NLS-1$
 				searchString.append(element.getName());
 				searchString.append('>');
@@ -1052,7 +1497,8 @@ public class AntModel implements IAntModel {
 	}
 
 	private int computeOffsetUsingPrefix(int line, int offset, String prefix, int column) throws BadLocationException {
-		String lineText = fDocument.get(fDocument.getLineOffset(line - 1), column);
+		IDocument document = getParseDocument();
+		String lineText = document.get(document.getLineOffset(line - 1), column);
 		int lastIndex = lineText.indexOf(prefix);
 		if (lastIndex > -1) {
 			offset = getOffset(line, lastIndex + 1);
@@ -1064,12 +1510,13 @@ public class AntModel implements IAntModel {
 
 	@Override
 	public int getOffset(int line, int column) throws BadLocationException {
-		return fDocument.getLineOffset(line - 1) + column - 1;
+		return getParseDocument().getLineOffset(line - 1) + column - 1;
 	}
 
 	private int getNonWhitespaceOffset(int line, int column) throws BadLocationException {
-		int offset = fDocument.getLineOffset(line - 1) + column - 1;
-		while (Character.isWhitespace(fDocument.getChar(offset))) {
+		IDocument document = getParseDocument();
+		int offset = document.getLineOffset(line - 1) + column - 1;
+		while (Character.isWhitespace(document.getChar(offset))) {
 			offset++;
 		}
 		return offset;
@@ -1077,7 +1524,7 @@ public class AntModel implements IAntModel {
 
 	public int getLine(int offset) {
 		try {
-			return fDocument.getLineOfOffset(offset) + 1;
+			return getParseDocument().getLineOfOffset(offset) + 1;
 		}
 		catch (BadLocationException be) {
 			return -1;
@@ -1085,9 +1532,10 @@ public class AntModel implements IAntModel {
 	}
 
 	private int getLastCharColumn(int line) throws BadLocationException {
-		String lineDelimiter = fDocument.getLineDelimiter(line - 1);
+		IDocument document = getParseDocument();
+		String lineDelimiter = document.getLineDelimiter(line - 1);
 		int lineDelimiterLength = lineDelimiter != null ? lineDelimiter.length() : 0;
-		return fDocument.getLineLength(line - 1) - lineDelimiterLength;
+		return document.getLineLength(line - 1) - lineDelimiterLength;
 	}
 
 	@Override
@@ -1102,12 +1550,7 @@ public class AntModel implements IAntModel {
 	}
 
 	private void acceptProblem(IProblem problem) {
-		if (fProblemRequestor != null) {
-			fProblemRequestor.acceptProblem(problem);
-		}
-		if (fMarkerUpdater != null) {
-			fMarkerUpdater.acceptProblem(problem);
-		}
+		fPendingProblems.add(problem);
 	}
 
 	@Override
@@ -1124,15 +1567,31 @@ public class AntModel implements IAntModel {
 	}
 
 	private void beginReporting() {
+		fIsReporting = true;
+	}
+
+	/**
+	 * Reports the problems of the parse that has been published
+	 */
+	private void reportProblems() {
+		if (!fIsReporting) {
+			return;
+		}
+		fHasProblems = !fPendingProblems.isEmpty();
 		if (fProblemRequestor != null) {
 			fProblemRequestor.beginReporting();
 		}
 		if (fMarkerUpdater != null) {
 			fMarkerUpdater.beginReporting();
 		}
-	}
-
-	private void endReporting() {
+		for (IProblem problem : fPendingProblems) {
+			if (fProblemRequestor != null) {
+				fProblemRequestor.acceptProblem(problem);
+			}
+			if (fMarkerUpdater != null) {
+				fMarkerUpdater.acceptProblem(problem);
+			}
+		}
 		if (fProblemRequestor != null) {
 			fProblemRequestor.endReporting();
 		}
@@ -1365,7 +1824,11 @@ public class AntModel implements IAntModel {
 		return null;
 	}
 
-	private ClassLoader getClassLoader(ClassLoader contextClassLoader) {
+	/**
+	 * Returns the class loader to parse with. The shared class loader is used by the parses of all models without a class loader of their own;
+	 * its plug-in context class loader is only set if no other parse is using it, and is kept until the last of them releases the class loader.
+	 */
+	private ClassLoader acquireClassLoader(ClassLoader contextClassLoader) {
 		synchronized (loaderLock) {
 			if (fLocalClassLoader != null) {
 				((AntClassLoader) fLocalClassLoader).setPluginContextClassloader(contextClassLoader);
@@ -1374,13 +1837,25 @@ public class AntModel implements IAntModel {
 			if (fgClassLoader == null) {
 				fgClassLoader = AntCorePlugin.getPlugin().getNewClassLoader(true);
 			}
-			if (fgClassLoader instanceof AntClassLoader) {
+			if (fgClassLoaderUsers++ == 0 && fgClassLoader instanceof AntClassLoader) {
 				((AntClassLoader) fgClassLoader).setPluginContextClassloader(contextClassLoader);
 			}
 			return fgClassLoader;
 		}
 	}
 
+	private void releaseClassLoader(ClassLoader loader) {
+		synchronized (loaderLock) {
+			if (loader == fLocalClassLoader) {
+				((AntClassLoader) loader).setPluginContextClassloader(null);
+				return;
+			}
+			if (--fgClassLoaderUsers == 0 && loader instanceof AntClassLoader) {
+				((AntClassLoader) loader).setPluginContextClassloader(null);
+			}
+		}
+	}
+
 	public String getTargetDescription(String targetName) {
 		AntTargetNode target = getTargetNode(targetName);
 		if (target != null) {
@@ -1394,28 +1869,37 @@ public class AntModel implements IAntModel {
 		if (projectNode == null) {
 			return null;
 		}
-		if (projectNode.hasChildren()) {
-			List<IAntElement> possibleTargets = projectNode.getChildNodes();
-			for (IAntElement node : possibleTargets) {
-				if (node instanceof AntTargetNode) {
-					AntTargetNode targetNode = (AntTargetNode) node;
-					if (targetName.equalsIgnoreCase(targetNode.getTarget().getName())) {
-						return targetNode;
-					}
-				}
-			}
-		}
-		return null;
+		return projectNode.getTargetNode(targetName);
 	}
 
+	/**
+	 * Returns the project node of the tree published last. If <code>doReconcile</code> is <code>true</code>, the model is reconciled first; if
+	 * another thread is reconciling the model, the reconcile is waited for for a bounded time only when a tree has been published, and the tree
+	 * published last is returned if the reconcile takes longer. The reconcile in progress publishes its tree once it completes.
+	 */
 	@Override
 	public AntProjectNode getProjectNode(boolean doReconcile) {
 		if (doReconcile) {
-			synchronized (getLockObject()) { // ensure to wait for any current synchronization
+			if (fPublishedTree.fProjectNode == null) {
+				// nothing to return yet, wait for the reconcile
 				reconcile();
+			} else {
+				try {
+					if (fReconcileLock.tryLock(RECONCILE_WAIT, TimeUnit.MILLISECONDS)) {
+						try {
+							reconcile();
+						}
+						finally {
+							fReconcileLock.unlock();
+						}
+					}
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
 			}
 		}
-		return fProjectNode;
+		return fPublishedTree.fProjectNode;
 	}
 
 	@Override
@@ -1516,7 +2000,7 @@ public class AntModel implements IAntModel {
 	@Override
 	public String getText(int offset, int length) {
 		try {
-			return fDocument.get(offset, length);
+			return getParseDocument().get(offset, length);
 		}
 		catch (BadLocationException e) {
 			// do nothing
@@ -1524,33 +2008,16 @@ public class AntModel implements IAntModel {
 		return null;
 	}
 
-	private IAntElement findPropertyNode(String text, List<IAntElement> children) {
-		for (IAntElement element : children) {
-			if (element instanceof AntPropertyNode) {
-				if (((AntPropertyNode) element).getProperty(text) != null) {
-					return element;
-				}
-			} else if (element.hasChildren()) {
-				IAntElement found = findPropertyNode(text, element.getChildNodes());
-				if (found != null) {
-					return found;
-				}
-			}
-		}
-		return null;
-	}
-
 	public IAntElement getPropertyNode(String text) {
 		AntProjectNode node = getProjectNode();
-		if (node == null || !node.hasChildren()) {
+		if (node == null) {
 			return null;
 		}
-
-		return findPropertyNode(text, node.getChildNodes());
+		return node.getPropertyNode(text);
 	}
 
 	public List<AntElementNode> getNonStructuralNodes() {
-		return fNonStructuralNodes;
+		return fPublishedTree.fNonStructuralNodes;
 	}
 
 	public void updateForInitialReconcile() {
@@ -1571,27 +2038,11 @@ public class AntModel implements IAntModel {
 	}
 
 	public AntElementNode getReferenceNode(String text) {
-		Object reference = getReferenceObject(text);
-		if (reference == null) {
+		AntProjectNode projectNode = getProjectNode();
+		if (projectNode == null || getReferenceObject(text) == null) {
 			return null;
 		}
-
-		Set<Task> nodes = fTaskToNode.keySet();
-		Iterator<Task> iter = nodes.iterator();
-		while (iter.hasNext()) {
-			Task task = iter.next();
-			Task tmptask = task;
-			if (tmptask instanceof UnknownElement) {
-				UnknownElement element = (UnknownElement) tmptask;
-				RuntimeConfigurable wrapper = element.getWrapper();
-				Map<String, Object> attributes = wrapper.getAttributeMap();
-				String id = (String) attributes.get("id"); //$NON-NLS-1$
-				if (text.equals(id)) {
-					return fTaskToNode.get(task);
-				}
-			}
-		}
-		return null;
+		return projectNode.getReferenceNode(text);
 	}
 
 	public Object getReferenceObject(String refId) {
@@ -1600,10 +2051,7 @@ public class AntModel implements IAntModel {
 			return null;
 		}
 		try {
-			Project project = projectNode.getProject();
-			Object ref = project.getReference(refId);
-			return ref;
-
+			return projectNode.getReference(refId);
 		}
 		catch (BuildException be) {
 			handleBuildException(be, null);
@@ -1616,7 +2064,7 @@ public class AntModel implements IAntModel {
 		if (projectNode == null) {
 			return null;
 		}
-		return projectNode.getProject().getProperty(propertyName);
+		return projectNode.getProperty(propertyName);
 	}
 
 	/**
@@ -1628,6 +2076,9 @@ public class AntModel implements IAntModel {
 			public void documentAboutToBeChanged(DocumentEvent event) {
 				synchronized (fDirtyLock) {
 					fIsDirty = true;
+					if (!fFullParseRequired) {
+						addDirtyRegion(event);
+					}
 				}
 			}
 
@@ -1639,15 +2090,58 @@ public class AntModel implements IAntModel {
 		fDocument.addDocumentListener(fListener);
 	}
 
+	/**
+	 * Merges the region replaced by the given event into the region changed since the last reconcile. Must be called before the document is
+	 * changed and while holding the dirty lock.
+	 */
+	private void addDirtyRegion(DocumentEvent event) {
+		int offset = event.getOffset();
+		int length = event.getLength();
+		String text = event.getText();
+		int textLength = text == null ? 0 : text.length();
+		try {
+			String replaced = length > 0 ? event.getDocument().get(offset, length) : null;
+			if (containsMarkup(text) || containsMarkup(replaced)) {
+				fFullParseRequired = true;
+				return;
+			}
+			if (!isWhitespace(text) || !isWhitespace(replaced)) {
+				fDirtyTextChanged = true;
+			}
+		}
+		catch (BadLocationException e) {
+			fFullParseRequired = true;
+			return;
+		}
+		int delta = textLength - length;
+		if (fDirtyOffset == -1) {
+			fDirtyOffset = offset;
+			fDirtyEnd = offset + textLength;
+		} else {
+			fDirtyEnd = Math.max(fDirtyEnd + delta, offset + textLength);
+			fDirtyOffset = Math.min(fDirtyOffset, offset);
+		}
+		fDirtyDelta += delta;
+	}
+
 	private void reconcileForPropertyChange(boolean classpathChanged) {
-		if (classpathChanged) {
-			fProjectNode = null; // need to reset tasks, types and properties
-			fgClassLoader = null;
-			AntDefiningTaskNode.setJavaClassPath();
-			ProjectHelper.reset();
+		synchronized (fDirtyLock) {
+			fIsDirty = true;
+			fFullParseRequired = true;
+		}
+		fReconcileLock.lock();
+		try {
+			if (classpathChanged) {
+				fProjectNode = null; // the definers have to be executed again for the new class path
+				fgClassLoader = null;
+				AntDefiningTaskNode.setJavaClassPath();
+				ProjectHelper.reset();
+			}
+			reconcile();
+		}
+		finally {
+			fReconcileLock.unlock();
 		}
-		fIsDirty = true;
-		reconcile();
 		AntModelCore.getDefault().notifyAntModelListeners(new AntModelChangeEvent(this, true));
 		fMarkerUpdater.updateMarkers();
 	}
@@ -1754,20 +2248,11 @@ public class AntModel implements IAntModel {
 	}
 
 	public AntTaskNode getMacroDefAttributeNode(String macroDefAttributeName) {
-		if (fTaskNameToDefiningNode == null) {
+		AntProjectNode projectNode = getProjectNode();
+		if (projectNode == null) {
 			return null;
 		}
-		for (AntDefiningTaskNode definingNode : fTaskNameToDefiningNode.values()) {
-			List<IAntElement> attributes = definingNode.getChildNodes();
-			if (attributes != null) {
-				for (IAntElement element : attributes) {
-					if (macroDefAttributeName.equals(element.getLabel())) {
-						return (AntTaskNode) element;
-					}
-				}
-			}
-		}
-		return null;
+		return projectNode.getMacroDefAttributeNode(macroDefAttributeName);
 	}
 
 	/**
@@ -27,6 +27,7 @@ public class AntModelMessages extends NLS {
 	public static String AntModel_44;
 	public static String AntProjectNodeProxy_0;
 	public static String AntProjectNodeProxy_1;
+	public static String AntProjectNodeLoader_0;
 	public static String AntDefiningTaskNode_0;
 	public static String AntDefiningTaskNode_1;
 	public static String AntProjectNode_0;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * Portions Copyright  2000-2004 The Apache Software Foundation
  *
  * This program and the accompanying materials are made 
@@ -139,12 +139,28 @@ public class AntModelProject extends Project {
 	public <T> T getReference(String key) {
 		T ref = super.getReference(key);/* references.get(key); */
 		if (ref == null) {
-			ref = (T) idrefs.get(key);
-			if (ref instanceof UnknownElement) {
-				UnknownElement ue = (UnknownElement) ref;
-				ue.maybeConfigure();
-				return (T) ue.getRealThing();
-			}
+			return (T) getRealThing(idrefs.get(key));
+		}
+		return ref;
+	}
+
+	/**
+	 * Returns a copy of the references of this project, including the references only known by id
+	 */
+	public Map<String, Object> getCopyOfAllReferences() {
+		Map<String, Object> references = new HashMap<>(idrefs);
+		references.putAll(getCopyOfReferences());
+		return references;
+	}
+
+	/**
+	 * Configures the given reference if it is an unknown element and returns the object it stands for
+	 */
+	static Object getRealThing(Object ref) {
+		if (ref instanceof UnknownElement) {
+			UnknownElement ue = (UnknownElement) ref;
+			ue.maybeConfigure();
+			return ue.getRealThing();
 		}
 		return ref;
 	}
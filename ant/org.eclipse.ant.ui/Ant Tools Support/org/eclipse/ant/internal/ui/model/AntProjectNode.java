@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2013 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,19 @@
 package org.eclipse.ant.internal.ui.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.tools.ant.Project;
+import org.apache.tools.ant.Target;
 import org.eclipse.ant.internal.core.IAntCoreConstants;
 import org.eclipse.ant.internal.ui.AntUIImages;
 import org.eclipse.ant.internal.ui.IAntUIConstants;
@@ -27,10 +37,58 @@ import org.eclipse.jface.text.IRegion;
 
 public class AntProjectNode extends AntElementNode {
 
+	/**
+	 * The values of the Ant project when the tree of a project node is published. The model reuses the Ant project for its next parse, so the
+	 * published tree reads these values rather than the project.
+	 */
+	static class ProjectValues {
+		final String fName;
+		final String fDescription;
+		final String fDefaultTarget;
+		final Map<String, Target> fTargets;
+		final Map<String, Object> fProperties;
+		final Map<String, Object> fReferences;
+
+		ProjectValues(AntModelProject project) {
+			fName = project.getName();
+			fDescription = project.getDescription();
+			fDefaultTarget = project.getDefaultTarget();
+			fTargets = Collections.unmodifiableMap(new HashMap<>(project.getTargets()));
+			fProperties = Collections.unmodifiableMap(new HashMap<>(project.getProperties()));
+			fReferences = Collections.unmodifiableMap(project.getCopyOfAllReferences());
+		}
+	}
+
 	protected AntModelProject fProject;
 	protected IAntModel fModel;
 	protected String fLabel;
 
+	/**
+	 * The values of the Ant project when this node was published, or <code>null</code> while the project is parsed
+	 */
+	volatile ProjectValues fProjectValues;
+
+	/**
+	 * The nodes of this project in the document, sorted by offset, or <code>null</code> if the nodes have not been indexed
+	 */
+	private volatile AntElementNode[] fNodesByOffset;
+
+	/**
+	 * All nodes of this project in document order, including the nodes of imported files, or <code>null</code> if the nodes have not been indexed,
+	 * and the nodes containing an occurrence of each identifier looked up since
+	 */
+	private volatile IAntElement[] fOccurrenceNodes;
+	private Map<String, List<IAntElement>> fOccurrences = new ConcurrentHashMap<>();
+
+	/**
+	 * The nodes of this project by name, filled while the project is parsed. The first node registered for a name wins, as the first definition
+	 * does in Ant.
+	 */
+	private Map<String, AntTargetNode> fTargetsByName = new HashMap<>();
+	private Map<String, AntPropertyNode> fPropertiesByName = new HashMap<>();
+	private Map<String, AntTaskNode> fReferencesById = new HashMap<>();
+	private Map<String, AntTaskNode> fMacroDefAttributesByName = new HashMap<>();
+
 	public AntProjectNode(AntModelProject project, IAntModel antModel) {
 		super("project"); //$NON-NLS-1$
 		fProject = project;
@@ -41,7 +99,8 @@ public class AntProjectNode extends AntElementNode {
 	public String getLabel() {
 		if (fLabel == null) {
 			if (fProject != null) {
-				fLabel = fProject.getName();
+				ProjectValues values = fProjectValues;
+				fLabel = values != null ? values.fName : fProject.getName();
 			} else {
 				fLabel = AntModelMessages.AntProjectNode_0;
 			}
@@ -58,7 +117,9 @@ public class AntProjectNode extends AntElementNode {
 	}
 
 	/**
-	 * Returns the Ant project associated with this project node.
+	 * Returns the Ant project associated with this project node. The model reuses the Ant project when it parses the buildfile again; the values of
+	 * the project as parsed for this node are returned by {@link #getDescription()}, {@link #getDefaultTargetName()}, {@link #getTargets()},
+	 * {@link #getProperties()} and {@link #getReference(String)}.
 	 * 
 	 * @return the Ant project
 	 */
@@ -71,6 +132,14 @@ public class AntProjectNode extends AntElementNode {
 		return fModel;
 	}
 
+	/**
+	 * Keeps the current values of the Ant project for the readers of this node. Called once the tree of this node is complete, before it is
+	 * published.
+	 */
+	void publishProjectValues() {
+		fProjectValues = new ProjectValues(fProject);
+	}
+
 	@Override
 	public void reset() {
 		super.reset();
@@ -79,13 +148,19 @@ public class AntProjectNode extends AntElementNode {
 		setProblemMessage(null);
 		fOffset = -1;
 		fLength = -1;
+		fNodesByOffset = null;
+		fTargetsByName.clear();
+		fPropertiesByName.clear();
+		fReferencesById.clear();
+		fMacroDefAttributesByName.clear();
 	}
 
 	public String getDescription() {
 		if (fProject == null) {
 			return AntModelMessages.AntProjectNode_0;
 		}
-		return fProject.getDescription();
+		ProjectValues values = fProjectValues;
+		return values != null ? values.fDescription : fProject.getDescription();
 	}
 
 	public String getBuildFileName() {
@@ -100,7 +175,79 @@ public class AntProjectNode extends AntElementNode {
 	}
 
 	public String getDefaultTargetName() {
-		return fProject.getDefaultTarget();
+		ProjectValues values = fProjectValues;
+		return values != null ? values.fDefaultTarget : fProject.getDefaultTarget();
+	}
+
+	/**
+	 * @return the targets of the Ant project by name
+	 */
+	public Map<String, Target> getTargets() {
+		ProjectValues values = fProjectValues;
+		return values != null ? values.fTargets : fProject.getTargets();
+	}
+
+	/**
+	 * @return the properties of the Ant project by name
+	 */
+	public Map<String, Object> getProperties() {
+		ProjectValues values = fProjectValues;
+		return values != null ? values.fProperties : fProject.getProperties();
+	}
+
+	/**
+	 * @return the value of the property with the given name or <code>null</code> if the property is not set
+	 */
+	public String getProperty(String name) {
+		ProjectValues values = fProjectValues;
+		if (values == null) {
+			return fProject.getProperty(name);
+		}
+		Object value = values.fProperties.get(name);
+		return value == null ? null : value.toString();
+	}
+
+	/**
+	 * Replaces the references to the properties of the Ant project in the given value; references to properties that are not set are kept.
+	 */
+	public String replaceProperties(String value) {
+		if (fProjectValues == null) {
+			return fProject.replaceProperties(value);
+		}
+		StringBuilder result = new StringBuilder(value.length());
+		int index = 0;
+		int start;
+		while ((start = value.indexOf("${", index)) != -1) { //$NON-NLS-1$
+			int end = value.indexOf('}', start + 2);
+			if (end == -1) {
+				break;
+			}
+			result.append(value, index, start);
+			String property = getProperty(value.substring(start + 2, end));
+			result.append(property != null ? property : value.substring(start, end + 1));
+			index = end + 1;
+		}
+		result.append(value, index, value.length());
+		return result.toString();
+	}
+
+	/**
+	 * @return the references of the Ant project by id
+	 */
+	public Map<String, Object> getReferences() {
+		ProjectValues values = fProjectValues;
+		return values != null ? values.fReferences : fProject.getReferences();
+	}
+
+	/**
+	 * @return the object referenced by the given id or <code>null</code>
+	 */
+	public Object getReference(String id) {
+		ProjectValues values = fProjectValues;
+		if (values == null) {
+			return fProject.getReference(id);
+		}
+		return AntModelProject.getRealThing(values.fReferences.get(id));
 	}
 
 	/**
@@ -117,6 +264,218 @@ public class AntProjectNode extends AntElementNode {
 		return this;
 	}
 
+	@Override
+	public void addChildNode(AntElementNode childElement) {
+		super.addChildNode(childElement);
+		if (childElement instanceof AntTargetNode) {
+			String name = ((AntTargetNode) childElement).getTarget().getName();
+			if (name != null) {
+				fTargetsByName.putIfAbsent(name.toLowerCase(Locale.ENGLISH), (AntTargetNode) childElement);
+			}
+		}
+	}
+
+	/**
+	 * Returns the target of this project with the given name, ignoring case
+	 *
+	 * @param name
+	 *            the name of the target
+	 * @return the target node or <code>null</code>
+	 */
+	public AntTargetNode getTargetNode(String name) {
+		return fTargetsByName.get(name.toLowerCase(Locale.ENGLISH));
+	}
+
+	/**
+	 * Registers the node that defined the property with the given name
+	 */
+	void addPropertyNode(String name, AntPropertyNode node) {
+		fPropertiesByName.putIfAbsent(name, node);
+	}
+
+	/**
+	 * @return the node that defined the property with the given name or <code>null</code>
+	 */
+	public AntPropertyNode getPropertyNode(String name) {
+		return fPropertiesByName.get(name);
+	}
+
+	/**
+	 * Registers the task node declaring the given id
+	 */
+	void addReferenceNode(String id, AntTaskNode node) {
+		fReferencesById.putIfAbsent(id, node);
+	}
+
+	/**
+	 * @return the task node declaring the given id or <code>null</code>
+	 */
+	public AntTaskNode getReferenceNode(String id) {
+		return fReferencesById.get(id);
+	}
+
+	/**
+	 * Registers the node of an attribute or element of a macrodef
+	 */
+	void addMacroDefAttributeNode(String name, AntTaskNode node) {
+		fMacroDefAttributesByName.putIfAbsent(name, node);
+	}
+
+	/**
+	 * @return the node of the macrodef attribute or element with the given name or <code>null</code>
+	 */
+	public AntTaskNode getMacroDefAttributeNode(String name) {
+		return fMacroDefAttributesByName.get(name);
+	}
+
+	/**
+	 * Returns a copy of this project node and its descendants that is not indexed. The copies share the Ant project, targets and tasks with the
+	 * nodes they copy, so a copy can be changed and published in place of this node while this node is still read.
+	 *
+	 * @param copies
+	 *            the map of the nodes copied to their copies, compared by identity
+	 * @return the copy of this project node
+	 */
+	public AntProjectNode copyTree(Map<AntElementNode, AntElementNode> copies) {
+		AntProjectNode copy = (AntProjectNode) copy(null, copies);
+		for (AntElementNode node : copies.values()) {
+			node.updateImportNode(copies);
+		}
+		copy.fTargetsByName = copyNodes(fTargetsByName, copies);
+		copy.fPropertiesByName = copyNodes(fPropertiesByName, copies);
+		copy.fReferencesById = copyNodes(fReferencesById, copies);
+		copy.fMacroDefAttributesByName = copyNodes(fMacroDefAttributesByName, copies);
+		copy.fNodesByOffset = null;
+		copy.fOccurrenceNodes = null;
+		copy.fOccurrences = new ConcurrentHashMap<>();
+		return copy;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends AntElementNode> Map<String, T> copyNodes(Map<String, T> nodes, Map<AntElementNode, AntElementNode> copies) {
+		Map<String, T> result = new HashMap<>(nodes.size());
+		for (Map.Entry<String, T> entry : nodes.entrySet()) {
+			AntElementNode copy = copies.get(entry.getValue());
+			result.put(entry.getKey(), copy != null ? (T) copy : entry.getValue());
+		}
+		return result;
+	}
+
+	/**
+	 * Indexes the nodes of this project by offset so that {@link #getNode(int)} does not have to visit every node. Must only be called once the tree
+	 * is complete and is not changed any more.
+	 */
+	public void indexOffsets() {
+		List<AntElementNode> nodes = new ArrayList<>();
+		collectNodes(this, nodes);
+		AntElementNode[] nodesByOffset = nodes.toArray(new AntElementNode[nodes.size()]);
+		// the nodes are collected in document order, the sort is stable and only ensures the order for malformed documents
+		Arrays.sort(nodesByOffset, Comparator.comparingInt(AntElementNode::getOffset));
+		fNodesByOffset = nodesByOffset;
+	}
+
+	private void collectNodes(AntElementNode node, List<AntElementNode> nodes) {
+		if (node.isExternal()) {
+			return;
+		}
+		nodes.add(node);
+		if (node.hasChildren()) {
+			for (IAntElement child : node.getChildNodes()) {
+				collectNodes((AntElementNode) child, nodes);
+			}
+		}
+	}
+
+	/**
+	 * Indexes the nodes of this project for finding the occurrences of an identifier. Must only be called once the tree is complete. The nodes
+	 * containing an occurrence of an identifier are found in one pass over the indexed nodes and retained until the tree is parsed again, so that
+	 * marking the occurrences of the same identifier again is a single lookup.
+	 */
+	public void indexOccurrences() {
+		List<IAntElement> nodes = new ArrayList<>();
+		collectOccurrenceNodes(this, nodes);
+		fOccurrences.clear();
+		fOccurrenceNodes = nodes.toArray(new IAntElement[nodes.size()]);
+	}
+
+	private void collectOccurrenceNodes(IAntElement node, List<IAntElement> nodes) {
+		nodes.add(node);
+		if (node.hasChildren()) {
+			for (IAntElement child : node.getChildNodes()) {
+				collectOccurrenceNodes(child, nodes);
+			}
+		}
+	}
+
+	/**
+	 * Returns the nodes of this project that contain an occurrence of the given identifier in document order. Of nodes that are equal, only the
+	 * first is returned.
+	 * 
+	 * @param identifier
+	 *            the occurrences identifier of a node
+	 * @return the nodes containing an occurrence
+	 * @see IAntElement#containsOccurrence(String)
+	 */
+	public List<IAntElement> getOccurrences(String identifier) {
+		IAntElement[] nodes = fOccurrenceNodes;
+		if (nodes == null) {
+			List<IAntElement> allNodes = new ArrayList<>();
+			collectOccurrenceNodes(this, allNodes);
+			return findOccurrences(allNodes.toArray(new IAntElement[allNodes.size()]), identifier);
+		}
+		List<IAntElement> occurrences = fOccurrences.get(identifier);
+		if (occurrences == null) {
+			occurrences = findOccurrences(nodes, identifier);
+			fOccurrences.put(identifier, occurrences);
+		}
+		return occurrences;
+	}
+
+	private List<IAntElement> findOccurrences(IAntElement[] nodes, String identifier) {
+		List<IAntElement> occurrences = new ArrayList<>();
+		Set<IAntElement> found = new HashSet<>();
+		for (IAntElement node : nodes) {
+			if (node.containsOccurrence(identifier) && found.add(node)) {
+				occurrences.add(node);
+			}
+		}
+		return Collections.unmodifiableList(occurrences);
+	}
+
+	/**
+	 * Returns the innermost node containing the offset. The last node starting at or before the offset is found by a binary search; as nodes nest,
+	 * the innermost node containing the offset is that node or one of its parents.
+	 */
+	@Override
+	public AntElementNode getNode(int sourceOffset) {
+		AntElementNode[] nodesByOffset = fNodesByOffset;
+		if (nodesByOffset == null) {
+			return super.getNode(sourceOffset);
+		}
+		int low = 0;
+		int high = nodesByOffset.length - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (nodesByOffset[middle].getOffset() <= sourceOffset) {
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		if (high < 0) {
+			return null;
+		}
+		for (AntElementNode node = nodesByOffset[high]; node != null; node = (AntElementNode) node.getParentNode()) {
+			if (node.containsOffset(sourceOffset)) {
+				return node;
+			}
+			if (node == this) {
+				break;
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public boolean containsOccurrence(String identifier) {
 		return identifier.equals(getDefaultTargetName());
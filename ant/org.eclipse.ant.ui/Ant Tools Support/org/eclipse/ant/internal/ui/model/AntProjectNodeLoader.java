@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.ui.model;
+
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ant.internal.ui.AntTargetsCache;
+import org.eclipse.ant.internal.ui.AntUtil;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
+
+/**
+ * Loads the buildfiles of Ant view projects in the background. Several buildfiles are parsed at the same time on a bounded number of threads, and
+ * the targets of a buildfile are cached in the {@link AntTargetsCache} so that a buildfile that has not changed is not parsed again.
+ */
+public class AntProjectNodeLoader {
+
+	/**
+	 * Notified of each project once its buildfile has been loaded
+	 */
+	public interface IProjectLoadListener {
+		void projectLoaded(AntProjectNodeProxy project);
+	}
+
+	private static final int MAX_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+	private AntProjectNodeLoader() {
+	}
+
+	/**
+	 * Returns the targets of the given buildfile, parsing it unless the targets are cached and none of the files they were parsed from has changed.
+	 *
+	 * @param file
+	 *            the buildfile, which must have a location
+	 * @param force
+	 *            whether to parse the buildfile even if its targets are cached
+	 * @return the targets or <code>null</code> if the buildfile could not be parsed
+	 * @see AntTargetsCache
+	 */
+	static AntTargetNode[] getTargets(IFile file, boolean force) {
+		String location = file.getLocation().toFile().getAbsolutePath();
+		if (force) {
+			AntTargetsCache.getDefault().remove(location);
+		}
+		return AntUtil.getTargets(location);
+	}
+
+	/**
+	 * Loads the buildfiles of the given projects in the background and returns immediately.
+	 *
+	 * @param projects
+	 *            the projects to load
+	 * @param force
+	 *            whether to parse the buildfiles even if their targets are cached
+	 * @param listener
+	 *            notified on a background thread as each project is loaded
+	 * @return the group of the jobs loading the projects
+	 */
+	public static JobGroup schedule(Collection<AntProjectNodeProxy> projects, final boolean force, final IProjectLoadListener listener) {
+		JobGroup group = new JobGroup(AntModelMessages.AntProjectNodeLoader_0, MAX_THREADS, projects.size());
+		for (final AntProjectNodeProxy project : projects) {
+			Job job = new Job(AntModelMessages.AntProjectNodeLoader_0) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					if (monitor.isCanceled()) {
+						return Status.CANCEL_STATUS;
+					}
+					try {
+						project.parseBuildFile(force);
+					}
+					finally {
+						listener.projectLoaded(project);
+					}
+					return Status.OK_STATUS;
+				}
+			};
+			job.setSystem(true);
+			job.setJobGroup(group);
+			job.schedule();
+		}
+		return group;
+	}
+
+	/**
+	 * Loads the buildfiles of the given projects in parallel and waits until all of them are loaded or the monitor is canceled. The listener is
+	 * notified on the calling thread, in the order the projects finish loading.
+	 *
+	 * @param projects
+	 *            the projects to load
+	 * @param force
+	 *            whether to parse the buildfiles even if their targets are cached
+	 * @param listener
+	 *            notified as each project is loaded
+	 * @param monitor
+	 *            the progress monitor, which is worked once per project
+	 */
+	public static void load(Collection<AntProjectNodeProxy> projects, boolean force, IProjectLoadListener listener, IProgressMonitor monitor) {
+		BlockingQueue<AntProjectNodeProxy> loaded = new LinkedBlockingQueue<>();
+		JobGroup group = schedule(projects, force, loaded::add);
+		try {
+			for (int i = 0; i < projects.size(); i++) {
+				AntProjectNodeProxy project = null;
+				while (project == null) {
+					if (monitor.isCanceled()) {
+						group.cancel();
+						return;
+					}
+					project = loaded.poll(100, TimeUnit.MILLISECONDS);
+				}
+				listener.projectLoaded(project);
+				monitor.worked(1);
+			}
+		}
+		catch (InterruptedException e) {
+			group.cancel();
+			Thread.currentThread().interrupt();
+		}
+	}
+}
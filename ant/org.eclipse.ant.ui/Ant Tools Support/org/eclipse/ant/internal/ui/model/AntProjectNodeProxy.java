@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2013 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,11 +15,12 @@
 package org.eclipse.ant.internal.ui.model;
 
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.ant.internal.ui.AntUtil;
 import org.eclipse.core.resources.IFile;
-import org.eclipse.core.runtime.IPath;
 
 public class AntProjectNodeProxy extends AntProjectNode {
 
@@ -48,20 +49,27 @@ public class AntProjectNodeProxy extends AntProjectNode {
 		this(null, buildFileName);
 	}
 
-	public void parseBuildFile(boolean force) {
+	/**
+	 * Parses the buildfile of this project unless it has already been parsed. The projects of the Ant view may be parsed on background threads,
+	 * see {@link AntProjectNodeLoader}.
+	 *
+	 * @param force
+	 *            whether to parse the buildfile again even if it has been parsed and has not changed since
+	 */
+	public synchronized void parseBuildFile(boolean force) {
 		if (fParsed && !force) {
 			return;
 		}
 		fChildNodes = null;
 		fParsed = true;
 		AntTargetNode[] nodes = null;
-		IPath buildFilePath = AntUtil.getFile(getBuildFileName()).getLocation();
-		if (buildFilePath == null) {
+		IFile buildFile = AntUtil.getFile(getBuildFileName());
+		if (buildFile.getLocation() == null) {
 			setProblemSeverity(AntModelProblem.SEVERITY_ERROR);
 			setProblemMessage(AntModelMessages.AntProjectNodeProxy_0);
 			return;
 		}
-		nodes = AntUtil.getTargets(buildFilePath.toString());
+		nodes = AntProjectNodeLoader.getTargets(buildFile, force);
 
 		if (nodes == null || nodes.length < 1) {
 			setProblemSeverity(AntModelProblem.SEVERITY_ERROR);
@@ -71,14 +79,16 @@ public class AntProjectNodeProxy extends AntProjectNode {
 
 		AntProjectNode projectNode = nodes[0].getProjectNode();
 		if (nodes[0].getTargetName().length() != 0) {
-			// not just the implicit target
+			// not just the implicit target; the cached targets are shared, so this project adopts copies of them
+			Map<AntElementNode, AntElementNode> copies = new IdentityHashMap<>();
 			for (AntTargetNode node : nodes) {
-				addChildNode(node);
+				addChildNode(node.copy(this, copies));
 			}
 		}
 
 		fModel = projectNode.getAntModel();
 		fProject = (AntModelProject) projectNode.getProject();
+		fProjectValues = projectNode.fProjectValues;
 		fLabel = null;
 		fName = null;
 	}
@@ -138,19 +148,26 @@ public class AntProjectNodeProxy extends AntProjectNode {
 		return true;
 	}
 
+	/**
+	 * Releases the targets of this project and disposes the model they were parsed by. The model may be shared with other projects on the same
+	 * buildfile, disposing it again has no effect.
+	 */
 	@Override
-	public void dispose() {
+	public synchronized void dispose() {
 		if (fProject != null) {
 			super.dispose();
 		}
+		fChildNodes = null;
+		fParsed = false;
 	}
 
 	@Override
 	public boolean isErrorNode() {
-		if (fProject == null) {
+		AntProjectNode realNode = getRealNode();
+		if (fProject == null || realNode == null) {
 			return super.isErrorNode();
 		}
-		return getRealNode().isErrorNode();
+		return realNode.isErrorNode();
 	}
 
 	@Override
@@ -163,10 +180,11 @@ public class AntProjectNodeProxy extends AntProjectNode {
 
 	@Override
 	public boolean isWarningNode() {
-		if (fProject == null) {
+		AntProjectNode realNode = getRealNode();
+		if (fProject == null || realNode == null) {
 			return super.isWarningNode();
 		}
-		return getRealNode().isWarningNode();
+		return realNode.isWarningNode();
 	}
 
 	private AntProjectNode getRealNode() {
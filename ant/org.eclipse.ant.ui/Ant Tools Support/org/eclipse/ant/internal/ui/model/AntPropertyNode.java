@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2013 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -139,6 +139,10 @@ public class AntPropertyNode extends AntTaskNode {
 			fProperties = new HashMap<>(1);
 		}
 		fProperties.put(propertyName, value);
+		AntProjectNode projectNode = getProjectNode();
+		if (projectNode != null) {
+			projectNode.addPropertyNode(propertyName, this);
+		}
 	}
 
 	@Override
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.ui.model;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * The declaration of or a reference to a named element of a buildfile, such as a target or a property, found by the {@link AntSymbolScanner}. The
+ * offset and length denote the name in the text of the buildfile.
+ */
+public class AntSymbol {
+
+	public static final int TARGET = 0;
+	public static final int EXTENSION_POINT = 1;
+	public static final int MACRODEF = 2;
+	public static final int PROPERTY = 3;
+	public static final int REFERENCE_ID = 4;
+
+	private final IPath fPath;
+	private final int fKind;
+	private final String fName;
+	private final int fOffset;
+	private final int fLength;
+	private final boolean fDeclaration;
+
+	public AntSymbol(IPath path, int kind, String name, int offset, int length, boolean declaration) {
+		fPath = path;
+		fKind = kind;
+		fName = name;
+		fOffset = offset;
+		fLength = length;
+		fDeclaration = declaration;
+	}
+
+	/**
+	 * Returns the workspace path of the buildfile
+	 */
+	public IPath getPath() {
+		return fPath;
+	}
+
+	/**
+	 * Returns the buildfile in the workspace
+	 */
+	public IFile getFile() {
+		return ResourcesPlugin.getWorkspace().getRoot().getFile(fPath);
+	}
+
+	/**
+	 * Returns one of {@link #TARGET}, {@link #EXTENSION_POINT}, {@link #MACRODEF}, {@link #PROPERTY} or {@link #REFERENCE_ID}. A reference to a
+	 * target or an extension point, for example in a <code>depends</code> attribute, is of kind {@link #TARGET}.
+	 */
+	public int getKind() {
+		return fKind;
+	}
+
+	public String getName() {
+		return fName;
+	}
+
+	public int getOffset() {
+		return fOffset;
+	}
+
+	public int getLength() {
+		return fLength;
+	}
+
+	/**
+	 * Returns whether this symbol declares the name rather than refers to it
+	 */
+	public boolean isDeclaration() {
+		return fDeclaration;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof AntSymbol)) {
+			return false;
+		}
+		AntSymbol other = (AntSymbol) obj;
+		return fKind == other.fKind && fOffset == other.fOffset && fLength == other.fLength && fDeclaration == other.fDeclaration
+				&& fName.equals(other.fName) && fPath.equals(other.fPath);
+	}
+
+	@Override
+	public int hashCode() {
+		return fPath.hashCode() * 31 + fOffset;
+	}
+
+	@Override
+	public String toString() {
+		return (fDeclaration ? "declaration " : "reference ") + fName + " [" + fKind + "] " + fPath + '@' + fOffset; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
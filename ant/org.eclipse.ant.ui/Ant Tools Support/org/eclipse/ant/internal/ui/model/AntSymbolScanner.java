@@ -0,0 +1,356 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.ui.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.ant.internal.core.IAntCoreConstants;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Scans the text of a buildfile for the declarations of and references to its targets, extension points, macro definitions, properties and
+ * reference ids, such as the ids of paths. Unlike the {@link AntTargetScanner}, which streams the XML, this scanner reads the markup itself so that
+ * it can report the offset of each name, and it tolerates text that is not well-formed. Nothing is resolved: imports are not followed and a name
+ * that contains a property reference is not recorded.
+ */
+public class AntSymbolScanner {
+
+	private static final String PROJECT = "project"; //$NON-NLS-1$
+	private static final String TARGET = "target"; //$NON-NLS-1$
+	private static final String EXTENSION_POINT = "extension-point"; //$NON-NLS-1$
+	private static final String PROPERTY = "property"; //$NON-NLS-1$
+	private static final String[] MACRODEFS = { "macrodef", "presetdef", "scriptdef" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	private static final String[] TARGET_CALLS = { "ant", "antcall", "runtarget" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private static class Attribute {
+		String fName;
+		int fStart;
+		int fEnd;
+
+		Attribute(String name, int start, int end) {
+			fName = name;
+			fStart = start;
+			fEnd = end;
+		}
+	}
+
+	// the state of a scan
+	private IPath fPath;
+	private String fText;
+	private int fOffset;
+	private List<AntSymbol> fSymbols;
+	private List<String> fOpenElements;
+
+	/**
+	 * Scans the given text of a buildfile.
+	 *
+	 * @param path
+	 *            the workspace path of the buildfile
+	 * @param text
+	 *            the text of the buildfile
+	 * @return the symbols in the order they occur in the text
+	 */
+	public List<AntSymbol> scan(IPath path, String text) {
+		return scan(path, text, 0, null);
+	}
+
+	/**
+	 * Scans a fragment of the text of a buildfile, such as a start tag and the text that follows it, without scanning the rest of the text.
+	 *
+	 * @param path
+	 *            the workspace path of the buildfile
+	 * @param fragment
+	 *            the fragment of the text of the buildfile
+	 * @param offset
+	 *            the offset of the fragment in the text of the buildfile
+	 * @param parent
+	 *            the name of the element enclosing the fragment, or <code>null</code> if the fragment starts with the root element
+	 * @return the symbols in the order they occur in the fragment, with their offsets in the text of the buildfile
+	 */
+	public List<AntSymbol> scan(IPath path, String fragment, int offset, String parent) {
+		fPath = path;
+		fText = fragment;
+		fOffset = offset;
+		fSymbols = new ArrayList<>();
+		fOpenElements = new ArrayList<>();
+		if (parent != null) {
+			fOpenElements.add(parent);
+		}
+		try {
+			scanText();
+			return fSymbols;
+		}
+		finally {
+			fPath = null;
+			fText = null;
+			fSymbols = null;
+			fOpenElements = null;
+		}
+	}
+
+	private void scanText() {
+		int length = fText.length();
+		int position = 0;
+		while (position < length) {
+			int tag = fText.indexOf('<', position);
+			if (tag == -1) {
+				scanPropertyReferences(position, length);
+				return;
+			}
+			scanPropertyReferences(position, tag);
+			if (fText.startsWith("<!--", tag)) { //$NON-NLS-1$
+				position = skipPast("-->", tag + 4); //$NON-NLS-1$
+			} else if (fText.startsWith("<![CDATA[", tag)) { //$NON-NLS-1$
+				int end = fText.indexOf("]]>", tag + 9); //$NON-NLS-1$
+				scanPropertyReferences(tag + 9, end == -1 ? length : end);
+				position = end == -1 ? length : end + 3;
+			} else if (fText.startsWith("<?", tag)) { //$NON-NLS-1$
+				position = skipPast("?>", tag + 2); //$NON-NLS-1$
+			} else if (fText.startsWith("<!", tag)) { //$NON-NLS-1$
+				position = skipDeclaration(tag + 2);
+			} else if (fText.startsWith("</", tag)) { //$NON-NLS-1$
+				if (!fOpenElements.isEmpty()) {
+					fOpenElements.remove(fOpenElements.size() - 1);
+				}
+				position = skipPast(">", tag + 2); //$NON-NLS-1$
+			} else {
+				position = scanStartTag(tag + 1);
+			}
+		}
+	}
+
+	private int skipPast(String delimiter, int position) {
+		int end = fText.indexOf(delimiter, position);
+		return end == -1 ? fText.length() : end + delimiter.length();
+	}
+
+	/**
+	 * Skips a declaration such as a DOCTYPE, including its internal subset
+	 */
+	private int skipDeclaration(int position) {
+		int depth = 0;
+		for (int i = position; i < fText.length(); i++) {
+			char c = fText.charAt(i);
+			if (c == '[') {
+				depth++;
+			} else if (c == ']') {
+				depth--;
+			} else if (c == '>' && depth <= 0) {
+				return i + 1;
+			}
+		}
+		return fText.length();
+	}
+
+	private int scanStartTag(int start) {
+		int length = fText.length();
+		int position = start;
+		while (position < length && isNameChar(fText.charAt(position))) {
+			position++;
+		}
+		String element = fText.substring(start, position);
+		List<Attribute> attributes = new ArrayList<>();
+		boolean empty = false;
+		while (position < length) {
+			char c = fText.charAt(position);
+			if (Character.isWhitespace(c)) {
+				position++;
+			} else if (c == '>') {
+				position++;
+				break;
+			} else if (c == '<') {
+				// an unterminated tag
+				break;
+			} else if (c == '/') {
+				empty = true;
+				position++;
+			} else {
+				empty = false;
+				int nameStart = position;
+				while (position < length && isNameChar(fText.charAt(position))) {
+					position++;
+				}
+				if (position == nameStart) {
+					position++;
+					continue;
+				}
+				String name = fText.substring(nameStart, position);
+				position = skipWhitespace(position);
+				if (position >= length || fText.charAt(position) != '=') {
+					continue;
+				}
+				position = skipWhitespace(position + 1);
+				if (position >= length) {
+					break;
+				}
+				char quote = fText.charAt(position);
+				if (quote != '"' && quote != '\'') {
+					continue;
+				}
+				int valueEnd = fText.indexOf(quote, position + 1);
+				if (valueEnd == -1) {
+					valueEnd = length;
+				}
+				attributes.add(new Attribute(name, position + 1, valueEnd));
+				position = valueEnd + 1;
+			}
+		}
+		if (element.length() > 0) {
+			scanElement(element, attributes);
+			if (!empty) {
+				fOpenElements.add(element);
+			}
+		}
+		return position;
+	}
+
+	private int skipWhitespace(int position) {
+		while (position < fText.length() && Character.isWhitespace(fText.charAt(position))) {
+			position++;
+		}
+		return position;
+	}
+
+	private boolean isNameChar(char c) {
+		return !Character.isWhitespace(c) && c != '=' && c != '>' && c != '/' && c != '<' && c != '"' && c != '\'';
+	}
+
+	private void scanElement(String element, List<Attribute> attributes) {
+		String parent = fOpenElements.isEmpty() ? null : fOpenElements.get(fOpenElements.size() - 1);
+		boolean topLevel = PROJECT.equals(parent);
+		for (Attribute attribute : attributes) {
+			scanPropertyReferences(attribute.fStart, attribute.fEnd);
+			String name = attribute.fName;
+			if (name.equalsIgnoreCase("id")) { //$NON-NLS-1$
+				addSymbol(AntSymbol.REFERENCE_ID, attribute.fStart, attribute.fEnd, true);
+			} else if (isReferenceAttribute(name)) {
+				addSymbol(AntSymbol.REFERENCE_ID, attribute.fStart, attribute.fEnd, false);
+			} else if (PROJECT.equals(element) && parent == null) {
+				if (name.equalsIgnoreCase(IAntCoreConstants.DEFAULT)) {
+					addSymbol(AntSymbol.TARGET, attribute.fStart, attribute.fEnd, false);
+				}
+			} else if ((TARGET.equals(element) || EXTENSION_POINT.equals(element)) && topLevel) {
+				if (name.equalsIgnoreCase(IAntCoreConstants.NAME)) {
+					addSymbol(TARGET.equals(element) ? AntSymbol.TARGET : AntSymbol.EXTENSION_POINT, attribute.fStart, attribute.fEnd, true);
+				} else if (name.equalsIgnoreCase("depends") || name.equalsIgnoreCase("extensionOf")) { //$NON-NLS-1$ //$NON-NLS-2$
+					addTargetList(attribute.fStart, attribute.fEnd);
+				} else if (name.equalsIgnoreCase("if") || name.equalsIgnoreCase("unless")) { //$NON-NLS-1$ //$NON-NLS-2$
+					addSymbol(AntSymbol.PROPERTY, attribute.fStart, attribute.fEnd, false);
+				}
+			} else if (TARGET.equals(element)) {
+				// a target nested in a task that calls targets
+				if (name.equalsIgnoreCase(IAntCoreConstants.NAME)) {
+					addSymbol(AntSymbol.TARGET, attribute.fStart, attribute.fEnd, false);
+				}
+			} else if (contains(TARGET_CALLS, element)) {
+				if (name.equalsIgnoreCase(TARGET)) {
+					addSymbol(AntSymbol.TARGET, attribute.fStart, attribute.fEnd, false);
+				}
+			} else if (contains(MACRODEFS, element)) {
+				if (name.equalsIgnoreCase(IAntCoreConstants.NAME)) {
+					addSymbol(AntSymbol.MACRODEF, attribute.fStart, attribute.fEnd, true);
+				}
+			} else if (PROPERTY.equals(element)) {
+				if (name.equalsIgnoreCase(IAntCoreConstants.NAME)) {
+					addSymbol(AntSymbol.PROPERTY, attribute.fStart, attribute.fEnd, true);
+				}
+			} else if ("isset".equals(element)) { //$NON-NLS-1$
+				if (name.equalsIgnoreCase(PROPERTY)) {
+					addSymbol(AntSymbol.PROPERTY, attribute.fStart, attribute.fEnd, false);
+				}
+			} else if ("propertyref".equals(element)) { //$NON-NLS-1$
+				if (name.equalsIgnoreCase(IAntCoreConstants.NAME)) {
+					addSymbol(AntSymbol.PROPERTY, attribute.fStart, attribute.fEnd, false);
+				}
+			} else if (name.equalsIgnoreCase(PROPERTY)) {
+				// tasks such as available, condition or basename set the property named by their property attribute
+				addSymbol(AntSymbol.PROPERTY, attribute.fStart, attribute.fEnd, true);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the attribute refers to a reference id, as <code>refid</code> and attributes such as <code>classpathref</code> do
+	 */
+	private boolean isReferenceAttribute(String name) {
+		if (name.equalsIgnoreCase("refid")) { //$NON-NLS-1$
+			return true;
+		}
+		return name.regionMatches(true, name.length() - 3, "ref", 0, 3) && !name.equalsIgnoreCase("href"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private boolean contains(String[] names, String name) {
+		for (String candidate : names) {
+			if (candidate.equals(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds a reference for each target of a comma separated list, as in a <code>depends</code> attribute
+	 */
+	private void addTargetList(int start, int end) {
+		int position = start;
+		while (position <= end) {
+			int comma = fText.indexOf(',', position);
+			if (comma == -1 || comma > end) {
+				comma = end;
+			}
+			addSymbol(AntSymbol.TARGET, position, comma, false);
+			position = comma + 1;
+		}
+	}
+
+	/**
+	 * Adds a symbol for the trimmed text between the given offsets unless it is empty or refers to a property
+	 */
+	private void addSymbol(int kind, int start, int end, boolean declaration) {
+		while (start < end && Character.isWhitespace(fText.charAt(start))) {
+			start++;
+		}
+		while (end > start && Character.isWhitespace(fText.charAt(end - 1))) {
+			end--;
+		}
+		if (start == end) {
+			return;
+		}
+		String name = fText.substring(start, end);
+		if (name.contains("${")) { //$NON-NLS-1$
+			return;
+		}
+		fSymbols.add(new AntSymbol(fPath, kind, name, fOffset + start, end - start, declaration));
+	}
+
+	/**
+	 * Adds a property reference for each <code>${name}</code> between the given offsets
+	 */
+	private void scanPropertyReferences(int start, int end) {
+		int position = start;
+		while (position < end) {
+			int reference = fText.indexOf("${", position); //$NON-NLS-1$
+			if (reference == -1 || reference >= end) {
+				return;
+			}
+			int close = fText.indexOf('}', reference + 2);
+			if (close == -1 || close > end) {
+				return;
+			}
+			addSymbol(AntSymbol.PROPERTY, reference + 2, close, false);
+			position = close + 1;
+		}
+	}
+}
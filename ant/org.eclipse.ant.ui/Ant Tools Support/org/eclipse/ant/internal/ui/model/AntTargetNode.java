@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2013 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -74,7 +74,11 @@ public class AntTargetNode extends AntElementNode {
 		if (targetName == null) {
 			return false;
 		}
-		return targetName.equals(fTarget.getProject().getDefaultTarget());
+		AntProjectNode projectNode = getProjectNode();
+		if (projectNode == null) {
+			return targetName.equals(fTarget.getProject().getDefaultTarget());
+		}
+		return targetName.equals(projectNode.getDefaultTargetName());
 	}
 
 	/**
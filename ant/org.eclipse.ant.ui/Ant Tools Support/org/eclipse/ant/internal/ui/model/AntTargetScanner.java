@@ -0,0 +1,452 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.ui.model;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.tools.ant.ExtensionPoint;
+import org.apache.tools.ant.Location;
+import org.apache.tools.ant.Target;
+import org.eclipse.ant.core.AntCorePlugin;
+import org.eclipse.ant.core.Property;
+import org.eclipse.ant.internal.core.AntCoreUtil;
+import org.eclipse.ant.internal.core.IAntCoreConstants;
+import org.eclipse.ant.internal.ui.AntUIPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.variables.IStringVariableManager;
+import org.eclipse.core.variables.VariablesPlugin;
+
+/**
+ * Scans a buildfile for its project and targets without parsing it with Ant. The scanner streams the XML, records the name, default target and
+ * description of the project and the name, dependencies, description and conditions of each target and extension point, and optionally follows
+ * <code>import</code> and <code>include</code> tasks. No task is resolved, so the result is only suitable where the targets are listed, for example
+ * to select the targets of a launch.
+ * <p>
+ * A buildfile that the scanner cannot describe faithfully, for example because it is not well-formed or imports a file whose name depends on a
+ * property set by a task, is not scanned and has to be parsed by an {@link AntModel} instead, which also reports the problems of the buildfile.
+ * </p>
+ */
+public class AntTargetScanner {
+
+	private static final String PROJECT = "project"; //$NON-NLS-1$
+	private static final String TARGET = "target"; //$NON-NLS-1$
+	private static final String EXTENSION_POINT = "extension-point"; //$NON-NLS-1$
+	private static final String IMPORT = "import"; //$NON-NLS-1$
+	private static final String INCLUDE = "include"; //$NON-NLS-1$
+	private static final String PROPERTY = "property"; //$NON-NLS-1$
+	private static final String DESCRIPTION = "description"; //$NON-NLS-1$
+	private static final String BASEDIR = "basedir"; //$NON-NLS-1$
+
+	private static final Pattern PROPERTY_REFERENCE = Pattern.compile("\\$\\{([^}]*)\\}"); //$NON-NLS-1$
+
+	private static XMLInputFactory fgInputFactory;
+
+	/**
+	 * Signals that the buildfile cannot be described without parsing it with Ant
+	 */
+	private static class CannotScanException extends Exception {
+		private static final long serialVersionUID = 1L;
+	}
+
+	private Map<String, String> fProperties = null;
+	private String[] fPropertyFiles = null;
+	private boolean fFollowImports = true;
+
+	// the state of a scan
+	private AntModelProject fProject;
+	private Map<String, String> fScanProperties;
+	private Map<String, AntTargetNode> fTargetNodes;
+	private Map<Target, List<String>> fExtensionOf;
+	private Set<String> fImportedFiles;
+
+	/**
+	 * Sets the user properties used to resolve the names of imported files
+	 */
+	public void setProperties(Map<String, String> properties) {
+		fProperties = properties;
+	}
+
+	/**
+	 * Sets the property files whose properties are used to resolve the names of imported files
+	 */
+	public void setPropertyFiles(String[] propertyFiles) {
+		fPropertyFiles = propertyFiles;
+	}
+
+	/**
+	 * Sets whether the targets of imported and included buildfiles are scanned. The default is <code>true</code>.
+	 */
+	public void setFollowImports(boolean followImports) {
+		fFollowImports = followImports;
+	}
+
+	/**
+	 * Scans the given buildfile.
+	 *
+	 * @param buildFile
+	 *            the buildfile
+	 * @return the project node of the buildfile with a child node for each target, or <code>null</code> if the buildfile has to be parsed with
+	 *         Ant
+	 */
+	public AntProjectNode scan(File buildFile) {
+		fProject = new AntModelProject();
+		fScanProperties = new HashMap<>();
+		fTargetNodes = new LinkedHashMap<>();
+		fExtensionOf = new HashMap<>();
+		fImportedFiles = new HashSet<>();
+		try {
+			scanFile(buildFile.getAbsoluteFile(), null, null, null);
+			addExtensions();
+			AntProjectNode projectNode = new AntProjectNode(fProject, null);
+			for (AntTargetNode targetNode : fTargetNodes.values()) {
+				if (targetNode.checkDependencies() != null) {
+					// the problem is reported by the model
+					return null;
+				}
+				projectNode.addChildNode(targetNode);
+			}
+			return projectNode;
+		}
+		catch (CannotScanException | IOException | XMLStreamException e) {
+			return null;
+		}
+		finally {
+			fProject = null;
+			fScanProperties = null;
+			fTargetNodes = null;
+			fExtensionOf = null;
+			fImportedFiles = null;
+		}
+	}
+
+	/**
+	 * Scans one file of the buildfile.
+	 *
+	 * @param file
+	 *            the absolute file
+	 * @param importNode
+	 *            the node of the <code>import</code> or <code>include</code> task of the file or <code>null</code> for the buildfile itself
+	 * @param prefix
+	 *            the prefix of the target names including its separator, or <code>null</code> if the names are not prefixed
+	 * @param separator
+	 *            the separator to append the project name of the file to the prefix with, for an included file whose <code>as</code> attribute is
+	 *            not set, or <code>null</code>
+	 */
+	private void scanFile(File file, AntElementNode importNode, String prefix, String separator) throws CannotScanException, IOException, XMLStreamException {
+		if (!file.isFile()) {
+			throw new CannotScanException();
+		}
+		fImportedFiles.add(file.getCanonicalPath());
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
+			XMLStreamReader reader = getInputFactory().createXMLStreamReader(file.toURI().toString(), stream);
+			try {
+				int depth = 0;
+				while (reader.hasNext()) {
+					int event = reader.next();
+					if (event == XMLStreamConstants.END_ELEMENT) {
+						depth--;
+						continue;
+					}
+					if (event != XMLStreamConstants.START_ELEMENT) {
+						continue;
+					}
+					depth++;
+					if (depth > 2) {
+						continue;
+					}
+					String name = reader.getLocalName();
+					if (depth == 1) {
+						if (!PROJECT.equals(name)) {
+							throw new CannotScanException();
+						}
+						if (importNode == null) {
+							scanProject(reader, file);
+						} else if (separator != null) {
+							// the targets of an included file without an alias are prefixed with its project name
+							String projectName = reader.getAttributeValue(null, IAntCoreConstants.NAME);
+							if (projectName == null) {
+								throw new CannotScanException();
+							}
+							prefix = (prefix == null ? IAntCoreConstants.EMPTY_STRING : prefix) + projectName + separator;
+						}
+					} else if (TARGET.equals(name) || EXTENSION_POINT.equals(name)) {
+						scanTarget(reader, file, importNode, prefix, EXTENSION_POINT.equals(name));
+					} else if (IMPORT.equals(name) || INCLUDE.equals(name)) {
+						if (fFollowImports) {
+							scanImport(reader, file, importNode, prefix, INCLUDE.equals(name));
+						}
+					} else if (PROPERTY.equals(name)) {
+						scanProperty(reader);
+					} else if (DESCRIPTION.equals(name) && importNode == null) {
+						fProject.setDescription(reader.getElementText());
+						depth--;
+					}
+				}
+			}
+			finally {
+				reader.close();
+			}
+		}
+	}
+
+	private void scanProject(XMLStreamReader reader, File file) throws IOException {
+		String name = reader.getAttributeValue(null, IAntCoreConstants.NAME);
+		if (name != null) {
+			fProject.setName(name);
+			fScanProperties.put("ant.project.name", name); //$NON-NLS-1$
+		}
+		fProject.setDefault(reader.getAttributeValue(null, IAntCoreConstants.DEFAULT));
+		fScanProperties.put("ant.file", file.getAbsolutePath()); //$NON-NLS-1$
+		setUserProperties();
+		if (!fScanProperties.containsKey(BASEDIR)) {
+			File baseDir = file.getParentFile();
+			String baseDirName = resolve(reader.getAttributeValue(null, BASEDIR));
+			if (baseDirName != null) {
+				baseDir = new File(baseDirName).isAbsolute() ? new File(baseDirName) : new File(baseDir, baseDirName);
+			}
+			fScanProperties.put(BASEDIR, baseDir.getCanonicalPath());
+		}
+		loadPropertyFiles(file);
+	}
+
+	/**
+	 * Sets the user properties in the same order as the {@link AntModel} does
+	 */
+	private void setUserProperties() {
+		if (fProperties != null) {
+			Pattern pattern = Pattern.compile("\\$\\{.*_prompt.*\\}"); //$NON-NLS-1$
+			IStringVariableManager manager = VariablesPlugin.getDefault().getStringVariableManager();
+			for (Map.Entry<String, String> property : fProperties.entrySet()) {
+				String value = property.getValue();
+				if (!pattern.matcher(value).find()) {
+					try {
+						value = manager.performStringSubstitution(value);
+					}
+					catch (CoreException e) {
+						// do nothing
+					}
+				}
+				if (value != null) {
+					fScanProperties.put(property.getKey(), value);
+				}
+			}
+		}
+		List<Property> properties = AntCorePlugin.getPlugin().getPreferences().getProperties();
+		if (properties != null) {
+			for (Property property : properties) {
+				String value = property.getValue(true);
+				if (value != null) {
+					fScanProperties.put(property.getName(), value);
+				}
+			}
+		}
+	}
+
+	private void loadPropertyFiles(File file) {
+		List<String> fileNames = new ArrayList<>();
+		if (fPropertyFiles != null) {
+			fileNames.addAll(Arrays.asList(fPropertyFiles));
+		}
+		fileNames.addAll(Arrays.asList(AntCorePlugin.getPlugin().getPreferences().getCustomPropertyFiles()));
+		try {
+			for (Properties properties : AntCoreUtil.loadPropertyFiles(fileNames, fScanProperties.get(BASEDIR), file.getAbsolutePath())) {
+				for (String name : properties.stringPropertyNames()) {
+					fScanProperties.putIfAbsent(name, properties.getProperty(name));
+				}
+			}
+		}
+		catch (IOException e) {
+			AntUIPlugin.log(e);
+		}
+	}
+
+	private void scanTarget(XMLStreamReader reader, File file, AntElementNode importNode, String prefix, boolean isExtensionPoint) {
+		String name = reader.getAttributeValue(null, IAntCoreConstants.NAME);
+		if (name == null) {
+			return;
+		}
+		if (prefix != null) {
+			name = prefix + name;
+		}
+		if (importNode != null && fTargetNodes.containsKey(name)) {
+			// a target of the importing buildfile overrides an imported one
+			return;
+		}
+		Target target = isExtensionPoint ? new ExtensionPoint() : new Target();
+		target.setProject(fProject);
+		target.setName(name);
+		target.setLocation(new Location(file.getAbsolutePath(), reader.getLocation().getLineNumber(), reader.getLocation().getColumnNumber()));
+		target.setDescription(reader.getAttributeValue(null, IAntCoreConstants.DESCRIPTION));
+		target.setIf(reader.getAttributeValue(null, "if")); //$NON-NLS-1$
+		target.setUnless(reader.getAttributeValue(null, "unless")); //$NON-NLS-1$
+		String depends = reader.getAttributeValue(null, "depends"); //$NON-NLS-1$
+		if (depends != null && depends.length() > 0) {
+			for (String dependency : Target.parseDepends(depends, name, "depends")) { //$NON-NLS-1$
+				target.addDependency(prefix == null ? dependency : prefix + dependency);
+			}
+		}
+		String extensionOf = reader.getAttributeValue(null, "extensionOf"); //$NON-NLS-1$
+		if (extensionOf != null && extensionOf.length() > 0) {
+			List<String> extensionPoints = new ArrayList<>();
+			for (String extensionPoint : Target.parseDepends(extensionOf, name, "extensionOf")) { //$NON-NLS-1$
+				extensionPoints.add(prefix == null ? extensionPoint : prefix + extensionPoint);
+			}
+			fExtensionOf.put(target, extensionPoints);
+		}
+		fProject.addOrReplaceTarget(name, target);
+
+		AntTargetNode targetNode = AntTargetNode.newAntTargetNode(target);
+		if (importNode != null) {
+			targetNode.setImportNode(importNode);
+			targetNode.setExternal(true);
+			targetNode.setFilePath(file.getAbsolutePath());
+		}
+		fTargetNodes.remove(name);
+		fTargetNodes.put(name, targetNode);
+	}
+
+	private void scanImport(XMLStreamReader reader, File file, AntElementNode fileImportNode, String prefix, boolean isInclude) throws CannotScanException, IOException, XMLStreamException {
+		String fileName = reader.getAttributeValue(null, IAntCoreConstants.FILE);
+		if (fileName == null) {
+			// imports of resource collections are not scanned
+			throw new CannotScanException();
+		}
+		String resolved = resolve(fileName);
+		if (resolved == null) {
+			throw new CannotScanException();
+		}
+		File importedFile = new File(resolved);
+		if (!importedFile.isAbsolute()) {
+			importedFile = new File(file.getParentFile(), resolved);
+		}
+		if (!importedFile.isFile()) {
+			if (Boolean.parseBoolean(reader.getAttributeValue(null, "optional"))) { //$NON-NLS-1$
+				return;
+			}
+			throw new CannotScanException();
+		}
+		String separator = reader.getAttributeValue(null, "prefixSeparator"); //$NON-NLS-1$
+		if (separator == null) {
+			separator = "."; //$NON-NLS-1$
+		}
+		String alias = reader.getAttributeValue(null, "as"); //$NON-NLS-1$
+		String importPrefix = prefix;
+		String importSeparator = null;
+		if (isInclude) {
+			if (alias != null) {
+				importPrefix = (prefix == null ? IAntCoreConstants.EMPTY_STRING : prefix) + alias + separator;
+			} else {
+				importSeparator = separator;
+			}
+		} else if (fImportedFiles.contains(importedFile.getCanonicalPath())) {
+			// Ant imports a file only once
+			return;
+		}
+		// labeled like an AntImportNode
+		StringBuffer label = new StringBuffer(reader.getLocalName());
+		label.append(' ');
+		label.append(fileName);
+		if (fileImportNode != null) {
+			label.append(MessageFormat.format(AntModelMessages.AntElementNode_9, new Object[] { fileImportNode.getLabel() }));
+		}
+		AntElementNode importNode = new AntElementNode(label.toString());
+		scanFile(importedFile.getAbsoluteFile(), importNode, importPrefix, importSeparator);
+	}
+
+	private void scanProperty(XMLStreamReader reader) {
+		String name = reader.getAttributeValue(null, IAntCoreConstants.NAME);
+		if (name == null || fScanProperties.containsKey(name)) {
+			return;
+		}
+		String value = resolve(reader.getAttributeValue(null, IAntCoreConstants.VALUE));
+		if (value == null) {
+			String location = resolve(reader.getAttributeValue(null, "location")); //$NON-NLS-1$
+			if (location != null) {
+				File file = new File(location);
+				if (!file.isAbsolute()) {
+					file = new File(fScanProperties.get(BASEDIR), location);
+				}
+				value = file.getAbsolutePath();
+			}
+		}
+		if (value != null) {
+			fScanProperties.put(name, value);
+		}
+	}
+
+	/**
+	 * Adds each target to the dependencies of the extension points it extends
+	 */
+	private void addExtensions() {
+		for (Map.Entry<Target, List<String>> extension : fExtensionOf.entrySet()) {
+			for (String name : extension.getValue()) {
+				Target extensionPoint = fProject.getTargets().get(name);
+				if (extensionPoint instanceof ExtensionPoint) {
+					extensionPoint.addDependency(extension.getKey().getName());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Replaces the property references in the given value with the properties known to the scan.
+	 *
+	 * @return the value without property references or <code>null</code> if the value is <code>null</code> or refers to an unknown property
+	 */
+	private String resolve(String value) {
+		if (value == null || value.indexOf("${") == -1) { //$NON-NLS-1$
+			return value;
+		}
+		StringBuffer resolved = new StringBuffer();
+		Matcher matcher = PROPERTY_REFERENCE.matcher(value);
+		while (matcher.find()) {
+			String property = fScanProperties.get(matcher.group(1));
+			if (property == null) {
+				return null;
+			}
+			matcher.appendReplacement(resolved, Matcher.quoteReplacement(property));
+		}
+		matcher.appendTail(resolved);
+		return resolved.toString();
+	}
+
+	private static synchronized XMLInputFactory getInputFactory() {
+		if (fgInputFactory == null) {
+			fgInputFactory = XMLInputFactory.newInstance();
+			fgInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+		}
+		return fgInputFactory;
+	}
+}
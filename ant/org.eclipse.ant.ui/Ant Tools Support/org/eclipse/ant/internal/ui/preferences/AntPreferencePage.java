@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -97,6 +97,50 @@ public class AntPreferencePage extends FieldEditorPreferencePage implements IWor
 		}
 	}
 
+	/**
+	 * Allows us to override the default behavior of the default {@link BooleanFieldEditor} to work on a core preference context
+	 */
+	class AntBooleanFieldEditor extends BooleanFieldEditor {
+		String node = null, key = null;
+		boolean defaultvalue = false;
+
+		/**
+		 * Constructor
+		 *
+		 * @param node
+		 *            the identifier of the node we want to set the preference in, i.e. org.eclipse.ant.launching
+		 * @param key
+		 *            the preference key to map the value to
+		 * @param title
+		 *            the title of the field editor
+		 * @param parent
+		 *            the parent to add the field editor to
+		 * @param defaultvalue
+		 *            the default value to return when looking up stored values
+		 */
+		public AntBooleanFieldEditor(String node, String key, String title, Composite parent, boolean defaultvalue) {
+			super(key, title, parent);
+			this.node = node;
+			this.key = key;
+			this.defaultvalue = defaultvalue;
+		}
+
+		@Override
+		protected void doStore() {
+			InstanceScope.INSTANCE.getNode(node).putBoolean(key, getBooleanValue());
+		}
+
+		@Override
+		protected void doLoad() {
+			getChangeControl(getFieldEditorParent()).setSelection(Platform.getPreferencesService().getBoolean(node, key, defaultvalue, null));
+		}
+
+		@Override
+		protected void doLoadDefault() {
+			getChangeControl(getFieldEditorParent()).setSelection(DefaultScope.INSTANCE.getNode(node).getBoolean(key, defaultvalue));
+		}
+	}
+
 	private List fConsoleColorList;
 	private ColorSelector fConsoleColorSelector;
 	private IntegerFieldEditor timeout;
@@ -148,6 +192,10 @@ public class AntPreferencePage extends FieldEditorPreferencePage implements IWor
 				Integer.valueOf(maxValue) }));
 		addField(timeout);
 
+		BooleanFieldEditor journal = new AntBooleanFieldEditor(AntLaunching.getUniqueIdentifier(), IAntLaunchingPreferenceConstants.ANT_BUILD_JOURNAL, AntPreferencesMessages.AntPreferencePage_17, getFieldEditorParent(), false);
+		journal.fillIntoGrid(getFieldEditorParent(), 3);
+		addField(journal);
+
 		editor = new URLFieldEditor(IAntUIPreferenceConstants.DOCUMENTATION_URL, AntPreferencesMessages.AntPreferencePage_2, getFieldEditorParent());
 		addField(editor);
 
@@ -189,4 +189,6 @@ public class AntPreferencesMessages extends NLS {
 	public static String AntPreferencePage_13;
 
 	public static String AntPreferencePage_14;
+
+	public static String AntPreferencePage_17;
 }
\ No newline at end of file
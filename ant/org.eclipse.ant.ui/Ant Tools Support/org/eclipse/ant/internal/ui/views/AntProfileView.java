@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ant.internal.ui.views;
+
+import java.text.MessageFormat;
+import java.util.List;
+
+import org.eclipse.ant.internal.core.IAntCoreConstants;
+import org.eclipse.ant.internal.launching.AntLaunch;
+import org.eclipse.ant.internal.launching.AntProfileEntry;
+import org.eclipse.ant.internal.ui.AntUIPlugin;
+import org.eclipse.ant.internal.ui.AntUtil;
+import org.eclipse.ant.internal.ui.IAntUIConstants;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.ITableLabelProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PartInitException;
+import org.eclipse.ui.console.IHyperlink;
+import org.eclipse.ui.part.ViewPart;
+
+/**
+ * A view which displays the hot spots of the last Ant build launched in profile mode: the time spent per target and per task type.
+ */
+public class AntProfileView extends ViewPart {
+
+	private static final int COLUMN_NAME = 0;
+	private static final int COLUMN_KIND = 1;
+	private static final int COLUMN_COUNT = 2;
+	private static final int COLUMN_SELF = 3;
+	private static final int COLUMN_INCLUSIVE = 4;
+	private static final int COLUMN_LOCATION = 5;
+
+	private TableViewer fViewer;
+
+	/**
+	 * Sorts the profile entries by the selected column
+	 */
+	private class EntryComparator extends ViewerComparator {
+		private int fColumn = COLUMN_SELF;
+		private int fDirection = SWT.DOWN;
+
+		void setColumn(int column) {
+			if (column == fColumn) {
+				fDirection = fDirection == SWT.UP ? SWT.DOWN : SWT.UP;
+			} else {
+				fColumn = column;
+				// times and counts are most interesting from the largest value down
+				fDirection = column == COLUMN_NAME || column == COLUMN_KIND || column == COLUMN_LOCATION ? SWT.UP : SWT.DOWN;
+			}
+			Table table = fViewer.getTable();
+			table.setSortColumn(table.getColumn(fColumn));
+			table.setSortDirection(fDirection);
+			fViewer.refresh();
+		}
+
+		@Override
+		public int compare(Viewer viewer, Object e1, Object e2) {
+			AntProfileEntry entry1 = (AntProfileEntry) e1;
+			AntProfileEntry entry2 = (AntProfileEntry) e2;
+			int result;
+			switch (fColumn) {
+				case COLUMN_KIND:
+					result = Integer.compare(entry1.getKind(), entry2.getKind());
+					break;
+				case COLUMN_COUNT:
+					result = Integer.compare(entry1.getCount(), entry2.getCount());
+					break;
+				case COLUMN_SELF:
+					result = Long.compare(entry1.getSelfTime(), entry2.getSelfTime());
+					break;
+				case COLUMN_INCLUSIVE:
+					result = Long.compare(entry1.getInclusiveTime(), entry2.getInclusiveTime());
+					break;
+				case COLUMN_LOCATION:
+					result = getLocation(entry1).compareTo(getLocation(entry2));
+					break;
+				default:
+					result = entry1.getName().compareTo(entry2.getName());
+					break;
+			}
+			return fDirection == SWT.UP ? result : -result;
+		}
+	}
+
+	private static class EntryLabelProvider extends LabelProvider implements ITableLabelProvider {
+		@Override
+		public Image getColumnImage(Object element, int columnIndex) {
+			return null;
+		}
+
+		@Override
+		public String getColumnText(Object element, int columnIndex) {
+			AntProfileEntry entry = (AntProfileEntry) element;
+			switch (columnIndex) {
+				case COLUMN_NAME:
+					return entry.getName();
+				case COLUMN_KIND:
+					return entry.getKind() == AntProfileEntry.KIND_TARGET ? AntViewMessages.AntProfileView_target : AntViewMessages.AntProfileView_task;
+				case COLUMN_COUNT:
+					return Integer.toString(entry.getCount());
+				case COLUMN_SELF:
+					return toMillis(entry.getSelfTime());
+				case COLUMN_INCLUSIVE:
+					return toMillis(entry.getInclusiveTime());
+				case COLUMN_LOCATION:
+					return getLocation(entry);
+				default:
+					return null;
+			}
+		}
+
+		private String toMillis(long nanos) {
+			return MessageFormat.format("{0,number,0.000}", new Object[] { Double.valueOf(nanos / 1000000.0) }); //$NON-NLS-1$
+		}
+	}
+
+	@Override
+	public void createPartControl(Composite parent) {
+		fViewer = new TableViewer(parent, SWT.MULTI | SWT.FULL_SELECTION | SWT.H_SCROLL | SWT.V_SCROLL);
+		Table table = fViewer.getTable();
+		table.setHeaderVisible(true);
+		table.setLinesVisible(true);
+		final EntryComparator comparator = new EntryComparator();
+		String[] titles = new String[] { AntViewMessages.AntProfileView_name, AntViewMessages.AntProfileView_kind, AntViewMessages.AntProfileView_count,
+				AntViewMessages.AntProfileView_self, AntViewMessages.AntProfileView_inclusive, AntViewMessages.AntProfileView_location };
+		int[] widths = new int[] { 200, 60, 60, 100, 100, 300 };
+		for (int i = 0; i < titles.length; i++) {
+			final int columnIndex = i;
+			TableColumn column = new TableColumn(table, i == COLUMN_NAME || i == COLUMN_KIND || i == COLUMN_LOCATION ? SWT.LEFT : SWT.RIGHT);
+			column.setText(titles[i]);
+			column.setWidth(widths[i]);
+			column.addSelectionListener(new SelectionAdapter() {
+				@Override
+				public void widgetSelected(SelectionEvent e) {
+					comparator.setColumn(columnIndex);
+				}
+			});
+		}
+		fViewer.setContentProvider(ArrayContentProvider.getInstance());
+		fViewer.setLabelProvider(new EntryLabelProvider());
+		fViewer.setComparator(comparator);
+		table.setSortColumn(table.getColumn(COLUMN_SELF));
+		table.setSortDirection(SWT.DOWN);
+		fViewer.addDoubleClickListener(event -> openLocation((IStructuredSelection) event.getSelection()));
+	}
+
+	private void openLocation(IStructuredSelection selection) {
+		Object element = selection.getFirstElement();
+		if (!(element instanceof AntProfileEntry)) {
+			return;
+		}
+		AntProfileEntry entry = (AntProfileEntry) element;
+		if (entry.getFileName() == null) {
+			return;
+		}
+		IHyperlink link = AntUtil.getLocationLink(getLocation(entry), null);
+		if (link != null) {
+			link.linkActivated();
+		}
+	}
+
+	/**
+	 * Sets the profile entries to display
+	 *
+	 * @param entries
+	 *            the entries of a profiled build
+	 * @param title
+	 *            the name of the profiled launch
+	 */
+	public void setEntries(List<AntProfileEntry> entries, String title) {
+		if (fViewer == null || fViewer.getControl().isDisposed()) {
+			return;
+		}
+		setContentDescription(title);
+		fViewer.setInput(entries.toArray());
+	}
+
+	@Override
+	public void setFocus() {
+		if (fViewer != null) {
+			fViewer.getControl().setFocus();
+		}
+	}
+
+	static String getLocation(AntProfileEntry entry) {
+		if (entry.getFileName() == null) {
+			return IAntCoreConstants.EMPTY_STRING;
+		}
+		return entry.getFileName() + ':' + entry.getLineNumber();
+	}
+
+	/**
+	 * Shows the profile of the given process in the Ant profile view if the process was launched in profile mode. May be called from any thread.
+	 *
+	 * @param process
+	 *            the terminated process
+	 */
+	public static void showProfile(IProcess process) {
+		if (process == null) {
+			return;
+		}
+		ILaunch launch = process.getLaunch();
+		if (!(launch instanceof AntLaunch) || !ILaunchManager.PROFILE_MODE.equals(launch.getLaunchMode())) {
+			return;
+		}
+		final List<AntProfileEntry> entries = ((AntLaunch) launch).getProfileEntries();
+		if (entries.isEmpty()) {
+			return;
+		}
+		final String title = launch.getLaunchConfiguration() == null ? process.getLabel() : launch.getLaunchConfiguration().getName();
+		AntUIPlugin.getStandardDisplay().asyncExec(() -> {
+			IWorkbenchPage page = AntUIPlugin.getActivePage();
+			if (page == null) {
+				return;
+			}
+			try {
+				AntProfileView view = (AntProfileView) page.showView(IAntUIConstants.ANT_PROFILE_VIEW_ID, null, IWorkbenchPage.VIEW_VISIBLE);
+				view.setEntries(entries, title);
+			}
+			catch (PartInitException e) {
+				AntUIPlugin.log(e);
+			}
+		});
+	}
+}
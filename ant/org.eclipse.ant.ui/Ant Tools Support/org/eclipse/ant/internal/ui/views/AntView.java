@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import org.eclipse.ant.internal.ui.model.AntModelContentProvider;
 import org.eclipse.ant.internal.ui.model.AntModelLabelProvider;
 import org.eclipse.ant.internal.ui.model.AntModelProblem;
 import org.eclipse.ant.internal.ui.model.AntProjectNode;
+import org.eclipse.ant.internal.ui.model.AntProjectNodeLoader;
 import org.eclipse.ant.internal.ui.model.AntProjectNodeProxy;
 import org.eclipse.ant.internal.ui.model.AntTargetNode;
 import org.eclipse.ant.internal.ui.model.InternalTargetFilter;
@@ -39,6 +40,7 @@ import org.eclipse.ant.internal.ui.views.actions.FilterInternalTargetsAction;
 import org.eclipse.ant.internal.ui.views.actions.RefreshBuildFilesAction;
 import org.eclipse.ant.internal.ui.views.actions.RemoveAllAction;
 import org.eclipse.ant.internal.ui.views.actions.RemoveProjectAction;
+import org.eclipse.ant.internal.ui.views.actions.ReplayBuildJournalAction;
 import org.eclipse.ant.internal.ui.views.actions.RunTargetAction;
 import org.eclipse.ant.internal.ui.views.actions.SearchForBuildFilesAction;
 import org.eclipse.core.resources.IFile;
@@ -149,6 +151,7 @@ public class AntView extends ViewPart implements IResourceChangeListener, IShowI
 	private RemoveAllAction removeAllAction;
 	private FilterInternalTargetsAction filterInternalTargetsAction;
 	private RunTargetAction runTargetAction;
+	private ReplayBuildJournalAction replayBuildJournalAction;
 	// Context-menu-only actions
 	private AntOpenWithMenu openWithMenu;
 
@@ -175,6 +178,7 @@ public class AntView extends ViewPart implements IResourceChangeListener, IShowI
 			// If any projects have been added to the view during startup,
 			// begin listening for resource changes
 			ResourcesPlugin.getWorkspace().addResourceChangeListener(this);
+			loadRestoredProjects();
 		}
 		PlatformUI.getWorkbench().getHelpSystem().setHelp(parent, IAntUIHelpContextIds.ANT_VIEW);
 		updateProjectActions();
@@ -262,6 +266,8 @@ public class AntView extends ViewPart implements IResourceChangeListener, IShowI
 		openWithMenu = new AntOpenWithMenu(this.getViewSite().getPage());
 
 		filterInternalTargetsAction = new FilterInternalTargetsAction(this);
+
+		replayBuildJournalAction = new ReplayBuildJournalAction(this);
 	}
 
 	/**
@@ -273,6 +279,23 @@ public class AntView extends ViewPart implements IResourceChangeListener, IShowI
 		}
 	}
 
+	/**
+	 * Parses the buildfiles of the restored projects in the background, so that expanding a project does not parse its buildfile in the UI thread
+	 */
+	private void loadRestoredProjects() {
+		List<AntProjectNodeProxy> projects = new ArrayList<>(fInput.size());
+		for (AntProjectNode project : fInput) {
+			if (project instanceof AntProjectNodeProxy) {
+				projects.add((AntProjectNodeProxy) project);
+			}
+		}
+		AntProjectNodeLoader.schedule(projects, false, project -> Display.getDefault().asyncExec(() -> {
+			if (projectViewer != null && !projectViewer.getControl().isDisposed()) {
+				projectViewer.refresh(project);
+			}
+		}));
+	}
+
 	/**
 	 * Create the viewer which displays the Ant projects
 	 */
@@ -651,6 +674,9 @@ public class AntView extends ViewPart implements IResourceChangeListener, IShowI
 		toolBarMgr.add(removeAllAction);
 
 		toolBarMgr.update(false);
+
+		IMenuManager menuMgr = getViewSite().getActionBars().getMenuManager();
+		menuMgr.add(replayBuildJournalAction);
 	}
 
 	private AntElementNode getSelectionNode() {
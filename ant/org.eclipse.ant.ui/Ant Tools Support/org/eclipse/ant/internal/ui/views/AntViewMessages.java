@@ -21,6 +21,15 @@ public class AntViewMessages extends NLS {
 	public static String AntView_3;
 	public static String AntView_4;
 
+	public static String AntProfileView_name;
+	public static String AntProfileView_kind;
+	public static String AntProfileView_count;
+	public static String AntProfileView_self;
+	public static String AntProfileView_inclusive;
+	public static String AntProfileView_location;
+	public static String AntProfileView_target;
+	public static String AntProfileView_task;
+
 	static {
 		// load message values from bundle file
 		NLS.initializeMessages(BUNDLE_NAME, AntViewMessages.class);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import org.eclipse.ant.internal.ui.AntUtil;
 import org.eclipse.ant.internal.ui.IAntUIConstants;
 import org.eclipse.ant.internal.ui.IAntUIHelpContextIds;
 import org.eclipse.ant.internal.ui.model.AntProjectNode;
+import org.eclipse.ant.internal.ui.model.AntProjectNodeLoader;
 import org.eclipse.ant.internal.ui.model.AntProjectNodeProxy;
 import org.eclipse.ant.internal.ui.preferences.FileSelectionDialog;
 import org.eclipse.ant.internal.ui.views.AntView;
@@ -61,16 +62,15 @@ public class AddBuildFilesAction extends Action {
 		try {
 			PlatformUI.getWorkbench().getProgressService().busyCursorWhile(monitor -> {
 				monitor.beginTask(AntViewActionMessages.AddBuildFilesAction_3, result.length);
-				for (int i = 0; i < result.length && !monitor.isCanceled(); i++) {
-					Object file = result[i];
+				List<AntProjectNodeProxy> projects = new ArrayList<>(result.length);
+				for (Object file : result) {
 					if (file instanceof IFile) {
-						String buildFileName = ((IFile) file).getFullPath().toString();
-						final AntProjectNode project = new AntProjectNodeProxy(buildFileName);
-						project.getName();
+						projects.add(new AntProjectNodeProxy(((IFile) file).getFullPath().toString()));
+					} else {
 						monitor.worked(1);
-						Display.getDefault().asyncExec(() -> view.addProject(project));
 					}
 				}
+				AntProjectNodeLoader.load(projects, false, project -> Display.getDefault().asyncExec(() -> view.addProject(project)), monitor);
 			});
 		}
 		catch (InvocationTargetException e) {
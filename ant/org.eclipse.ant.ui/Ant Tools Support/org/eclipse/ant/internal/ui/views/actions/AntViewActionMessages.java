@@ -54,6 +54,8 @@ public class AntViewActionMessages extends NLS {
 	public static String RefreshBuildFilesAction_Refreshing_buildfiles_3;
 	public static String RefreshBuildFilesAction_Refreshing__0__4;
 	public static String FilterInternalTargetsAction_0;
+	public static String ReplayBuildJournalAction_0;
+	public static String ReplayBuildJournalAction_1;
 
 	static {
 		// load message values from bundle file
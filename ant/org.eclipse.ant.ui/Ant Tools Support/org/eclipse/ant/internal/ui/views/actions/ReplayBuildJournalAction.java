@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ant.internal.ui.views.actions;
+
+import java.io.File;
+
+import org.eclipse.ant.internal.launching.AntBuildJournal;
+import org.eclipse.ant.internal.launching.launchConfigurations.AntBuildJournalReplay;
+import org.eclipse.ant.internal.ui.views.AntView;
+import org.eclipse.jface.action.Action;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.FileDialog;
+
+/**
+ * This action prompts for a build journal recorded by an earlier Ant build and replays it into a new console.
+ */
+public class ReplayBuildJournalAction extends Action {
+	private AntView view;
+
+	public ReplayBuildJournalAction(AntView view) {
+		super(AntViewActionMessages.ReplayBuildJournalAction_0);
+		setToolTipText(AntViewActionMessages.ReplayBuildJournalAction_1);
+		this.view = view;
+	}
+
+	@Override
+	public void run() {
+		FileDialog dialog = new FileDialog(view.getViewSite().getShell(), SWT.OPEN);
+		dialog.setText(AntViewActionMessages.ReplayBuildJournalAction_1);
+		dialog.setFilterExtensions(new String[] { "*." + AntBuildJournal.FILE_EXTENSION }); //$NON-NLS-1$
+		File directory = AntBuildJournal.getJournalDirectory();
+		if (directory.isDirectory()) {
+			dialog.setFilterPath(directory.getAbsolutePath());
+		}
+		String path = dialog.open();
+		if (path != null) {
+			AntBuildJournalReplay.replay(new File(path));
+		}
+	}
+}
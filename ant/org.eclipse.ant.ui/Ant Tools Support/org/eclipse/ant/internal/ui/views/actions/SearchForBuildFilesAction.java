@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,11 +15,14 @@ package org.eclipse.ant.internal.ui.views.actions;
 
 import java.lang.reflect.InvocationTargetException;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.ant.internal.ui.AntUIImages;
 import org.eclipse.ant.internal.ui.IAntUIConstants;
 import org.eclipse.ant.internal.ui.IAntUIHelpContextIds;
 import org.eclipse.ant.internal.ui.model.AntProjectNode;
+import org.eclipse.ant.internal.ui.model.AntProjectNodeLoader;
 import org.eclipse.ant.internal.ui.model.AntProjectNodeProxy;
 import org.eclipse.ant.internal.ui.views.AntView;
 import org.eclipse.core.resources.IFile;
@@ -58,22 +61,24 @@ public class SearchForBuildFilesAction extends Action {
 					@Override
 					public void run(IProgressMonitor monitor) {
 						monitor.beginTask(AntViewActionMessages.SearchForBuildFilesAction_Processing_search_results_3, files.length);
-						for (int i = 0; i < files.length && !monitor.isCanceled(); i++) {
-							String buildFileName = files[i].getFullPath().toString();
-							monitor.subTask(MessageFormat.format(AntViewActionMessages.SearchForBuildFilesAction_Adding__0__4, new Object[] {
-									buildFileName }));
+						List<AntProjectNodeProxy> projects = new ArrayList<>(files.length);
+						for (IFile file : files) {
+							String buildFileName = file.getFullPath().toString();
 							if (alreadyAdded(buildFileName)) {
 								// Don't parse projects that have already been added.
+								monitor.worked(1);
 								continue;
 							}
-							final AntProjectNodeProxy project = new AntProjectNodeProxy(buildFileName);
-							// Force the project to be parsed so the error state is set.
-							project.parseBuildFile();
-							monitor.worked(1);
+							projects.add(new AntProjectNodeProxy(buildFileName));
+						}
+						// Force the projects to be parsed so the error state is set. The buildfiles are parsed in parallel.
+						AntProjectNodeLoader.load(projects, false, project -> {
+							monitor.subTask(MessageFormat.format(AntViewActionMessages.SearchForBuildFilesAction_Adding__0__4, new Object[] {
+									project.getBuildFileName() }));
 							if (includeErrorNodes || !(project.isErrorNode())) {
 								Display.getDefault().asyncExec(() -> view.addProject(project));
 							}
-						}
+						}, monitor);
 					}
 
 					/**